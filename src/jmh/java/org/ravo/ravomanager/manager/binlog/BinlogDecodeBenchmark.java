@@ -0,0 +1,160 @@
+package org.ravo.ravomanager.manager.binlog;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * binlog 디코더 벤치마크
+ * - filtered: 감시 대상이 아닌 테이블의 트랜잭션 (GTID, QUERY, TABLE_MAP, WRITE_ROWS, XID) — 헤더와 테이블 이름만 보고 버림
+ * - matched: 감시 대상 테이블의 TABLE_MAP + UPDATE_ROWS (행 10개) — 행 이미지 길이를 따라가며 세고 링에 이벤트 추가
+ *
+ * 한 op 은 이벤트 1개이며, gc 프로파일러의 gc.alloc.rate.norm 이 이벤트당 할당 바이트입니다. (filtered 는 0 이어야 함)
+ * 이벤트는 체크섬(CRC32) 포함 형식으로 미리 만들어 둡니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BinlogDecodeBenchmark {
+
+    private static final int TRANSACTIONS = 256;
+    private static final int ROWS_PER_EVENT = 10;
+    // INT, VARCHAR(255) utf8mb4, DATETIME(3), DECIMAL(10,2), BLOB
+    private static final byte[] COLUMN_TYPES = {3, 15, 18, (byte) 246, (byte) 252};
+    private static final byte[] COLUMN_METADATA = {(byte) 0xFC, 0x03, 3, 10, 2, 2};
+
+    private byte[][] filteredEvents;
+    private byte[][] matchedEvents;
+    private BinlogDecoder filteredDecoder;
+    private BinlogDecoder matchedDecoder;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        filteredEvents = new byte[TRANSACTIONS * 5][];
+        matchedEvents = new byte[TRANSACTIONS * 2][];
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            filteredEvents[i * 5] = event(33, new byte[42]);
+            filteredEvents[i * 5 + 1] = event(2, new byte[64]);
+            filteredEvents[i * 5 + 2] = tableMap(100, "app", "orders");
+            filteredEvents[i * 5 + 3] = rows(30, 100, 1, random);
+            filteredEvents[i * 5 + 4] = event(16, new byte[8]);
+            matchedEvents[i * 2] = tableMap(200, "app", "users");
+            matchedEvents[i * 2 + 1] = rows(31, 200, ROWS_PER_EVENT, random);
+        }
+        filteredDecoder = new BinlogDecoder("active", List.of("users"), event -> {
+            throw new IllegalStateException("filtered event emitted");
+        });
+        filteredDecoder.reset("mysql-bin.000001", 4, true);
+        BinlogEventRing ring = new BinlogEventRing(256);
+        matchedDecoder = new BinlogDecoder("active", List.of("users"), ring::publish);
+        matchedDecoder.reset("mysql-bin.000001", 4, true);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TRANSACTIONS * 5)
+    public long filtered() {
+        for (byte[] event : filteredEvents) {
+            filteredDecoder.decode(event, 0, event.length);
+        }
+        return filteredDecoder.matchedEvents();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TRANSACTIONS * 2)
+    public long matched() {
+        for (byte[] event : matchedEvents) {
+            matchedDecoder.decode(event, 0, event.length);
+        }
+        return matchedDecoder.matchedEvents();
+    }
+
+    private static byte[] tableMap(long tableId, String schema, String table) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        writeLong(body, tableId, 6);
+        writeLong(body, 1, 2);
+        writeName(body, schema);
+        writeName(body, table);
+        body.write(COLUMN_TYPES.length);
+        body.writeBytes(COLUMN_TYPES);
+        body.write(COLUMN_METADATA.length);
+        body.writeBytes(COLUMN_METADATA);
+        body.write(0x1F);
+        return event(19, body.toByteArray());
+    }
+
+    /**
+     * WRITE_ROWS(30) / UPDATE_ROWS(31) v2 이벤트 (UPDATE 는 행마다 before/after 이미지 2개)
+     */
+    private static byte[] rows(int type, long tableId, int rowCount, Random random) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        writeLong(body, tableId, 6);
+        writeLong(body, 1, 2);
+        writeLong(body, 2, 2);
+        body.write(COLUMN_TYPES.length);
+        body.write(0x1F);
+        if (type == 31) {
+            body.write(0x1F);
+        }
+        for (int i = 0; i < rowCount * (type == 31 ? 2 : 1); i++) {
+            body.write(0);
+            writeLong(body, random.nextInt(), 4);
+            writeBytes(body, ("user" + random.nextInt(1_000_000)).getBytes(StandardCharsets.UTF_8), 2);
+            body.writeBytes(new byte[7 + 5]);
+            writeBytes(body, new byte[random.nextInt(256)], 2);
+        }
+        return event(type, body.toByteArray());
+    }
+
+    private static byte[] event(int type, byte[] body) {
+        ByteArrayOutputStream event = new ByteArrayOutputStream();
+        int length = BinlogDecoder.HEADER_LENGTH + body.length + BinlogDecoder.CHECKSUM_LENGTH;
+        writeLong(event, 1_700_000_000L, 4);
+        event.write(type);
+        writeLong(event, 1, 4);
+        writeLong(event, length, 4);
+        writeLong(event, 0, 4);
+        writeLong(event, 0, 2);
+        event.writeBytes(body);
+        CRC32 crc = new CRC32();
+        crc.update(event.toByteArray());
+        writeLong(event, crc.getValue(), 4);
+        return event.toByteArray();
+    }
+
+    private static void writeName(ByteArrayOutputStream out, String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        out.write(bytes.length);
+        out.writeBytes(bytes);
+        out.write(0);
+    }
+
+    private static void writeBytes(ByteArrayOutputStream out, byte[] bytes, int lengthBytes) {
+        writeLong(out, bytes.length, lengthBytes);
+        out.writeBytes(bytes);
+    }
+
+    private static void writeLong(ByteArrayOutputStream out, long value, int bytes) {
+        for (int i = 0; i < bytes; i++) {
+            out.write((int) (value >>> (8 * i)) & 0xFF);
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package org.ravo.ravomanager.manager.monitoring;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * mysqld_exporter 스크레이프 1회 파싱 벤치마크
+ * - legacyStringParse: 기존 방식 (본문 전체를 String 으로 디코딩 → split("\n") → 줄마다 substring/split/replace)
+ * - streamingScan: PrometheusExpositionScanner (네트워크 버퍼 크기 청크를 바이트 그대로 스캔, 추적 대상과 레이블 시계열 저장)
+ *
+ * 한 op 은 스크레이프 1회이며, gc 프로파일러의 gc.alloc.rate.norm 이 스크레이프당 할당 바이트입니다.
+ * 테스트 리소스의 mysqld_exporter.prom (MySQL 8.0 mysqld_exporter 응답 형태, 약 5,000줄)을 사용하고,
+ * 클래스패스에 없으면 같은 형태(HELP/TYPE, 레이블, 지수 표기 값)의 응답을 생성합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PrometheusParseBenchmark {
+
+    private static final String PAYLOAD_RESOURCE = "/mysqld_exporter.prom";
+    private static final int TARGET_LINES = 5_000;
+    private static final int CHUNK_SIZE = 16 * 1024;
+
+    private final TrackedMetrics trackedMetrics =
+            new TrackedMetrics(Metric.keys(), Metric.LABEL_EXPANSIONS, MetricFamily.keys());
+    private final LabelDictionary labelDictionary = new LabelDictionary(100_000);
+
+    private List<ByteBuffer> chunks;
+
+    @Setup
+    public void setUp() throws IOException {
+        byte[] payload;
+        try (InputStream in = PrometheusParseBenchmark.class.getResourceAsStream(PAYLOAD_RESOURCE)) {
+            payload = in != null ? in.readAllBytes() : generatePayload(TARGET_LINES).getBytes(StandardCharsets.UTF_8);
+        }
+
+        // WebClient 가 전달하는 것처럼 direct 버퍼 청크로 나눔
+        chunks = new ArrayList<>();
+        for (int offset = 0; offset < payload.length; offset += CHUNK_SIZE) {
+            int length = Math.min(CHUNK_SIZE, payload.length - offset);
+            ByteBuffer chunk = ByteBuffer.allocateDirect(length);
+            chunk.put(payload, offset, length).flip();
+            chunks.add(chunk);
+        }
+    }
+
+    @Benchmark
+    public Map<String, Double> legacyStringParse() {
+        // bodyToMono(String.class) 와 같이 청크를 모아 하나의 String 으로 디코딩
+        int total = chunks.stream().mapToInt(ByteBuffer::remaining).sum();
+        byte[] joined = new byte[total];
+        int offset = 0;
+        for (ByteBuffer chunk : chunks) {
+            int length = chunk.remaining();
+            chunk.duplicate().get(joined, offset, length);
+            offset += length;
+        }
+        return LegacyParser.parse(new String(joined, StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public MetricData streamingScan() {
+        MetricData metricData = new MetricData("Active");
+        metricData.setSeriesValues(new SeriesValues(labelDictionary));
+        PrometheusExpositionScanner scanner = new PrometheusExpositionScanner(trackedMetrics, labelDictionary,
+                new PrometheusExpositionScanner.SampleSink() {
+                    @Override
+                    public void accept(int metricIndex, double value) {
+                        metricData.set(metricIndex, value);
+                    }
+
+                    @Override
+                    public void acceptSeries(int familyId, int labelSetId, double value) {
+                        metricData.putSeries(familyId, labelSetId, value);
+                    }
+                });
+        for (ByteBuffer chunk : chunks) {
+            scanner.feed(chunk);
+        }
+        scanner.finish();
+        return metricData;
+    }
+
+    /**
+     * 기존 PrometheusMetricParser 구현 (비교용)
+     */
+    static final class LegacyParser {
+
+        static Map<String, Double> parse(String rawMetrics) {
+            Map<String, Double> metrics = new HashMap<>();
+            Map<String, String> info = new HashMap<>();
+            Arrays.stream(rawMetrics.split("\n"))
+                    .filter(line -> !line.startsWith("#") && !line.trim().isEmpty())
+                    .forEach(line -> parseSingleMetricLine(line, metrics, info));
+            return metrics;
+        }
+
+        private static void parseSingleMetricLine(String line, Map<String, Double> metrics, Map<String, String> info) {
+            try {
+                int lastSpaceIndex = line.lastIndexOf(' ');
+                if (lastSpaceIndex == -1) {
+                    return;
+                }
+                String keyPart = line.substring(0, lastSpaceIndex);
+                double value = Double.parseDouble(line.substring(lastSpaceIndex + 1));
+
+                if (keyPart.contains("{") && keyPart.endsWith("}")) {
+                    int braceStart = keyPart.indexOf('{');
+                    String metricName = keyPart.substring(0, braceStart);
+                    String labelsString = keyPart.substring(braceStart + 1, keyPart.length() - 1);
+                    if ("mysql_global_status_commands_total".equals(metricName)) {
+                        String command = labelsString.split("=")[1].replace("\"", "").toLowerCase();
+                        metrics.put("mysql_global_status_commands_total_" + command, value);
+                    } else {
+                        metrics.put(metricName, value);
+                        Arrays.stream(labelsString.split(","))
+                                .map(label -> label.split("=", 2))
+                                .filter(parts -> parts.length == 2)
+                                .forEach(parts -> info.put(metricName + "_" + parts[0].trim(),
+                                        parts[1].replace("\"", "").trim()));
+                    }
+                } else {
+                    metrics.put(keyPart, value);
+                }
+            } catch (Exception e) {
+                // 파싱 실패한 라인은 무시
+            }
+        }
+    }
+
+    /**
+     * mysqld_exporter 응답 형태의 본문 생성 (고정 시드)
+     */
+    static String generatePayload(int targetLines) {
+        Random random = new Random(42);
+        StringBuilder out = new StringBuilder(targetLines * 80);
+        int[] lines = {0};
+
+        // Go 런타임/프로세스 메트릭
+        appendSummary(out, lines, "go_gc_duration_seconds", "A summary of the pause duration of garbage collection cycles.", random);
+        for (String name : List.of("go_goroutines", "go_threads", "go_memstats_alloc_bytes", "go_memstats_heap_alloc_bytes",
+                "go_memstats_heap_idle_bytes", "go_memstats_heap_inuse_bytes", "go_memstats_heap_objects",
+                "go_memstats_heap_released_bytes", "go_memstats_heap_sys_bytes", "go_memstats_stack_inuse_bytes",
+                "go_memstats_sys_bytes", "process_cpu_seconds_total", "process_max_fds", "process_open_fds",
+                "process_resident_memory_bytes", "process_start_time_seconds", "process_virtual_memory_bytes")) {
+            appendSingle(out, lines, name, "gauge", goFloat(random.nextDouble() * 1e8));
+        }
+        appendSingle(out, lines, "mysql_up", "gauge", "1");
+        appendLine(out, lines, "# HELP mysql_version_info MySQL version and distribution.");
+        appendLine(out, lines, "# TYPE mysql_version_info gauge");
+        appendLine(out, lines, "mysql_version_info{innodb_version=\"8.0.36\",version=\"8.0.36\",version_comment=\"MySQL Community Server - GPL\"} 1");
+
+        // 명령어별 실행 횟수 (레이블 1개)
+        appendLine(out, lines, "# HELP mysql_global_status_commands_total Total number of executed MySQL commands.");
+        appendLine(out, lines, "# TYPE mysql_global_status_commands_total counter");
+        for (int i = 0; i < 170; i++) {
+            String command = i < 4 ? List.of("select", "insert", "update", "delete").get(i) : "admin_command_" + i;
+            appendLine(out, lines, "mysql_global_status_commands_total{command=\"" + command + "\"} "
+                    + goFloat(Math.floor(random.nextDouble() * 5e7)));
+        }
+
+        // 레이블 여러 개 (info_schema / perf_schema)
+        for (int t = 0; t < 120; t++) {
+            String labels = "{schema=\"ravo\",table=\"table_" + t + "\"}";
+            for (String name : List.of("mysql_info_schema_table_rows", "mysql_info_schema_table_size")) {
+                appendLine(out, lines, name + labels + " " + goFloat(Math.floor(random.nextDouble() * 1e7)));
+            }
+        }
+        for (int d = 0; d < 150; d++) {
+            String labels = "{digest=\"" + Long.toHexString(random.nextLong()) + Long.toHexString(random.nextLong())
+                    + "\",digest_text=\"SELECT `id`, `name` FROM `t_" + d + "` WHERE `id` = ? AND `name` = \\\"x\\\"\",schema=\"ravo\"}";
+            appendLine(out, lines, "mysql_perf_schema_events_statements_total" + labels + " " + (random.nextInt(100_000)));
+            appendLine(out, lines, "mysql_perf_schema_events_statements_seconds_total" + labels + " "
+                    + goFloat(random.nextDouble() * 100));
+        }
+
+        // global_status / global_variables (HELP + TYPE + 값) 로 나머지 채움
+        int index = 0;
+        while (lines[0] < targetLines - 20) {
+            String prefix = index % 2 == 0 ? "mysql_global_status_" : "mysql_global_variables_";
+            String name = prefix + "metric_" + index;
+            if (index == 0) {
+                for (String tracked : Metric.keys()) {
+                    if (tracked.startsWith("mysql_global_status_") && !tracked.startsWith(Metric.COMMANDS_TOTAL)) {
+                        appendSingle(out, lines, tracked, "untyped", goFloat(Math.floor(random.nextDouble() * 1e9)));
+                    }
+                }
+            }
+            double value = index % 3 == 0 ? random.nextDouble() : Math.floor(random.nextDouble() * Math.pow(10, index % 12));
+            appendSingle(out, lines, name, "untyped", goFloat(value));
+            index++;
+        }
+        return out.toString();
+    }
+
+    private static void appendSummary(StringBuilder out, int[] lines, String name, String help, Random random) {
+        appendLine(out, lines, "# HELP " + name + " " + help);
+        appendLine(out, lines, "# TYPE " + name + " summary");
+        for (String quantile : List.of("0", "0.25", "0.5", "0.75", "1")) {
+            appendLine(out, lines, name + "{quantile=\"" + quantile + "\"} " + goFloat(random.nextDouble() / 1e4));
+        }
+        appendLine(out, lines, name + "_sum " + goFloat(random.nextDouble()));
+        appendLine(out, lines, name + "_count " + random.nextInt(10_000));
+    }
+
+    private static void appendSingle(StringBuilder out, int[] lines, String name, String type, String value) {
+        appendLine(out, lines, "# HELP " + name + " Generic metric from SHOW GLOBAL STATUS.");
+        appendLine(out, lines, "# TYPE " + name + " " + type);
+        appendLine(out, lines, name + " " + value);
+    }
+
+    private static void appendLine(StringBuilder out, int[] lines, String line) {
+        out.append(line).append('\n');
+        lines[0]++;
+    }
+
+    /**
+     * Go strconv.FormatFloat(v, 'g', -1, 64) 형식 (exporter 출력과 동일하게 지수 6 이상/-4 미만은 e 표기)
+     */
+    static String goFloat(double value) {
+        if (value == 0) {
+            return "0";
+        }
+        BigDecimal decimal = new BigDecimal(Double.toString(value)).stripTrailingZeros();
+        int exponent = decimal.precision() - decimal.scale() - 1;
+        if (exponent >= -4 && exponent < 6) {
+            return decimal.toPlainString();
+        }
+        String digits = decimal.unscaledValue().abs().toString();
+        String mantissa = digits.length() > 1 ? digits.charAt(0) + "." + digits.substring(1) : digits;
+        return (decimal.signum() < 0 ? "-" : "") + mantissa + "e" + (exponent < 0 ? "-" : "+")
+                + String.format(Locale.ROOT, "%02d", Math.abs(exponent));
+    }
+}
@@ -0,0 +1,133 @@
+package org.ravo.ravomanager.manager.sync;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * users 행 해시 경로 비교 벤치마크
+ * - legacyStringSha256: 기존 방식 (컬럼 toString 연결 → String → 행마다 MessageDigest.getInstance → hex 문자열)
+ * - murmur128: RowHasher (재사용 버퍼에 바이트 기록 → MurmurHash3 128비트, long 2개)
+ * - murmur128Utf8: RowHasher 의 실제 TEXT 컬럼 경로 (getString 결과를 버퍼에 UTF-8 로 직접 인코딩)
+ *
+ * 한 op 은 한 행이므로 처리량은 rows/sec 이며, gc 프로파일러의 gc.alloc.rate.norm 이 행당 할당 바이트입니다.
+ * 문자열 컬럼은 드라이버가 getBytes 로 넘겨주는 원본 바이트를 미리 만들어 두고 사용합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RowHashBenchmark {
+
+    private static final int ROWS = 1024;
+
+    private long[] ids;
+    private long[] balances;
+    private String[] userIds;
+    private String[] passwords;
+    private String[] names;
+    private byte[][] userIdBytes;
+    private byte[][] passwordBytes;
+    private byte[][] nameBytes;
+
+    private final RowHasher rowHasher = new RowHasher();
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        ids = new long[ROWS];
+        balances = new long[ROWS];
+        userIds = new String[ROWS];
+        passwords = new String[ROWS];
+        names = new String[ROWS];
+        userIdBytes = new byte[ROWS][];
+        passwordBytes = new byte[ROWS][];
+        nameBytes = new byte[ROWS][];
+
+        for (int i = 0; i < ROWS; i++) {
+            ids[i] = 1_000_000L + i;
+            balances[i] = random.nextInt(10_000_000);
+            userIds[i] = "user" + random.nextInt(1_000_000);
+            passwords[i] = "$2a$10$" + Long.toHexString(random.nextLong()) + Long.toHexString(random.nextLong())
+                    + Long.toHexString(random.nextLong());
+            names[i] = "홍길동" + i;
+            userIdBytes[i] = userIds[i].getBytes(StandardCharsets.UTF_8);
+            passwordBytes[i] = passwords[i].getBytes(StandardCharsets.UTF_8);
+            nameBytes[i] = names[i].getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void legacyStringSha256(Blackhole blackhole) throws NoSuchAlgorithmException {
+        for (int i = 0; i < ROWS; i++) {
+            Object[] row = {ids[i], userIds[i], passwords[i], names[i], balances[i]};
+
+            StringBuilder rowData = new StringBuilder();
+            for (Object value : row) {
+                rowData.append(value != null ? value.toString() : "NULL").append("|");
+            }
+
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashBytes = digest.digest(rowData.toString().getBytes());
+            StringBuilder hexString = new StringBuilder();
+            for (byte b : hashBytes) {
+                String hex = Integer.toHexString(0xff & b);
+                if (hex.length() == 1) {
+                    hexString.append('0');
+                }
+                hexString.append(hex);
+            }
+            blackhole.consume(hexString.toString());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void murmur128(Blackhole blackhole) {
+        for (int i = 0; i < ROWS; i++) {
+            rowHasher.reset();
+            rowHasher.putLong(ids[i]);
+            rowHasher.putBytes(userIdBytes[i]);
+            rowHasher.putBytes(passwordBytes[i]);
+            rowHasher.putBytes(nameBytes[i]);
+            rowHasher.putLong(balances[i]);
+            rowHasher.finish();
+            blackhole.consume(rowHasher.hashHi());
+            blackhole.consume(rowHasher.hashLo());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void murmur128Utf8(Blackhole blackhole) {
+        for (int i = 0; i < ROWS; i++) {
+            rowHasher.reset();
+            rowHasher.putLong(ids[i]);
+            rowHasher.putString(userIds[i]);
+            rowHasher.putString(passwords[i]);
+            rowHasher.putString(names[i]);
+            rowHasher.putLong(balances[i]);
+            rowHasher.finish();
+            blackhole.consume(rowHasher.hashHi());
+            blackhole.consume(rowHasher.hashLo());
+        }
+    }
+}
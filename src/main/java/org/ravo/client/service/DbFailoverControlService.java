@@ -2,6 +2,8 @@ package org.ravo.client.service;
 
 import lombok.RequiredArgsConstructor;
 import org.ravo.config.ClientEndPointProperties;
+import org.ravo.ravomanager.manager.service.KubernetesStatusService;
+import org.ravo.ravomanager.manager.service.SystemEventService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.RequestEntity;
@@ -10,7 +12,6 @@ import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 import java.net.URI;
-import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -18,6 +19,8 @@ public class DbFailoverControlService {
 
     private final RestTemplate restTemplate;
     private final ClientEndPointProperties endpoints;
+    private final KubernetesStatusService kubernetesStatusService;
+    private final SystemEventService systemEventService;
 
     @Value("${application.failover.status-url}")
     private String statusUrl;
@@ -34,31 +37,24 @@ public class DbFailoverControlService {
 
     private void callEndpoint(String url, String actionName) {
         if (url == null || url.isBlank()) {
+            systemEventService.failoverControlCalled(actionName, "endpoint 가 설정되지 않았습니다.");
             throw new IllegalStateException(actionName + " endpoint 가 설정되지 않았습니다.");
         }
         try {
             RequestEntity<Void> req = new RequestEntity<>(HttpMethod.GET, URI.create(url));
             restTemplate.exchange(req, Void.class);
+            systemEventService.failoverControlCalled(actionName, null);
         } catch (RestClientException e) {
+            systemEventService.failoverControlCalled(actionName, e.getMessage());
             throw new RuntimeException(actionName + " 호출 실패: " + e.getMessage(), e);
         }
     }
 
-    /** watcher_state 조회 (active|standby|unknown) */
+    /** watcher_state 조회 (active|standby|unknown), 백그라운드 watcher 의 메모리 상태 (연결이 끊겼거나 오래된 값이면 unknown) */
     public String getWatcherState() {
         if (statusUrl == null || statusUrl.isBlank()) {
             throw new IllegalStateException("status endpoint 가 설정되지 않았습니다.");
         }
-
-        try {
-            var req = new RequestEntity<Void>(HttpMethod.GET, URI.create(statusUrl));
-            var res = restTemplate.exchange(req, Map.class);
-            if (!res.getStatusCode().is2xxSuccessful() || res.getBody() == null) return "unknown";
-
-            Object state = res.getBody().get("watcher_state");
-            return state == null ? "unknown" : state.toString();
-        } catch (RestClientException e) {
-            return "unknown";
-        }
+        return kubernetesStatusService.getWatcherState();
     }
 }
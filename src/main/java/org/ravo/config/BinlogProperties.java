@@ -0,0 +1,69 @@
+package org.ravo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter @Setter
+@ConfigurationProperties(prefix = "binlog")
+public class BinlogProperties {
+
+    /** binlog tail 사용 여부 (복제 권한 계정 또는 binlog 디렉터리 설정 필요) */
+    private boolean enabled = false;
+
+    /** 이벤트를 표시할 테이블 ("table" 또는 "schema.table", 비어 있으면 sync.tables) */
+    private List<String> tables = new ArrayList<>();
+
+    /** 메모리에 보관할 최근 이벤트 수 (2의 거듭제곱으로 올림) */
+    private int ringCapacity = 256;
+
+    /** 이벤트가 없을 때 서버 heartbeat 주기 (2배 동안 응답이 없으면 재연결) */
+    private Duration heartbeatInterval = Duration.ofSeconds(30);
+
+    /** 연결 timeout */
+    private Duration connectTimeout = Duration.ofSeconds(5);
+
+    /** 파일 모드에서 새 이벤트 확인 주기 */
+    private Duration pollInterval = Duration.ofMillis(200);
+
+    /** 연속 실패 시 첫 재시도 대기 시간 (실패마다 두 배) */
+    private Duration initialBackoff = Duration.ofSeconds(1);
+
+    /** 재시도 대기 시간 상한 */
+    private Duration maxBackoff = Duration.ofSeconds(30);
+
+    /** 이벤트를 읽을 DB 목록 */
+    private List<Source> sources = new ArrayList<>();
+
+    @Getter @Setter
+    public static class Source {
+
+        /** 이벤트에 표시할 이름 (active/standby) */
+        private String name;
+
+        /** 로컬 binlog 디렉터리 (설정하면 파일을 읽고, 비어 있으면 host 로 복제 프로토콜 접속) */
+        private String directory;
+
+        private String host;
+
+        private int port = 3306;
+
+        /** REPLICATION SLAVE, REPLICATION CLIENT 권한 계정 */
+        private String username;
+
+        private String password;
+
+        /** 복제 토폴로지에서 겹치지 않는 server_id (0 이면 임의 값) */
+        private long serverId = 0;
+
+        /** caching_sha2_password 전체 인증에 쓸 서버 RSA 공개키 PEM 파일 (TLS 를 쓰지 않으므로 이 키로 비밀번호를 암호화) */
+        private String serverPublicKeyPath;
+
+        /** 공개키 파일이 없을 때 접속 중에 서버 공개키를 받아 쓸지 (중간자가 키를 바꿀 수 있으므로 신뢰할 수 있는 망에서만) */
+        private boolean allowPublicKeyRetrieval = false;
+    }
+}
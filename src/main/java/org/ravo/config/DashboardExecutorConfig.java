@@ -0,0 +1,23 @@
+package org.ravo.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 대시보드 데이터 소스(GTID 조회 등) 동시 호출 설정
+@Configuration
+public class DashboardExecutorConfig {
+
+    /**
+     * 블로킹 I/O(RestTemplate/JDBC)를 요청 스레드 대신 가상 스레드에서 실행
+     * 소스 호출마다 스레드 1개를 쓰므로 느린 소스가 Tomcat 스레드 풀이나 다른 소스를 막지 않습니다.
+     * 스레드 수는 소스별 동시 실행 제한(dashboard.source-max-concurrent)으로 묶이고, 블로킹 호출 자체는
+     * 소스 제한 시간과 같은 JDBC 쿼리 제한 시간으로 끝납니다.
+     */
+    @Bean(destroyMethod = "close")
+    public ExecutorService dashboardSourceExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("dashboard-source-", 0).factory());
+    }
+}
@@ -1,5 +1,12 @@
 package org.ravo.config;
 
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.jdbc.DataSourceBuilder;
@@ -9,36 +16,167 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.jdbc.core.JdbcTemplate;
 
 import javax.sql.DataSource;
+import java.time.Duration;
 
-// 두 DataSource 빈 설정
+/**
+ * 역할별 DataSource 설정
+ * 역할마다 Hikari 풀 기본값(크기, 타임아웃, keepalive, 누수 감지)을 따로 두어 페일오버 중에도 모니터링 조회와
+ * 은행 트래픽이 서로의 커넥션을 빼앗지 않게 합니다.
+ * - live: 은행 트래픽 (탄력적인 큰 풀)
+ * - batch: gtid_history 조회 (작은 고정 풀, 빨리 실패)
+ * - standby / direct: 동기화 비교·재동기화 작업 (sync.* 동시 실행 수에 맞춘 고정 풀)
+ * - standby-probe / direct-probe: 대시보드·모니터링 상태 조회 (같은 DB 에 붙는 작은 고정 풀, 빨리 실패)
+ * 상태 조회를 동기화 풀과 나눠, 비교 작업이 커넥션을 다 쓰고 있어도 상태 조회는 자기 풀에서 커넥션을 받고
+ * 상태 조회가 몰려도 동기화 작업의 커넥션을 빼앗지 않습니다. (상태 조회가 풀 크기보다 많으면 1초 대기 후 실패)
+ * 기본값은 spring.datasource.{역할}.* 의 같은 이름 Hikari 설정(maximum-pool-size 등)으로 덮어쓸 수 있습니다.
+ * (probe 풀의 연결 정보는 대상 풀에서 복사)
+ * 풀 지표는 풀 이름(ravo-{역할})을 pool 태그로 Actuator 의 hikaricp.connections.* 메트릭에 노출합니다.
+ */
 @Configuration
 public class DataSourceConfig {
 
+    private final SyncProperties syncProperties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public DataSourceConfig(SyncProperties syncProperties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.syncProperties = syncProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 역할별 풀 기본값
+     */
+    private record PoolProfile(int maximumPoolSize, int minimumIdle, Duration connectionTimeout,
+                               Duration validationTimeout, Duration keepaliveTime, Duration idleTimeout,
+                               Duration maxLifetime, Duration leakDetectionThreshold) {
+
+        static PoolProfile live() {
+            return new PoolProfile(20, 5, Duration.ofSeconds(3), Duration.ofSeconds(1), Duration.ofMinutes(1),
+                    Duration.ofMinutes(10), Duration.ofMinutes(30), Duration.ofSeconds(20));
+        }
+
+        static PoolProfile probe() {
+            return fixed(2, Duration.ofSeconds(1), Duration.ofMillis(500), Duration.ofSeconds(10));
+        }
+
+        /**
+         * 동기화 작업용 고정 풀: 한쪽 DB 에서 동시에 쓸 수 있는 커넥션 수 =
+         * 테이블 비교(스트리밍은 테이블마다 1개, 구간 비교 조회는 sync.max-concurrent-reads 가 한쪽 DB 에 몰릴 수 있음)
+         * + 차이 분석/재동기화 스트림 1개 + 재동기화 쓰기 배치
+         * 제한 시간이 지난 뒤에도 서버에서 끝나지 않은 조회가 커넥션을 붙잡고 있으면 대기할 수 있고,
+         * connectionTimeout 이 지나면 그 작업은 실패합니다.
+         */
+        static PoolProfile sync(SyncProperties sync) {
+            int compare = Math.max(sync.getMaxConcurrentTables(), sync.getMaxConcurrentReads());
+            int size = Math.max(1, compare) + 1 + Math.max(1, sync.getRepairMaxInFlight());
+            Duration leak = sync.getTableTimeout().multipliedBy(2);
+            return fixed(size, Duration.ofSeconds(2), Duration.ofSeconds(1),
+                    leak.compareTo(Duration.ofSeconds(2)) < 0 ? Duration.ofSeconds(2) : leak);
+        }
+
+        private static PoolProfile fixed(int size, Duration connectionTimeout, Duration validationTimeout,
+                                         Duration leakDetectionThreshold) {
+            return new PoolProfile(size, size, connectionTimeout, validationTimeout, Duration.ofMinutes(1),
+                    Duration.ofMinutes(10), Duration.ofMinutes(30), leakDetectionThreshold);
+        }
+    }
+
     @Bean
     @Primary
     @ConfigurationProperties("spring.datasource.live")
-    public DataSource liveDataSource() {
-        return DataSourceBuilder.create().build();
+    public HikariDataSource liveDataSource() {
+        return createPool("live", PoolProfile.live());
     }
 
     @Bean
     @ConfigurationProperties("spring.datasource.standby")
-    public DataSource standbyDataSource() {
-        return DataSourceBuilder.create().build();
+    public HikariDataSource standbyDataSource() {
+        return createPool("standby", PoolProfile.sync(syncProperties));
     }
 
     @Bean
     @ConfigurationProperties("spring.datasource.batch")
-    public DataSource batchDataSource() {
-        return DataSourceBuilder.create().build();
+    public HikariDataSource batchDataSource() {
+        return createPool("batch", PoolProfile.probe());
     }
 
     @Bean
     @ConfigurationProperties("spring.datasource.direct")
-    public DataSource directActiveDataSource() {
-        return DataSourceBuilder.create().build();
+    public HikariDataSource directActiveDataSource() {
+        return createPool("direct", PoolProfile.sync(syncProperties));
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.standby-probe")
+    public HikariDataSource standbyProbeDataSource(@Qualifier("standbyDataSource") HikariDataSource standby) {
+        return createProbePool("standby-probe", standby);
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.direct-probe")
+    public HikariDataSource directActiveProbeDataSource(@Qualifier("directActiveDataSource") HikariDataSource direct) {
+        return createProbePool("direct-probe", direct);
     }
 
+    /**
+     * Hikari 커넥션 대기/사용 시간 분포 (역할별 pool 태그, /actuator/metrics 에는 백분위수로 표시)
+     */
+    @Bean
+    public MeterFilter connectionPoolTimingDistribution() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                String name = id.getName();
+                if (!name.equals("hikaricp.connections.acquire") && !name.equals("hikaricp.connections.usage")) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentiles(0.5, 0.95, 0.99)
+                        .percentilesHistogram(true)
+                        .minimumExpectedValue((double) Duration.ofMillis(1).toNanos())
+                        .maximumExpectedValue((double) Duration.ofSeconds(30).toNanos())
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+
+    /**
+     * 역할 기본값을 적용한 풀 (연결 정보와 덮어쓸 설정은 @ConfigurationProperties 가 이후에 바인딩)
+     */
+    private HikariDataSource createPool(String role, PoolProfile profile) {
+        HikariDataSource pool = DataSourceBuilder.create().type(HikariDataSource.class).build();
+        pool.setPoolName("ravo-" + role);
+        pool.setMaximumPoolSize(profile.maximumPoolSize());
+        pool.setMinimumIdle(profile.minimumIdle());
+        pool.setConnectionTimeout(profile.connectionTimeout().toMillis());
+        pool.setValidationTimeout(profile.validationTimeout().toMillis());
+        pool.setKeepaliveTime(profile.keepaliveTime().toMillis());
+        pool.setIdleTimeout(profile.idleTimeout().toMillis());
+        pool.setMaxLifetime(profile.maxLifetime().toMillis());
+        pool.setLeakDetectionThreshold(profile.leakDetectionThreshold().toMillis());
+        // 풀이 처음 커넥션을 만들기 전에 연결해야 하므로 (JPA 는 기동 중에 live 풀을 시작함) 여기서 지정
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        }
+        return pool;
+    }
+
+    /**
+     * 대상 풀과 같은 DB 에 붙는 상태 조회용 풀 (대상 풀은 주입 전에 연결 정보 바인딩이 끝나 있음)
+     */
+    private HikariDataSource createProbePool(String role, HikariDataSource target) {
+        HikariDataSource pool = createPool(role, PoolProfile.probe());
+        pool.setJdbcUrl(target.getJdbcUrl());
+        pool.setUsername(target.getUsername());
+        pool.setPassword(target.getPassword());
+        if (target.getDriverClassName() != null) {
+            pool.setDriverClassName(target.getDriverClassName());
+        }
+        pool.setDataSourceProperties(target.getDataSourceProperties());
+        return pool;
+    }
 
     @Bean
     public JdbcTemplate liveJdbcTemplate(@Qualifier("liveDataSource") DataSource ds) {
@@ -59,5 +197,14 @@ public class DataSourceConfig {
     public JdbcTemplate directActiveJdbcTemplate(@Qualifier("directActiveDataSource") DataSource ds) {
         return new JdbcTemplate(ds);
     }
-}
 
+    @Bean
+    public JdbcTemplate standbyProbeJdbcTemplate(@Qualifier("standbyProbeDataSource") DataSource ds) {
+        return new JdbcTemplate(ds);
+    }
+
+    @Bean
+    public JdbcTemplate directActiveProbeJdbcTemplate(@Qualifier("directActiveProbeDataSource") DataSource ds) {
+        return new JdbcTemplate(ds);
+    }
+}
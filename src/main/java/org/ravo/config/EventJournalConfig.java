@@ -0,0 +1,9 @@
+package org.ravo.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(EventJournalProperties.class)
+public class EventJournalConfig {
+}
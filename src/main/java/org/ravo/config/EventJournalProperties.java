@@ -0,0 +1,29 @@
+package org.ravo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Getter @Setter
+@ConfigurationProperties(prefix = "event-journal")
+public class EventJournalProperties {
+
+    /** 시스템 이벤트를 로컬 디스크 저널에 저장할지 여부 (false 면 메모리에만 보관) */
+    private boolean enabled = true;
+
+    /** 세그먼트 파일 디렉터리 */
+    private String directory = "data/event-journal";
+
+    /** 세그먼트 파일 1개 크기 (생성 시 미리 할당, 가득 차면 다음 세그먼트로 넘어감) */
+    private DataSize segmentSize = DataSize.ofMegabytes(1);
+
+    /** 보관할 최대 세그먼트 수 (넘으면 가장 오래된 세그먼트 삭제) */
+    private int maxSegments = 8;
+
+    /** 메모리에 유지할 최근 이벤트 수 (최근 N건 조회는 디스크를 읽지 않음) */
+    private int recentCapacity = 200;
+
+    /** 기록 대기열 크기 (가득 차면 이벤트를 버림, 기록하는 쪽은 기다리지 않음) */
+    private int queueCapacity = 4096;
+}
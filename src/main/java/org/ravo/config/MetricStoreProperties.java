@@ -0,0 +1,39 @@
+package org.ravo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter @Setter
+@ConfigurationProperties(prefix = "metric-store")
+public class MetricStoreProperties {
+
+    /** 수집한 메트릭을 로컬 디스크에 저장할지 여부 */
+    private boolean enabled = true;
+
+    /** 세그먼트 파일 디렉터리 (역할/해상도별 하위 디렉터리) */
+    private String directory = "data/metric-store";
+
+    /** 원본(스크레이프 주기) 보존 기간 */
+    private Duration rawRetention = Duration.ofDays(1);
+
+    /** 10초 롤업 보존 기간 */
+    private Duration tenSecondRetention = Duration.ofDays(3);
+
+    /** 1분 롤업 보존 기간 */
+    private Duration oneMinuteRetention = Duration.ofDays(30);
+
+    /** 1시간 롤업 보존 기간 */
+    private Duration oneHourRetention = Duration.ofDays(365);
+
+    /** 덜 찬 블록 봉인과 진행 중인 롤업 구간 저장 주기 (비정상 종료 시 잃을 수 있는 최대 구간) */
+    private Duration flushInterval = Duration.ofMinutes(5);
+
+    /** 보존 기간 지난 세그먼트 정리 주기 */
+    private Duration retentionCheckInterval = Duration.ofMinutes(10);
+
+    /** 해상도를 자동 선택할 때 한 번에 반환할 최대 점 수 */
+    private int maxQueryPoints = 2000;
+}
@@ -0,0 +1,25 @@
+package org.ravo.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+// 백그라운드 수집기(@Scheduled) 실행 설정
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    private static final int SCHEDULER_POOL_SIZE = 4;
+
+    /**
+     * 수집기들이 서로의 지연에 막히지 않도록 스케줄러 스레드를 여러 개 사용
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(SCHEDULER_POOL_SIZE);
+        scheduler.setThreadNamePrefix("collector-");
+        return scheduler;
+    }
+}
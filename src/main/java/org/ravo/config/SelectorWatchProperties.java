@@ -0,0 +1,36 @@
+package org.ravo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter @Setter
+@ConfigurationProperties(prefix = "application.failover.watch")
+public class SelectorWatchProperties {
+
+    /** 상태 조회 최소 간격 (long-poll 응답이 바로 돌아와도 이 간격보다 자주 호출하지 않음) */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * long-poll 대기 시간 (0 이면 사용 안 함)
+     * 설정하면 status-url 에 wait(초)/state(현재 watcher_state) 파라미터를 붙여, 상태가 바뀌거나 대기 시간이 지날 때까지 응답을 기다립니다.
+     */
+    private Duration longPollWait = Duration.ZERO;
+
+    /** 연결 timeout */
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    /** 읽기 timeout (long-poll 사용 시 대기 시간에 더해짐) */
+    private Duration readTimeout = Duration.ofSeconds(2);
+
+    /** 연속 실패 시 첫 재시도 대기 시간 (실패마다 두 배) */
+    private Duration initialBackoff = Duration.ofSeconds(1);
+
+    /** 재시도 대기 시간 상한 */
+    private Duration maxBackoff = Duration.ofSeconds(30);
+
+    /** 보관할 전환 이력 수 */
+    private int historySize = 50;
+}
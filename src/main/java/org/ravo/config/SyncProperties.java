@@ -0,0 +1,74 @@
+package org.ravo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter @Setter
+@ConfigurationProperties(prefix = "sync")
+public class SyncProperties {
+
+    /** 동기화 상태 수집 주기 (이전 수집 종료 후 대기 시간) */
+    private Duration collectInterval = Duration.ofSeconds(2);
+
+    /** 동기화 확인할 테이블 목록 */
+    private List<String> tables = new ArrayList<>(List.of("users"));
+
+    /** 동시에 비교할 최대 테이블 수 */
+    private int maxConcurrentTables = 4;
+
+    /** 동시에 실행할 최대 DB 조회 수 (Active/Standby 합산) */
+    private int maxConcurrentReads = 8;
+
+    /** 테이블별 비교 제한 시간 */
+    private Duration tableTimeout = Duration.ofSeconds(30);
+
+    /** 테이블 비교 방식 */
+    private CompareMode compareMode = CompareMode.CHECKSUM;
+
+    /** 최상위 PK 구간 크기 (PK DIV N) */
+    private long checksumBucketSize = 65536;
+
+    /** 불일치 구간을 나눌 하위 구간 수 */
+    private int checksumFanout = 16;
+
+    /** 이 크기 이하의 불일치 구간은 행 단위로 비교 */
+    private long checksumLeafSize = 1024;
+
+    /** 차이 분석 시 유형별로 메모리에 보관할 최대 PK 수 (초과 시 파일로 내려씀) */
+    private int diffMemoryLimit = 100_000;
+
+    /** 차이 분석 결과 파일 디렉터리 */
+    private String diffSpillDir = System.getProperty("java.io.tmpdir") + "/ravo-sync-diff";
+
+    /** 보관할 최근 차이 분석 결과 수 */
+    private int diffRetainedReports = 5;
+
+    /** 재동기화 배치당 행 수 */
+    private int repairBatchSize = 500;
+
+    /** 동시에 진행할 최대 재동기화 쓰기 배치 수 */
+    private int repairMaxInFlight = 4;
+
+    /** 재동기화 초당 최대 행 수 (0 이하이면 제한 없음) */
+    private int repairMaxRowsPerSecond = 5000;
+
+    /** 변경 시각 컬럼 이름 (DATETIME/TIMESTAMP 타입으로 존재하는 테이블만 증분 검증, 행 해시에도 포함) */
+    private String watermarkColumn = "updated_at";
+
+    /** 증분 검증 시 삭제 감지를 위한 전체 스캔 주기 */
+    private Duration incrementalSweepInterval = Duration.ofMinutes(10);
+
+    /** 증분 조회 시 워터마크보다 앞당겨 다시 읽을 구간 (커밋 지연 보정) */
+    private Duration incrementalLookback = Duration.ofSeconds(5);
+
+    public enum CompareMode {
+        STREAMING,  // 전체 행 스트리밍 비교
+        CHECKSUM,   // PK 구간 체크섬 비교 후 불일치 구간만 행 비교
+        INCREMENTAL // updated_at 워터마크 이후 변경된 행만 비교 (주기적 전체 스캔)
+    }
+}
@@ -0,0 +1,503 @@
+package org.ravo.ravomanager.manager.binlog;
+
+import lombok.extern.slf4j.Slf4j;
+import org.ravo.ravomanager.manager.dto.BinlogEventDto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * MySQL binlog(v4) 이벤트 디코더 (단일 스레드)
+ * 이벤트 1개의 바이트를 받아 헤더를 읽고, 감시 대상 테이블의 행 이벤트(WRITE/UPDATE/DELETE_ROWS)만 {@link BinlogEventDto} 로 만들어
+ * sink 에 넘깁니다. 대상이 아닌 이벤트는 전달받은 버퍼 안에서 바로 건너뛰며 객체를 만들지 않습니다.
+ * (TABLE_MAP 의 스키마/테이블 이름도 String 으로 만들지 않고 바이트로 비교하고, 대상 테이블 매핑은 미리 만든 슬롯을 재사용)
+ * 행 수는 TABLE_MAP 의 컬럼 타입/메타데이터로 행 이미지 길이만 계산해 셉니다. (값은 해석하지 않음)
+ * 현재 파일명과 다음 이벤트 위치를 기억하므로 재연결 시 이어서 읽을 수 있습니다.
+ * 길이가 맞지 않거나 본문을 해석할 수 없는 이벤트는 예외 없이 세고(malformedEvents) 헤더의 다음 위치로 건너뜁니다.
+ * (예외로 연결을 끊으면 같은 위치부터 다시 읽어 같은 이벤트에서 재접속을 반복함)
+ * binlog_transaction_compression 으로 압축된 트랜잭션(TRANSACTION_PAYLOAD)은 풀지 않고 수만 셉니다.
+ */
+@Slf4j
+public final class BinlogDecoder {
+
+    static final int HEADER_LENGTH = 19;
+    static final int CHECKSUM_LENGTH = 4;
+
+    static final int ROTATE_EVENT = 4;
+    static final int FORMAT_DESCRIPTION_EVENT = 15;
+    static final int TABLE_MAP_EVENT = 19;
+    static final int WRITE_ROWS_EVENT_V1 = 23;
+    static final int UPDATE_ROWS_EVENT_V1 = 24;
+    static final int DELETE_ROWS_EVENT_V1 = 25;
+    static final int HEARTBEAT_EVENT = 27;
+    static final int WRITE_ROWS_EVENT = 30;
+    static final int UPDATE_ROWS_EVENT = 31;
+    static final int DELETE_ROWS_EVENT = 32;
+    static final int PARTIAL_UPDATE_ROWS_EVENT = 39;
+    static final int TRANSACTION_PAYLOAD_EVENT = 40;
+    static final int HEARTBEAT_EVENT_V2 = 41;
+
+    /** 동시에 기억할 대상 테이블 매핑 수 (테이블 이름만 지정하면 여러 스키마의 같은 이름 테이블이 각각 슬롯을 씀) */
+    private static final int MIN_TABLE_SLOTS = 8;
+
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("MM/dd HH:mm:ss");
+    private static final ZoneId KST_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final String source;
+    private final byte[][] filterSchemas;
+    private final byte[][] filterTables;
+    private final TableMap[] tableMaps;
+    private final Consumer<BinlogEventDto> sink;
+    private int nextTableSlot;
+
+    private boolean checksumEnabled;
+    private String fileName;
+    private long nextPosition;
+    private long decodedEvents;
+    private long matchedEvents;
+    private long malformedEvents;
+    private long transactionPayloadEvents;
+
+    /**
+     * @param source 이벤트에 표시할 DB 이름 (active/standby)
+     * @param tables 감시할 테이블 ("table" 은 모든 스키마, "schema.table" 은 해당 스키마만, 대소문자 무시)
+     * @param sink   대상 행 이벤트를 받을 곳 (디코더 스레드에서 호출)
+     */
+    public BinlogDecoder(String source, List<String> tables, Consumer<BinlogEventDto> sink) {
+        this.source = source;
+        this.sink = sink;
+        this.filterSchemas = new byte[tables.size()][];
+        this.filterTables = new byte[tables.size()][];
+        for (int i = 0; i < tables.size(); i++) {
+            String name = tables.get(i).trim().toLowerCase(Locale.ROOT);
+            int dot = name.indexOf('.');
+            filterSchemas[i] = dot < 0 ? null : name.substring(0, dot).getBytes(StandardCharsets.UTF_8);
+            filterTables[i] = name.substring(dot + 1).getBytes(StandardCharsets.UTF_8);
+        }
+        this.tableMaps = new TableMap[Math.max(MIN_TABLE_SLOTS, tables.size() * 2)];
+        for (int i = 0; i < tableMaps.length; i++) {
+            tableMaps[i] = new TableMap();
+        }
+    }
+
+    /**
+     * 읽기 시작 위치 지정 (새 연결/파일)
+     * 이전 연결에서 받은 테이블 매핑은 버립니다. (table id 는 서버가 바꿀 수 있음)
+     *
+     * @param checksumEnabled 이벤트 끝에 CRC32 4바이트가 붙는지 (FORMAT_DESCRIPTION 이벤트를 받으면 그 값으로 바뀜)
+     */
+    public void reset(String fileName, long position, boolean checksumEnabled) {
+        this.fileName = fileName;
+        this.nextPosition = position;
+        this.checksumEnabled = checksumEnabled;
+        for (TableMap tableMap : tableMaps) {
+            tableMap.tableId = -1;
+        }
+    }
+
+    /**
+     * 이벤트 1개 디코딩 (buf[offset, offset + length) 가 헤더부터 체크섬까지 이벤트 전체)
+     * 해석할 수 없는 이벤트는 건너뛰고 {@link #malformedEvents()} 로 셉니다.
+     */
+    public void decode(byte[] buf, int offset, int length) {
+        if (length < HEADER_LENGTH || readUnsignedInt(buf, offset + 9) != length) {
+            skipMalformed(buf, offset, length, "event length " + length + " does not match the header");
+            return;
+        }
+        decodedEvents++;
+        int type = buf[offset + 4] & 0xFF;
+        long logPosition = readUnsignedInt(buf, offset + 13);
+        int body = offset + HEADER_LENGTH;
+        int end = offset + length;
+
+        try {
+            switch (type) {
+                case FORMAT_DESCRIPTION_EVENT:
+                    // 체크섬을 지원하는 서버의 FD 이벤트는 설정과 관계없이 끝에 알고리즘(1) + 체크섬(4) 이 있음
+                    checksumEnabled = length >= HEADER_LENGTH + 57 + 5 && buf[end - 5] == 1;
+                    break;
+                case ROTATE_EVENT:
+                    rotate(buf, body, bodyEnd(end));
+                    return;
+                case HEARTBEAT_EVENT:
+                case HEARTBEAT_EVENT_V2:
+                    // 위치 변화 없음
+                    return;
+                case TABLE_MAP_EVENT:
+                    tableMap(buf, body, bodyEnd(end));
+                    break;
+                case WRITE_ROWS_EVENT:
+                case UPDATE_ROWS_EVENT:
+                case DELETE_ROWS_EVENT:
+                case PARTIAL_UPDATE_ROWS_EVENT:
+                case WRITE_ROWS_EVENT_V1:
+                case UPDATE_ROWS_EVENT_V1:
+                case DELETE_ROWS_EVENT_V1:
+                    rows(type, buf, offset, body, bodyEnd(end), logPosition - length);
+                    break;
+                case TRANSACTION_PAYLOAD_EVENT:
+                    // 압축된 행 이벤트는 풀지 않으므로 대상 테이블 변경이어도 링에 나타나지 않음
+                    if (transactionPayloadEvents++ == 0) {
+                        log.warn("Binlog '{}' has compressed transaction payloads (binlog_transaction_compression=ON); "
+                                + "row events inside them are not shown", source);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        } catch (IndexOutOfBoundsException e) {
+            skipMalformed(buf, offset, length, "body is shorter than its fields (type " + type + ")");
+            return;
+        }
+        // 서버가 만든 가짜 이벤트는 log_pos 가 0
+        if (logPosition > 0) {
+            nextPosition = logPosition;
+        }
+    }
+
+    public String fileName() {
+        return fileName;
+    }
+
+    /**
+     * 다음 이벤트 위치 (재연결 시 여기부터 요청)
+     */
+    public long nextPosition() {
+        return nextPosition;
+    }
+
+    public boolean checksumEnabled() {
+        return checksumEnabled;
+    }
+
+    public long decodedEvents() {
+        return decodedEvents;
+    }
+
+    public long matchedEvents() {
+        return matchedEvents;
+    }
+
+    /**
+     * 길이가 맞지 않거나 본문을 해석하지 못해 건너뛴 이벤트 수
+     */
+    public long malformedEvents() {
+        return malformedEvents;
+    }
+
+    /**
+     * 풀지 않고 넘긴 압축 트랜잭션(TRANSACTION_PAYLOAD) 이벤트 수
+     */
+    public long transactionPayloadEvents() {
+        return transactionPayloadEvents;
+    }
+
+    /**
+     * 해석할 수 없는 이벤트를 세고 헤더의 다음 위치(log_pos, 없으면 현재 위치 + event_size)로 건너뜀
+     * 헤더도 읽을 수 없으면 위치는 그대로 두고, 다음 이벤트의 log_pos 로 진행합니다.
+     */
+    private void skipMalformed(byte[] buf, int offset, int length, String reason) {
+        malformedEvents++;
+        long skipFrom = nextPosition;
+        if (length >= HEADER_LENGTH) {
+            long eventSize = readUnsignedInt(buf, offset + 9);
+            long logPosition = readUnsignedInt(buf, offset + 13);
+            if (logPosition > nextPosition) {
+                nextPosition = logPosition;
+            } else if (logPosition != 0 && eventSize >= HEADER_LENGTH) {
+                // log_pos 가 0 인 이벤트는 서버가 만든 가짜 이벤트라 위치를 차지하지 않음
+                nextPosition += eventSize;
+            }
+        }
+        log.warn("Skipped malformed binlog event from '{}' at {}:{} ({}), continuing at {} ({} skipped so far)",
+                source, fileName, skipFrom, reason, nextPosition, malformedEvents);
+    }
+
+    private int bodyEnd(int end) {
+        return checksumEnabled ? end - CHECKSUM_LENGTH : end;
+    }
+
+    /**
+     * ROTATE: 다음 위치(8) + 새 파일 이름
+     */
+    private void rotate(byte[] buf, int body, int end) {
+        nextPosition = readLong(buf, body);
+        fileName = new String(buf, body + 8, end - body - 8, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * TABLE_MAP: table id(6) + flags(2) + 스키마 + 테이블 + 컬럼 타입 + 메타데이터 (+ null 비트맵, 선택 메타데이터는 사용 안 함)
+     */
+    private void tableMap(byte[] buf, int body, int end) {
+        long tableId = readUnsignedInt48(buf, body);
+        int pos = body + 8;
+        int schemaLength = buf[pos] & 0xFF;
+        int schemaStart = pos + 1;
+        pos = schemaStart + schemaLength + 1;
+        int tableLength = buf[pos] & 0xFF;
+        int tableStart = pos + 1;
+        pos = tableStart + tableLength + 1;
+
+        TableMap existing = findTableMap(tableId);
+        if (!matches(buf, schemaStart, schemaLength, tableStart, tableLength)) {
+            if (existing != null) {
+                existing.tableId = -1;
+            }
+            return;
+        }
+        TableMap tableMap = existing != null ? existing : nextTableMap();
+
+        long columnCount = readPackedLong(buf, pos);
+        pos += packedLength(buf, pos);
+        if (columnCount > end - pos) {
+            tableMap.tableId = -1;
+            return;
+        }
+        int columns = (int) columnCount;
+        tableMap.assign(tableId, buf, schemaStart, schemaLength, tableStart, tableLength, columns);
+        System.arraycopy(buf, pos, tableMap.types, 0, columns);
+        pos += columns;
+        pos += packedLength(buf, pos);
+        for (int i = 0; i < columns; i++) {
+            int type = tableMap.types[i] & 0xFF;
+            tableMap.metadata[i] = RowImages.readMetadata(type, buf, pos);
+            pos += RowImages.metadataLength(type);
+        }
+    }
+
+    /**
+     * WRITE/UPDATE/DELETE_ROWS: table id(6) + flags(2) [+ extra data (v2)] + 컬럼 수 + 포함 컬럼 비트맵(UPDATE 는 2개) + 행 이미지
+     */
+    private void rows(int type, byte[] buf, int offset, int body, int end, long startPosition) {
+        TableMap tableMap = findTableMap(readUnsignedInt48(buf, body));
+        if (tableMap == null) {
+            return;
+        }
+        boolean v2 = type >= WRITE_ROWS_EVENT;
+        boolean update = type == UPDATE_ROWS_EVENT || type == UPDATE_ROWS_EVENT_V1 || type == PARTIAL_UPDATE_ROWS_EVENT;
+        int pos = body + 8;
+        if (v2) {
+            // extra data 길이는 길이 필드 2바이트 포함
+            pos += readUnsignedShort(buf, pos);
+        }
+        long columns = readPackedLong(buf, pos);
+        pos += packedLength(buf, pos);
+
+        long rows = -1;
+        if (columns == tableMap.columnCount && type != PARTIAL_UPDATE_ROWS_EVENT) {
+            int bitmapLength = (tableMap.columnCount + 7) / 8;
+            int before = pos;
+            int after = update ? pos + bitmapLength : -1;
+            rows = countRows(tableMap, buf, pos + (update ? 2 : 1) * bitmapLength, end, before, after);
+        }
+
+        matchedEvents++;
+        String operation = switch (type) {
+            case WRITE_ROWS_EVENT, WRITE_ROWS_EVENT_V1 -> "INSERT";
+            case DELETE_ROWS_EVENT, DELETE_ROWS_EVENT_V1 -> "DELETE";
+            default -> "UPDATE";
+        };
+        String summary = operation + " " + tableMap.name() + (rows >= 0 ? " (" + rows + " rows)" : "");
+        sink.accept(BinlogEventDto.builder()
+                .database(source)
+                .eventType(operation)
+                .binlogPosition(fileName + ":" + startPosition)
+                .query(summary)
+                .timestamp(Instant.ofEpochSecond(readUnsignedInt(buf, offset)).atZone(KST_ZONE).format(TIME_FORMATTER))
+                .build());
+    }
+
+    /**
+     * 행 이미지 수 (UPDATE 는 변경 전/후 한 쌍을 1행으로), 길이를 계산할 수 없으면 -1
+     */
+    private long countRows(TableMap tableMap, byte[] buf, int pos, int end, int beforeBitmap, int afterBitmap) {
+        long rows = 0;
+        while (pos < end) {
+            pos = skipImage(tableMap, buf, pos, end, beforeBitmap);
+            if (pos >= 0 && afterBitmap >= 0) {
+                pos = skipImage(tableMap, buf, pos, end, afterBitmap);
+            }
+            if (pos < 0) {
+                return -1;
+            }
+            rows++;
+        }
+        return rows;
+    }
+
+    /**
+     * 행 이미지 1개 건너뛰기: 포함 컬럼 수만큼의 null 비트맵 + null 이 아닌 포함 컬럼 값
+     */
+    private int skipImage(TableMap tableMap, byte[] buf, int pos, int end, int presentBitmap) {
+        int present = 0;
+        for (int i = 0; i < tableMap.columnCount; i++) {
+            if (bit(buf, presentBitmap, i)) {
+                present++;
+            }
+        }
+        int nullBitmap = pos;
+        pos += (present + 7) / 8;
+        int nullIndex = 0;
+        for (int i = 0; i < tableMap.columnCount && pos <= end; i++) {
+            if (!bit(buf, presentBitmap, i)) {
+                continue;
+            }
+            if (!bit(buf, nullBitmap, nullIndex++)) {
+                int length = RowImages.valueLength(tableMap.types[i] & 0xFF, tableMap.metadata[i], buf, pos, end);
+                if (length < 0) {
+                    return -1;
+                }
+                pos += length;
+            }
+        }
+        return pos <= end ? pos : -1;
+    }
+
+    private boolean matches(byte[] buf, int schemaStart, int schemaLength, int tableStart, int tableLength) {
+        for (int i = 0; i < filterTables.length; i++) {
+            if (equalsIgnoreCase(filterTables[i], buf, tableStart, tableLength)
+                    && (filterSchemas[i] == null || equalsIgnoreCase(filterSchemas[i], buf, schemaStart, schemaLength))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private TableMap findTableMap(long tableId) {
+        for (TableMap tableMap : tableMaps) {
+            if (tableMap.tableId == tableId) {
+                return tableMap;
+            }
+        }
+        return null;
+    }
+
+    private TableMap nextTableMap() {
+        TableMap tableMap = tableMaps[nextTableSlot];
+        nextTableSlot = (nextTableSlot + 1) % tableMaps.length;
+        return tableMap;
+    }
+
+    private static boolean equalsIgnoreCase(byte[] lowerAscii, byte[] buf, int start, int length) {
+        if (lowerAscii.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            int c = buf[start + i];
+            if (c >= 'A' && c <= 'Z') {
+                c += 'a' - 'A';
+            }
+            if (c != lowerAscii[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean bit(byte[] buf, int bitmap, int index) {
+        return (buf[bitmap + (index >> 3)] & (1 << (index & 7))) != 0;
+    }
+
+    static int readUnsignedShort(byte[] buf, int pos) {
+        return (buf[pos] & 0xFF) | (buf[pos + 1] & 0xFF) << 8;
+    }
+
+    static long readUnsignedInt(byte[] buf, int pos) {
+        return (buf[pos] & 0xFFL) | (buf[pos + 1] & 0xFFL) << 8 | (buf[pos + 2] & 0xFFL) << 16 | (buf[pos + 3] & 0xFFL) << 24;
+    }
+
+    private static long readUnsignedInt48(byte[] buf, int pos) {
+        return readUnsignedInt(buf, pos) | (buf[pos + 4] & 0xFFL) << 32 | (buf[pos + 5] & 0xFFL) << 40;
+    }
+
+    private static long readLong(byte[] buf, int pos) {
+        return readUnsignedInt(buf, pos) | readUnsignedInt(buf, pos + 4) << 32;
+    }
+
+    /**
+     * 길이 인코딩 정수 (< 0xFB: 1바이트, 0xFC: +2, 0xFD: +3, 0xFE: +8)
+     */
+    static long readPackedLong(byte[] buf, int pos) {
+        int first = buf[pos] & 0xFF;
+        return switch (first) {
+            case 0xFC -> readUnsignedShort(buf, pos + 1);
+            case 0xFD -> readUnsignedShort(buf, pos + 1) | (buf[pos + 3] & 0xFFL) << 16;
+            case 0xFE -> readLong(buf, pos + 1);
+            default -> first;
+        };
+    }
+
+    static int packedLength(byte[] buf, int pos) {
+        return switch (buf[pos] & 0xFF) {
+            case 0xFC -> 3;
+            case 0xFD -> 4;
+            case 0xFE -> 9;
+            default -> 1;
+        };
+    }
+
+    /**
+     * 대상 테이블의 table id 매핑 (버퍼는 재사용, 이름 문자열은 이벤트를 만들 때 한 번만 생성)
+     */
+    private static final class TableMap {
+
+        long tableId = -1;
+        int columnCount;
+        byte[] types = new byte[32];
+        int[] metadata = new int[32];
+        private byte[] qualifiedName = new byte[64];
+        private int qualifiedNameLength;
+        private String name;
+
+        void assign(long tableId, byte[] buf, int schemaStart, int schemaLength, int tableStart, int tableLength,
+                    int columns) {
+            this.tableId = tableId;
+            this.columnCount = columns;
+            if (types.length < columns) {
+                types = new byte[columns];
+                metadata = new int[columns];
+            }
+            int length = schemaLength + 1 + tableLength;
+            if (length == qualifiedNameLength && sameName(buf, schemaStart, schemaLength, tableStart, tableLength)) {
+                return;
+            }
+            if (qualifiedName.length < length) {
+                qualifiedName = new byte[length];
+            }
+            System.arraycopy(buf, schemaStart, qualifiedName, 0, schemaLength);
+            qualifiedName[schemaLength] = '.';
+            System.arraycopy(buf, tableStart, qualifiedName, schemaLength + 1, tableLength);
+            qualifiedNameLength = length;
+            name = null;
+        }
+
+        String name() {
+            if (name == null) {
+                name = new String(qualifiedName, 0, qualifiedNameLength, StandardCharsets.UTF_8);
+            }
+            return name;
+        }
+
+        private boolean sameName(byte[] buf, int schemaStart, int schemaLength, int tableStart, int tableLength) {
+            if (qualifiedName[schemaLength] != '.') {
+                return false;
+            }
+            for (int i = 0; i < schemaLength; i++) {
+                if (qualifiedName[i] != buf[schemaStart + i]) {
+                    return false;
+                }
+            }
+            for (int i = 0; i < tableLength; i++) {
+                if (qualifiedName[schemaLength + 1 + i] != buf[tableStart + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.ravo.ravomanager.manager.binlog;
+
+import org.ravo.ravomanager.manager.dto.BinlogEventDto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 최근 binlog 이벤트 고정 크기 링 (잠금 없음, 다중 작성자 / 다중 읽기)
+ * 작성자는 순번을 원자적으로 받아 슬롯에 (순번, 이벤트)를 통째로 넣고, 읽는 쪽은 최신 순번부터 거꾸로 읽으며
+ * 슬롯의 순번이 기대와 다르면(아직 쓰는 중이거나 이미 덮어써짐) 건너뜁니다.
+ * 소스(active/standby)별 tailer 스레드가 함께 쓰고 대시보드 요청 스레드가 읽습니다.
+ */
+public final class BinlogEventRing {
+
+    private record Slot(long sequence, BinlogEventDto event) {
+    }
+
+    private final AtomicReferenceArray<Slot> slots;
+    private final int mask;
+    private final AtomicLong next = new AtomicLong();
+
+    /**
+     * @param capacity 보관할 최대 이벤트 수 (2의 거듭제곱으로 올림)
+     */
+    public BinlogEventRing(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity 는 0 보다 커야 합니다.");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * 가장 오래된 이벤트를 덮어쓰며 추가합니다.
+     */
+    public void publish(BinlogEventDto event) {
+        long sequence = next.getAndIncrement();
+        slots.setRelease((int) (sequence & mask), new Slot(sequence, event));
+    }
+
+    /**
+     * 최신 이벤트부터 최대 limit 개
+     */
+    public List<BinlogEventDto> latest(int limit) {
+        long end = next.get();
+        long start = Math.max(0, end - capacity());
+        List<BinlogEventDto> events = new ArrayList<>(Math.min(limit, (int) (end - start)));
+        for (long sequence = end - 1; sequence >= start && events.size() < limit; sequence--) {
+            Slot slot = slots.getAcquire((int) (sequence & mask));
+            if (slot != null && slot.sequence() == sequence) {
+                events.add(slot.event());
+            }
+        }
+        return events;
+    }
+
+    /**
+     * 지금까지 추가된 이벤트 수
+     */
+    public long published() {
+        return next.get();
+    }
+}
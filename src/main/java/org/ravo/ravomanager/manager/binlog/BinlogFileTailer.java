@@ -0,0 +1,188 @@
+package org.ravo.ravomanager.manager.binlog;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 binlog 파일 tail
+ * 디렉터리의 인덱스 파일(*.index, 없으면 이름순 binlog 파일 목록)로 현재 파일을 찾아 끝에서부터 새로 추가되는 이벤트를 읽고,
+ * ROTATE 이벤트를 만나거나 파일 끝에서 더 새 파일이 생기면(비정상 종료 후 재시작 등) 다음 파일로 넘어갑니다.
+ * 파일을 열 때마다 FORMAT_DESCRIPTION 이벤트로 체크섬 사용 여부를 확인하고, 이벤트는 재사용 버퍼로 읽어 디코더에 넘깁니다.
+ */
+public final class BinlogFileTailer {
+
+    private static final byte[] MAGIC = {(byte) 0xFE, 'b', 'i', 'n'};
+    private static final int FIRST_EVENT_POSITION = MAGIC.length;
+
+    private final Path directory;
+    private final BinlogDecoder decoder;
+    private final long pollMillis;
+    private ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+
+    public BinlogFileTailer(Path directory, BinlogDecoder decoder, long pollMillis) {
+        this.directory = directory;
+        this.decoder = decoder;
+        this.pollMillis = pollMillis;
+    }
+
+    /**
+     * running 이 false 가 될 때까지 읽기 (디코더 위치부터, 처음이면 현재 파일 끝부터)
+     */
+    public void run(BooleanSupplier running) throws IOException, InterruptedException {
+        boolean fromEnd = decoder.fileName() == null;
+        String fileName = fromEnd ? currentFile() : decoder.fileName();
+        long position = fromEnd ? -1 : decoder.nextPosition();
+        while (running.getAsBoolean()) {
+            try (FileChannel channel = FileChannel.open(directory.resolve(fileName), StandardOpenOption.READ)) {
+                checkMagic(channel, fileName);
+                boolean checksum = readChecksumSetting(channel);
+                if (position < FIRST_EVENT_POSITION) {
+                    position = fromEnd ? lastEventBoundary(channel) : FIRST_EVENT_POSITION;
+                }
+                decoder.reset(fileName, position, checksum);
+                tail(channel, position, running);
+            }
+            // 다음 파일 (ROTATE 로 알게 되었거나 인덱스에서 찾음)
+            fromEnd = false;
+            fileName = decoder.fileName();
+            position = decoder.nextPosition();
+        }
+    }
+
+    /**
+     * 현재 파일에서 이벤트를 읽다가 다음 파일로 넘어가야 하면 반환 (decoder.fileName() 이 다음 파일)
+     */
+    private void tail(FileChannel channel, long position, BooleanSupplier running) throws IOException, InterruptedException {
+        String fileName = decoder.fileName();
+        while (running.getAsBoolean()) {
+            long size = channel.size();
+            int length = position + BinlogDecoder.HEADER_LENGTH <= size ? eventLength(channel, position) : -1;
+            if (length < 0 || position + length > size) {
+                // 완성된 이벤트가 없음: 다른 파일로 넘어갔는지 확인 후 대기
+                String next = length < 0 ? nextFile(fileName) : null;
+                if (next != null) {
+                    decoder.reset(next, FIRST_EVENT_POSITION, decoder.checksumEnabled());
+                    return;
+                }
+                Thread.sleep(pollMillis);
+                continue;
+            }
+            if (length < BinlogDecoder.HEADER_LENGTH) {
+                throw new IOException("Invalid binlog event length " + length + " at " + fileName + ":" + position);
+            }
+            readFully(channel, position, length);
+            decoder.decode(buffer.array(), 0, length);
+            position += length;
+            if (!fileName.equals(decoder.fileName())) {
+                return;
+            }
+        }
+    }
+
+    private int eventLength(FileChannel channel, long position) throws IOException {
+        readFully(channel, position, BinlogDecoder.HEADER_LENGTH);
+        long length = BinlogDecoder.readUnsignedInt(buffer.array(), 9);
+        return length > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) length;
+    }
+
+    /**
+     * 파일 시작의 FORMAT_DESCRIPTION 이벤트를 디코더에 넘겨 체크섬 사용 여부 확인 (위치는 호출한 쪽이 다시 지정)
+     */
+    private boolean readChecksumSetting(FileChannel channel) throws IOException {
+        int length = eventLength(channel, FIRST_EVENT_POSITION);
+        if (channel.size() < FIRST_EVENT_POSITION + (long) length) {
+            return decoder.checksumEnabled();
+        }
+        readFully(channel, FIRST_EVENT_POSITION, length);
+        decoder.decode(buffer.array(), 0, length);
+        return decoder.checksumEnabled();
+    }
+
+    /**
+     * 마지막으로 완성된 이벤트의 끝 위치 (이벤트 헤더의 길이만 따라가며 찾음, 파일은 메모리 매핑으로 읽음)
+     */
+    private static long lastEventBoundary(FileChannel channel) throws IOException {
+        long size = channel.size();
+        MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        map.order(ByteOrder.LITTLE_ENDIAN);
+        long position = FIRST_EVENT_POSITION;
+        while (position + BinlogDecoder.HEADER_LENGTH <= size) {
+            long length = map.getInt((int) position + 9) & 0xFFFFFFFFL;
+            if (length < BinlogDecoder.HEADER_LENGTH || position + length > size) {
+                break;
+            }
+            position += length;
+        }
+        return position;
+    }
+
+    private void readFully(FileChannel channel, long position, int length) throws IOException {
+        if (buffer.capacity() < length) {
+            buffer = ByteBuffer.allocate(Math.max(length, buffer.capacity() * 2));
+        }
+        buffer.clear().limit(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of binlog file at " + (position + buffer.position()));
+            }
+        }
+    }
+
+    private void checkMagic(FileChannel channel, String fileName) throws IOException {
+        readFully(channel, 0, MAGIC.length);
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (buffer.get(i) != MAGIC[i]) {
+                throw new IOException(fileName + " is not a binlog file");
+            }
+        }
+    }
+
+    private String currentFile() throws IOException {
+        List<String> files = listFiles();
+        if (files.isEmpty()) {
+            throw new IOException("No binlog files in " + directory);
+        }
+        return files.get(files.size() - 1);
+    }
+
+    private String nextFile(String current) throws IOException {
+        List<String> files = listFiles();
+        int index = files.indexOf(current);
+        return index >= 0 && index + 1 < files.size() ? files.get(index + 1) : null;
+    }
+
+    /**
+     * 인덱스 파일 순서의 binlog 파일 이름 목록 (인덱스 파일이 없으면 "이름.000001" 형식 파일을 이름순으로)
+     */
+    private List<String> listFiles() throws IOException {
+        List<String> files = new ArrayList<>();
+        try (Stream<Path> entries = Files.list(directory)) {
+            Path index = entries.filter(path -> path.getFileName().toString().endsWith(".index")).findFirst().orElse(null);
+            if (index != null) {
+                for (String line : Files.readAllLines(index)) {
+                    if (!line.isBlank()) {
+                        files.add(Path.of(line.trim()).getFileName().toString());
+                    }
+                }
+                return files;
+            }
+        }
+        try (Stream<Path> entries = Files.list(directory)) {
+            entries.map(path -> path.getFileName().toString())
+                    .filter(name -> name.matches(".+\\.\\d{6,}"))
+                    .sorted()
+                    .forEach(files::add);
+        }
+        return files;
+    }
+}
@@ -0,0 +1,462 @@
+package org.ravo.ravomanager.manager.binlog;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.MessageDigest;
+import java.security.PublicKey;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import javax.crypto.Cipher;
+
+/**
+ * MySQL 복제 프로토콜 binlog 클라이언트
+ * Replica 처럼 접속해 COM_BINLOG_DUMP 로 이벤트 스트림을 받고, 패킷 버퍼를 그대로 디코더에 넘깁니다. (이벤트마다 객체를 만들지 않음)
+ * 인증은 mysql_native_password 와 caching_sha2_password 를 지원합니다. TLS 를 쓰지 않으므로 caching_sha2_password 의
+ * 캐시되지 않은 첫 인증은 서버 RSA 공개키로 비밀번호를 암호화해 보냅니다. 공개키는 설정한 키를 쓰고, 접속 중에 서버에서 받는 것은
+ * allowPublicKeyRetrieval 일 때만 허용합니다. (중간자가 자기 키를 보내 비밀번호를 가로챌 수 있음)
+ * 디코더에 위치가 있으면 그 위치부터, 없으면 서버의 현재 binlog 끝부터 읽습니다.
+ * 계정에는 REPLICATION SLAVE, REPLICATION CLIENT 권한이 필요합니다.
+ */
+public final class BinlogReplicationClient implements AutoCloseable {
+
+    private static final int CLIENT_LONG_PASSWORD = 0x1;
+    private static final int CLIENT_LONG_FLAG = 0x4;
+    private static final int CLIENT_PROTOCOL_41 = 0x200;
+    private static final int CLIENT_TRANSACTIONS = 0x2000;
+    private static final int CLIENT_SECURE_CONNECTION = 0x8000;
+    private static final int CLIENT_PLUGIN_AUTH = 0x80000;
+    private static final int CAPABILITIES = CLIENT_LONG_PASSWORD | CLIENT_LONG_FLAG | CLIENT_PROTOCOL_41
+            | CLIENT_TRANSACTIONS | CLIENT_SECURE_CONNECTION | CLIENT_PLUGIN_AUTH;
+
+    private static final int MAX_PACKET_LENGTH = 0xFFFFFF;
+    private static final int UTF8MB4_GENERAL_CI = 45;
+    private static final int COM_QUERY = 0x03;
+    private static final int COM_BINLOG_DUMP = 0x12;
+
+    private static final String NATIVE_PASSWORD = "mysql_native_password";
+    private static final String CACHING_SHA2_PASSWORD = "caching_sha2_password";
+
+    private final String host;
+    private final int port;
+    private final String username;
+    private final String password;
+    private final long serverId;
+    private final int connectTimeoutMillis;
+    private final long heartbeatMillis;
+    private final String serverPublicKey;
+    private final boolean allowPublicKeyRetrieval;
+    private final BinlogDecoder decoder;
+
+    private volatile Socket socket;
+    private InputStream in;
+    private OutputStream out;
+    private int sequence;
+    private final byte[] header = new byte[4];
+    private byte[] packet = new byte[64 * 1024];
+    private int packetLength;
+
+    /**
+     * @param serverId        복제 토폴로지에서 겹치지 않는 server_id
+     * @param heartbeatMillis 이벤트가 없을 때 서버가 보내는 heartbeat 주기 (이 시간의 2배 동안 아무것도 오지 않으면 연결 끊김으로 판단)
+     * @param serverPublicKey caching_sha2_password 전체 인증에 쓸 서버 RSA 공개키 (PEM), 없으면 null
+     * @param allowPublicKeyRetrieval serverPublicKey 가 없을 때 서버에 공개키를 요청할지
+     */
+    public BinlogReplicationClient(String host, int port, String username, String password, long serverId,
+                                   int connectTimeoutMillis, long heartbeatMillis, String serverPublicKey,
+                                   boolean allowPublicKeyRetrieval, BinlogDecoder decoder) {
+        this.host = host;
+        this.port = port;
+        this.username = username;
+        this.password = password == null ? "" : password;
+        this.serverId = serverId;
+        this.connectTimeoutMillis = connectTimeoutMillis;
+        this.heartbeatMillis = heartbeatMillis;
+        this.serverPublicKey = serverPublicKey;
+        this.allowPublicKeyRetrieval = allowPublicKeyRetrieval;
+        this.decoder = decoder;
+    }
+
+    /**
+     * 접속/인증 후 연결이 끊기거나 {@link #close()} 될 때까지 이벤트를 읽습니다.
+     */
+    public void run() throws IOException {
+        Socket connection = new Socket();
+        socket = connection;
+        try {
+            connection.setTcpNoDelay(true);
+            connection.connect(new InetSocketAddress(host, port), connectTimeoutMillis);
+            connection.setSoTimeout(connectTimeoutMillis);
+            in = new BufferedInputStream(connection.getInputStream(), 64 * 1024);
+            out = new BufferedOutputStream(connection.getOutputStream());
+
+            authenticate();
+            boolean checksum = !"NONE".equalsIgnoreCase(queryValue("SELECT @@global.binlog_checksum"));
+            // 체크섬을 처리할 수 있다고 알리지 않으면 서버가 CRC32 binlog 전송을 거부함 (8.0.26 이전/이후 변수명 모두 설정)
+            query("SET @master_binlog_checksum = @@global.binlog_checksum, @source_binlog_checksum = @@global.binlog_checksum");
+            long heartbeatNanos = heartbeatMillis * 1_000_000L;
+            query("SET @master_heartbeat_period = " + heartbeatNanos + ", @source_heartbeat_period = " + heartbeatNanos);
+            if (decoder.fileName() == null) {
+                String[] status = binaryLogStatus();
+                decoder.reset(status[0], Long.parseLong(status[1]), checksum);
+            } else {
+                decoder.reset(decoder.fileName(), decoder.nextPosition(), checksum);
+            }
+
+            requestDump(decoder.fileName(), decoder.nextPosition());
+            connection.setSoTimeout((int) Math.min(Integer.MAX_VALUE, heartbeatMillis * 2));
+            stream();
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * 연결 종료 (다른 스레드에서 호출하면 읽기 중인 run() 이 예외로 끝남)
+     */
+    @Override
+    public void close() {
+        Socket connection = socket;
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (IOException ignored) {
+                // 이미 닫힘
+            }
+        }
+    }
+
+    private void stream() throws IOException {
+        while (true) {
+            readPacket();
+            int status = packet[0] & 0xFF;
+            if (status == 0x00) {
+                decoder.decode(packet, 1, packetLength - 1);
+            } else if (status == 0xFF) {
+                throw serverError();
+            } else if (status == 0xFE && packetLength < 9) {
+                // 서버가 스트림을 끝냄
+                return;
+            } else {
+                throw new IOException("Unexpected binlog packet status " + status);
+            }
+        }
+    }
+
+    private void requestDump(String fileName, long position) throws IOException {
+        byte[] name = fileName.getBytes(StandardCharsets.US_ASCII);
+        byte[] payload = new byte[11 + name.length];
+        payload[0] = COM_BINLOG_DUMP;
+        writeInt(payload, 1, position, 4);
+        // flags(2) = 0: 이벤트가 없으면 서버가 기다림
+        writeInt(payload, 7, serverId, 4);
+        System.arraycopy(name, 0, payload, 11, name.length);
+        sequence = 0;
+        writePacket(payload, payload.length);
+    }
+
+    /**
+     * 현재 binlog 파일/위치 (8.2 이상 SHOW BINARY LOG STATUS, 이전 버전 SHOW MASTER STATUS)
+     */
+    private String[] binaryLogStatus() throws IOException {
+        List<String[]> rows;
+        try {
+            rows = query("SHOW BINARY LOG STATUS");
+        } catch (ServerErrorException e) {
+            rows = query("SHOW MASTER STATUS");
+        }
+        if (rows.isEmpty() || rows.get(0)[0] == null) {
+            throw new IOException("Binary logging is not enabled on " + host + ":" + port);
+        }
+        return rows.get(0);
+    }
+
+    // ---- 인증 ----
+
+    private void authenticate() throws IOException {
+        readPacket();
+        if ((packet[0] & 0xFF) == 0xFF) {
+            throw serverError();
+        }
+        // Handshake v10: 버전(1) + 서버 버전(NUL) + 연결 id(4) + scramble 앞 8바이트 + filler(1) + capability 하위(2)
+        // + charset(1) + status(2) + capability 상위(2) + scramble 길이(1) + 예약(10) + scramble 나머지 + 플러그인 이름(NUL)
+        int pos = indexOfNul(1) + 1 + 4;
+        byte[] scramble = Arrays.copyOfRange(packet, pos, pos + 8);
+        pos += 8 + 1 + 2;
+        String plugin = NATIVE_PASSWORD;
+        if (pos < packetLength) {
+            int scrambleLength = packet[pos + 5] & 0xFF;
+            pos += 1 + 2 + 2 + 1 + 10;
+            int restLength = Math.max(13, scrambleLength - 8);
+            byte[] full = Arrays.copyOf(scramble, 8 + restLength - 1);
+            System.arraycopy(packet, pos, full, 8, restLength - 1);
+            scramble = full;
+            pos += restLength;
+            if (pos < packetLength) {
+                plugin = new String(packet, pos, indexOfNul(pos) - pos, StandardCharsets.US_ASCII);
+            }
+        }
+
+        byte[] user = username.getBytes(StandardCharsets.UTF_8);
+        byte[] authResponse = scramble(plugin, scramble);
+        byte[] pluginName = plugin.getBytes(StandardCharsets.US_ASCII);
+        byte[] response = new byte[32 + user.length + 1 + 1 + authResponse.length + pluginName.length + 1];
+        writeInt(response, 0, CAPABILITIES, 4);
+        writeInt(response, 4, MAX_PACKET_LENGTH, 4);
+        response[8] = UTF8MB4_GENERAL_CI;
+        pos = 32;
+        System.arraycopy(user, 0, response, pos, user.length);
+        pos += user.length + 1;
+        response[pos++] = (byte) authResponse.length;
+        System.arraycopy(authResponse, 0, response, pos, authResponse.length);
+        pos += authResponse.length;
+        System.arraycopy(pluginName, 0, response, pos, pluginName.length);
+        writePacket(response, response.length);
+
+        while (true) {
+            readPacket();
+            int status = packet[0] & 0xFF;
+            if (status == 0x00) {
+                return;
+            }
+            if (status == 0xFF) {
+                throw serverError();
+            }
+            if (status == 0xFE) {
+                // 인증 방식 변경 요청: 플러그인 이름(NUL) + 새 scramble(NUL)
+                int nameEnd = indexOfNul(1);
+                plugin = new String(packet, 1, nameEnd - 1, StandardCharsets.US_ASCII);
+                int dataEnd = packetLength > nameEnd + 1 && packet[packetLength - 1] == 0 ? packetLength - 1 : packetLength;
+                scramble = Arrays.copyOfRange(packet, nameEnd + 1, dataEnd);
+                byte[] switched = scramble(plugin, scramble);
+                writePacket(switched, switched.length);
+            } else if (status == 0x01 && CACHING_SHA2_PASSWORD.equals(plugin)) {
+                if (packetLength == 2 && packet[1] == 3) {
+                    // fast auth 성공, 다음 패킷이 OK
+                    continue;
+                }
+                if (packetLength == 2 && packet[1] == 4) {
+                    // full auth 필요: 설정한 공개키로 바로 암호화하거나, 허용된 경우에만 서버 공개키 요청
+                    if (serverPublicKey != null) {
+                        byte[] encrypted = encryptPassword(serverPublicKey, scramble);
+                        writePacket(encrypted, encrypted.length);
+                    } else if (allowPublicKeyRetrieval) {
+                        writePacket(new byte[]{2}, 1);
+                    } else {
+                        throw new IOException("caching_sha2_password full authentication for '" + username
+                                + "' needs the server public key: set binlog.sources[].server-public-key-path"
+                                + " or allow-public-key-retrieval=true");
+                    }
+                    continue;
+                }
+                if (serverPublicKey != null || !allowPublicKeyRetrieval) {
+                    throw new IOException("Server sent a public key that was not requested");
+                }
+                byte[] encrypted = encryptPassword(new String(packet, 1, packetLength - 1, StandardCharsets.US_ASCII), scramble);
+                writePacket(encrypted, encrypted.length);
+            } else {
+                throw new IOException("Unsupported authentication step " + status + " for " + plugin);
+            }
+        }
+    }
+
+    private byte[] scramble(String plugin, byte[] scramble) throws IOException {
+        if (password.isEmpty()) {
+            return new byte[0];
+        }
+        byte[] passwordBytes = password.getBytes(StandardCharsets.UTF_8);
+        try {
+            if (NATIVE_PASSWORD.equals(plugin)) {
+                // SHA1(password) XOR SHA1(scramble + SHA1(SHA1(password)))
+                MessageDigest sha1 = MessageDigest.getInstance("SHA-1");
+                byte[] stage1 = sha1.digest(passwordBytes);
+                byte[] stage2 = sha1.digest(stage1);
+                sha1.update(scramble, 0, 20);
+                return xor(stage1, sha1.digest(stage2));
+            }
+            if (CACHING_SHA2_PASSWORD.equals(plugin)) {
+                // SHA256(password) XOR SHA256(SHA256(SHA256(password)) + scramble)
+                MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+                byte[] stage1 = sha256.digest(passwordBytes);
+                byte[] stage2 = sha256.digest(stage1);
+                sha256.update(stage2);
+                sha256.update(scramble, 0, 20);
+                return xor(stage1, sha256.digest());
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to scramble password", e);
+        }
+        throw new IOException("Unsupported authentication plugin " + plugin);
+    }
+
+    /**
+     * (password + NUL) XOR scramble 을 서버 공개키(RSA OAEP)로 암호화
+     */
+    private byte[] encryptPassword(String pem, byte[] scramble) throws IOException {
+        byte[] plain = (password + "\0").getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < plain.length; i++) {
+            plain[i] ^= scramble[i % 20];
+        }
+        String base64 = pem.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+        try {
+            PublicKey key = KeyFactory.getInstance("RSA").generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(base64)));
+            Cipher cipher = Cipher.getInstance("RSA/ECB/OAEPWithSHA-1AndMGF1Padding");
+            cipher.init(Cipher.ENCRYPT_MODE, key);
+            return cipher.doFinal(plain);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IOException("Failed to encrypt password with server public key", e);
+        }
+    }
+
+    // ---- 텍스트 프로토콜 질의 (설정/상태 조회용) ----
+
+    private String queryValue(String sql) throws IOException {
+        List<String[]> rows = query(sql);
+        return rows.isEmpty() ? null : rows.get(0)[0];
+    }
+
+    /**
+     * COM_QUERY 결과 행 (결과 집합이 없으면 빈 목록)
+     */
+    private List<String[]> query(String sql) throws IOException {
+        byte[] text = sql.getBytes(StandardCharsets.UTF_8);
+        byte[] payload = new byte[1 + text.length];
+        payload[0] = COM_QUERY;
+        System.arraycopy(text, 0, payload, 1, text.length);
+        sequence = 0;
+        writePacket(payload, payload.length);
+
+        readPacket();
+        int status = packet[0] & 0xFF;
+        if (status == 0x00) {
+            return List.of();
+        }
+        if (status == 0xFF) {
+            throw serverError();
+        }
+        int columns = (int) BinlogDecoder.readPackedLong(packet, 0);
+        // 컬럼 정의 + EOF
+        for (int i = 0; i <= columns; i++) {
+            readPacket();
+        }
+        List<String[]> rows = new ArrayList<>();
+        while (true) {
+            readPacket();
+            status = packet[0] & 0xFF;
+            if (status == 0xFE && packetLength < 9) {
+                return rows;
+            }
+            if (status == 0xFF) {
+                throw serverError();
+            }
+            String[] row = new String[columns];
+            int pos = 0;
+            for (int i = 0; i < columns; i++) {
+                if ((packet[pos] & 0xFF) == 0xFB) {
+                    pos++;
+                    continue;
+                }
+                int length = (int) BinlogDecoder.readPackedLong(packet, pos);
+                pos += BinlogDecoder.packedLength(packet, pos);
+                row[i] = new String(packet, pos, length, StandardCharsets.UTF_8);
+                pos += length;
+            }
+            rows.add(row);
+        }
+    }
+
+    // ---- 패킷 입출력 ----
+
+    /**
+     * 패킷 1개를 packet[0, packetLength) 로 읽음 (16MB 이상으로 나뉜 패킷은 이어 붙임, 버퍼는 재사용)
+     */
+    private void readPacket() throws IOException {
+        packetLength = 0;
+        int length;
+        do {
+            readFully(header, 0, 4);
+            length = (header[0] & 0xFF) | (header[1] & 0xFF) << 8 | (header[2] & 0xFF) << 16;
+            sequence = (header[3] + 1) & 0xFF;
+            if (packet.length < packetLength + length) {
+                packet = Arrays.copyOf(packet, Math.max(packetLength + length, packet.length * 2));
+            }
+            readFully(packet, packetLength, length);
+            packetLength += length;
+        } while (length == MAX_PACKET_LENGTH);
+        if (packetLength == 0) {
+            throw new IOException("Empty packet from " + host + ":" + port);
+        }
+    }
+
+    private void readFully(byte[] target, int offset, int length) throws IOException {
+        int read = 0;
+        while (read < length) {
+            int count = in.read(target, offset + read, length - read);
+            if (count < 0) {
+                throw new EOFException("Connection closed by " + host + ":" + port);
+            }
+            read += count;
+        }
+    }
+
+    private void writePacket(byte[] payload, int length) throws IOException {
+        out.write(length & 0xFF);
+        out.write(length >> 8 & 0xFF);
+        out.write(length >> 16 & 0xFF);
+        out.write(sequence);
+        out.write(payload, 0, length);
+        out.flush();
+        sequence = (sequence + 1) & 0xFF;
+    }
+
+    private ServerErrorException serverError() {
+        // ERR: 0xFF + 코드(2) + '#' + SQLSTATE(5) + 메시지
+        int code = BinlogDecoder.readUnsignedShort(packet, 1);
+        int messageStart = packetLength > 3 && packet[3] == '#' ? 9 : 3;
+        String message = new String(packet, messageStart, Math.max(0, packetLength - messageStart), StandardCharsets.UTF_8);
+        return new ServerErrorException("MySQL error " + code + " from " + host + ":" + port + ": " + message);
+    }
+
+    private int indexOfNul(int from) {
+        int pos = from;
+        while (pos < packetLength && packet[pos] != 0) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static byte[] xor(byte[] a, byte[] b) {
+        byte[] result = new byte[a.length];
+        for (int i = 0; i < a.length; i++) {
+            result[i] = (byte) (a[i] ^ b[i]);
+        }
+        return result;
+    }
+
+    private static void writeInt(byte[] target, int offset, long value, int bytes) {
+        for (int i = 0; i < bytes; i++) {
+            target[offset + i] = (byte) (value >> (8 * i));
+        }
+    }
+
+    /**
+     * 서버가 ERR 패킷으로 거부한 경우
+     */
+    static final class ServerErrorException extends IOException {
+
+        ServerErrorException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package org.ravo.ravomanager.manager.binlog;
+
+/**
+ * 행 이벤트의 행 이미지에서 컬럼 값 길이 계산
+ * 값은 해석하지 않고 TABLE_MAP 의 컬럼 타입/메타데이터로 바이트 길이만 구해 건너뜁니다.
+ * 메타데이터는 TABLE_MAP 에서 타입별 1~2 바이트를 int 하나로 합친 값입니다. ({@link BinlogDecoder} 참고)
+ */
+final class RowImages {
+
+    static final int TYPE_DECIMAL = 0;
+    static final int TYPE_TINY = 1;
+    static final int TYPE_SHORT = 2;
+    static final int TYPE_LONG = 3;
+    static final int TYPE_FLOAT = 4;
+    static final int TYPE_DOUBLE = 5;
+    static final int TYPE_NULL = 6;
+    static final int TYPE_TIMESTAMP = 7;
+    static final int TYPE_LONGLONG = 8;
+    static final int TYPE_INT24 = 9;
+    static final int TYPE_DATE = 10;
+    static final int TYPE_TIME = 11;
+    static final int TYPE_DATETIME = 12;
+    static final int TYPE_YEAR = 13;
+    static final int TYPE_VARCHAR = 15;
+    static final int TYPE_BIT = 16;
+    static final int TYPE_TIMESTAMP2 = 17;
+    static final int TYPE_DATETIME2 = 18;
+    static final int TYPE_TIME2 = 19;
+    static final int TYPE_JSON = 245;
+    static final int TYPE_NEWDECIMAL = 246;
+    static final int TYPE_ENUM = 247;
+    static final int TYPE_SET = 248;
+    static final int TYPE_BLOB = 252;
+    static final int TYPE_VAR_STRING = 253;
+    static final int TYPE_STRING = 254;
+    static final int TYPE_GEOMETRY = 255;
+
+    /** DECIMAL 압축 저장 시 남는 자릿수(0~8)별 바이트 수 */
+    private static final int[] DECIMAL_DIGIT_BYTES = {0, 1, 1, 2, 2, 3, 3, 4, 4};
+
+    private RowImages() {
+    }
+
+    /**
+     * TABLE_MAP 메타데이터 블록에서 이 타입이 차지하는 바이트 수
+     */
+    static int metadataLength(int type) {
+        return switch (type) {
+            case TYPE_FLOAT, TYPE_DOUBLE, TYPE_BLOB, TYPE_GEOMETRY, TYPE_JSON,
+                 TYPE_TIMESTAMP2, TYPE_DATETIME2, TYPE_TIME2 -> 1;
+            case TYPE_VARCHAR, TYPE_VAR_STRING, TYPE_BIT, TYPE_NEWDECIMAL,
+                 TYPE_STRING, TYPE_ENUM, TYPE_SET -> 2;
+            default -> 0;
+        };
+    }
+
+    /**
+     * 메타데이터 바이트를 int 로 합침
+     * VARCHAR/VAR_STRING/BIT 은 little-endian, NEWDECIMAL(정밀도, 스케일)과 STRING/ENUM/SET(실제 타입, 길이)은 앞 바이트가 상위
+     */
+    static int readMetadata(int type, byte[] buf, int pos) {
+        return switch (type) {
+            case TYPE_FLOAT, TYPE_DOUBLE, TYPE_BLOB, TYPE_GEOMETRY, TYPE_JSON,
+                 TYPE_TIMESTAMP2, TYPE_DATETIME2, TYPE_TIME2 -> buf[pos] & 0xFF;
+            case TYPE_VARCHAR, TYPE_VAR_STRING, TYPE_BIT -> (buf[pos] & 0xFF) | (buf[pos + 1] & 0xFF) << 8;
+            case TYPE_NEWDECIMAL, TYPE_STRING, TYPE_ENUM, TYPE_SET -> (buf[pos] & 0xFF) << 8 | (buf[pos + 1] & 0xFF);
+            default -> 0;
+        };
+    }
+
+    /**
+     * pos 에서 시작하는 값 1개의 바이트 수, 알 수 없는 타입이면 -1
+     * 길이 접두사를 읽는 타입은 end 를 넘으면 -1 을 반환합니다.
+     */
+    static int valueLength(int type, int meta, byte[] buf, int pos, int end) {
+        switch (type) {
+            case TYPE_NULL:
+                return 0;
+            case TYPE_TINY:
+            case TYPE_YEAR:
+                return 1;
+            case TYPE_SHORT:
+                return 2;
+            case TYPE_INT24:
+            case TYPE_DATE:
+            case TYPE_TIME:
+                return 3;
+            case TYPE_LONG:
+            case TYPE_FLOAT:
+            case TYPE_TIMESTAMP:
+                return 4;
+            case TYPE_LONGLONG:
+            case TYPE_DOUBLE:
+            case TYPE_DATETIME:
+                return 8;
+            case TYPE_TIMESTAMP2:
+                return 4 + (meta + 1) / 2;
+            case TYPE_DATETIME2:
+                return 5 + (meta + 1) / 2;
+            case TYPE_TIME2:
+                return 3 + (meta + 1) / 2;
+            case TYPE_BIT:
+                return ((meta >> 8) * 8 + (meta & 0xFF) + 7) / 8;
+            case TYPE_NEWDECIMAL:
+                return decimalLength(meta >> 8, meta & 0xFF);
+            case TYPE_ENUM:
+            case TYPE_SET:
+                return meta & 0xFF;
+            case TYPE_VARCHAR:
+            case TYPE_VAR_STRING:
+                return prefixedLength(meta > 255 ? 2 : 1, buf, pos, end);
+            case TYPE_BLOB:
+            case TYPE_GEOMETRY:
+            case TYPE_JSON:
+                return prefixedLength(meta, buf, pos, end);
+            case TYPE_STRING:
+                return stringLength(meta, buf, pos, end);
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * CHAR/BINARY/ENUM/SET (TABLE_MAP 타입은 STRING 이고 실제 타입은 메타데이터 상위 바이트)
+     * 최대 길이가 255 를 넘는 CHAR 는 길이 상위 2비트를 실제 타입 바이트의 0x30 비트에 반전해 넣습니다.
+     */
+    private static int stringLength(int meta, byte[] buf, int pos, int end) {
+        int realType = meta >> 8;
+        int maxLength = meta & 0xFF;
+        if (realType != 0 && (realType & 0x30) != 0x30) {
+            maxLength |= ((realType & 0x30) ^ 0x30) << 4;
+            realType |= 0x30;
+        }
+        if (realType == TYPE_ENUM || realType == TYPE_SET) {
+            return meta & 0xFF;
+        }
+        return prefixedLength(maxLength > 255 ? 2 : 1, buf, pos, end);
+    }
+
+    private static int prefixedLength(int prefixBytes, byte[] buf, int pos, int end) {
+        if (prefixBytes < 1 || prefixBytes > 4 || pos + prefixBytes > end) {
+            return -1;
+        }
+        long length = 0;
+        for (int i = 0; i < prefixBytes; i++) {
+            length |= (long) (buf[pos + i] & 0xFF) << (8 * i);
+        }
+        return length > end - pos - prefixBytes ? -1 : prefixBytes + (int) length;
+    }
+
+    /**
+     * DECIMAL(precision, scale) 압축 이진 형식 길이 (9자리당 4바이트 + 남는 자릿수)
+     */
+    private static int decimalLength(int precision, int scale) {
+        int integral = precision - scale;
+        if (integral < 0) {
+            return -1;
+        }
+        return (integral / 9) * 4 + DECIMAL_DIGIT_BYTES[integral % 9]
+                + (scale / 9) * 4 + DECIMAL_DIGIT_BYTES[scale % 9];
+    }
+}
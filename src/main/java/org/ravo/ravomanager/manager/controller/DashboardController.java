@@ -2,13 +2,20 @@ package org.ravo.ravomanager.manager.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.ravo.ravomanager.manager.dto.DashboardResponseDto;
-import org.ravo.ravomanager.manager.service.DashboardService;
+import org.ravo.ravomanager.manager.service.DashboardSnapshotService;
+import org.ravo.ravomanager.manager.service.DashboardStreamService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
-import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 데이터베이스 복제 모니터링 컨트롤러
@@ -22,36 +29,73 @@ public class DashboardController {
     private static final String REPLICATION_MONITOR_VIEW = "/manager/dashboard";
     private static final String INITIAL_DATA_ATTRIBUTE = "initialData";
 
-    private final DashboardService dashboardService;
+    private final DashboardSnapshotService dashboardSnapshotService;
+    private final DashboardStreamService dashboardStreamService;
 
     /**
      * 복제 모니터 대시보드 페이지를 반환합니다.
+     * 초기 데이터는 비동기로 만들어지며, 기다리는 동안 요청 스레드를 점유하지 않습니다.
      * 
-     * @param model 뷰에 전달할 데이터 모델
-     * @return 복제 모니터 뷰 이름
+     * @return 복제 모니터 뷰와 초기 데이터
      */
     @GetMapping("/dashboard")
-    public String showMonitorPage(Model model) {
+    public CompletableFuture<ModelAndView> showMonitorPage() {
         log.info("복제 모니터 페이지 요청");
-        
-        DashboardResponseDto initialData = dashboardService.getDashboardData();
-        model.addAttribute(INITIAL_DATA_ATTRIBUTE, initialData);
-        
-        log.debug("초기 데이터 로드 완료: {}", initialData);
-        return REPLICATION_MONITOR_VIEW;
+
+        // 폴링/SSE 와 같은 공유 스냅샷 사용 (새로고침마다 대시보드 데이터를 다시 만들지 않음)
+        return dashboardSnapshotService.currentState().thenApply(initialData -> {
+            log.debug("초기 데이터 로드 완료: {}", initialData);
+            return new ModelAndView(REPLICATION_MONITOR_VIEW, INITIAL_DATA_ATTRIBUTE, initialData);
+        });
     }
 
     /**
      * 대시보드 실시간 갱신용 데이터 API
-     * 
-     * @return 현재 대시보드 데이터
+     * 응답에는 버전 ETag 가 붙으며, If-None-Match 가 현재 버전과 같으면 본문 없이 304 를 반환합니다.
+     * (ResponseEntity 의 ETag 로 Spring MVC 가 조건부 요청을 처리)
+     * since 를 주면 해당 버전 이후 바뀐 하위 객체와 새 활동 데이터 포인트만 담은 {@link org.ravo.ravomanager.manager.dto.DashboardDeltaDto} 를 반환합니다.
+     * 응답 생성은 비동기로 진행되며 요청 스레드는 바로 반환됩니다.
+     *
+     * @param since 클라이언트가 가진 버전 (이전 응답의 ETag 또는 version)
+     * @return 현재 대시보드 데이터 또는 증분 데이터 (JSON)
      */
     @GetMapping("/api/dashboard")
     @ResponseBody
-    public ResponseEntity<DashboardResponseDto> getDashboardData() {
-        log.debug("대시보드 데이터 API 요청");
-        
-        DashboardResponseDto dashboardData = dashboardService.getDashboardData();
-        return ResponseEntity.ok(dashboardData);
+    public CompletableFuture<ResponseEntity<byte[]>> getDashboardData(@RequestParam(required = false) Long since) {
+        log.debug("대시보드 데이터 API 요청 (since={})", since);
+
+        if (since == null) {
+            return dashboardSnapshotService.current().thenApply(this::toResponse);
+        }
+        return dashboardSnapshotService.current().thenCompose(current -> {
+            if (since == current.version()) {
+                return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(current.etag())
+                        .cacheControl(CacheControl.noCache())
+                        .<byte[]>build());
+            }
+            return dashboardSnapshotService.delta(since).thenApply(this::toResponse);
+        });
+    }
+
+    private ResponseEntity<byte[]> toResponse(DashboardSnapshotService.VersionedBody response) {
+        return ResponseEntity.ok()
+                .eTag(response.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response.body());
+    }
+
+    /**
+     * 대시보드 실시간 푸시 스트림 (Server-Sent Events)
+     * 연결 직후 전체 상태(snapshot), 이후 메트릭 수집마다 바뀐 필드만 담긴 JSON Merge Patch(patch)를 보냅니다.
+     *
+     * @return SSE 연결
+     */
+    @GetMapping(value = "/api/dashboard/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public SseEmitter streamDashboard() {
+        log.debug("대시보드 스트림 구독 요청");
+        return dashboardStreamService.subscribe();
     }
 }
@@ -2,18 +2,30 @@ package org.ravo.ravomanager.manager.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.ravo.ravomanager.manager.domain.MetricSnapshot;
+import org.ravo.ravomanager.manager.dto.MetricFreshnessDto;
+import org.ravo.ravomanager.manager.dto.MetricHistoryDto;
+import org.ravo.ravomanager.manager.monitoring.Metric;
 import org.ravo.ravomanager.manager.monitoring.MetricData;
-import org.ravo.ravomanager.manager.service.MonitoringService;
+import org.ravo.ravomanager.manager.service.MetricCollector;
+import org.ravo.ravomanager.manager.service.MetricHistoryService;
+import org.ravo.ravomanager.manager.tsdb.Aggregate;
+import org.ravo.ravomanager.manager.tsdb.Resolution;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Prometheus 메트릭 데이터 API 컨트롤러
  * Active/Standby DB의 실시간 성능 메트릭을 제공합니다.
+ * 응답은 {@link MetricCollector} 가 마지막으로 발행한 스냅샷이며, 요청이 exporter 스크레이프를 일으키지 않습니다.
  */
 @Slf4j
 @RestController
@@ -21,16 +33,65 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class MetricApiController {
 
-    private final MonitoringService monitoringService;
+    private final MetricCollector metricCollector;
+    private final MetricHistoryService metricHistoryService;
 
     /**
-     * Active/Standby DB의 실시간 메트릭 데이터를 반환합니다.
+     * Active/Standby DB의 최신 메트릭 데이터를 반환합니다.
      * 
      * @return Active 및 Standby DB의 메트릭 데이터 맵
      */
     @GetMapping("/metrics")
-    public Mono<Map<String, MetricData>> getMetrics() {
+    public Map<String, MetricData> getMetrics() {
         log.debug("메트릭 데이터 요청");
-        return monitoringService.fetchMetrics();
+        return metricCollector.getLatestMetrics();
+    }
+
+    /**
+     * 역할별 메트릭 수집 시각과 경과 시간을 반환합니다.
+     */
+    @GetMapping("/metrics/freshness")
+    public List<MetricFreshnessDto> getFreshness() {
+        return List.of(
+                toFreshness("active", metricCollector.getActive()),
+                toFreshness("standby", metricCollector.getStandby()));
+    }
+
+    /**
+     * 저장된 메트릭 시계열을 반환합니다. (예: 최근 7일 QPS → metric=QUERIES&range=P7D&rate=true)
+     *
+     * @param role       active / standby
+     * @param metric     메트릭 이름 ({@link Metric} 상수)
+     * @param range      조회 구간 길이 (ISO-8601, 기본 1시간)
+     * @param to         구간 끝 (epoch millis, 기본 현재)
+     * @param aggregate  롤업 집계 방식
+     * @param resolution 해상도 (생략 시 구간에 맞춰 자동 선택)
+     * @param rate       카운터를 초당 증가율로 반환
+     */
+    @GetMapping("/metrics/history")
+    public ResponseEntity<MetricHistoryDto> getHistory(@RequestParam(defaultValue = "active") String role,
+                                                       @RequestParam Metric metric,
+                                                       @RequestParam(defaultValue = "PT1H") Duration range,
+                                                       @RequestParam(required = false) Long to,
+                                                       @RequestParam(defaultValue = "AVG") Aggregate aggregate,
+                                                       @RequestParam(required = false) Resolution resolution,
+                                                       @RequestParam(defaultValue = "false") boolean rate) {
+        try {
+            return ResponseEntity.ok(metricHistoryService.getHistory(role, metric, range, to, aggregate, resolution, rate));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    private MetricFreshnessDto toFreshness(String role, MetricSnapshot snapshot) {
+        return MetricFreshnessDto.builder()
+                .role(role)
+                .collectedAt(snapshot.getCollectedAt() == null ? null : snapshot.getCollectedAt().toString())
+                .ageMillis(snapshot.getAgeMillis())
+                .scrapeMillis(snapshot.getScrapeMillis())
+                .status(snapshot.getMetricData().getStatus().name())
+                .build();
     }
 }
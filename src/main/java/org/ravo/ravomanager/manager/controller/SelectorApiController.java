@@ -0,0 +1,28 @@
+package org.ravo.ravomanager.manager.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.ravo.ravomanager.manager.dto.SelectorWatchStatusDto;
+import org.ravo.ravomanager.manager.service.KubernetesStatusService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * K8s Service Selector 상태 API 컨트롤러
+ * 백그라운드 watcher 가 유지하는 메모리 상태를 반환하며, 요청이 watcher API 호출을 일으키지 않습니다.
+ */
+@RestController
+@RequestMapping("/api/selector")
+@RequiredArgsConstructor
+public class SelectorApiController {
+
+    private final KubernetesStatusService kubernetesStatusService;
+
+    /**
+     * 현재 타겟, watcher 연결 상태, 전환 이력을 반환합니다.
+     */
+    @GetMapping("/status")
+    public SelectorWatchStatusDto getStatus() {
+        return kubernetesStatusService.getWatchStatus();
+    }
+}
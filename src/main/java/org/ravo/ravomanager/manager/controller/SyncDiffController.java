@@ -0,0 +1,74 @@
+package org.ravo.ravomanager.manager.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ravo.ravomanager.manager.domain.DiffType;
+import org.ravo.ravomanager.manager.dto.SyncDiffPageDto;
+import org.ravo.ravomanager.manager.dto.SyncDiffReportDto;
+import org.ravo.ravomanager.manager.service.SyncDiffService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Active/Standby 차이 분석 API 컨트롤러
+ * 불일치 PK 목록을 페이지 단위로 제공합니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/sync/diff")
+@RequiredArgsConstructor
+public class SyncDiffController {
+
+    private final SyncDiffService syncDiffService;
+
+    /**
+     * 테이블 차이 분석을 시작합니다.
+     *
+     * @param table 모니터링 대상 테이블 이름
+     * @return 생성된 보고서 (RUNNING)
+     */
+    @PostMapping
+    public ResponseEntity<SyncDiffReportDto> startDiff(@RequestParam String table) {
+        log.info("차이 분석 요청: {}", table);
+        try {
+            return ResponseEntity.accepted().body(syncDiffService.startDiff(table));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 보관 중인 차이 분석 보고서 목록
+     */
+    @GetMapping
+    public List<SyncDiffReportDto> getReports() {
+        return syncDiffService.getReports();
+    }
+
+    @GetMapping("/{reportId}")
+    public ResponseEntity<SyncDiffReportDto> getReport(@PathVariable long reportId) {
+        return ResponseEntity.of(syncDiffService.getReport(reportId));
+    }
+
+    /**
+     * 불일치 PK 페이지 조회 (완료된 보고서만)
+     *
+     * @param type 불일치 유형
+     * @param page 0부터 시작하는 페이지 번호
+     * @param size 페이지 크기 (최대 1000)
+     */
+    @GetMapping("/{reportId}/keys")
+    public ResponseEntity<SyncDiffPageDto> getKeys(@PathVariable long reportId,
+                                                   @RequestParam DiffType type,
+                                                   @RequestParam(defaultValue = "0") int page,
+                                                   @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.of(syncDiffService.getPage(reportId, type, page, size));
+    }
+}
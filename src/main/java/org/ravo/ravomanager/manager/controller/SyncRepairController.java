@@ -0,0 +1,57 @@
+package org.ravo.ravomanager.manager.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ravo.ravomanager.manager.domain.RepairDirection;
+import org.ravo.ravomanager.manager.dto.SyncRepairJobDto;
+import org.ravo.ravomanager.manager.service.SyncRepairService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 불일치 행 재동기화 API 컨트롤러
+ * 차이 분석 보고서를 기준으로 재동기화를 실행하고 처리량을 제공합니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/sync/repair")
+@RequiredArgsConstructor
+public class SyncRepairController {
+
+    private final SyncRepairService syncRepairService;
+
+    /**
+     * 재동기화를 시작합니다.
+     *
+     * @param reportId  완료된 차이 분석 보고서 ID
+     * @param direction 기준 DB → 대상 DB 방향 (기본 ACTIVE_TO_STANDBY)
+     */
+    @PostMapping
+    public ResponseEntity<SyncRepairJobDto> startRepair(@RequestParam long reportId,
+                                                        @RequestParam(defaultValue = "ACTIVE_TO_STANDBY")
+                                                        RepairDirection direction) {
+        log.info("재동기화 요청 - report: {}, direction: {}", reportId, direction);
+        try {
+            return ResponseEntity.accepted().body(syncRepairService.startRepair(reportId, direction));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping
+    public List<SyncRepairJobDto> getJobs() {
+        return syncRepairService.getJobs();
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<SyncRepairJobDto> getJob(@PathVariable long jobId) {
+        return ResponseEntity.of(syncRepairService.getJob(jobId));
+    }
+}
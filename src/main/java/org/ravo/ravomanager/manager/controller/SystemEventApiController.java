@@ -0,0 +1,55 @@
+package org.ravo.ravomanager.manager.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.ravo.ravomanager.manager.dto.SystemEventDto;
+import org.ravo.ravomanager.manager.service.SystemEventService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 시스템 이벤트 API 컨트롤러
+ * 이벤트 저널에 기록된 시스템 이벤트(Selector 전환, DB UP/DOWN, 동기화율 변화, 페일오버 제어)를 반환합니다.
+ */
+@RestController
+@RequestMapping("/api/system-events")
+@RequiredArgsConstructor
+public class SystemEventApiController {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final SystemEventService systemEventService;
+
+    /**
+     * 최근 이벤트 (최신순)
+     */
+    @GetMapping("/latest")
+    public ResponseEntity<List<SystemEventDto>> getLatest(@RequestParam(defaultValue = "20") int limit) {
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(systemEventService.getRecentEvents(limit));
+    }
+
+    /**
+     * 구간 이벤트 (오래된 것부터, 예: 최근 24시간 → range=PT24H)
+     *
+     * @param range 조회 구간 길이 (ISO-8601, 기본 24시간)
+     * @param to    구간 끝 (epoch millis, 기본 현재)
+     */
+    @GetMapping
+    public ResponseEntity<List<SystemEventDto>> getEvents(@RequestParam(defaultValue = "PT24H") Duration range,
+                                                          @RequestParam(required = false) Long to,
+                                                          @RequestParam(defaultValue = "200") int limit) {
+        if (range.isNegative() || range.isZero() || limit <= 0 || limit > MAX_LIMIT) {
+            return ResponseEntity.badRequest().build();
+        }
+        long end = to != null ? to : System.currentTimeMillis();
+        return ResponseEntity.ok(systemEventService.getEvents(end - range.toMillis(), end, limit));
+    }
+}
@@ -0,0 +1,10 @@
+package org.ravo.ravomanager.manager.domain;
+
+/**
+ * Active/Standby 행 불일치 유형
+ */
+public enum DiffType {
+    MISSING_ON_STANDBY,  // Active 에만 있는 행
+    MISSING_ON_ACTIVE,   // Standby 에만 있는 행
+    CONTENT_MISMATCH     // 양쪽에 있지만 내용이 다른 행
+}
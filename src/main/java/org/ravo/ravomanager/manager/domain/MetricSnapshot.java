@@ -0,0 +1,42 @@
+package org.ravo.ravomanager.manager.domain;
+
+import lombok.Getter;
+import org.ravo.ravomanager.manager.monitoring.MetricData;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 메트릭 수집기가 역할(Active/Standby)별로 발행하는 스크레이프 결과 스냅샷
+ * 발행 후에는 MetricData 를 수정하지 않으므로 여러 요청 스레드가 그대로 공유해 읽습니다.
+ */
+@Getter
+public class MetricSnapshot {
+
+    private final MetricData metricData;
+    private final Instant collectedAt;  // 아직 수집 전이면 null
+    private final long scrapeMillis;    // 스크레이프 + 파싱 소요 시간
+
+    public MetricSnapshot(MetricData metricData, Instant collectedAt, long scrapeMillis) {
+        this.metricData = metricData;
+        this.collectedAt = collectedAt;
+        this.scrapeMillis = scrapeMillis;
+    }
+
+    /**
+     * 수집 전 초기 스냅샷 (상태 UNKNOWN)
+     */
+    public static MetricSnapshot initial(String roleName) {
+        return new MetricSnapshot(new MetricData(roleName), null, 0);
+    }
+
+    /**
+     * 스냅샷 나이 (밀리초), 수집 전이면 -1
+     */
+    public long getAgeMillis() {
+        if (collectedAt == null) {
+            return -1;
+        }
+        return Duration.between(collectedAt, Instant.now()).toMillis();
+    }
+}
@@ -0,0 +1,9 @@
+package org.ravo.ravomanager.manager.domain;
+
+/**
+ * 재동기화 방향 (기준 DB → 대상 DB)
+ */
+public enum RepairDirection {
+    ACTIVE_TO_STANDBY,  // 평상시: Active 기준으로 Standby 보정
+    STANDBY_TO_ACTIVE   // Failover 이후: Standby 기준으로 Active 보정
+}
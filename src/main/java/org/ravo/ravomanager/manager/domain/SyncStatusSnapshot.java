@@ -0,0 +1,38 @@
+package org.ravo.ravomanager.manager.domain;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 백그라운드 수집기가 발행하는 동기화 상태 스냅샷 (불변)
+ */
+@Getter
+public class SyncStatusSnapshot {
+
+    private final double syncPercent;
+    private final List<TableSyncInfo> tables;
+    private final int totalTables;
+    private final int syncedTables;
+    private final Instant collectedAt;  // 아직 수집 전이면 null
+
+    public SyncStatusSnapshot(SyncStatus status, Instant collectedAt) {
+        this.syncPercent = status.getSyncPercent();
+        this.tables = List.copyOf(status.getTables());
+        this.totalTables = status.getTotalTables();
+        this.syncedTables = status.getSyncedTables();
+        this.collectedAt = collectedAt;
+    }
+
+    /**
+     * 스냅샷 나이 (밀리초), 수집 전이면 -1
+     */
+    public long getAgeMillis() {
+        if (collectedAt == null) {
+            return -1;
+        }
+        return Duration.between(collectedAt, Instant.now()).toMillis();
+    }
+}
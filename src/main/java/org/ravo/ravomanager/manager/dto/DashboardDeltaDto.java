@@ -0,0 +1,29 @@
+package org.ravo.ravomanager.manager.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대시보드 증분 응답 (GET /api/dashboard?since=&lt;version&gt;)
+ * changes 는 since 버전 대비 바뀐 하위 객체만 담은 JSON Merge Patch 이며 (활동 시계열 배열 제외),
+ * 활동 시계열은 appendedPoints 에 새로 추가된 점만 담습니다. 클라이언트는 점을 이어 붙인 뒤 historyCapacity 개만 남깁니다.
+ * since 버전이 이미 지워졌거나 알 수 없으면 full=true, since=-1 이고 changes 가 전체 대시보드 데이터입니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardDeltaDto {
+    private long version;                               // 현재 버전 (다음 요청의 since)
+    private long since;                                 // 요청한 기준 버전 (full 이면 -1)
+    private boolean full;                               // 전체 데이터 응답 여부
+    private JsonNode changes;                           // 바뀐 필드 (JSON Merge Patch) 또는 전체 데이터
+    private Map<String, List<JsonNode>> appendedPoints; // "writeActivity.activeDbWrites" → 새 데이터 포인트
+    private int historyCapacity;                        // 시계열별 유지할 최대 포인트 수
+}
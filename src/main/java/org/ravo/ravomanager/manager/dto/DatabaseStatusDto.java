@@ -14,7 +14,13 @@ public class DatabaseStatusDto {
     private String status;            // "Active", "Standby", "Down"
     private String uptime;            // "1d 0h 0m"
     private Integer connections;      // 현재 연결 수
-    private Double qps;               // Queries per second (소수점 포함)
+    private Double qps;               // Queries per second (1분 EWMA, 소수점 포함)
+    private Double qps5m;             // Queries per second (5분 EWMA)
+    private Double qps15m;            // Queries per second (15분 EWMA)
+    private Double readsPerSecond;    // 초당 SELECT 수 (1분 EWMA)
+    private Double writesPerSecond;   // 초당 INSERT/UPDATE/DELETE 수 (1분 EWMA)
+    private Double bytesSentPerSecond;      // 초당 송신 바이트 (1분 EWMA)
+    private Double bytesReceivedPerSecond;  // 초당 수신 바이트 (1분 EWMA)
     private String latency;           // "2.3ms"
     private String lastHeartbeat;     // 마지막 하트비트 시간
     private Boolean isHealthy;        // 헬스 체크 상태
@@ -0,0 +1,21 @@
+package org.ravo.ravomanager.manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 역할별 메트릭 최신성 정보 (마지막 스크레이프 시각/경과 시간)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MetricFreshnessDto {
+    private String role;
+    private String collectedAt;     // ISO-8601 (UTC), 아직 수집 전이면 null
+    private long ageMillis;         // 수집 전이면 -1
+    private long scrapeMillis;
+    private String status;          // UP / DOWN / UNKNOWN
+}
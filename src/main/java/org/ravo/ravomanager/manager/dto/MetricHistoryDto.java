@@ -0,0 +1,24 @@
+package org.ravo.ravomanager.manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 저장된 메트릭 시계열 조회 결과 (timestamps[i] 시각의 값이 values[i])
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MetricHistoryDto {
+    private String role;
+    private String metric;
+    private String resolution;      // raw / 10s / 1m / 1h
+    private String aggregate;       // AVG / MIN / MAX / LAST / RATE
+    private long from;
+    private long to;
+    private long[] timestamps;      // epoch millis
+    private double[] values;
+}
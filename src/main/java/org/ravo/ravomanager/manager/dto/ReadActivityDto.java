@@ -41,8 +41,8 @@ public class ReadActivityDto {
         private String timestamp;
         
         /**
-         * 해당 시점의 읽기 작업 횟수 (초당 횟수)
+         * 직전 시점 이후 초당 읽기 작업 횟수 (실제 경과 시간 기준)
          */
-        private Integer count;
+        private Double count;
     }
 }
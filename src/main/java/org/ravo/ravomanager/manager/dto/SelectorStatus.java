@@ -3,6 +3,7 @@ package org.ravo.ravomanager.manager.dto;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 
+import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -31,10 +32,20 @@ public class SelectorStatus {
     }
 
     /**
-     * 초기 상태 또는 에러 시 사용
+     * 전환 시각을 알고 있는 상태 생성 (watcher 가 보고한 시각 또는 변경을 감지한 시각)
+     *
+     * @param switchedAt 전환 시각, 모르면 null
+     */
+    public SelectorStatus(String currentTarget, Instant switchedAt) {
+        this.currentTarget = currentTarget;
+        this.switchedAt = switchedAt == null ? null : switchedAt.atZone(KST_ZONE);
+    }
+
+    /**
+     * 초기 상태 또는 에러 시 사용 (전환 시각 모름)
      */
     public static SelectorStatus empty() {
-        return new SelectorStatus("unknown");
+        return new SelectorStatus("unknown", null);
     }
 
     /**
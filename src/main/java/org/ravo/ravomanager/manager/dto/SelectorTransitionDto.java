@@ -0,0 +1,24 @@
+package org.ravo.ravomanager.manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * K8s Service Selector 전환 이력 1건
+ * switchedAt 은 watcher 가 전환 시각을 보고하면 그 값이고, 아니면 변경을 처음 감지한 응답 시각입니다.
+ * 이 경우 실제 전환은 previousSeenAt(이전 상태를 마지막으로 확인한 시각)과 switchedAt 사이에 일어났습니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SelectorTransitionDto {
+    private String from;                 // 이전 타겟 (active / standby / unknown)
+    private String to;                   // 새 타겟
+    private long switchedAt;             // 전환 시각 (epoch millis)
+    private String switchedAtFormatted;  // "MM/dd HH:mm:ss" (KST)
+    private long previousSeenAt;         // 이전 상태를 마지막으로 확인한 시각 (epoch millis)
+    private boolean reportedByWatcher;   // switchedAt 을 watcher 가 보고했는지 (false 면 감지 시각)
+}
@@ -0,0 +1,24 @@
+package org.ravo.ravomanager.manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * K8s Selector watcher 상태 (메모리 상태, 조회 시 네트워크 호출 없음)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SelectorWatchStatusDto {
+    private SelectorStatus selectorStatus;            // 정규화된 현재 타겟과 전환 시각
+    private String watcherState;                      // watcher 가 보고한 원래 값
+    private boolean connected;                        // 마지막 조회 성공 여부
+    private int consecutiveFailures;                  // 연속 실패 횟수
+    private long lastContactAgeMillis;                // 마지막 성공 응답 이후 경과 시간, 아직 없으면 -1
+    private List<SelectorTransitionDto> transitions;  // 전환 이력 (오래된 것부터)
+}
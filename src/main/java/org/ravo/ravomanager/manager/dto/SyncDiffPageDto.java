@@ -0,0 +1,21 @@
+package org.ravo.ravomanager.manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncDiffPageDto {
+    private Long reportId;
+    private String type;            // "MISSING_ON_STANDBY", "MISSING_ON_ACTIVE", "CONTENT_MISMATCH"
+    private Integer page;
+    private Integer size;
+    private Long totalElements;
+    private List<Long> keys;        // 불일치 PK (오름차순)
+}
@@ -0,0 +1,26 @@
+package org.ravo.ravomanager.manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncDiffReportDto {
+    private Long reportId;
+    private String tableName;
+    private String status;              // "RUNNING", "COMPLETED", "FAILED"
+    private String errorMessage;
+    private String startedAt;
+    private String finishedAt;
+    private Long activeCount;
+    private Long standbyCount;
+    private Long matchedRows;
+    private Long missingOnStandby;      // Active 에만 있는 행 수
+    private Long missingOnActive;       // Standby 에만 있는 행 수
+    private Long contentMismatch;       // 내용이 다른 행 수
+    private Boolean spilled;            // 디스크 파일로 내려갔는지 여부
+}
@@ -0,0 +1,27 @@
+package org.ravo.ravomanager.manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncRepairJobDto {
+    private Long jobId;
+    private Long reportId;          // 기준이 된 차이 분석 보고서
+    private String tableName;
+    private String direction;       // "ACTIVE_TO_STANDBY", "STANDBY_TO_ACTIVE"
+    private String status;          // "RUNNING", "COMPLETED", "FAILED"
+    private String errorMessage;
+    private String startedAt;
+    private String finishedAt;
+    private Long plannedRows;       // 보고서 기준 처리 대상 행 수
+    private Long rowsUpserted;
+    private Long rowsDeleted;
+    private Long batchesCompleted;
+    private Integer batchesInFlight;
+    private Double rowsPerSecond;
+}
@@ -16,4 +16,14 @@ public class SynchronizationMetricsDto {
     private String activeGtid;  // "mysql-bin.000123:45678901"
     private String standbyGtid; // "mysql-bin.000123:45678899"
     private String lastSyncTime;          // 마지막 동기화 시간
+    private Long syncStatusAgeMillis;     // 동기화율 스냅샷 나이 (수집 전이면 -1)
+    private Long missingTransactions;     // Active GTID 중 Standby 에 없는 트랜잭션 수 (GTID 를 모르면 null)
+    private Double missingChangePerSecond;   // 미반영 트랜잭션 수의 초당 변화 (음수면 줄어드는 중)
+    private Double catchUpPerSecond;      // 초당 따라잡는 트랜잭션 수
+    private Double standbyAppliedPerSecond;  // Standby 초당 적용 트랜잭션 수 (1분 EWMA)
+    private Double catchUpEtaSeconds;     // 현재 속도로 따라잡을 때까지 예상 시간 (줄어들지 않으면 null)
+    private String lagTrend;              // in-sync / catching-up / falling-behind / steady
+    private Double replicationLagSeconds; // Standby 에 없는 가장 오래된 gtid_history 기록 이후 경과 시간 (따라잡았으면 0)
+    private Boolean replicationLagLowerBound; // 캐시된 기록 전체가 미반영이라 실제 지연이 더 클 수 있음
+    private String standbyAppliedUpTo;    // Standby 에 반영된 가장 최근 gtid_history 기록 시각
 }
@@ -15,5 +15,6 @@ public class SystemEventDto {
     private String title;         // "Synchronization completed successfully"
     private String description;   // 상세 설명
     private String timestamp;     // 이벤트 발생 시간
+    private long timestampMillis; // 이벤트 발생 시간 (epoch millis)
     private String details;       // 추가 정보 (예: "Binlog position: mysql-bin.000123:45678901")
 }
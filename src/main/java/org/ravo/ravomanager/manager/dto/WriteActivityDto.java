@@ -21,6 +21,6 @@ public class WriteActivityDto {
     @AllArgsConstructor
     public static class DataPoint {
         private String timestamp;  // 시간
-        private Integer count;     // 쓰기 횟수
+        private Double count;      // 초당 쓰기 횟수 (직전 시점 이후 실제 경과 시간 기준)
     }
 }
@@ -0,0 +1,117 @@
+package org.ravo.ravomanager.manager.gtid;
+
+import java.util.List;
+
+/**
+ * gtid_history 최근 기록의 시간순 색인 (불변)
+ * 기록 시각(epoch 마이크로초) 오름차순으로 GTID 집합을 보관하고, Replica GTID_EXECUTED 에 아직 포함되지 않은
+ * 가장 오래된 기록을 찾아 시간 기준 지연을 계산합니다.
+ * Active GTID_EXECUTED 는 시간이 지날수록 커지기만 하므로 "Replica 에 포함됨" 은 앞쪽 기록부터 이어지고,
+ * 경계는 이진 탐색(포함 검사 log n 회)으로 찾습니다.
+ */
+public final class GtidHistoryIndex {
+
+    public static final GtidHistoryIndex EMPTY = new GtidHistoryIndex(new Entry[0]);
+
+    /**
+     * gtid_history 기록 1건
+     *
+     * @param recordedAtMicros created_at (UTC epoch 마이크로초)
+     * @param text             gtid_set 원문
+     * @param set              파싱된 GTID 집합
+     */
+    public record Entry(long recordedAtMicros, String text, GtidSet set) {
+    }
+
+    /**
+     * 시간 기준 지연
+     *
+     * @param seconds          Replica 에 없는 가장 오래된 기록 이후 경과 시간 (초, 마이크로초 해상도), 따라잡았으면 0
+     * @param lowerBound       색인의 가장 오래된 기록도 포함되지 않아 실제 지연은 이보다 클 수 있음
+     * @param appliedUpToMicros Replica 에 포함된 가장 최근 기록의 시각, 없으면 -1
+     */
+    public record Lag(double seconds, boolean lowerBound, long appliedUpToMicros) {
+    }
+
+    private final Entry[] entries;
+
+    private GtidHistoryIndex(Entry[] entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * 새 기록을 뒤에 붙이고 오래된 기록을 정리한 색인
+     * 가장 최근 기록은 evictBeforeMicros 보다 오래되어도 남깁니다. (배치가 멈춰도 마지막 Active GTID 는 유지)
+     *
+     * @param newer             recordedAtMicros 오름차순, 기존 마지막 기록보다 나중인 기록
+     * @param evictBeforeMicros 이 시각보다 오래된 기록은 제거
+     * @param maxEntries        최대 보관 건수 (초과 시 오래된 것부터 제거)
+     */
+    public GtidHistoryIndex append(List<Entry> newer, long evictBeforeMicros, int maxEntries) {
+        int total = entries.length + newer.size();
+        if (total == 0) {
+            return this;
+        }
+        int from = Math.max(0, total - Math.max(1, maxEntries));
+        while (from < total - 1 && entryAt(newer, from).recordedAtMicros() < evictBeforeMicros) {
+            from++;
+        }
+        if (from == 0 && newer.isEmpty()) {
+            return this;
+        }
+        Entry[] result = new Entry[total - from];
+        for (int i = from; i < total; i++) {
+            result[i - from] = entryAt(newer, i);
+        }
+        return new GtidHistoryIndex(result);
+    }
+
+    /**
+     * Replica GTID_EXECUTED 기준 시간 지연
+     * 지연은 Replica 에 없는 가장 오래된 기록의 시각부터 nowMicros 까지입니다. 그 기록에 포함된 트랜잭션은
+     * 늦어도 기록 시각에 Active 에서 커밋되었으므로, Replica 는 적어도 그만큼 뒤처져 있습니다.
+     *
+     * @return 기록이 없으면 null
+     */
+    public Lag lag(GtidSet replica, long nowMicros) {
+        if (entries.length == 0) {
+            return null;
+        }
+        // 첫 번째로 포함되지 않는 기록 (없으면 entries.length)
+        int low = 0;
+        int high = entries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (replica.contains(entries[mid].set())) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        long appliedUpTo = low > 0 ? entries[low - 1].recordedAtMicros() : -1;
+        if (low == entries.length) {
+            return new Lag(0.0, false, appliedUpTo);
+        }
+        long behindMicros = Math.max(0, nowMicros - entries[low].recordedAtMicros());
+        return new Lag(behindMicros / 1_000_000.0, low == 0, appliedUpTo);
+    }
+
+    /**
+     * 가장 최근 기록, 없으면 null
+     */
+    public Entry latest() {
+        return entries.length == 0 ? null : entries[entries.length - 1];
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    public boolean isEmpty() {
+        return entries.length == 0;
+    }
+
+    private Entry entryAt(List<Entry> newer, int index) {
+        return index < entries.length ? entries[index] : newer.get(index - entries.length);
+    }
+}
@@ -0,0 +1,92 @@
+package org.ravo.ravomanager.manager.gtid;
+
+import org.ravo.ravomanager.manager.monitoring.CounterRate;
+
+import java.util.ArrayDeque;
+
+/**
+ * Standby 미반영 트랜잭션 수 추이 추적기
+ * 관측마다 missing = |source - replica| 를 기록하고, 최근 window 동안의 missing 변화율(기울기)로 추세와
+ * 따라잡는 속도(초당 줄어드는 트랜잭션 수)를 계산합니다. Standby 적용 속도는 replica GTID 수를 카운터로 보고
+ * {@link CounterRate} 로 계산합니다. (GTID_EXECUTED 크기는 RESET 전까지 단조 증가)
+ * 대시보드 데이터를 만드는 스레드 여러 개가 호출할 수 있어 기록은 동기화합니다. (호출 빈도는 수집 주기 수준)
+ */
+public final class GtidLagTracker {
+
+    public static final String TREND_IN_SYNC = "in-sync";
+    public static final String TREND_CATCHING_UP = "catching-up";
+    public static final String TREND_FALLING_BEHIND = "falling-behind";
+    public static final String TREND_STEADY = "steady";
+
+    /** 이 값보다 작은 기울기(트랜잭션/초)는 변화 없음으로 봄 */
+    private static final double STEADY_EPSILON = 0.01;
+
+    /**
+     * 관측 결과
+     *
+     * @param missing                Standby 에 없는 source 트랜잭션 수
+     * @param missingChangePerSecond window 동안 missing 의 초당 변화 (음수면 줄어드는 중)
+     * @param catchUpPerSecond       초당 줄어드는 missing (늘어나는 중이면 0)
+     * @param replicaAppliedPerSecond Standby 초당 적용 트랜잭션 수 (1분 EWMA)
+     * @param catchUpEtaSeconds      현재 속도로 missing 이 0 이 될 때까지 예상 시간, 줄어들지 않으면 NaN
+     * @param trend                  in-sync / catching-up / falling-behind / steady
+     */
+    public record Lag(long missing, double missingChangePerSecond, double catchUpPerSecond,
+                      double replicaAppliedPerSecond, double catchUpEtaSeconds, String trend) {
+    }
+
+    private final long windowMillis;
+    private final ArrayDeque<long[]> samples = new ArrayDeque<>();
+    private final CounterRate replicaApplied = new CounterRate();
+
+    public GtidLagTracker(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    public synchronized Lag record(long millis, GtidSet source, GtidSet replica) {
+        long missing = source.subtract(replica).size();
+        replicaApplied.update(millis, replica.size(), false);
+
+        if (!samples.isEmpty() && millis < samples.peekLast()[0]) {
+            // 시계가 뒤로 간 경우 추세를 새로 시작
+            samples.clear();
+        }
+        samples.addLast(new long[]{millis, missing});
+        // window 보다 오래된 점은 기준점 1개만 남김
+        while (samples.size() > 2) {
+            long[] second = secondOldest();
+            if (millis - second[0] < windowMillis) {
+                break;
+            }
+            samples.removeFirst();
+        }
+
+        double change = 0.0;
+        long[] oldest = samples.peekFirst();
+        if (oldest[0] < millis) {
+            change = (missing - oldest[1]) * 1000.0 / (millis - oldest[0]);
+        }
+        double catchUp = change < 0 ? -change : 0.0;
+        double eta = missing == 0 ? 0.0 : (catchUp > 0 ? missing / catchUp : Double.NaN);
+        return new Lag(missing, change, catchUp, replicaApplied.values().oneMinute(), eta, trend(missing, change));
+    }
+
+    private long[] secondOldest() {
+        var iterator = samples.iterator();
+        iterator.next();
+        return iterator.next();
+    }
+
+    private static String trend(long missing, double change) {
+        if (missing == 0) {
+            return TREND_IN_SYNC;
+        }
+        if (change <= -STEADY_EPSILON) {
+            return TREND_CATCHING_UP;
+        }
+        if (change >= STEADY_EPSILON) {
+            return TREND_FALLING_BEHIND;
+        }
+        return TREND_STEADY;
+    }
+}
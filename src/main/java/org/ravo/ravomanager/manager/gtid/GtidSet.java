@@ -0,0 +1,351 @@
+package org.ravo.ravomanager.manager.gtid;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MySQL GTID 집합 (불변)
+ * 소스 UUID(태그가 있으면 "uuid:tag")별로 트랜잭션 번호 구간 목록을 정렬/병합된 long 배열 [start0, end0, start1, end1, ...]
+ * (양 끝 포함)로 저장합니다. 소스 키도 정렬해 두므로 차집합/포함/크기 연산은 두 집합을 한 번씩 훑는 병합 순회이고,
+ * 구간 수에 비례하는 시간만 걸립니다. (UUID 수백 개, 구간 수천 개여도 문자열 파싱이 대부분)
+ * 파서는 GTID_EXECUTED 형식("uuid:1-5:7,uuid2:1-100", 줄바꿈/공백 허용, MySQL 8.4 태그 포함)을 정규식 없이 한 번 훑어 읽습니다.
+ */
+public final class GtidSet {
+
+    public static final GtidSet EMPTY = new GtidSet(new String[0], new long[0][]);
+
+    private static final int UUID_LENGTH = 36;
+
+    private final String[] sids;
+    private final long[][] intervals;
+    private final long size;
+
+    private GtidSet(String[] sids, long[][] intervals) {
+        this.sids = sids;
+        this.intervals = intervals;
+        long total = 0;
+        for (long[] ranges : intervals) {
+            for (int i = 0; i < ranges.length; i += 2) {
+                total += ranges[i + 1] - ranges[i] + 1;
+            }
+        }
+        this.size = total;
+    }
+
+    /**
+     * GTID 집합 문자열을 파싱합니다. (null/빈 문자열은 빈 집합)
+     *
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    public static GtidSet parse(String text) {
+        if (text == null) {
+            return EMPTY;
+        }
+        Map<String, LongList> bySid = new HashMap<>();
+        int length = text.length();
+        int pos = skipWhitespace(text, 0);
+        while (pos < length) {
+            // uuid
+            int uuidStart = pos;
+            while (pos < length && text.charAt(pos) != ':' && text.charAt(pos) != ',' && !isWhitespace(text.charAt(pos))) {
+                pos++;
+            }
+            String uuid = text.substring(uuidStart, pos).toLowerCase();
+            if (!isUuid(uuid)) {
+                throw new IllegalArgumentException("Invalid GTID source UUID at " + uuidStart + ": " + uuid);
+            }
+            String sid = uuid;
+            LongList ranges = null;
+            pos = skipWhitespace(text, pos);
+            // (":" tag | ":" interval)+
+            while (pos < length && text.charAt(pos) == ':') {
+                pos = skipWhitespace(text, pos + 1);
+                if (pos < length && isDigit(text.charAt(pos))) {
+                    long start = 0;
+                    while (pos < length && isDigit(text.charAt(pos))) {
+                        start = Math.addExact(Math.multiplyExact(start, 10), text.charAt(pos++) - '0');
+                    }
+                    long end = start;
+                    if (pos < length && text.charAt(pos) == '-') {
+                        pos++;
+                        if (pos >= length || !isDigit(text.charAt(pos))) {
+                            throw new IllegalArgumentException("Invalid GTID interval end at " + pos);
+                        }
+                        end = 0;
+                        while (pos < length && isDigit(text.charAt(pos))) {
+                            end = Math.addExact(Math.multiplyExact(end, 10), text.charAt(pos++) - '0');
+                        }
+                    }
+                    if (start < 1 || end < start) {
+                        throw new IllegalArgumentException("Invalid GTID interval " + start + "-" + end + " for " + sid);
+                    }
+                    if (ranges == null) {
+                        ranges = bySid.computeIfAbsent(sid, key -> new LongList());
+                    }
+                    ranges.add(start, end);
+                } else {
+                    // MySQL 8.4 태그: 이후 구간은 uuid:tag 에 속함
+                    int tagStart = pos;
+                    while (pos < length && isTagChar(text.charAt(pos))) {
+                        pos++;
+                    }
+                    if (pos == tagStart) {
+                        throw new IllegalArgumentException("Invalid GTID interval or tag at " + pos);
+                    }
+                    sid = uuid + ":" + text.substring(tagStart, pos).toLowerCase();
+                    ranges = null;
+                }
+                pos = skipWhitespace(text, pos);
+            }
+            if (pos < length) {
+                if (text.charAt(pos) != ',') {
+                    throw new IllegalArgumentException("Unexpected character '" + text.charAt(pos) + "' at " + pos);
+                }
+                pos = skipWhitespace(text, pos + 1);
+            }
+        }
+        return build(bySid);
+    }
+
+    /**
+     * 이 집합에만 있는 GTID (this - other)
+     */
+    public GtidSet subtract(GtidSet other) {
+        if (isEmpty() || other.isEmpty()) {
+            return this;
+        }
+        List<String> resultSids = new ArrayList<>(sids.length);
+        List<long[]> resultIntervals = new ArrayList<>(sids.length);
+        int j = 0;
+        for (int i = 0; i < sids.length; i++) {
+            while (j < other.sids.length && other.sids[j].compareTo(sids[i]) < 0) {
+                j++;
+            }
+            long[] remaining = j < other.sids.length && other.sids[j].equals(sids[i])
+                    ? subtractRanges(intervals[i], other.intervals[j])
+                    : intervals[i];
+            if (remaining.length > 0) {
+                resultSids.add(sids[i]);
+                resultIntervals.add(remaining);
+            }
+        }
+        return new GtidSet(resultSids.toArray(new String[0]), resultIntervals.toArray(new long[0][]));
+    }
+
+    /**
+     * other 의 모든 GTID 가 이 집합에 있는지 (other ⊆ this)
+     */
+    public boolean contains(GtidSet other) {
+        if (other.size > size) {
+            return false;
+        }
+        int i = 0;
+        for (int j = 0; j < other.sids.length; j++) {
+            while (i < sids.length && sids[i].compareTo(other.sids[j]) < 0) {
+                i++;
+            }
+            if (i == sids.length || !sids[i].equals(other.sids[j]) || !containsRanges(intervals[i], other.intervals[j])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * GTID(트랜잭션) 수
+     */
+    public long size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 소스(uuid 또는 uuid:tag) 수
+     */
+    public int sourceCount() {
+        return sids.length;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof GtidSet other) || size != other.size || !Arrays.equals(sids, other.sids)) {
+            return false;
+        }
+        return Arrays.deepEquals(intervals, other.intervals);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(sids) + Arrays.deepHashCode(intervals);
+    }
+
+    /**
+     * GTID_EXECUTED 형식 문자열 (소스 정렬, 태그는 별도 항목 "uuid:tag:1-5")
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < sids.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(sids[i]);
+            long[] ranges = intervals[i];
+            for (int r = 0; r < ranges.length; r += 2) {
+                sb.append(':').append(ranges[r]);
+                if (ranges[r + 1] != ranges[r]) {
+                    sb.append('-').append(ranges[r + 1]);
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    private static GtidSet build(Map<String, LongList> bySid) {
+        String[] sortedSids = bySid.keySet().toArray(new String[0]);
+        Arrays.sort(sortedSids);
+        long[][] normalized = new long[sortedSids.length][];
+        for (int i = 0; i < sortedSids.length; i++) {
+            normalized[i] = bySid.get(sortedSids[i]).normalize();
+        }
+        return new GtidSet(sortedSids, normalized);
+    }
+
+    /**
+     * 정렬/병합된 구간 목록 a 에서 b 를 뺀 구간 목록
+     */
+    private static long[] subtractRanges(long[] a, long[] b) {
+        long[] out = new long[a.length + b.length];
+        int size = 0;
+        int j = 0;
+        for (int i = 0; i < a.length; i += 2) {
+            long cursor = a[i];
+            long end = a[i + 1];
+            while (j < b.length && b[j + 1] < cursor) {
+                j += 2;
+            }
+            for (int k = j; k < b.length && b[k] <= end && cursor <= end; k += 2) {
+                if (b[k] > cursor) {
+                    out[size++] = cursor;
+                    out[size++] = b[k] - 1;
+                }
+                cursor = Math.max(cursor, b[k + 1] + 1);
+            }
+            if (cursor <= end) {
+                out[size++] = cursor;
+                out[size++] = end;
+            }
+        }
+        return size == out.length ? out : Arrays.copyOf(out, size);
+    }
+
+    /**
+     * 정렬/병합된 구간 목록 big 이 small 의 모든 구간을 덮는지
+     */
+    private static boolean containsRanges(long[] big, long[] small) {
+        int i = 0;
+        for (int j = 0; j < small.length; j += 2) {
+            while (i < big.length && big[i + 1] < small[j]) {
+                i += 2;
+            }
+            // 병합된 구간이므로 small 구간은 big 구간 하나 안에 있어야 함
+            if (i == big.length || big[i] > small[j] || big[i + 1] < small[j + 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int skipWhitespace(String text, int pos) {
+        while (pos < text.length() && isWhitespace(text.charAt(pos))) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isTagChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_' || isDigit(c);
+    }
+
+    private static boolean isUuid(String value) {
+        if (value.length() != UUID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            char c = value.charAt(i);
+            boolean dash = i == 8 || i == 13 || i == 18 || i == 23;
+            if (dash ? c != '-' : !(isDigit(c) || (c >= 'a' && c <= 'f'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 파싱 중 구간 누적용 (start, end 쌍)
+     */
+    private static final class LongList {
+
+        private long[] values = new long[8];
+        private int size;
+
+        void add(long start, long end) {
+            if (size + 2 > values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+            values[size++] = start;
+            values[size++] = end;
+        }
+
+        /**
+         * 시작 순으로 정렬하고 겹치거나 이어지는 구간(1-5, 6-9 → 1-9)을 합칩니다.
+         */
+        long[] normalize() {
+            int pairs = size / 2;
+            boolean sorted = true;
+            for (int p = 1; p < pairs && sorted; p++) {
+                sorted = values[2 * p] >= values[2 * p - 2];
+            }
+            if (!sorted) {
+                long[][] byStart = new long[pairs][];
+                for (int p = 0; p < pairs; p++) {
+                    byStart[p] = new long[]{values[2 * p], values[2 * p + 1]};
+                }
+                Arrays.sort(byStart, (x, y) -> Long.compare(x[0], y[0]));
+                for (int p = 0; p < pairs; p++) {
+                    values[2 * p] = byStart[p][0];
+                    values[2 * p + 1] = byStart[p][1];
+                }
+            }
+            int out = 0;
+            for (int p = 0; p < pairs; p++) {
+                long start = values[2 * p];
+                long end = values[2 * p + 1];
+                if (out > 0 && start <= values[out - 1] + 1) {
+                    values[out - 1] = Math.max(values[out - 1], end);
+                } else {
+                    values[out++] = start;
+                    values[out++] = end;
+                }
+            }
+            return Arrays.copyOf(values, out);
+        }
+    }
+}
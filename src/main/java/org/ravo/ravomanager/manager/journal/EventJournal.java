@@ -0,0 +1,282 @@
+package org.ravo.ravomanager.manager.journal;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.ravo.config.EventJournalProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시스템 이벤트 저널 (append-only, 세그먼트 파일을 mmap 해 기록)
+ * 세그먼트가 event-journal.segment-size 만큼 차면 다음 세그먼트로 넘어가고, event-journal.max-segments 를 넘으면
+ * 가장 오래된 세그먼트를 지웁니다. 재시작하면 남아 있는 세그먼트에서 최근 이벤트를 다시 읽어 옵니다.
+ * 기록은 크기가 정해진 대기열에 넣기만 하고 바로 반환하며(가득 차면 버림), 파일 쓰기는 전용 스레드 1개에서만 합니다.
+ * 최근 이벤트는 메모리에도 유지해 최근 N건 조회는 디스크를 읽지 않고, 시간 구간 조회는 요청 스레드에서 세그먼트를 바로 읽습니다.
+ */
+@Slf4j
+@Component
+public class EventJournal {
+
+    private static final String SEGMENT_SUFFIX = ".journal";
+
+    private final EventJournalProperties properties;
+    private final int recentCapacity;
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong rejectedAfterClose = new AtomicLong();
+    private final ThreadPoolExecutor writer;
+
+    // 아래 필드는 writer 스레드만 수정 (open 전에는 기동 스레드)
+    private final ArrayDeque<JournalEvent> recentBuffer = new ArrayDeque<>();
+    private Path directory;
+    private long nextSequence;
+    private long lastTimestamp = Long.MIN_VALUE;
+
+    private volatile List<JournalEvent> recent = List.of();        // 최신순
+    private volatile List<JournalSegment> segments = List.of();    // 오래된 것부터, 마지막이 기록 중인 세그먼트
+    private volatile boolean open;
+
+    public EventJournal(EventJournalProperties properties) {
+        this.properties = properties;
+        this.recentCapacity = Math.max(1, properties.getRecentCapacity());
+        this.writer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity())),
+                Thread.ofPlatform().name("event-journal-writer").daemon().factory(),
+                (task, executor) -> {
+                    if (executor.isShutdown()) {
+                        // 종료 중에 들어온 이벤트는 대기열 포화가 아니므로 따로 셈
+                        if (rejectedAfterClose.getAndIncrement() == 0) {
+                            log.info("Event journal is closed, ignoring events recorded during shutdown");
+                        }
+                    } else if (dropped.getAndIncrement() == 0) {
+                        log.warn("Event journal queue is full, dropping events");
+                    }
+                });
+    }
+
+    @PostConstruct
+    public void open() {
+        if (!properties.isEnabled()) {
+            log.info("Event journal disabled, system events are kept in memory only");
+            return;
+        }
+        directory = Path.of(properties.getDirectory());
+        List<JournalSegment> opened = new ArrayList<>();
+        try {
+            Files.createDirectories(directory);
+            TreeMap<Long, Path> files = listSegmentFiles();
+            for (var entry : files.entrySet()) {
+                boolean last = entry.getKey().equals(files.lastKey());
+                opened.add(JournalSegment.open(entry.getValue(), entry.getKey(), segmentCapacity(), last));
+            }
+            nextSequence = files.isEmpty() ? 1 : files.lastKey() + 1;
+            segments = List.copyOf(opened);
+            restoreRecent();
+            open = true;
+            log.info("Event journal opened at {} ({} segments, {} recent events)",
+                    directory.toAbsolutePath(), opened.size(), recent.size());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Event journal disabled, failed to open {}: {}", directory.toAbsolutePath(), e.getMessage());
+            opened.forEach(JournalSegment::close);
+            segments = List.of();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("Event journal writer did not finish in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (open) {
+            open = false;
+            for (JournalSegment segment : segments) {
+                segment.force();
+                segment.close();
+            }
+        }
+    }
+
+    public boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * 대기열이 가득 차 버린 이벤트 수
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * {@link #close()} 이후에 기록을 요청해 버린 이벤트 수
+     */
+    public long getRejectedAfterCloseCount() {
+        return rejectedAfterClose.get();
+    }
+
+    /**
+     * 이벤트 기록 (비동기, 호출한 스레드를 막지 않음)
+     */
+    public void record(JournalEvent event) {
+        writer.execute(() -> write(event));
+    }
+
+    /**
+     * 최신 이벤트부터 최대 limit 건
+     */
+    public List<JournalEvent> latest(int limit) {
+        List<JournalEvent> cached = recent;
+        if (limit <= cached.size() || !open) {
+            return cached.subList(0, Math.min(limit, cached.size()));
+        }
+        List<JournalEvent> events = new ArrayList<>(limit);
+        List<JournalSegment> current = segments;
+        for (int i = current.size() - 1; i >= 0 && events.size() < limit; i--) {
+            current.get(i).readLatest(limit - events.size(), events);
+        }
+        return events;
+    }
+
+    /**
+     * [from, to] 구간 이벤트를 오래된 것부터 최대 limit 건
+     */
+    public List<JournalEvent> range(long from, long to, int limit) {
+        List<JournalEvent> events = new ArrayList<>();
+        if (!open) {
+            List<JournalEvent> cached = recent;
+            for (int i = cached.size() - 1; i >= 0 && events.size() < limit; i--) {
+                long timestamp = cached.get(i).timestamp();
+                if (timestamp >= from && timestamp <= to) {
+                    events.add(cached.get(i));
+                }
+            }
+            return events;
+        }
+        for (JournalSegment segment : segments) {
+            if (events.size() >= limit) {
+                break;
+            }
+            if (!segment.isEmpty() && segment.firstTimestamp() <= to && segment.lastTimestamp() >= from) {
+                segment.readRange(from, to, limit, events);
+            }
+        }
+        return events;
+    }
+
+    private void write(JournalEvent event) {
+        // 시간 구간 조회가 이진 탐색을 하므로 저널 안의 시각은 단조 증가로 맞춤
+        JournalEvent stored = event.timestamp() < lastTimestamp ? event.withTimestamp(lastTimestamp) : event;
+        lastTimestamp = stored.timestamp();
+        recentBuffer.addFirst(stored);
+        while (recentBuffer.size() > recentCapacity) {
+            recentBuffer.removeLast();
+        }
+        recent = List.copyOf(recentBuffer);
+        if (!open) {
+            return;
+        }
+        try {
+            append(stored);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Event journal append failed: {}", e.getMessage());
+        }
+    }
+
+    private void append(JournalEvent event) throws IOException {
+        byte[] payload = JournalSegment.encode(event);
+        List<JournalSegment> current = segments;
+        JournalSegment active = current.isEmpty() ? null : current.get(current.size() - 1);
+        if (active == null || !active.append(event.timestamp(), payload)) {
+            active = rotate(active);
+            if (!active.append(event.timestamp(), payload)) {
+                log.warn("Event '{}' is larger than a journal segment, not persisted", event.title());
+                return;
+            }
+        }
+        if (writer.getQueue().isEmpty()) {
+            // 대기 중인 이벤트를 다 쓴 뒤에 한 번만 디스크에 반영
+            active.force();
+        }
+    }
+
+    /**
+     * 새 세그먼트를 열고 개수 제한을 넘은 오래된 세그먼트 삭제
+     */
+    private JournalSegment rotate(JournalSegment previous) throws IOException {
+        if (previous != null) {
+            previous.force();
+        }
+        long sequence = nextSequence++;
+        JournalSegment next = JournalSegment.open(directory.resolve(segmentFileName(sequence)), sequence,
+                segmentCapacity(), true);
+        List<JournalSegment> updated = new ArrayList<>(segments);
+        updated.add(next);
+        List<JournalSegment> removed = new ArrayList<>();
+        while (updated.size() > Math.max(1, properties.getMaxSegments())) {
+            removed.add(updated.remove(0));
+        }
+        segments = List.copyOf(updated);
+        for (JournalSegment segment : removed) {
+            try {
+                segment.delete();
+            } catch (IOException e) {
+                log.warn("Failed to delete journal segment {}: {}", segment.sequence(), e.getMessage());
+            }
+        }
+        return next;
+    }
+
+    private void restoreRecent() {
+        List<JournalEvent> restored = new ArrayList<>(recentCapacity);
+        List<JournalSegment> current = segments;
+        for (int i = current.size() - 1; i >= 0 && restored.size() < recentCapacity; i--) {
+            current.get(i).readLatest(recentCapacity - restored.size(), restored);
+        }
+        recentBuffer.addAll(restored);
+        recent = List.copyOf(recentBuffer);
+        if (!restored.isEmpty()) {
+            lastTimestamp = restored.get(0).timestamp();
+        }
+    }
+
+    private TreeMap<Long, Path> listSegmentFiles() throws IOException {
+        TreeMap<Long, Path> files = new TreeMap<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory, "*" + SEGMENT_SUFFIX)) {
+            for (Path file : entries) {
+                String name = file.getFileName().toString();
+                try {
+                    files.put(Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())), file);
+                } catch (NumberFormatException e) {
+                    log.debug("Ignoring unexpected file in event journal directory: {}", name);
+                }
+            }
+        }
+        return files;
+    }
+
+    private int segmentCapacity() {
+        long bytes = properties.getSegmentSize().toBytes();
+        return (int) Math.max(64 * 1024, Math.min(bytes, Integer.MAX_VALUE));
+    }
+
+    private static String segmentFileName(long sequence) {
+        return String.format("%016d%s", sequence, SEGMENT_SUFFIX);
+    }
+}
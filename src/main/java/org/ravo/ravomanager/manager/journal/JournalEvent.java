@@ -0,0 +1,18 @@
+package org.ravo.ravomanager.manager.journal;
+
+/**
+ * 저널에 기록되는 시스템 이벤트 1건 (불변)
+ *
+ * @param timestamp   발생 시각 (epoch millis, 저널 안에서는 기록 순서대로 단조 증가)
+ * @param type        sync / connection / recovery / failover ...
+ * @param severity    success / info / warning / error
+ * @param description 없으면 null
+ * @param details     없으면 null
+ */
+public record JournalEvent(long timestamp, String type, String severity, String title, String description,
+                           String details) {
+
+    JournalEvent withTimestamp(long newTimestamp) {
+        return new JournalEvent(newTimestamp, type, severity, title, description, details);
+    }
+}
@@ -0,0 +1,317 @@
+package org.ravo.ravomanager.manager.journal;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 저널 세그먼트 파일 (고정 크기로 미리 할당해 mmap 한 append-only 파일)
+ * 레코드: [payload 길이 4][CRC32 4][timestamp 8][payload][payload 길이 4]
+ * 끝의 길이로 뒤에서부터 레코드를 거슬러 읽을 수 있어 최신 N건 조회는 파일 끝에서 N건만 읽고,
+ * {@value #INDEX_INTERVAL}건마다 남긴 (timestamp, 위치) 색인으로 시간 구간 조회의 시작 위치를 이진 탐색합니다.
+ * 열 때 레코드 길이/CRC 를 차례로 확인해 기록 도중 중단된 꼬리 레코드는 지웁니다.
+ * 쓰기는 {@link EventJournal} 의 writer 스레드 1개만 하고, 조회는 발행된 {@link State} 범위 안에서만 읽습니다.
+ */
+@Slf4j
+final class JournalSegment {
+
+    static final int HEADER_LENGTH = 16;
+    static final int TRAILER_LENGTH = 4;
+    static final int INDEX_INTERVAL = 32;
+    private static final int NULL_FIELD = 0xFFFF;
+    private static final int MAX_FIELD_LENGTH = NULL_FIELD - 1;
+
+    private record Index(long[] timestamps, int[] offsets) {
+    }
+
+    /**
+     * 발행된 상태 (end 까지의 레코드만 읽음)
+     */
+    private record State(int end, int count, long firstTimestamp, long lastTimestamp, Index index) {
+    }
+
+    private final Path path;
+    private final long sequence;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final boolean writable;
+    private volatile State state = new State(0, 0, Long.MAX_VALUE, Long.MIN_VALUE,
+            new Index(new long[16], new int[16]));
+
+    private JournalSegment(Path path, long sequence, FileChannel channel, MappedByteBuffer buffer, boolean writable) {
+        this.path = path;
+        this.sequence = sequence;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.writable = writable;
+    }
+
+    /**
+     * @param capacity 쓰기용이면 파일 크기 (기존 파일이 더 크면 기존 크기), 읽기 전용이면 무시
+     */
+    static JournalSegment open(Path path, long sequence, int capacity, boolean writable) throws IOException {
+        FileChannel channel = writable
+                ? FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long fileSize = channel.size();
+            long mapSize = writable ? Math.max(fileSize, capacity) : fileSize;
+            if (mapSize > Integer.MAX_VALUE) {
+                throw new IOException("저널 세그먼트 파일이 너무 큽니다: " + path);
+            }
+            MappedByteBuffer buffer = channel.map(
+                    writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY, 0, mapSize);
+            JournalSegment segment = new JournalSegment(path, sequence, channel, buffer, writable);
+            segment.load();
+            return segment;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void load() {
+        int capacity = buffer.capacity();
+        int offset = 0;
+        while (true) {
+            int length = validLength(offset, capacity);
+            if (length < 0) {
+                break;
+            }
+            index(offset, buffer.getLong(offset + 8), offset + HEADER_LENGTH + length + TRAILER_LENGTH);
+            offset = state.end();
+        }
+        if (writable && !isZero(offset, capacity)) {
+            log.warn("Discarding incomplete journal record at {}:{}", path, offset);
+            buffer.put(offset, new byte[capacity - offset]);
+        }
+    }
+
+    private boolean isZero(int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * offset 의 레코드가 완전하면 payload 길이, 아니면 -1
+     */
+    private int validLength(int offset, int capacity) {
+        if (offset + HEADER_LENGTH + TRAILER_LENGTH > capacity) {
+            return -1;
+        }
+        int length = buffer.getInt(offset);
+        if (length <= 0 || length > capacity - offset - HEADER_LENGTH - TRAILER_LENGTH
+                || buffer.getInt(offset + HEADER_LENGTH + length) != length) {
+            return -1;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(offset + 8, 8 + length));
+        return (int) crc.getValue() == buffer.getInt(offset + 4) ? length : -1;
+    }
+
+    /**
+     * 레코드 추가 (writer 스레드 전용), 남은 공간이 부족하면 false
+     */
+    boolean append(long timestamp, byte[] payload) {
+        State current = state;
+        int offset = current.end();
+        int next = offset + HEADER_LENGTH + payload.length + TRAILER_LENGTH;
+        if (next > buffer.capacity()) {
+            return false;
+        }
+        buffer.putLong(offset + 8, timestamp);
+        buffer.put(offset + HEADER_LENGTH, payload);
+        buffer.putInt(offset + HEADER_LENGTH + payload.length, payload.length);
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(offset + 8, 8 + payload.length));
+        buffer.putInt(offset + 4, (int) crc.getValue());
+        // 길이를 마지막에 써서 중간에 멈춘 레코드는 길이 0 또는 CRC 불일치로 남음
+        buffer.putInt(offset, payload.length);
+        index(offset, timestamp, next);
+        return true;
+    }
+
+    private void index(int offset, long timestamp, int end) {
+        State current = state;
+        Index index = current.index();
+        if (current.count() % INDEX_INTERVAL == 0) {
+            int slot = current.count() / INDEX_INTERVAL;
+            if (slot == index.offsets().length) {
+                index = new Index(Arrays.copyOf(index.timestamps(), slot * 2), Arrays.copyOf(index.offsets(), slot * 2));
+            }
+            index.timestamps()[slot] = timestamp;
+            index.offsets()[slot] = offset;
+        }
+        state = new State(end, current.count() + 1, Math.min(current.firstTimestamp(), timestamp), timestamp, index);
+    }
+
+    /**
+     * 최신 레코드부터 최대 limit 건을 out 에 추가
+     */
+    void readLatest(int limit, List<JournalEvent> out) {
+        int end = state.end();
+        int added = 0;
+        while (end > 0 && added < limit) {
+            int length = buffer.getInt(end - TRAILER_LENGTH);
+            int offset = end - TRAILER_LENGTH - length - HEADER_LENGTH;
+            out.add(read(offset, length));
+            end = offset;
+            added++;
+        }
+    }
+
+    /**
+     * [from, to] 구간 레코드를 오래된 것부터 out 에 추가 (out 이 limit 건이 되면 중단)
+     */
+    void readRange(long from, long to, int limit, List<JournalEvent> out) {
+        State current = state;
+        int offset = startOffset(current, from);
+        while (offset < current.end() && out.size() < limit) {
+            int length = buffer.getInt(offset);
+            long timestamp = buffer.getLong(offset + 8);
+            if (timestamp > to) {
+                return;
+            }
+            if (timestamp >= from) {
+                out.add(read(offset, length));
+            }
+            offset += HEADER_LENGTH + length + TRAILER_LENGTH;
+        }
+    }
+
+    /**
+     * 색인에서 timestamp 가 from 보다 작은 마지막 지점 (없으면 파일 처음)
+     */
+    private static int startOffset(State state, long from) {
+        long[] timestamps = state.index().timestamps();
+        int low = 0;
+        int high = (state.count() + INDEX_INTERVAL - 1) / INDEX_INTERVAL - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (timestamps[mid] < from) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found < 0 ? 0 : state.index().offsets()[found];
+    }
+
+    private JournalEvent read(int offset, int length) {
+        long timestamp = buffer.getLong(offset + 8);
+        int[] position = {offset + HEADER_LENGTH};
+        String type = readField(position);
+        String severity = readField(position);
+        String title = readField(position);
+        String description = readField(position);
+        String details = readField(position);
+        return new JournalEvent(timestamp, type, severity, title, description, details);
+    }
+
+    private String readField(int[] position) {
+        int length = buffer.getShort(position[0]) & 0xFFFF;
+        position[0] += 2;
+        if (length == NULL_FIELD) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(position[0], bytes);
+        position[0] += length;
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * timestamp 를 제외한 레코드 본문 (필드마다 [길이 2][UTF-8], null 은 길이 0xFFFF)
+     * 65534 바이트를 넘는 필드는 문자 경계에서 자릅니다.
+     */
+    static byte[] encode(JournalEvent event) {
+        byte[][] fields = {utf8(event.type()), utf8(event.severity()), utf8(event.title()),
+                utf8(event.description()), utf8(event.details())};
+        int length = 0;
+        for (byte[] field : fields) {
+            length += 2 + (field == null ? 0 : field.length);
+        }
+        byte[] payload = new byte[length];
+        int position = 0;
+        for (byte[] field : fields) {
+            int fieldLength = field == null ? NULL_FIELD : field.length;
+            payload[position++] = (byte) (fieldLength >>> 8);
+            payload[position++] = (byte) fieldLength;
+            if (field != null) {
+                System.arraycopy(field, 0, payload, position, field.length);
+                position += field.length;
+            }
+        }
+        return payload;
+    }
+
+    private static byte[] utf8(String value) {
+        if (value == null) {
+            return null;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= MAX_FIELD_LENGTH) {
+            return bytes;
+        }
+        // 멀티바이트 문자 중간에서 자르지 않도록 잘리는 자리가 연속 바이트(10xxxxxx)면 그 문자의 첫 바이트까지 당김
+        int end = MAX_FIELD_LENGTH;
+        while (end > 0 && (bytes[end] & 0xC0) == 0x80) {
+            end--;
+        }
+        return Arrays.copyOf(bytes, end);
+    }
+
+    long sequence() {
+        return sequence;
+    }
+
+    int capacity() {
+        return buffer.capacity();
+    }
+
+    boolean isEmpty() {
+        return state.count() == 0;
+    }
+
+    long firstTimestamp() {
+        return state.firstTimestamp();
+    }
+
+    long lastTimestamp() {
+        return state.lastTimestamp();
+    }
+
+    void force() {
+        if (writable) {
+            buffer.force();
+        }
+    }
+
+    void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.debug("Failed to close journal segment {}: {}", path, e.getMessage());
+        }
+    }
+
+    void delete() throws IOException {
+        close();
+        Files.deleteIfExists(path);
+    }
+}
@@ -0,0 +1,93 @@
+package org.ravo.ravomanager.manager.monitoring;
+
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**
+ * 고정 크기 읽기/쓰기 누적 카운터 히스토리 (단일 작성자 / 다중 읽기)
+ * 시각과 카운터를 long 배열 슬롯에 원형으로 덮어쓰며, 박싱된 스냅샷 객체를 만들지 않습니다.
+ * 작성자는 덮어쓸 위치를 먼저 알리고(writing) 슬롯을 쓴 뒤 head 를 올리고,
+ * 읽는 쪽은 잠금 없이 복사한 다음 복사 중 덮어써졌을 수 있는 앞부분만 버려 항상 일관된 스냅샷을 얻습니다.
+ * append 는 한 스레드(역할별 수집 체인)에서만 호출해야 합니다.
+ */
+public final class ActivityRing {
+
+    /**
+     * 오래된 것부터 정렬된 복사본 (timestamps[i] 시각의 누적 읽기/쓰기 수)
+     */
+    public record Snapshot(long[] timestamps, long[] reads, long[] writes) {
+
+        public int size() {
+            return timestamps.length;
+        }
+    }
+
+    private final int capacity;
+    private final long[] timestamps;
+    private final long[] reads;
+    private final long[] writes;
+
+    // 지금까지 추가된 수 (슬롯 = index % capacity)
+    private volatile long head;
+    // 작성 중이거나 작성을 마친 마지막 index + 1 (head 보다 먼저 올라감)
+    private volatile long writing;
+
+    public ActivityRing(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity 는 0 보다 커야 합니다.");
+        }
+        this.capacity = capacity;
+        this.timestamps = new long[capacity];
+        this.reads = new long[capacity];
+        this.writes = new long[capacity];
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * 가장 오래된 항목을 덮어쓰며 추가합니다. (단일 작성자)
+     */
+    public void append(long timestamp, long totalReads, long totalWrites) {
+        long index = head;
+        writing = index + 1;
+        // 슬롯 쓰기가 writing 공지보다 앞서 보이지 않도록
+        VarHandle.storeStoreFence();
+        int slot = (int) (index % capacity);
+        timestamps[slot] = timestamp;
+        reads[slot] = totalReads;
+        writes[slot] = totalWrites;
+        head = index + 1;
+    }
+
+    /**
+     * 잠금 없는 일관된 스냅샷
+     */
+    public Snapshot snapshot() {
+        long end = head;
+        long start = Math.max(0, end - capacity);
+        int length = (int) (end - start);
+        long[] copiedTimestamps = new long[length];
+        long[] copiedReads = new long[length];
+        long[] copiedWrites = new long[length];
+        for (int i = 0; i < length; i++) {
+            int slot = (int) ((start + i) % capacity);
+            copiedTimestamps[i] = timestamps[slot];
+            copiedReads[i] = reads[slot];
+            copiedWrites[i] = writes[slot];
+        }
+        // 복사가 끝난 뒤 writing 을 읽어야 함
+        VarHandle.loadLoadFence();
+        long overwritten = Math.max(0, writing - capacity);
+        if (overwritten <= start) {
+            return new Snapshot(copiedTimestamps, copiedReads, copiedWrites);
+        }
+        // 복사하는 동안 덮어써졌을 수 있는 앞부분 제외
+        int skip = (int) Math.min(length, overwritten - start);
+        return new Snapshot(
+                Arrays.copyOfRange(copiedTimestamps, skip, length),
+                Arrays.copyOfRange(copiedReads, skip, length),
+                Arrays.copyOfRange(copiedWrites, skip, length));
+    }
+}
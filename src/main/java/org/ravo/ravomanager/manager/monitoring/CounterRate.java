@@ -0,0 +1,91 @@
+package org.ravo.ravomanager.manager.monitoring;
+
+/**
+ * 단조 증가 카운터 1개의 초당 증가율 계산기
+ * 증가량은 두 수집 시각의 실제 경과 시간으로 나누므로 수집 주기가 밀리거나 회차를 건너뛰어도 값이 부풀려지지 않습니다.
+ * 값이 줄었거나 호출자가 재시작을 알리면 카운터가 0 부터 다시 시작한 것으로 보고 현재 값을 증가량으로 사용합니다.
+ * 1분/5분/15분 EWMA 는 불규칙한 간격에 맞춰 매 회차 alpha = 1 - exp(-dt / tau) 로 갱신합니다.
+ * 수집 체인 1개만 갱신하는 단일 작성자 전제이며, 읽기는 {@link #values()} 로 만든 불변 값을 통해서만 합니다.
+ */
+public final class CounterRate {
+
+    private static final double[] WINDOW_SECONDS = {60.0, 300.0, 900.0};
+
+    private final double[] ewma = new double[WINDOW_SECONDS.length];
+    private double previousValue = Double.NaN;
+    private long previousMillis;
+    private double perSecond;
+    private boolean seeded;
+
+    /**
+     * 두 카운터 값 사이의 증가량 (값이 줄었으면 초기화로 보고 현재 값)
+     */
+    public static double increase(double previous, double current) {
+        return current >= previous ? current - previous : current;
+    }
+
+    /**
+     * 두 수집 시점 사이의 초당 증가율, 계산할 수 없으면 NaN
+     */
+    public static double perSecond(long previousMillis, double previous, long currentMillis, double current) {
+        long elapsed = currentMillis - previousMillis;
+        if (elapsed <= 0 || Double.isNaN(previous) || Double.isNaN(current)) {
+            return Double.NaN;
+        }
+        return increase(previous, current) * 1000.0 / elapsed;
+    }
+
+    /**
+     * 새 카운터 값을 반영합니다.
+     *
+     * @param millis    수집 시각 (epoch millis)
+     * @param value     누적 카운터 값, 이번 회차에 없으면 NaN
+     * @param restarted 값과 무관하게 카운터가 초기화됐는지 (예: MySQL uptime 감소)
+     */
+    public void update(long millis, double value, boolean restarted) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        if (Double.isNaN(previousValue) || millis <= previousMillis) {
+            previousValue = value;
+            previousMillis = millis;
+            return;
+        }
+        double elapsedSeconds = (millis - previousMillis) / 1000.0;
+        double increase = restarted ? value : increase(previousValue, value);
+        perSecond = increase / elapsedSeconds;
+        if (!seeded) {
+            // 첫 증가율로 EWMA 를 채워 0 에서 천천히 올라오는 구간을 없앰
+            for (int i = 0; i < ewma.length; i++) {
+                ewma[i] = perSecond;
+            }
+            seeded = true;
+        } else {
+            for (int i = 0; i < ewma.length; i++) {
+                double alpha = 1.0 - Math.exp(-elapsedSeconds / WINDOW_SECONDS[i]);
+                ewma[i] += alpha * (perSecond - ewma[i]);
+            }
+        }
+        previousValue = value;
+        previousMillis = millis;
+    }
+
+    /**
+     * 다음 값을 새 기준값으로만 쓰게 합니다. (EWMA 는 유지)
+     * 합산 대상 메트릭 구성이 바뀌는 등 직전 값과 비교할 수 없는 경우에 사용합니다.
+     */
+    public void rebase() {
+        previousValue = Double.NaN;
+    }
+
+    /**
+     * 증가율을 한 번이라도 계산했는지 (값이 2회 이상 수집됨)
+     */
+    public boolean isSeeded() {
+        return seeded;
+    }
+
+    public RateValues values() {
+        return seeded ? new RateValues(perSecond, ewma[0], ewma[1], ewma[2]) : RateValues.ZERO;
+    }
+}
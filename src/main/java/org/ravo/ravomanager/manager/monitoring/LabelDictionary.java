@@ -0,0 +1,228 @@
+package org.ravo.ravomanager.manager.monitoring;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 레이블 이름/값 문자열과 레이블 조합을 정수 ID 로 한 번만 저장하는 사전
+ * 스캐너는 응답 바이트 그대로 조회하므로 이미 본 레이블은 String 을 만들지 않습니다.
+ * 조회는 잠금 없이 불변 스냅샷에서 하고, 새 항목 추가만 잠금 후 스냅샷을 교체합니다. (추가는 첫 스크레이프 이후 드묾)
+ * 항목 수가 한도를 넘으면 더 이상 추가하지 않고 -1 을 반환합니다. (레이블 카디널리티 폭주 방지)
+ */
+public class LabelDictionary {
+
+    /** 레이블이 없는 시계열의 레이블 조합 ID */
+    public static final int EMPTY_LABEL_SET = 0;
+
+    private final int maxEntries;
+
+    private volatile StringTable strings = new StringTable(64);
+    private volatile LabelSetTable labelSets = new LabelSetTable(64).with(new int[0], 0);
+
+    public LabelDictionary(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * bytes[0, length) 문자열의 ID, 한도 초과 시 -1
+     */
+    int internString(byte[] bytes, int length) {
+        int hash = hash(bytes, length);
+        int id = strings.find(bytes, length, hash);
+        if (id >= 0) {
+            return id;
+        }
+        synchronized (this) {
+            StringTable current = strings;
+            id = current.find(bytes, length, hash);
+            if (id >= 0 || current.count >= maxEntries) {
+                return id;
+            }
+            strings = current.with(Arrays.copyOf(bytes, length), hash);
+            return current.count;
+        }
+    }
+
+    /**
+     * 레이블 (이름 ID, 값 ID) 쌍 배열 pairs[0, length) 의 ID, 한도 초과 시 -1
+     * 같은 조합이 같은 ID 가 되도록 호출하는 쪽에서 이름 ID 순으로 정렬해 전달합니다.
+     */
+    int internLabelSet(int[] pairs, int length) {
+        int hash = hash(pairs, length);
+        int id = labelSets.find(pairs, length, hash);
+        if (id >= 0) {
+            return id;
+        }
+        synchronized (this) {
+            LabelSetTable current = labelSets;
+            id = current.find(pairs, length, hash);
+            if (id >= 0 || current.count >= maxEntries) {
+                return id;
+            }
+            labelSets = current.with(Arrays.copyOf(pairs, length), hash);
+            return current.count;
+        }
+    }
+
+    public String string(int id) {
+        return strings.values[id];
+    }
+
+    /**
+     * 레이블 조합 ID 의 레이블 (이름순)
+     */
+    public Map<String, String> labels(int labelSetId) {
+        StringTable stringTable = strings;
+        int[] pairs = labelSets.sets[labelSetId];
+        Map<String, String> labels = new TreeMap<>();
+        for (int i = 0; i < pairs.length; i += 2) {
+            labels.put(stringTable.values[pairs[i]], stringTable.values[pairs[i + 1]]);
+        }
+        return labels;
+    }
+
+    public int stringCount() {
+        return strings.count;
+    }
+
+    public int labelSetCount() {
+        return labelSets.count;
+    }
+
+    private static int hash(byte[] bytes, int length) {
+        int hash = 1;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int hash(int[] values, int length) {
+        int hash = 1;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + values[i];
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * 문자열 open-addressing 테이블 (불변 스냅샷)
+     */
+    private static final class StringTable {
+        final byte[][] keys;
+        final int[] hashes;
+        final int[] ids;
+        final String[] values;
+        final int count;
+
+        StringTable(int capacity) {
+            this(new byte[capacity][], new int[capacity], new int[capacity], new String[capacity / 2], 0);
+        }
+
+        private StringTable(byte[][] keys, int[] hashes, int[] ids, String[] values, int count) {
+            this.keys = keys;
+            this.hashes = hashes;
+            this.ids = ids;
+            this.values = values;
+            this.count = count;
+        }
+
+        int find(byte[] bytes, int length, int hash) {
+            int mask = keys.length - 1;
+            for (int slot = hash & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+                if (hashes[slot] == hash && Arrays.equals(keys[slot], 0, keys[slot].length, bytes, 0, length)) {
+                    return ids[slot];
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * key 를 count 번 ID 로 추가한 새 스냅샷 (부하율 1/2 초과 시 두 배로 확장)
+         */
+        StringTable with(byte[] key, int hash) {
+            int capacity = (count + 1) * 2 > keys.length ? keys.length * 2 : keys.length;
+            StringTable next = new StringTable(new byte[capacity][], new int[capacity], new int[capacity],
+                    Arrays.copyOf(values, capacity / 2), count + 1);
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (keys[slot] != null) {
+                    next.place(keys[slot], hashes[slot], ids[slot]);
+                }
+            }
+            next.place(key, hash, count);
+            next.values[count] = new String(key, StandardCharsets.UTF_8);
+            return next;
+        }
+
+        private void place(byte[] key, int hash, int id) {
+            int mask = keys.length - 1;
+            int slot = hash & mask;
+            while (keys[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            hashes[slot] = hash;
+            ids[slot] = id;
+        }
+    }
+
+    /**
+     * 레이블 조합 open-addressing 테이블 (불변 스냅샷)
+     */
+    private static final class LabelSetTable {
+        final int[][] keys;
+        final int[] hashes;
+        final int[] ids;
+        final int[][] sets;
+        final int count;
+
+        LabelSetTable(int capacity) {
+            this(new int[capacity][], new int[capacity], new int[capacity], new int[capacity / 2][], 0);
+        }
+
+        private LabelSetTable(int[][] keys, int[] hashes, int[] ids, int[][] sets, int count) {
+            this.keys = keys;
+            this.hashes = hashes;
+            this.ids = ids;
+            this.sets = sets;
+            this.count = count;
+        }
+
+        int find(int[] pairs, int length, int hash) {
+            int mask = keys.length - 1;
+            for (int slot = hash & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+                if (hashes[slot] == hash && Arrays.equals(keys[slot], 0, keys[slot].length, pairs, 0, length)) {
+                    return ids[slot];
+                }
+            }
+            return -1;
+        }
+
+        LabelSetTable with(int[] key, int hash) {
+            int capacity = (count + 1) * 2 > keys.length ? keys.length * 2 : keys.length;
+            LabelSetTable next = new LabelSetTable(new int[capacity][], new int[capacity], new int[capacity],
+                    Arrays.copyOf(sets, capacity / 2), count + 1);
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (keys[slot] != null) {
+                    next.place(keys[slot], hashes[slot], ids[slot]);
+                }
+            }
+            next.place(key, hash, count);
+            next.sets[count] = key;
+            return next;
+        }
+
+        private void place(int[] key, int hash, int id) {
+            int mask = keys.length - 1;
+            int slot = hash & mask;
+            while (keys[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            hashes[slot] = hash;
+            ids[slot] = id;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package org.ravo.ravomanager.manager.monitoring;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대시보드가 사용하는 Prometheus 메트릭 등록부
+ * 각 메트릭 이름에 고정 정수 ID(ordinal)를 한 번만 부여하며, {@link MetricData} 는 이 ID 로 배열에 값을 저장합니다.
+ * 파서는 여기에 등록된 이름만 저장하고 나머지 샘플은 이름만 확인한 뒤 건너뜁니다.
+ * (상수 순서를 바꾸면 ID 가 바뀌므로 새 메트릭은 끝에 추가합니다.)
+ */
+public enum Metric {
+
+    MYSQL_UP("mysql_up"),
+    UPTIME("mysql_global_status_uptime"),
+    THREADS_CONNECTED("mysql_global_status_threads_connected"),
+    QUERIES("mysql_global_status_queries"),
+    INNODB_ROW_LOCK_TIME("mysql_global_status_innodb_row_lock_time"),
+    INNODB_ROW_LOCK_WAITS("mysql_global_status_innodb_row_lock_waits"),
+    BYTES_SENT("mysql_global_status_bytes_sent"),
+    BYTES_RECEIVED("mysql_global_status_bytes_received"),
+    PROCESS_CPU_SECONDS("process_cpu_seconds_total"),
+    HEAP_INUSE_BYTES("go_memstats_heap_inuse_bytes"),
+    HEAP_SYS_BYTES("go_memstats_heap_sys_bytes"),
+    // 명령어별 실행 횟수 (command 레이블 값을 소문자로 붙인 이름)
+    COMMANDS_SELECT(Metric.COMMANDS_TOTAL + "_select"),
+    COMMANDS_INSERT(Metric.COMMANDS_TOTAL + "_insert"),
+    COMMANDS_UPDATE(Metric.COMMANDS_TOTAL + "_update"),
+    COMMANDS_DELETE(Metric.COMMANDS_TOTAL + "_delete");
+
+    public static final String COMMANDS_TOTAL = "mysql_global_status_commands_total";
+
+    /** 레이블 값을 이름 뒤에 붙여 별도 메트릭으로 저장하는 메트릭 → 레이블 이름 */
+    public static final Map<String, String> LABEL_EXPANSIONS = Map.of(COMMANDS_TOTAL, "command");
+
+    private static final Metric[] VALUES = values();
+
+    /** 등록된 메트릭 수 (ID 는 0 ~ COUNT - 1) */
+    public static final int COUNT = VALUES.length;
+
+    private final String key;
+
+    Metric(String key) {
+        this.key = key;
+    }
+
+    /**
+     * Prometheus 메트릭 이름 (레이블 확장 메트릭은 확장된 이름)
+     */
+    public String key() {
+        return key;
+    }
+
+    public int id() {
+        return ordinal();
+    }
+
+    public static Metric byId(int id) {
+        return VALUES[id];
+    }
+
+    /**
+     * ID 순서의 메트릭 이름 목록
+     */
+    public static List<String> keys() {
+        return Arrays.stream(VALUES).map(Metric::key).toList();
+    }
+}
@@ -1,13 +1,20 @@
 package org.ravo.ravomanager.manager.monitoring;
 
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Prometheus 메트릭 데이터를 담는 클래스
+ * 값은 {@link Metric} ID 로 인덱싱하는 double 배열에 박싱 없이 저장하며, 조회는 배열 인덱싱입니다.
+ * 레이블 조합별 시계열({@link MetricFamily})은 {@link SeriesValues} 에 따로 저장합니다.
+ * rates 는 수집기가 직전 회차들과 비교해 계산한 카운터 증가율({@link RateTracker})이며, 발행 전에 한 번만 채웁니다.
  */
 @Data
 @NoArgsConstructor
@@ -15,8 +22,14 @@ public class MetricData {
 
     private String databaseName;
     private DatabaseStatus status = DatabaseStatus.UNKNOWN;
-    private final Map<String, Double> metrics = new HashMap<>();
+    @Getter(AccessLevel.NONE)
+    private final double[] values = new double[Metric.COUNT];
+    @Getter(AccessLevel.NONE)
+    private final boolean[] present = new boolean[Metric.COUNT];
+    @Getter(AccessLevel.NONE)
+    private SeriesValues seriesValues = SeriesValues.EMPTY;
     private final Map<String, String> info = new HashMap<>();
+    private Map<String, RateValues> rates = Map.of();
 
     public enum DatabaseStatus {
         UP, DOWN, UNKNOWN
@@ -26,24 +39,72 @@ public class MetricData {
         this.databaseName = databaseName;
     }
 
-    public void addMetric(String key, Double value) {
-        this.metrics.put(key, value);
+    public void set(Metric metric, double value) {
+        set(metric.id(), value);
+    }
+
+    public void set(int metricId, double value) {
+        values[metricId] = value;
+        present[metricId] = true;
+    }
+
+    public double getOrDefault(Metric metric, double defaultValue) {
+        int id = metric.id();
+        return present[id] ? values[id] : defaultValue;
+    }
+
+    public boolean has(Metric metric) {
+        return present[metric.id()];
+    }
+
+    public void putSeries(int familyId, int labelSetId, double value) {
+        seriesValues.put(familyId, labelSetId, value);
+    }
+
+    /**
+     * family 의 레이블 시계열 목록 (예: TABLE_ROWS → 테이블별 행 수)
+     */
+    public List<SeriesSample> getSeries(MetricFamily family) {
+        return seriesValues.samples(family);
+    }
+
+    /**
+     * 레이블 시계열을 메트릭 이름 → 시계열 목록으로 반환합니다. (API 응답 직렬화용)
+     */
+    public Map<String, List<SeriesSample>> getSeries() {
+        return seriesValues.toMap();
+    }
+
+    /**
+     * 카운터 증가율 (아직 계산되지 않았으면 0)
+     */
+    public RateValues getRate(RateCounter counter) {
+        return rates.getOrDefault(counter.key(), RateValues.ZERO);
     }
 
     public void addInfo(String key, String value) {
         this.info.put(key, value);
     }
 
+    /**
+     * 수집된 메트릭을 이름 → 값 맵으로 반환합니다. (API 응답 직렬화용, 호출 시마다 새로 생성)
+     */
+    public Map<String, Double> getMetrics() {
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        for (int id = 0; id < Metric.COUNT; id++) {
+            if (present[id]) {
+                metrics.put(Metric.byId(id).key(), values[id]);
+            }
+        }
+        return metrics;
+    }
+
     /**
      * 장애 발생 시 사용할 안전한 기본 MetricData
      */
     public static MetricData empty(String roleName) {
         MetricData empty = new MetricData(roleName);
         empty.status = DatabaseStatus.DOWN;
-        empty.metrics.put("cpu_usage", 0.0);
-        empty.metrics.put("memory_usage", 0.0);
-        empty.metrics.put("qps", 0.0);
-        empty.metrics.put("uptime", 0.0);
         empty.info.put("message", "No metrics available (DB unreachable)");
         return empty;
     }
@@ -52,6 +113,11 @@ public class MetricData {
      * 현재 MetricData가 사실상 비어있는지 판단하는 메서드
      */
     public boolean isEmpty() {
-        return metrics.isEmpty() || metrics.values().stream().allMatch(v -> v == 0.0);
+        for (int id = 0; id < Metric.COUNT; id++) {
+            if (present[id] && values[id] != 0.0) {
+                return false;
+            }
+        }
+        return true;
     }
 }
@@ -0,0 +1,49 @@
+package org.ravo.ravomanager.manager.monitoring;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 레이블 조합별로 모든 시계열을 보존하는 Prometheus 메트릭
+ * 시계열은 (메트릭 ID, 정규화된 레이블 조합 ID) 로 구분되며, 레이블 문자열은 {@link LabelDictionary} 에 한 번만 저장됩니다.
+ * (상수 순서가 ID 이므로 새 메트릭은 끝에 추가합니다.)
+ */
+public enum MetricFamily {
+
+    /** 명령어별 실행 횟수 {command} */
+    COMMANDS_TOTAL(Metric.COMMANDS_TOTAL),
+    /** 테이블별 추정 행 수 {schema, table} */
+    TABLE_ROWS("mysql_info_schema_table_rows"),
+    /** 테이블별 크기 {schema, table, component} */
+    TABLE_SIZE("mysql_info_schema_table_size"),
+    /** 테이블별 I/O 대기 횟수 {schema, name, operation} */
+    TABLE_IO_WAITS("mysql_perf_schema_table_io_waits_total"),
+    /** 인덱스별 I/O 대기 횟수 {schema, name, index, operation} */
+    INDEX_IO_WAITS("mysql_perf_schema_index_io_waits_total");
+
+    private static final MetricFamily[] VALUES = values();
+
+    public static final int COUNT = VALUES.length;
+
+    private final String key;
+
+    MetricFamily(String key) {
+        this.key = key;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public int id() {
+        return ordinal();
+    }
+
+    public static MetricFamily byId(int id) {
+        return VALUES[id];
+    }
+
+    public static List<String> keys() {
+        return Arrays.stream(VALUES).map(MetricFamily::key).toList();
+    }
+}
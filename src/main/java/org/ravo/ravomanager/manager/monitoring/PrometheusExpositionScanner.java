@@ -0,0 +1,499 @@
+package org.ravo.ravomanager.manager.monitoring;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Prometheus 텍스트 노출 형식(exposition format) 스트리밍 스캐너
+ * 응답 바이트를 버퍼 경계와 무관하게 한 바이트씩 상태 기계로 처리합니다.
+ * 추적 대상이 아닌 메트릭은 이름만 확인하고 줄 끝까지 건너뛰며, 이름/레이블/값은 재사용 배열에만 기록하므로
+ * 샘플마다 String 을 만들지 않습니다. 인스턴스는 스크레이프 1회 전용이며 스레드 안전하지 않습니다.
+ * {@link MetricFamily} 메트릭은 모든 레이블을 읽어 {@link LabelDictionary} 의 ID 로 바꾸고, 이름 ID 순으로 정렬한
+ * 레이블 조합 ID 로 시계열을 구분합니다. (exporter 의 레이블 순서와 무관)
+ */
+public class PrometheusExpositionScanner {
+
+    /**
+     * 추적 대상 샘플 수신 ({@link Metric} ID, 값)
+     */
+    public interface SampleSink {
+        void accept(int metricIndex, double value);
+
+        /**
+         * 레이블 시계열 샘플 수신 ({@link MetricFamily} ID, 레이블 조합 ID, 값)
+         */
+        default void acceptSeries(int familyId, int labelSetId, double value) {
+        }
+    }
+
+    private static final int MAX_TOKEN_LENGTH = 256;
+    private static final int MAX_LABELS = 16;
+    private static final int MAX_VALUE_LENGTH = 64;
+    private static final int CHUNK_LENGTH = 8 * 1024;
+
+    // Clinger fast path: 10^22 까지는 double 로 정확히 표현됨
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private enum State {
+        LINE_START, NAME,
+        LABEL_NAME, LABEL_VALUE_START, LABEL_VALUE, LABEL_ESCAPE,
+        SKIP_LABELS, SKIP_LABEL_VALUE, SKIP_LABEL_ESCAPE,
+        BEFORE_VALUE, VALUE, SKIP_LINE
+    }
+
+    private final TrackedMetrics trackedMetrics;
+    private final LabelDictionary labelDictionary;
+    private final SampleSink sink;
+
+    private State state = State.LINE_START;
+
+    private final byte[] name = new byte[MAX_TOKEN_LENGTH];
+    private int nameLength;
+    private int nameHash;
+
+    // 레이블 확장 메트릭: 이름 + '_' + 소문자 레이블 값
+    private final byte[] expandedName = new byte[MAX_TOKEN_LENGTH];
+    private int expandedNameLength;
+    private byte[] expandLabel;
+    private boolean expandLabelFound;
+
+    private final byte[] labelName = new byte[MAX_TOKEN_LENGTH];
+    private int labelNameLength;
+    private final byte[] labelValue = new byte[MAX_TOKEN_LENGTH];
+    private int labelValueLength;
+
+    // 레이블 시계열: (이름 ID, 값 ID) 쌍을 이름 ID 순으로 유지
+    private final int[] labelPairs = new int[MAX_LABELS * 2];
+    private int labelPairsLength;
+    private int familyId;
+    private int labelSetId;
+
+    private final byte[] value = new byte[MAX_VALUE_LENGTH];
+    private int valueLength;
+
+    private int metricIndex;
+
+    // direct 버퍼 복사용
+    private final byte[] chunk = new byte[CHUNK_LENGTH];
+
+    public PrometheusExpositionScanner(TrackedMetrics trackedMetrics, LabelDictionary labelDictionary, SampleSink sink) {
+        this.trackedMetrics = trackedMetrics;
+        this.labelDictionary = labelDictionary;
+        this.sink = sink;
+    }
+
+    /**
+     * buffer 의 position ~ limit 바이트를 처리합니다. (버퍼 위치는 바꾸지 않음)
+     * 힙 버퍼는 내부 배열을 그대로 읽고, direct 버퍼는 재사용 배열로 한 번에 복사해 읽습니다.
+     */
+    public void feed(ByteBuffer buffer) {
+        int position = buffer.position();
+        int remaining = buffer.remaining();
+        if (buffer.hasArray()) {
+            int offset = buffer.arrayOffset() + position;
+            feed(buffer.array(), offset, offset + remaining);
+            return;
+        }
+        for (int done = 0; done < remaining; done += chunk.length) {
+            int length = Math.min(chunk.length, remaining - done);
+            buffer.get(position + done, chunk, 0, length);
+            feed(chunk, 0, length);
+        }
+    }
+
+    /**
+     * bytes[from, to) 를 처리합니다.
+     * 줄 건너뛰기와 이름 읽기는 상태 분기 없이 바로 반복하고, 나머지(레이블/값)만 바이트 단위 상태 기계로 처리합니다.
+     */
+    public void feed(byte[] bytes, int from, int to) {
+        int i = from;
+        while (i < to) {
+            if (state == State.SKIP_LINE) {
+                while (i < to && bytes[i] != '\n') {
+                    i++;
+                }
+                if (i == to) {
+                    return;
+                }
+                i++;
+                state = State.LINE_START;
+            } else if (state == State.NAME) {
+                int hash = nameHash;
+                int length = nameLength;
+                byte b = 0;
+                while (i < to && !isNameEnd(b = bytes[i]) && length < name.length) {
+                    name[length++] = b;
+                    hash = TrackedMetrics.hashStep(hash, b);
+                    i++;
+                }
+                nameHash = hash;
+                nameLength = length;
+                if (i < to) {
+                    accept(bytes[i++]);
+                }
+            } else {
+                accept(bytes[i++]);
+            }
+        }
+    }
+
+    /**
+     * 마지막 줄이 개행 없이 끝난 경우를 처리합니다.
+     */
+    public void finish() {
+        if (state == State.VALUE) {
+            emit();
+        }
+        state = State.LINE_START;
+    }
+
+    private void accept(byte b) {
+        switch (state) {
+            case LINE_START -> {
+                if (b == '#') {
+                    state = State.SKIP_LINE;
+                } else if (!isSpace(b) && b != '\n' && b != '\r') {
+                    nameLength = 0;
+                    nameHash = TrackedMetrics.hashStart();
+                    appendName(b);
+                    state = State.NAME;
+                }
+            }
+            case NAME -> {
+                if (b == '{') {
+                    onNameEnd(true);
+                } else if (isSpace(b)) {
+                    onNameEnd(false);
+                } else if (b == '\n') {
+                    state = State.LINE_START;
+                } else {
+                    // 이름 길이 초과
+                    state = State.SKIP_LINE;
+                }
+            }
+            case LABEL_NAME -> {
+                if (b == '=') {
+                    labelValueLength = 0;
+                    state = State.LABEL_VALUE_START;
+                } else if (b == '}') {
+                    onLabelsEnd();
+                } else if (b == '\n') {
+                    state = State.LINE_START;
+                } else if (b != ',' && !isSpace(b)) {
+                    if (labelNameLength == labelName.length) {
+                        state = State.SKIP_LINE;
+                    } else {
+                        labelName[labelNameLength++] = b;
+                    }
+                }
+            }
+            case LABEL_VALUE_START -> {
+                if (b == '"') {
+                    state = State.LABEL_VALUE;
+                } else if (!isSpace(b)) {
+                    state = b == '\n' ? State.LINE_START : State.SKIP_LINE;
+                }
+            }
+            case LABEL_VALUE -> {
+                if (b == '\\') {
+                    state = State.LABEL_ESCAPE;
+                } else if (b == '"') {
+                    onLabel();
+                    labelNameLength = 0;
+                    state = State.LABEL_NAME;
+                } else {
+                    appendLabelValue(b);
+                }
+            }
+            case LABEL_ESCAPE -> {
+                appendLabelValue(b == 'n' ? (byte) '\n' : b);
+                if (state == State.LABEL_ESCAPE) {
+                    state = State.LABEL_VALUE;
+                }
+            }
+            case SKIP_LABELS -> {
+                if (b == '"') {
+                    state = State.SKIP_LABEL_VALUE;
+                } else if (b == '}') {
+                    state = State.BEFORE_VALUE;
+                } else if (b == '\n') {
+                    state = State.LINE_START;
+                }
+            }
+            case SKIP_LABEL_VALUE -> {
+                if (b == '\\') {
+                    state = State.SKIP_LABEL_ESCAPE;
+                } else if (b == '"') {
+                    state = State.SKIP_LABELS;
+                }
+            }
+            case SKIP_LABEL_ESCAPE -> state = State.SKIP_LABEL_VALUE;
+            case BEFORE_VALUE -> {
+                if (b == '\n') {
+                    state = State.LINE_START;
+                } else if (!isSpace(b)) {
+                    valueLength = 0;
+                    value[valueLength++] = b;
+                    state = State.VALUE;
+                }
+            }
+            case VALUE -> {
+                if (b == '\n') {
+                    emit();
+                    state = State.LINE_START;
+                } else if (isSpace(b) || b == '\r') {
+                    // 값 뒤의 타임스탬프는 사용하지 않음
+                    emit();
+                    state = State.SKIP_LINE;
+                } else if (valueLength == value.length) {
+                    state = State.SKIP_LINE;
+                } else {
+                    value[valueLength++] = b;
+                }
+            }
+            case SKIP_LINE -> {
+                if (b == '\n') {
+                    state = State.LINE_START;
+                }
+            }
+        }
+    }
+
+    private void appendName(byte b) {
+        name[nameLength++] = b;
+        nameHash = TrackedMetrics.hashStep(nameHash, b);
+    }
+
+    private void appendLabelValue(byte b) {
+        if (labelValueLength == labelValue.length) {
+            state = State.SKIP_LINE;
+            return;
+        }
+        labelValue[labelValueLength++] = b;
+    }
+
+    /**
+     * 이름을 다 읽은 시점에 추적 대상인지 판단해 다음 상태를 정합니다.
+     * 레이블 확장/시계열 보존 메트릭만 레이블을 읽고, 일반 메트릭의 레이블은 건너뜁니다.
+     */
+    private void onNameEnd(boolean hasLabels) {
+        int slot = trackedMetrics.find(name, nameLength, nameHash);
+        metricIndex = trackedMetrics.metricIndex(slot);
+        familyId = trackedMetrics.familyId(slot);
+        expandLabel = hasLabels ? trackedMetrics.expandLabel(slot) : null;
+
+        if (!hasLabels) {
+            labelSetId = LabelDictionary.EMPTY_LABEL_SET;
+            state = metricIndex >= 0 || familyId >= 0 ? State.BEFORE_VALUE : State.SKIP_LINE;
+            return;
+        }
+        if (expandLabel != null || familyId >= 0) {
+            System.arraycopy(name, 0, expandedName, 0, nameLength);
+            expandedName[nameLength] = '_';
+            expandedNameLength = nameLength + 1;
+            expandLabelFound = false;
+            labelPairsLength = 0;
+            labelNameLength = 0;
+            state = State.LABEL_NAME;
+            return;
+        }
+        state = metricIndex >= 0 ? State.SKIP_LABELS : State.SKIP_LINE;
+    }
+
+    /**
+     * 레이블 하나(labelName = labelValue)를 다 읽은 시점의 처리
+     */
+    private void onLabel() {
+        if (expandLabel != null && !expandLabelFound
+                && Arrays.equals(labelName, 0, labelNameLength, expandLabel, 0, expandLabel.length)
+                && expandedNameLength + labelValueLength <= expandedName.length) {
+            // 레이블 값은 소문자로 붙임 (예: command="SELECT" → _select)
+            for (int i = 0; i < labelValueLength; i++) {
+                byte b = labelValue[i];
+                expandedName[expandedNameLength++] = b >= 'A' && b <= 'Z' ? (byte) (b + ('a' - 'A')) : b;
+            }
+            expandLabelFound = true;
+        }
+        if (familyId >= 0) {
+            addLabelPair();
+        }
+    }
+
+    /**
+     * 레이블을 사전 ID 로 바꿔 이름 ID 순 위치에 넣습니다.
+     * 레이블이 너무 많거나, 이름이 중복되거나, 사전이 가득 찬 시계열은 보존하지 않습니다.
+     */
+    private void addLabelPair() {
+        if (labelPairsLength == labelPairs.length) {
+            familyId = -1;
+            return;
+        }
+        int nameId = labelDictionary.internString(labelName, labelNameLength);
+        int valueId = nameId < 0 ? -1 : labelDictionary.internString(labelValue, labelValueLength);
+        if (valueId < 0) {
+            familyId = -1;
+            return;
+        }
+        int i = labelPairsLength;
+        while (i > 0 && labelPairs[i - 2] > nameId) {
+            labelPairs[i] = labelPairs[i - 2];
+            labelPairs[i + 1] = labelPairs[i - 1];
+            i -= 2;
+        }
+        if (i > 0 && labelPairs[i - 2] == nameId) {
+            familyId = -1;
+            return;
+        }
+        labelPairs[i] = nameId;
+        labelPairs[i + 1] = valueId;
+        labelPairsLength += 2;
+    }
+
+    private void onLabelsEnd() {
+        if (expandLabel != null) {
+            metricIndex = expandLabelFound
+                    ? trackedMetrics.metricIndex(trackedMetrics.find(expandedName, expandedNameLength,
+                            TrackedMetrics.hash(expandedName, expandedNameLength)))
+                    : -1;
+        }
+        if (familyId >= 0) {
+            labelSetId = labelDictionary.internLabelSet(labelPairs, labelPairsLength);
+            if (labelSetId < 0) {
+                familyId = -1;
+            }
+        }
+        state = metricIndex >= 0 || familyId >= 0 ? State.BEFORE_VALUE : State.SKIP_LINE;
+    }
+
+    private void emit() {
+        double sample;
+        try {
+            sample = parseValue(value, valueLength);
+        } catch (NumberFormatException e) {
+            // 파싱 실패한 샘플은 무시
+            return;
+        }
+        if (metricIndex >= 0) {
+            sink.accept(metricIndex, sample);
+        }
+        if (familyId >= 0) {
+            sink.acceptSeries(familyId, labelSetId, sample);
+        }
+    }
+
+    private static boolean isNameEnd(byte b) {
+        return b == '{' || b == ' ' || b == '\t' || b == '\n';
+    }
+
+    private static boolean isSpace(byte b) {
+        return b == ' ' || b == '\t';
+    }
+
+    /**
+     * 바이트로 된 샘플 값을 double 로 변환합니다.
+     * 유효 숫자 18자리 이하, 10진 지수 ±22 이내는 String 없이 정확하게 계산하고 (exporter 출력 대부분),
+     * 그 외에는 Double.parseDouble 로 처리합니다.
+     */
+    static double parseValue(byte[] bytes, int length) {
+        int i = 0;
+        boolean negative = false;
+        if (length > 0 && (bytes[0] == '-' || bytes[0] == '+')) {
+            negative = bytes[0] == '-';
+            i = 1;
+        }
+        if (length - i == 3) {
+            if (matches(bytes, i, 'I', 'n', 'f')) {
+                return negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+            }
+            if (i == 0 && matches(bytes, 0, 'N', 'a', 'N')) {
+                return Double.NaN;
+            }
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean seenDigit = false;
+        boolean seenDot = false;
+        for (; i < length; i++) {
+            byte b = bytes[i];
+            if (b >= '0' && b <= '9') {
+                seenDigit = true;
+                if (mantissa == 0 && b == '0') {
+                    // 앞자리 0 (소수부면 자릿수만 반영)
+                    if (seenDot) {
+                        exponent--;
+                    }
+                    continue;
+                }
+                if (digits == 18) {
+                    return slowParse(bytes, length);
+                }
+                mantissa = mantissa * 10 + (b - '0');
+                digits++;
+                if (seenDot) {
+                    exponent--;
+                }
+            } else if (b == '.' && !seenDot) {
+                seenDot = true;
+            } else if ((b == 'e' || b == 'E') && seenDigit) {
+                int exp = parseExponent(bytes, i + 1, length);
+                if (exp == Integer.MIN_VALUE) {
+                    return slowParse(bytes, length);
+                }
+                exponent += exp;
+                break;
+            } else {
+                return slowParse(bytes, length);
+            }
+        }
+        if (!seenDigit) {
+            return slowParse(bytes, length);
+        }
+
+        if (mantissa == 0) {
+            return negative ? -0.0 : 0.0;
+        }
+        if (mantissa < (1L << 53) && exponent >= -22 && exponent <= 22) {
+            double result = exponent >= 0 ? mantissa * POWERS_OF_TEN[exponent] : mantissa / POWERS_OF_TEN[-exponent];
+            return negative ? -result : result;
+        }
+        return slowParse(bytes, length);
+    }
+
+    /**
+     * 지수부 파싱, 형식이 잘못되었거나 범위가 크면 Integer.MIN_VALUE
+     */
+    private static int parseExponent(byte[] bytes, int from, int length) {
+        int i = from;
+        boolean negative = false;
+        if (i < length && (bytes[i] == '-' || bytes[i] == '+')) {
+            negative = bytes[i] == '-';
+            i++;
+        }
+        if (i == length) {
+            return Integer.MIN_VALUE;
+        }
+        int exponent = 0;
+        for (; i < length; i++) {
+            byte b = bytes[i];
+            if (b < '0' || b > '9' || exponent > 1000) {
+                return Integer.MIN_VALUE;
+            }
+            exponent = exponent * 10 + (b - '0');
+        }
+        return negative ? -exponent : exponent;
+    }
+
+    private static boolean matches(byte[] bytes, int from, char a, char b, char c) {
+        return bytes[from] == a && bytes[from + 1] == b && bytes[from + 2] == c;
+    }
+
+    private static double slowParse(byte[] bytes, int length) {
+        return Double.parseDouble(new String(bytes, 0, length, StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,66 @@
+package org.ravo.ravomanager.manager.monitoring;
+
+/**
+ * 대시보드가 초당 증가율로 보여주는 카운터 목록
+ * key 는 API 응답(MetricData.rates)의 이름입니다.
+ */
+public enum RateCounter {
+
+    QUERIES("queries", true, Metric.QUERIES),
+    READS("reads", true, Metric.COMMANDS_SELECT),
+    WRITES("writes", true, Metric.COMMANDS_INSERT, Metric.COMMANDS_UPDATE, Metric.COMMANDS_DELETE),
+    BYTES_SENT("bytesSent", true, Metric.BYTES_SENT),
+    BYTES_RECEIVED("bytesReceived", true, Metric.BYTES_RECEIVED),
+    // exporter 프로세스 카운터라 MySQL 재시작과 무관
+    CPU_SECONDS("cpuSeconds", false, Metric.PROCESS_CPU_SECONDS);
+
+    private final String key;
+    private final boolean mysqlCounter;
+    private final Metric[] sources;
+
+    RateCounter(String key, boolean mysqlCounter, Metric... sources) {
+        this.key = key;
+        this.mysqlCounter = mysqlCounter;
+        this.sources = sources;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    /**
+     * MySQL 재시작(uptime 감소) 시 함께 초기화되는 카운터인지
+     */
+    public boolean isMysqlCounter() {
+        return mysqlCounter;
+    }
+
+    /**
+     * 누적 값 (여러 메트릭의 합인 경우 수집된 것만 더함), 하나도 없으면 NaN
+     * 더한 메트릭 구성이 직전과 다르면 값을 비교할 수 없으므로 {@link #sourceMask} 로 확인합니다.
+     */
+    public double read(MetricData metricData) {
+        double sum = 0.0;
+        boolean found = false;
+        for (Metric source : sources) {
+            if (metricData.has(source)) {
+                sum += metricData.getOrDefault(source, 0.0);
+                found = true;
+            }
+        }
+        return found ? sum : Double.NaN;
+    }
+
+    /**
+     * {@link #read} 가 더한 메트릭 구성 (sources 순서의 비트, 하나도 없으면 0)
+     */
+    public int sourceMask(MetricData metricData) {
+        int mask = 0;
+        for (int i = 0; i < sources.length; i++) {
+            if (metricData.has(sources[i])) {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+}
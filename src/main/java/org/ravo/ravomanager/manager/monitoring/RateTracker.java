@@ -0,0 +1,57 @@
+package org.ravo.ravomanager.manager.monitoring;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * DB 1대의 {@link RateCounter} 별 증가율 추적기
+ * 수집기가 UP 상태로 수집한 회차마다 {@link #update} 를 호출하며 (역할별 수집 체인이 유일한 작성자),
+ * 결과는 MetricData 에 실어 스냅샷과 함께 발행하므로 읽는 쪽에는 잠금이 필요 없습니다.
+ * uptime 이 줄면 MySQL 이 재시작된 것으로 보고 MySQL 카운터를 모두 초기화된 것으로 처리합니다.
+ * (값이 직전보다 커진 상태로 재시작을 지나쳐도 증가량이 음수/과소 계산되지 않음)
+ * 여러 메트릭을 더하는 카운터는 이번 회차에 수집된 메트릭 구성이 직전과 다르면 합계를 비교할 수 없으므로
+ * 증가율을 건너뛰고 이번 값을 새 기준값으로 삼습니다.
+ */
+public final class RateTracker {
+
+    private static final RateCounter[] COUNTERS = RateCounter.values();
+
+    private final CounterRate[] rates = new CounterRate[COUNTERS.length];
+    private final int[] sourceMasks = new int[COUNTERS.length];
+    private double previousUptime = Double.NaN;
+
+    public RateTracker() {
+        for (int i = 0; i < rates.length; i++) {
+            rates[i] = new CounterRate();
+        }
+    }
+
+    /**
+     * 새 수집 결과를 반영하고 카운터 key → 증가율 맵(불변)을 반환합니다.
+     */
+    public Map<String, RateValues> update(long millis, MetricData metricData) {
+        double uptime = metricData.has(Metric.UPTIME) ? metricData.getOrDefault(Metric.UPTIME, 0.0) : Double.NaN;
+        boolean mysqlRestarted = !Double.isNaN(previousUptime) && uptime < previousUptime;
+        if (!Double.isNaN(uptime)) {
+            previousUptime = uptime;
+        }
+
+        Map<String, RateValues> values = new LinkedHashMap<>();
+        for (RateCounter counter : COUNTERS) {
+            CounterRate rate = rates[counter.ordinal()];
+            int mask = counter.sourceMask(metricData);
+            if (mask != 0) {
+                if (sourceMasks[counter.ordinal()] != 0 && mask != sourceMasks[counter.ordinal()]) {
+                    rate.rebase();
+                }
+                sourceMasks[counter.ordinal()] = mask;
+            }
+            rate.update(millis, counter.read(metricData), mysqlRestarted && counter.isMysqlCounter());
+            if (rate.isSeeded()) {
+                values.put(counter.key(), rate.values());
+            }
+        }
+        return Collections.unmodifiableMap(values);
+    }
+}
@@ -0,0 +1,14 @@
+package org.ravo.ravomanager.manager.monitoring;
+
+/**
+ * 카운터 1개의 초당 증가율
+ *
+ * @param perSecond      직전 수집 대비 순간 증가율 (실제 경과 시간으로 나눈 값)
+ * @param oneMinute      1분 EWMA
+ * @param fiveMinutes    5분 EWMA
+ * @param fifteenMinutes 15분 EWMA
+ */
+public record RateValues(double perSecond, double oneMinute, double fiveMinutes, double fifteenMinutes) {
+
+    public static final RateValues ZERO = new RateValues(0.0, 0.0, 0.0, 0.0);
+}
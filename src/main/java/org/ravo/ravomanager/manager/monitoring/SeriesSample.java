@@ -0,0 +1,9 @@
+package org.ravo.ravomanager.manager.monitoring;
+
+import java.util.Map;
+
+/**
+ * 레이블 조합이 있는 시계열 값 1개 (API 응답용)
+ */
+public record SeriesSample(Map<String, String> labels, double value) {
+}
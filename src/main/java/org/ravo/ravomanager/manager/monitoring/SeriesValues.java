@@ -0,0 +1,88 @@
+package org.ravo.ravomanager.manager.monitoring;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 스크레이프 1회의 레이블 시계열 값
+ * 시계열 키는 (family ID, 레이블 조합 ID) 를 long 하나로 묶어 배열에 저장하므로 시계열당 16 바이트이며,
+ * 레이블 문자열은 {@link LabelDictionary} 에만 있습니다. 레이블은 API 응답으로 꺼낼 때만 문자열로 풀어냅니다.
+ */
+public final class SeriesValues {
+
+    /** 레이블 시계열을 수집하지 않은 MetricData 용 (읽기 전용) */
+    public static final SeriesValues EMPTY = new SeriesValues(null, 0);
+
+    private final LabelDictionary dictionary;
+    private long[] keys;
+    private double[] values;
+    private int size;
+
+    public SeriesValues(LabelDictionary dictionary) {
+        this(dictionary, 64);
+    }
+
+    private SeriesValues(LabelDictionary dictionary, int capacity) {
+        this.dictionary = dictionary;
+        this.keys = new long[capacity];
+        this.values = new double[capacity];
+    }
+
+    void put(int familyId, int labelSetId, double value) {
+        if (dictionary == null) {
+            throw new UnsupportedOperationException("읽기 전용 SeriesValues 입니다.");
+        }
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        keys[size] = (long) familyId << 32 | labelSetId;
+        values[size++] = value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 레이블 조합 ID 로 값을 찾습니다. 없으면 defaultValue
+     */
+    public double get(MetricFamily family, int labelSetId, double defaultValue) {
+        long key = (long) family.id() << 32 | labelSetId;
+        for (int i = 0; i < size; i++) {
+            if (keys[i] == key) {
+                return values[i];
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * family 의 시계열 목록 (exporter 출력 순서)
+     */
+    public List<SeriesSample> samples(MetricFamily family) {
+        List<SeriesSample> samples = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if ((int) (keys[i] >>> 32) == family.id()) {
+                samples.add(new SeriesSample(dictionary.labels((int) keys[i]), values[i]));
+            }
+        }
+        return samples;
+    }
+
+    /**
+     * 메트릭 이름 → 시계열 목록 (수집된 family 만)
+     */
+    public Map<String, List<SeriesSample>> toMap() {
+        Map<String, List<SeriesSample>> series = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            MetricFamily family = MetricFamily.byId((int) (keys[i] >>> 32));
+            series.computeIfAbsent(family.key(), key -> new ArrayList<>())
+                    .add(new SeriesSample(dictionary.labels((int) keys[i]), values[i]));
+        }
+        return series;
+    }
+}
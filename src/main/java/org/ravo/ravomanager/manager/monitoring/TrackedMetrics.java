@@ -0,0 +1,110 @@
+package org.ravo.ravomanager.manager.monitoring;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 추적 대상 메트릭 이름을 바이트 그대로 찾는 open-addressing 테이블 (생성 후 읽기 전용)
+ * 스캐너가 응답 바이트에서 이름을 읽는 동안 계산한 FNV-1a 해시로 조회하므로 이름마다 String 을 만들지 않습니다.
+ */
+public final class TrackedMetrics {
+
+    private static final int FNV_OFFSET = 0x811c9dc5;
+    private static final int FNV_PRIME = 0x01000193;
+
+    private final byte[][] keys;
+    private final int[] hashes;
+    private final int[] metricIndexes;      // 일반 메트릭이면 메트릭 ID, 아니면 -1
+    private final byte[][] expandLabels;    // 레이블 확장 메트릭이면 레이블 이름, 아니면 null
+    private final int[] familyIds;          // 레이블 조합별 시계열을 보존하는 메트릭이면 {@link MetricFamily} ID, 아니면 -1
+    private final int mask;
+
+    /**
+     * @param names           저장할 메트릭 이름 (순서가 메트릭 ID)
+     * @param labelExpansions 레이블 값을 붙여 names 의 이름으로 저장할 메트릭 → 레이블 이름
+     * @param families        레이블 조합별 시계열을 모두 보존할 메트릭 이름 (순서가 family ID)
+     */
+    public TrackedMetrics(List<String> names, Map<String, String> labelExpansions, List<String> families) {
+        int entries = names.size() + labelExpansions.size() + families.size();
+        int capacity = Integer.highestOneBit(Math.max(8, entries * 2) - 1) << 1;
+        this.keys = new byte[capacity][];
+        this.hashes = new int[capacity];
+        this.metricIndexes = new int[capacity];
+        this.expandLabels = new byte[capacity][];
+        this.familyIds = new int[capacity];
+        this.mask = capacity - 1;
+        Arrays.fill(metricIndexes, -1);
+        Arrays.fill(familyIds, -1);
+
+        for (int i = 0; i < names.size(); i++) {
+            metricIndexes[insert(names.get(i))] = i;
+        }
+        labelExpansions.forEach((name, label) ->
+                expandLabels[insert(name)] = label.getBytes(StandardCharsets.US_ASCII));
+        for (int i = 0; i < families.size(); i++) {
+            familyIds[insert(families.get(i))] = i;
+        }
+    }
+
+    static int hashStart() {
+        return FNV_OFFSET;
+    }
+
+    static int hashStep(int hash, byte b) {
+        return (hash ^ (b & 0xff)) * FNV_PRIME;
+    }
+
+    static int hash(byte[] bytes, int length) {
+        int hash = FNV_OFFSET;
+        for (int i = 0; i < length; i++) {
+            hash = hashStep(hash, bytes[i]);
+        }
+        return hash;
+    }
+
+    /**
+     * bytes[0, length) 이름의 슬롯을 찾습니다. 추적 대상이 아니면 -1
+     */
+    int find(byte[] bytes, int length, int hash) {
+        for (int slot = mix(hash) & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash && Arrays.equals(keys[slot], 0, keys[slot].length, bytes, 0, length)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    int metricIndex(int slot) {
+        return slot < 0 ? -1 : metricIndexes[slot];
+    }
+
+    byte[] expandLabel(int slot) {
+        return slot < 0 ? null : expandLabels[slot];
+    }
+
+    int familyId(int slot) {
+        return slot < 0 ? -1 : familyIds[slot];
+    }
+
+    private int insert(String name) {
+        byte[] key = name.getBytes(StandardCharsets.US_ASCII);
+        int hash = hash(key, key.length);
+        int slot = find(key, key.length, hash);
+        if (slot >= 0) {
+            return slot;
+        }
+        slot = mix(hash) & mask;
+        while (keys[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        hashes[slot] = hash;
+        return slot;
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,134 @@
+package org.ravo.ravomanager.manager.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.ravo.config.BinlogProperties;
+import org.ravo.config.SyncProperties;
+import org.ravo.ravomanager.manager.binlog.BinlogDecoder;
+import org.ravo.ravomanager.manager.binlog.BinlogEventRing;
+import org.ravo.ravomanager.manager.binlog.BinlogFileTailer;
+import org.ravo.ravomanager.manager.binlog.BinlogReplicationClient;
+import org.ravo.ravomanager.manager.dto.BinlogEventDto;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * binlog 이벤트 tail 서비스
+ * binlog.sources 의 DB 마다 백그라운드 스레드가 복제 프로토콜(또는 로컬 binlog 파일)로 이벤트를 읽어,
+ * 감시 대상 테이블의 행 이벤트만 메모리 링에 넣습니다. 대시보드는 링의 최신 이벤트만 읽습니다. (요청마다 DB 조회 없음)
+ * 연결이 끊기면 마지막으로 읽은 위치부터 지수 백오프(+지터)로 다시 접속합니다.
+ */
+@Slf4j
+@Service
+public class BinlogTailService {
+
+    private final BinlogProperties properties;
+    private final List<String> tables;
+    private final BinlogEventRing ring;
+    private final List<Thread> tailThreads = new ArrayList<>();
+    private final Map<String, BinlogReplicationClient> connections = new ConcurrentHashMap<>();
+    private volatile boolean running;
+
+    public BinlogTailService(BinlogProperties properties, SyncProperties syncProperties) {
+        this.properties = properties;
+        this.tables = properties.getTables().isEmpty() ? List.copyOf(syncProperties.getTables()) : List.copyOf(properties.getTables());
+        this.ring = new BinlogEventRing(properties.getRingCapacity());
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled() || properties.getSources().isEmpty()) {
+            log.info("Binlog tail disabled (binlog.enabled={}, sources={})",
+                    properties.isEnabled(), properties.getSources().size());
+            return;
+        }
+        running = true;
+        for (BinlogProperties.Source source : properties.getSources()) {
+            BinlogDecoder decoder = new BinlogDecoder(source.getName(), tables, ring::publish);
+            tailThreads.add(Thread.ofPlatform()
+                    .name("binlog-tail-" + source.getName())
+                    .daemon()
+                    .start(() -> tailLoop(source, decoder)));
+        }
+        log.info("Binlog tail started for {} (tables={})",
+                properties.getSources().stream().map(BinlogProperties.Source::getName).toList(), tables);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        connections.values().forEach(BinlogReplicationClient::close);
+        tailThreads.forEach(Thread::interrupt);
+    }
+
+    /**
+     * 최근 binlog 이벤트 (최신순, 메모리 조회)
+     */
+    public List<BinlogEventDto> getRecentEvents(int limit) {
+        return ring.latest(limit);
+    }
+
+    private void tailLoop(BinlogProperties.Source source, BinlogDecoder decoder) {
+        long serverId = source.getServerId() > 0
+                ? source.getServerId()
+                : ThreadLocalRandom.current().nextLong(100_000, 1L << 31);
+        long backoffMillis = properties.getInitialBackoff().toMillis();
+        int failures = 0;
+        while (running) {
+            long decodedBefore = decoder.decodedEvents();
+            try {
+                if (source.getDirectory() != null && !source.getDirectory().isBlank()) {
+                    new BinlogFileTailer(Path.of(source.getDirectory()), decoder, properties.getPollInterval().toMillis())
+                            .run(() -> running);
+                } else {
+                    String publicKey = source.getServerPublicKeyPath() == null || source.getServerPublicKeyPath().isBlank()
+                            ? null : Files.readString(Path.of(source.getServerPublicKeyPath()));
+                    BinlogReplicationClient client = new BinlogReplicationClient(source.getHost(), source.getPort(),
+                            source.getUsername(), source.getPassword(), serverId,
+                            (int) properties.getConnectTimeout().toMillis(),
+                            properties.getHeartbeatInterval().toMillis(), publicKey,
+                            source.isAllowPublicKeyRetrieval(), decoder);
+                    connections.put(source.getName(), client);
+                    client.run();
+                }
+                failures = 0;
+                backoffMillis = properties.getInitialBackoff().toMillis();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                // 이벤트를 받다가 끊긴 경우는 첫 실패로 보고 바로 재접속
+                if (decoder.decodedEvents() > decodedBefore) {
+                    failures = 0;
+                    backoffMillis = properties.getInitialBackoff().toMillis();
+                }
+                if (++failures == 1) {
+                    log.warn("Binlog tail for '{}' failed at {}:{}: {}", source.getName(),
+                            decoder.fileName(), decoder.nextPosition(), e.getMessage());
+                } else {
+                    log.debug("Binlog tail for '{}' failed ({} in a row): {}", source.getName(), failures, e.getMessage());
+                }
+            } finally {
+                connections.remove(source.getName());
+            }
+            try {
+                Thread.sleep(backoffMillis + ThreadLocalRandom.current().nextLong(backoffMillis / 2 + 1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            backoffMillis = Math.min(backoffMillis * 2, properties.getMaxBackoff().toMillis());
+        }
+    }
+}
@@ -1,85 +1,106 @@
 package org.ravo.ravomanager.manager.service;
 
 import java.time.ZoneId;
-import lombok.RequiredArgsConstructor;
 import org.ravo.ravomanager.manager.dto.SelectorStatus;
 import org.ravo.ravomanager.manager.dto.*;
+import org.ravo.ravomanager.manager.monitoring.ActivityRing;
+import org.ravo.ravomanager.manager.monitoring.CounterRate;
+import org.ravo.ravomanager.manager.monitoring.Metric;
 import org.ravo.ravomanager.manager.monitoring.MetricData;
+import org.ravo.ravomanager.manager.monitoring.RateCounter;
+import org.ravo.ravomanager.manager.monitoring.RateValues;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Service
-@RequiredArgsConstructor
 public class DashboardService {
 
     private static final Logger log = LoggerFactory.getLogger(DashboardService.class);
 
-    private final MonitoringService monitoringService;
+    private final MetricCollector metricCollector;
     private final KubernetesStatusService k8sStatusService;
     private final SynchronizationMetricsService synchronizationMetricsService;
+    private final BinlogTailService binlogTailService;
+    private final SystemEventService systemEventService;
 
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("오전 h:mm:ss");
+    private static final DateTimeFormatter POINT_FORMATTER = DateTimeFormatter.ofPattern("MM/dd HH:mm:ss");
+    private static final ZoneId KST_ZONE = ZoneId.of("Asia/Seoul");
+    private static final int RECENT_BINLOG_EVENTS = 10;
+    private static final int RECENT_SYSTEM_EVENTS = 20;
     
-    // 시계열 데이터 저장 (최근 30개 데이터 포인트)
-    private static final int MAX_DATA_POINTS = 30;
-    private final List<WriteActivitySnapshot> activeWriteHistory = new ArrayList<>();
-    private final List<WriteActivitySnapshot> standbyWriteHistory = new ArrayList<>();
-    private final List<ReadActivitySnapshot> activeReadHistory = new ArrayList<>();
-    private final List<ReadActivitySnapshot> standbyReadHistory = new ArrayList<>();
-    
+    public DashboardService(MetricCollector metricCollector,
+                            KubernetesStatusService k8sStatusService,
+                            SynchronizationMetricsService synchronizationMetricsService,
+                            BinlogTailService binlogTailService,
+                            SystemEventService systemEventService) {
+        this.metricCollector = metricCollector;
+        this.k8sStatusService = k8sStatusService;
+        this.synchronizationMetricsService = synchronizationMetricsService;
+        this.binlogTailService = binlogTailService;
+        this.systemEventService = systemEventService;
+    }
+
     /**
-     * 대시보드 전체 데이터를 조회합니다.
+     * 대시보드 전체 데이터를 비동기로 조회합니다.
      * Active/Standby DB 상태, 동기화 메트릭, 복제 활동 등 모든 대시보드 데이터를 포함합니다.
-     * 
+     * 메트릭/활동 히스토리(수집기)와 K8s Selector 상태(watcher)는 메모리 상태이고, 블로킹 소스(GTID 조회)는
+     * 가상 스레드에서 동시에 실행되며 소스별 timeout 을 넘기면 기본값으로 대체됩니다.
+     * 반환된 future 는 예외 없이 완료됩니다. (실패 시 기본 응답)
+     *
      * @return 대시보드 전체 데이터
      */
-    public DashboardResponseDto getDashboardData() {
+    public CompletableFuture<DashboardResponseDto> getDashboardDataAsync() {
         try {
-            // 1. DB 메트릭 조회 (동기 방식으로 변환)
-            Map<String, MetricData> metrics = monitoringService.fetchMetrics()
-                    .timeout(Duration.ofSeconds(10))
-                    .block();
-            
+            // 1. DB 메트릭 조회 (수집기가 발행한 최신 스냅샷, exporter 호출 없음)
+            Map<String, MetricData> metrics = metricCollector.getLatestMetrics();
+
             if (metrics == null || metrics.isEmpty()) {
                 log.error("Metrics data is null or empty");
-                return createFallbackResponse();
-            }
-            // 2. K8s 상태 조회 (동기 방식)
-            SelectorStatus selectorStatus = k8sStatusService.fetchStatus();
-            log.info("Selector status: {}", selectorStatus.getCurrentTarget());
-            if (selectorStatus == null) {
-                selectorStatus = SelectorStatus.empty();
+                return CompletableFuture.completedFuture(createFallbackResponse());
             }
 
-            // 3. 동기화율 계산
-            double syncRate = 0.0;
-            SynchronizationMetricsDto synchronizationMetricsDto = synchronizationMetricsService.buildSyncMetrics(
-                    metrics, syncRate);
-
-            return DashboardResponseDto.builder()
-                    .activeDb(buildDatabaseStatusFrom(metrics.get("active"), "Active DB", "Active"))
-                    .standbyDb(buildDatabaseStatusFrom(metrics.get("standby"), "Standby DB", "Standby"))
-                    .syncMetrics(synchronizationMetricsDto)
-                    .selectorStatus(selectorStatus)
-                    .writeActivity(getWriteActivity(metrics))
-                    .readActivity(getReadActivity(metrics))
-                    .recentBinlogEvents(getRecentBinlogEvents())
-                    .systemEvents(getSystemEvents())
-                    .isConnected(true)
-                    .build();
+            // 2. 동기화 메트릭 조회 시작 (GTID 조회는 백그라운드에서 동시 실행)
+            CompletableFuture<SynchronizationMetricsDto> syncMetrics = synchronizationMetricsService.buildSyncMetrics(metrics);
+
+            // 3. K8s 상태 (watcher 가 유지하는 메모리 상태)
+            SelectorStatus selectorStatus = k8sStatusService.getStatus();
+
+            // 4. 메모리 데이터로 만드는 부분은 소스를 기다리는 동안 계산
+            DatabaseStatusDto activeDb = buildDatabaseStatusFrom(metrics.get("active"), "Active DB", "Active");
+            DatabaseStatusDto standbyDb = buildDatabaseStatusFrom(metrics.get("standby"), "Standby DB", "Standby");
+            WriteActivityDto writeActivity = getWriteActivity();
+            ReadActivityDto readActivity = getReadActivity();
+
+            return syncMetrics.thenApply(sync -> DashboardResponseDto.builder()
+                            .activeDb(activeDb)
+                            .standbyDb(standbyDb)
+                            .syncMetrics(sync)
+                            .selectorStatus(selectorStatus)
+                            .writeActivity(writeActivity)
+                            .readActivity(readActivity)
+                            .recentBinlogEvents(getRecentBinlogEvents())
+                            .systemEvents(getSystemEvents())
+                            .isConnected(true)
+                            .build())
+                    .exceptionally(e -> {
+                        log.error("Fatal error in getDashboardData", e);
+                        return createFallbackResponse();
+                    });
 
         } catch (Exception e) {
             log.error("Fatal error in getDashboardData", e);
             // 에러 발생 시 기본값 반환
-            return createFallbackResponse();
+            return CompletableFuture.completedFuture(createFallbackResponse());
         }
     }
 
@@ -105,23 +126,21 @@ public class DashboardService {
                     .build();
         }
 
-        Map<String, Double> metrics = metricData.getMetrics();
-        
         // Uptime 계산 (초 -> "Xd Xh Xm" 형식)
-        Double uptimeSeconds = metrics.getOrDefault("mysql_global_status_uptime", 0.0);
-        String uptime = formatUptime(uptimeSeconds.longValue());
+        double uptimeSeconds = metricData.getOrDefault(Metric.UPTIME, 0.0);
+        String uptime = formatUptime((long) uptimeSeconds);
         
         // Connections
-        Integer connections = metrics.getOrDefault("mysql_global_status_threads_connected", 0.0).intValue();
+        int connections = (int) metricData.getOrDefault(Metric.THREADS_CONNECTED, 0.0);
         
-        // QPS (Queries per second) - 소수점 2자리까지
-        Double queries = metrics.getOrDefault("mysql_global_status_queries", 0.0);
-        Double qps = queries / Math.max(1, uptimeSeconds);
+        // QPS - 수집기가 스크레이프 간 실제 경과 시간으로 계산한 증가율 (1분 EWMA)
+        RateValues queryRate = metricData.getRate(RateCounter.QUERIES);
+        double qps = queryRate.oneMinute();
         
         // Latency 계산 - InnoDB row lock 평균 대기 시간 기반
         String latency;
-        Double innodbRowLockTime = metrics.getOrDefault("mysql_global_status_innodb_row_lock_time", 0.0);
-        Double innodbRowLockWaits = metrics.getOrDefault("mysql_global_status_innodb_row_lock_waits", 0.0);
+        double innodbRowLockTime = metricData.getOrDefault(Metric.INNODB_ROW_LOCK_TIME, 0.0);
+        double innodbRowLockWaits = metricData.getOrDefault(Metric.INNODB_ROW_LOCK_WAITS, 0.0);
         
         if (innodbRowLockWaits > 0 && innodbRowLockTime > 0) {
             // Row lock 평균 대기 시간 (밀리초로 변환)
@@ -145,6 +164,12 @@ public class DashboardService {
                 .uptime(uptime)
                 .connections(connections)
                 .qps(qps)
+                .qps5m(queryRate.fiveMinutes())
+                .qps15m(queryRate.fifteenMinutes())
+                .readsPerSecond(metricData.getRate(RateCounter.READS).oneMinute())
+                .writesPerSecond(metricData.getRate(RateCounter.WRITES).oneMinute())
+                .bytesSentPerSecond(metricData.getRate(RateCounter.BYTES_SENT).oneMinute())
+                .bytesReceivedPerSecond(metricData.getRate(RateCounter.BYTES_RECEIVED).oneMinute())
                 .latency(latency)
                 .lastHeartbeat(getCurrentTimestamp())
                 .isHealthy(true)
@@ -153,295 +178,101 @@ public class DashboardService {
 
     /**
      * 읽기 활동 타임라인 조회 (SELECT 쿼리 기반)
+     * 히스토리는 수집기가 스크레이프마다 기록하며, 여기서는 잠금 없는 스냅샷만 읽습니다.
      */
-    private ReadActivityDto getReadActivity(Map<String, MetricData> metrics) {
+    private ReadActivityDto getReadActivity() {
         try {
-            MetricData activeData = metrics.get("active");
-            MetricData standbyData = metrics.get("standby");
-            
-            if (activeData == null || standbyData == null) {
-                log.warn("Active or Standby data is null, returning empty read activity");
-                return createDefaultReadActivity();
-            }
-            
-            // 현재 SELECT 쿼리 횟수 계산
-            int activeReads = calculateReadQueries(activeData);
-            int standbyReads = calculateReadQueries(standbyData);
-            
-            // 현재 스냅샷 추가
-            String currentTime = getCurrentTimestamp();
-            addReadSnapshot(activeReadHistory, new ReadActivitySnapshot(currentTime, activeReads));
-            addReadSnapshot(standbyReadHistory, new ReadActivitySnapshot(currentTime, standbyReads));
-            
-            // DataPoint 리스트로 변환
-            List<ReadActivityDto.DataPoint> activePoints = convertToReadDataPoints(activeReadHistory);
-            List<ReadActivityDto.DataPoint> standbyPoints = convertToReadDataPoints(standbyReadHistory);
-            
-            log.debug("Read activity data - Active: {} reads, Standby: {} reads (history size: {})", 
-                    activeReads, standbyReads, activeReadHistory.size());
-            
+            ActivityRing.Snapshot activeHistory = metricCollector.getActiveHistory().snapshot();
+            ActivityRing.Snapshot standbyHistory = metricCollector.getStandbyHistory().snapshot();
+
+            log.debug("Read activity history size - Active: {}, Standby: {}",
+                    activeHistory.size(), standbyHistory.size());
+
             return ReadActivityDto.builder()
-                    .activeDbReads(activePoints)
-                    .standbyDbReads(standbyPoints)
+                    .activeDbReads(convertToReadDataPoints(activeHistory))
+                    .standbyDbReads(convertToReadDataPoints(standbyHistory))
                     .build();
-            
+
         } catch (Exception e) {
             log.error("Error creating read activity", e);
             return createDefaultReadActivity();
         }
     }
-    
-    /**
-     * 읽기 쿼리 총 횟수 계산 (SELECT)
-     */
-    private int calculateReadQueries(MetricData metricData) {
-        Map<String, Double> metrics = metricData.getMetrics();
-        
-        double selects = metrics.getOrDefault("mysql_global_status_commands_total_select", 0.0);
-        
-        log.debug("Read queries - Selects: {}", (int) selects);
-        
-        return (int) selects;
-    }
-    
-    /**
-     * 히스토리에 READ 스냅샷 추가 (최대 30개 유지)
-     */
-    private void addReadSnapshot(List<ReadActivitySnapshot> history, ReadActivitySnapshot snapshot) {
-        history.add(snapshot);
-        if (history.size() > MAX_DATA_POINTS) {
-            history.remove(0); // 가장 오래된 데이터 제거
-        }
-    }
-    
+
     /**
-     * ReadActivitySnapshot을 DataPoint로 변환
+     * 누적 SELECT 수 히스토리를 초당 증가율 DataPoint 로 변환 (첫 번째는 0)
      */
-    private List<ReadActivityDto.DataPoint> convertToReadDataPoints(List<ReadActivitySnapshot> history) {
-        List<ReadActivityDto.DataPoint> dataPoints = new ArrayList<>();
-        
-        // 변화율 계산 (이전 값과의 차이)
-        for (int i = 0; i < history.size(); i++) {
-            ReadActivitySnapshot current = history.get(i);
-            int rate;
-            
-            if (i == 0) {
-                // 첫 번째 데이터는 0으로 시작
-                rate = 0;
-            } else {
-                ReadActivitySnapshot previous = history.get(i - 1);
-                // 이전 값과의 차이 (초당 읽기 횟수)
-                rate = Math.max(0, current.totalReads - previous.totalReads);
-            }
-            
+    private List<ReadActivityDto.DataPoint> convertToReadDataPoints(ActivityRing.Snapshot history) {
+        long[] timestamps = history.timestamps();
+        long[] reads = history.reads();
+        List<ReadActivityDto.DataPoint> dataPoints = new ArrayList<>(timestamps.length);
+        for (int i = 0; i < timestamps.length; i++) {
             dataPoints.add(ReadActivityDto.DataPoint.builder()
-                    .timestamp(current.timestamp)
-                    .count(rate)
+                    .timestamp(formatTimestamp(timestamps[i]))
+                    .count(i == 0 ? 0.0 : ratePerSecond(timestamps, reads, i))
                     .build());
         }
-        
         return dataPoints;
     }
-    
-    /**
-     * 읽기 활동 스냅샷 클래스
-     */
-    private static class ReadActivitySnapshot {
-        final String timestamp;
-        final int totalReads;
-        
-        ReadActivitySnapshot(String timestamp, int totalReads) {
-            this.timestamp = timestamp;
-            this.totalReads = totalReads;
-        }
-    }
 
     /**
-     * 복제 활동 타임라인 조회 (실제 쓰기 쿼리 기반)
+     * 복제 활동 타임라인 조회 (INSERT + UPDATE + DELETE 기반)
      */
-    private WriteActivityDto getWriteActivity(Map<String, MetricData> metrics) {
+    private WriteActivityDto getWriteActivity() {
         try {
-            MetricData activeData = metrics.get("active");
-            MetricData standbyData = metrics.get("standby");
-            
-            if (activeData == null || standbyData == null) {
-                log.warn("Active or Standby data is null, returning empty activity");
-                return createDefaultActivity();
-            }
-            
-            // 현재 쓰기 쿼리 총합 계산 (INSERT + UPDATE + DELETE)
-            int activeWrites = calculateWriteQueries(activeData);
-            int standbyWrites = calculateWriteQueries(standbyData);
-            
-            // 현재 스냅샷 추가
-            String currentTime = getCurrentTimestamp();
-            addSnapshot(activeWriteHistory, new WriteActivitySnapshot(currentTime, activeWrites));
-            addSnapshot(standbyWriteHistory, new WriteActivitySnapshot(currentTime, standbyWrites));
-            
-            // DataPoint 리스트로 변환
-            List<WriteActivityDto.DataPoint> activePoints = convertToDataPoints(activeWriteHistory);
-            List<WriteActivityDto.DataPoint> standbyPoints = convertToDataPoints(standbyWriteHistory);
-            
-            log.debug("Activity data - Active: {} writes, Standby: {} writes (history size: {})", 
-                    activeWrites, standbyWrites, activeWriteHistory.size());
-            
+            ActivityRing.Snapshot activeHistory = metricCollector.getActiveHistory().snapshot();
+            ActivityRing.Snapshot standbyHistory = metricCollector.getStandbyHistory().snapshot();
+
+            log.debug("Write activity history size - Active: {}, Standby: {}",
+                    activeHistory.size(), standbyHistory.size());
+
             return WriteActivityDto.builder()
-                    .activeDbWrites(activePoints)
-                    .standbyDbWrites(standbyPoints)
+                    .activeDbWrites(convertToWriteDataPoints(activeHistory))
+                    .standbyDbWrites(convertToWriteDataPoints(standbyHistory))
                     .build();
-            
+
         } catch (Exception e) {
             log.error("Error creating replication activity", e);
             return createDefaultActivity();
         }
     }
-    
-    /**
-     * 쓰기 쿼리 총 횟수 계산 (INSERT + UPDATE + DELETE)
-     */
-    private int calculateWriteQueries(MetricData metricData) {
-        Map<String, Double> metrics = metricData.getMetrics();
-        
-        // 메트릭 키 확인을 위한 로그
-        log.debug("Available metric keys: {}", metrics.keySet());
-        
-        double inserts = metrics.getOrDefault("mysql_global_status_commands_total_insert", 0.0);
-        double updates = metrics.getOrDefault("mysql_global_status_commands_total_update", 0.0);
-        double deletes = metrics.getOrDefault("mysql_global_status_commands_total_delete", 0.0);
 
-        return (int) (inserts + updates + deletes);
-    }
-    
     /**
-     * 히스토리에 스냅샷 추가 (최대 30개 유지)
+     * 누적 쓰기 수 히스토리를 초당 증가율 DataPoint 로 변환 (첫 번째는 0)
      */
-    private void addSnapshot(List<WriteActivitySnapshot> history, WriteActivitySnapshot snapshot) {
-        history.add(snapshot);
-        if (history.size() > MAX_DATA_POINTS) {
-            history.remove(0); // 가장 오래된 데이터 제거
-        }
-    }
-    
-    /**
-     * WriteActivitySnapshot을 DataPoint로 변환
-     */
-    private List<WriteActivityDto.DataPoint> convertToDataPoints(List<WriteActivitySnapshot> history) {
-        List<WriteActivityDto.DataPoint> dataPoints = new ArrayList<>();
-        
-        // 변화율 계산 (이전 값과의 차이)
-        for (int i = 0; i < history.size(); i++) {
-            WriteActivitySnapshot current = history.get(i);
-            int rate;
-            
-            if (i == 0) {
-                // 첫 번째 데이터는 0으로 시작
-                rate = 0;
-            } else {
-                WriteActivitySnapshot previous = history.get(i - 1);
-                // 이전 값과의 차이 (초당 쓰기 횟수)
-                rate = Math.max(0, current.totalWrites - previous.totalWrites);
-            }
-            
+    private List<WriteActivityDto.DataPoint> convertToWriteDataPoints(ActivityRing.Snapshot history) {
+        long[] timestamps = history.timestamps();
+        long[] writes = history.writes();
+        List<WriteActivityDto.DataPoint> dataPoints = new ArrayList<>(timestamps.length);
+        for (int i = 0; i < timestamps.length; i++) {
             dataPoints.add(WriteActivityDto.DataPoint.builder()
-                    .timestamp(current.timestamp)
-                    .count(rate)
+                    .timestamp(formatTimestamp(timestamps[i]))
+                    .count(i == 0 ? 0.0 : ratePerSecond(timestamps, writes, i))
                     .build());
         }
-        
         return dataPoints;
     }
-    
+
     /**
-     * 쓰기 활동 스냅샷 클래스
+     * i-1 → i 구간의 초당 증가율 (카운터가 초기화된 구간은 현재 값을 증가량으로 사용)
      */
-    private static class WriteActivitySnapshot {
-        final String timestamp;
-        final int totalWrites;
-        
-        WriteActivitySnapshot(String timestamp, int totalWrites) {
-            this.timestamp = timestamp;
-            this.totalWrites = totalWrites;
-        }
+    private double ratePerSecond(long[] timestamps, long[] counters, int i) {
+        double rate = CounterRate.perSecond(timestamps[i - 1], counters[i - 1], timestamps[i], counters[i]);
+        return Double.isNaN(rate) ? 0.0 : rate;
     }
 
     /**
-     * 최근 Binlog 이벤트 조회
-     * TODO: 실제 binlog 파싱 구현
+     * 최근 Binlog 이벤트 조회 (tailer 가 채운 메모리 링, 최신순)
      */
     private List<BinlogEventDto> getRecentBinlogEvents() {
-        List<BinlogEventDto> events = new ArrayList<>();
-        
-        events.add(BinlogEventDto.builder()
-                .database("active")
-                .eventType("UPDATE")
-                .binlogPosition("mysql-bin.000123:45678850")
-                .query("UPDATE orders SET status = \"completed\" WHERE id = 5432")
-                .timestamp(getCurrentTimestamp())
-                .build());
-        
-        events.add(BinlogEventDto.builder()
-                .database("standby")
-                .eventType("UPDATE")
-                .binlogPosition("mysql-bin.000123:45678850")
-                .query("UPDATE orders SET status = \"completed\" WHERE id = 5432")
-                .timestamp(getCurrentTimestamp())
-                .build());
-        
-        events.add(BinlogEventDto.builder()
-                .database("active")
-                .eventType("DELETE")
-                .binlogPosition("mysql-bin.000123:45678800")
-                .query("DELETE FROM sessions WHERE expired_at < NOW()")
-                .timestamp(getCurrentTimestamp())
-                .build());
-        
-        return events;
+        return binlogTailService.getRecentEvents(RECENT_BINLOG_EVENTS);
     }
 
     /**
-     * 시스템 이벤트 조회
-     * TODO: 실제 이벤트 로그 시스템 연동
+     * 최근 시스템 이벤트 조회 (이벤트 저널의 메모리 캐시, 최신순)
      */
     private List<SystemEventDto> getSystemEvents() {
-        List<SystemEventDto> events = new ArrayList<>();
-        
-        events.add(SystemEventDto.builder()
-                .eventType("sync")
-                .severity("success")
-                .title("Synchronization completed successfully")
-                .description("Binlog position: mysql-bin.000123:45678901")
-                .timestamp("2025. 10. 18. 오전 1:22:09")
-                .details(null)
-                .build());
-        
-        events.add(SystemEventDto.builder()
-                .eventType("connection")
-                .severity("info")
-                .title("Heartbeat received from Standby DB")
-                .description("")
-                .timestamp("2025. 10. 18. 오전 1:21:41")
-                .details(null)
-                .build());
-        
-        events.add(SystemEventDto.builder()
-                .eventType("performance")
-                .severity("warning")
-                .title("Replication lag increased to 2.5 seconds")
-                .description("Lag returned to normal after 15 seconds")
-                .timestamp("2025. 10. 18. 오전 1:21:11")
-                .details(null)
-                .build());
-        
-        events.add(SystemEventDto.builder()
-                .eventType("recovery")
-                .severity("success")
-                .title("Active DB recovered and re-synchronized")
-                .description("Transferred 1.2 GB of data from Standby DB")
-                .timestamp("2025. 10. 18. 오전 1:20:11")
-                .details(null)
-                .build());
-        
-        return events;
+        return systemEventService.getRecentEvents(RECENT_SYSTEM_EVENTS);
     }
 
     /**
@@ -490,7 +321,7 @@ public class DashboardService {
         for (int i = 0; i < 30; i++) {
             emptyList.add(WriteActivityDto.DataPoint.builder()
                     .timestamp(getCurrentTimestamp())
-                    .count(0)
+                    .count(0.0)
                     .build());
         }
         
@@ -505,7 +336,7 @@ public class DashboardService {
         for (int i = 0; i < 30; i++) {
             emptyList.add(ReadActivityDto.DataPoint.builder()
                     .timestamp(getCurrentTimestamp())
-                    .count(0)
+                    .count(0.0)
                     .build());
         }
         
@@ -541,8 +372,10 @@ public class DashboardService {
      */
 
     private String getCurrentTimestamp() {
-        DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("MM/dd HH:mm:ss");
-        ZoneId KST_ZONE = ZoneId.of("Asia/Seoul");
-        return LocalDateTime.now(KST_ZONE).format(TIME_FORMATTER);
+        return LocalDateTime.now(KST_ZONE).format(POINT_FORMATTER);
+    }
+
+    private String formatTimestamp(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), KST_ZONE).format(POINT_FORMATTER);
     }
 }
@@ -0,0 +1,247 @@
+package org.ravo.ravomanager.manager.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.ravo.ravomanager.manager.dto.DashboardDeltaDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 버전이 붙은 대시보드 응답 캐시 (GET /api/dashboard 폴링용)
+ * 대시보드 데이터는 {@link MetricCollector} 가 새 스냅샷을 발행한 뒤 첫 요청에서 한 번만 만들고 직렬화해 두며,
+ * 그 사이의 요청은 같은 바이트와 ETag 를 그대로 받습니다. (조회하는 화면이 없으면 아무것도 만들지 않음)
+ * 최근 버전 상태를 보관해 ?since=&lt;version&gt; 요청에는 바뀐 하위 객체와 새 활동 데이터 포인트만 보내고,
+ * 같은 since 에 대한 증분 응답은 버전마다 한 번만 만듭니다.
+ * 생성은 {@link DashboardService#getDashboardDataAsync()} 로 비동기 진행되며, 같은 발행 회차에 대한 동시 요청은 진행 중인 생성 1개를 공유합니다.
+ * SSE 푸시({@link DashboardStreamService})도 같은 상태를 받아 쓰므로 발행 회차당 대시보드 데이터는 한 번만 만들어집니다.
+ */
+@Slf4j
+@Service
+public class DashboardSnapshotService {
+
+    private static final int RETAINED_VERSIONS = 64;
+    private static final long UNKNOWN_BASE = -1;
+    private static final String TIMESTAMP_FIELD = "timestamp";
+
+    /** 새 점만 보내는 활동 시계열 (상위 필드, 배열 필드) */
+    private static final String[][] SERIES = {
+            {"writeActivity", "activeDbWrites"},
+            {"writeActivity", "standbyDbWrites"},
+            {"readActivity", "activeDbReads"},
+            {"readActivity", "standbyDbReads"},
+    };
+
+    /**
+     * 직렬화된 응답 본문과 강한 ETag
+     */
+    public record VersionedBody(long version, String etag, byte[] body) {
+    }
+
+    /**
+     * @param sequence 이 상태를 만들 때의 수집기 발행 횟수
+     */
+    private record Version(long version, long sequence, ObjectNode state, VersionedBody full) {
+    }
+
+    private final DashboardService dashboardService;
+    private final MetricCollector metricCollector;
+    private final ObjectMapper objectMapper;
+    private final int historyCapacity;
+
+    private final Object lock = new Object();
+    private final ArrayDeque<Version> versions = new ArrayDeque<>();
+    private final Map<Long, VersionedBody> deltas = new ConcurrentHashMap<>();
+    private volatile Version latest;
+    // lock 으로 보호
+    private CompletableFuture<Version> building;
+    private long buildingSequence = -1;
+    // 재시작 후 이전 프로세스의 버전/ETag 와 겹치지 않도록 기동 시각에서 시작 (발행 간격이 1ms 보다 길므로 항상 증가)
+    private long nextVersion = System.currentTimeMillis();
+
+    public DashboardSnapshotService(DashboardService dashboardService,
+                                    MetricCollector metricCollector,
+                                    ObjectMapper objectMapper,
+                                    @Value("${dashboard.history-capacity:30}") int historyCapacity) {
+        this.dashboardService = dashboardService;
+        this.metricCollector = metricCollector;
+        this.objectMapper = objectMapper;
+        this.historyCapacity = historyCapacity;
+    }
+
+    /**
+     * 최신 전체 대시보드 응답
+     */
+    public CompletableFuture<VersionedBody> current() {
+        return refresh().thenApply(Version::full);
+    }
+
+    /**
+     * 최신 대시보드 상태 트리 ({@link DashboardStreamService} 용, 캐시와 공유하므로 수정하지 않음)
+     */
+    public CompletableFuture<ObjectNode> currentState() {
+        return refresh().thenApply(Version::state);
+    }
+
+    /**
+     * since 버전 이후의 증분 응답 (since 가 보관 범위 밖이면 since = -1 인 전체 데이터, 본문/ETag 는 현재 버전으로만 정해짐)
+     */
+    public CompletableFuture<VersionedBody> delta(long since) {
+        return refresh().thenApply(current -> {
+            Version base = find(since);
+            long key = base == null ? UNKNOWN_BASE : base.version();
+            VersionedBody cached = deltas.get(key);
+            if (cached != null && cached.version() == current.version()) {
+                return cached;
+            }
+            VersionedBody delta = buildDelta(since, base, current);
+            deltas.put(key, delta);
+            return delta;
+        });
+    }
+
+    private CompletableFuture<Version> refresh() {
+        long sequence = metricCollector.getPublishSequence();
+        Version current = latest;
+        if (current != null && current.sequence() >= sequence) {
+            return CompletableFuture.completedFuture(current);
+        }
+        synchronized (lock) {
+            if (latest != null && latest.sequence() >= sequence) {
+                return CompletableFuture.completedFuture(latest);
+            }
+            if (building != null && buildingSequence == sequence) {
+                return building;
+            }
+            CompletableFuture<Version> build = dashboardService.getDashboardDataAsync()
+                    .thenApply(data -> install(sequence, objectMapper.valueToTree(data)));
+            building = build;
+            buildingSequence = sequence;
+            build.whenComplete((version, error) -> {
+                synchronized (lock) {
+                    if (building == build) {
+                        building = null;
+                    }
+                }
+            });
+            return build;
+        }
+    }
+
+    private Version install(long sequence, ObjectNode state) {
+        synchronized (lock) {
+            if (latest != null && latest.sequence() >= sequence) {
+                // 더 최근 회차로 만든 상태가 먼저 끝난 경우
+                return latest;
+            }
+            if (latest != null && latest.state().equals(state)) {
+                // 내용이 같으면 버전/ETag 유지
+                latest = new Version(latest.version(), sequence, latest.state(), latest.full());
+                return latest;
+            }
+            long version = nextVersion++;
+            String etag = "\"" + version + "\"";
+            Version built = new Version(version, sequence, state, new VersionedBody(version, etag, serialize(state)));
+            versions.addLast(built);
+            if (versions.size() > RETAINED_VERSIONS) {
+                versions.removeFirst();
+            }
+            latest = built;
+            deltas.clear();
+            log.debug("Dashboard snapshot version {} built", version);
+            return built;
+        }
+    }
+
+    private Version find(long version) {
+        synchronized (lock) {
+            Iterator<Version> iterator = versions.descendingIterator();
+            while (iterator.hasNext()) {
+                Version candidate = iterator.next();
+                if (candidate.version() == version) {
+                    return candidate;
+                }
+            }
+            return null;
+        }
+    }
+
+    private VersionedBody buildDelta(long since, Version base, Version current) {
+        DashboardDeltaDto.DashboardDeltaDtoBuilder delta = DashboardDeltaDto.builder()
+                .version(current.version())
+                .historyCapacity(historyCapacity);
+        if (base == null) {
+            // 알 수 없는 since 는 모두 같은 캐시 항목(UNKNOWN_BASE)을 쓰므로 본문과 ETag 에 요청한 since 를 넣지 않음
+            delta.since(UNKNOWN_BASE).full(true).changes(current.state()).appendedPoints(Map.of());
+            return new VersionedBody(current.version(), "\"full-" + current.version() + "\"", serialize(delta.build()));
+        }
+        ObjectNode before = base.state().deepCopy();
+        ObjectNode after = current.state().deepCopy();
+        Map<String, List<JsonNode>> appended = new LinkedHashMap<>();
+        for (String[] path : SERIES) {
+            List<JsonNode> points = detachAppended(before, after, path);
+            if (points != null && !points.isEmpty()) {
+                appended.put(path[0] + "." + path[1], points);
+            }
+        }
+        delta.since(since).full(false).changes(JsonMergePatch.diff(before, after)).appendedPoints(appended);
+        String etag = "\"" + since + "-" + current.version() + "\"";
+        return new VersionedBody(current.version(), etag, serialize(delta.build()));
+    }
+
+    /**
+     * 이전 배열의 마지막 점을 새 배열에서 찾아 그 뒤의 점들을 반환하고, 두 상태에서 배열을 떼어냅니다.
+     * 이어지지 않으면 (예: 대체 응답 → 실제 데이터) null 을 반환하고 배열은 patch 에서 통째로 교체되도록 둡니다.
+     */
+    private List<JsonNode> detachAppended(ObjectNode before, ObjectNode after, String[] path) {
+        JsonNode beforeParent = before.get(path[0]);
+        JsonNode afterParent = after.get(path[0]);
+        if (!(beforeParent instanceof ObjectNode oldParent) || !(afterParent instanceof ObjectNode newParent)
+                || !(oldParent.get(path[1]) instanceof ArrayNode oldPoints)
+                || !(newParent.get(path[1]) instanceof ArrayNode newPoints)) {
+            return null;
+        }
+        int start = 0;
+        if (!oldPoints.isEmpty()) {
+            JsonNode lastTimestamp = oldPoints.get(oldPoints.size() - 1).get(TIMESTAMP_FIELD);
+            start = -1;
+            for (int i = newPoints.size() - 1; i >= 0; i--) {
+                if (Objects.equals(newPoints.get(i).get(TIMESTAMP_FIELD), lastTimestamp)) {
+                    start = i + 1;
+                    break;
+                }
+            }
+            if (start < 0) {
+                return null;
+            }
+        }
+        List<JsonNode> points = new ArrayList<>(newPoints.size() - start);
+        for (int i = start; i < newPoints.size(); i++) {
+            points.add(newPoints.get(i));
+        }
+        oldParent.remove(path[1]);
+        newParent.remove(path[1]);
+        return points;
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize dashboard response", e);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package org.ravo.ravomanager.manager.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 대시보드 SSE 푸시 채널
+ * {@link MetricCollector} 가 스냅샷을 발행할 때마다 대시보드 상태({"dashboard": ..., "metrics": ...})를 한 번만 만들어
+ * 직전 상태와의 JSON Merge Patch 를 한 번 직렬화한 뒤 모든 구독자에게 같은 문자열을 보냅니다.
+ * 새 구독자는 전체 상태(snapshot 이벤트)를 먼저 받고 이후에는 바뀐 필드만 담긴 patch 이벤트를 받습니다.
+ * 대시보드 상태는 {@link DashboardSnapshotService} 의 공유 스냅샷을 비동기로 받아 쓰므로 broadcaster 스레드가 생성을 기다리지 않고,
+ * 구독 등록/상태 비교/전송은 모두 broadcaster 스레드 1개에서 처리하므로 이벤트 순서가 구독자마다 같습니다.
+ * 연속 발행은 하나로 합쳐지며, 구독자가 없으면 상태를 만들지 않습니다.
+ * heartbeat 는 별도 스레드에서 보내 상태 전송이 늦어져도 밀리지 않습니다.
+ */
+@Slf4j
+@Service
+public class DashboardStreamService {
+
+    private static final String SNAPSHOT_EVENT = "snapshot";
+    private static final String PATCH_EVENT = "patch";
+
+    private final DashboardSnapshotService dashboardSnapshotService;
+    private final MetricCollector metricCollector;
+    private final ObjectMapper objectMapper;
+    private final long timeoutMillis;
+    private final long heartbeatMillis;
+    private final List<SseEmitter> subscribers = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean broadcastPending = new AtomicBoolean();
+    private final ExecutorService broadcaster = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "dashboard-stream");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "dashboard-stream-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // broadcaster 스레드 전용
+    private ObjectNode lastState;
+    private long version;
+    private long requested;
+    private long applied;
+
+    public DashboardStreamService(DashboardSnapshotService dashboardSnapshotService,
+                                  MetricCollector metricCollector,
+                                  ObjectMapper objectMapper,
+                                  @Value("${dashboard.stream-timeout:PT30M}") Duration timeout,
+                                  @Value("${dashboard.stream-heartbeat:PT15S}") Duration heartbeat) {
+        this.dashboardSnapshotService = dashboardSnapshotService;
+        this.metricCollector = metricCollector;
+        this.objectMapper = objectMapper;
+        this.timeoutMillis = timeout.toMillis();
+        this.heartbeatMillis = Math.max(1000, heartbeat.toMillis());
+    }
+
+    @PostConstruct
+    public void start() {
+        metricCollector.addPublishListener(this::requestBroadcast);
+        // 수집이 멈춰도 프록시가 유휴 연결을 끊지 않도록 주석 이벤트 전송
+        heartbeat.scheduleWithFixedDelay(this::sendHeartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        heartbeat.shutdownNow();
+        broadcaster.shutdownNow();
+        for (SseEmitter emitter : subscribers) {
+            emitter.complete();
+        }
+        subscribers.clear();
+    }
+
+    /**
+     * 새 구독을 만듭니다. 연결 직후 전체 상태를 한 번 보냅니다.
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(() -> subscribers.remove(emitter));
+        emitter.onError(error -> subscribers.remove(emitter));
+        broadcaster.execute(() -> register(emitter));
+        log.debug("Dashboard stream subscribed");
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    private void requestBroadcast() {
+        if (broadcastPending.compareAndSet(false, true)) {
+            broadcaster.execute(this::broadcast);
+        }
+    }
+
+    private void register(SseEmitter emitter) {
+        if (lastState != null) {
+            sendSnapshot(emitter);
+            return;
+        }
+        buildState().whenCompleteAsync((state, error) -> {
+            if (error != null) {
+                log.debug("Dashboard stream snapshot failed: {}", error.getMessage());
+                emitter.completeWithError(error);
+                return;
+            }
+            if (lastState == null) {
+                lastState = state;
+                version++;
+            }
+            sendSnapshot(emitter);
+        }, broadcaster);
+    }
+
+    private void sendSnapshot(SseEmitter emitter) {
+        try {
+            String payload = objectMapper.writeValueAsString(lastState);
+            emitter.send(SseEmitter.event().id(Long.toString(version)).name(SNAPSHOT_EVENT).data(payload));
+            subscribers.add(emitter);
+        } catch (Exception e) {
+            log.debug("Dashboard stream snapshot failed: {}", e.getMessage());
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void broadcast() {
+        broadcastPending.set(false);
+        if (subscribers.isEmpty()) {
+            // 다음 구독자는 어차피 전체 상태를 새로 받음
+            lastState = null;
+            return;
+        }
+        long request = ++requested;
+        buildState().whenCompleteAsync((state, error) -> {
+            if (error != null) {
+                log.warn("Dashboard stream broadcast failed: {}", error.getMessage());
+                return;
+            }
+            // 나중에 요청한 상태가 먼저 반영됐으면 버림
+            if (request < applied || lastState == null) {
+                return;
+            }
+            applied = request;
+            try {
+                ObjectNode patch = JsonMergePatch.diff(lastState, state);
+                lastState = state;
+                if (patch.isEmpty()) {
+                    return;
+                }
+                version++;
+                send(PATCH_EVENT, objectMapper.writeValueAsString(patch));
+            } catch (Exception e) {
+                log.warn("Dashboard stream broadcast failed: {}", e.getMessage());
+            }
+        }, broadcaster);
+    }
+
+    /**
+     * 공유 대시보드 스냅샷이 준비되면 최신 메트릭과 함께 상태를 만듭니다. (호출 스레드를 막지 않음)
+     */
+    private CompletableFuture<ObjectNode> buildState() {
+        return dashboardSnapshotService.currentState().thenApply(dashboard -> {
+            ObjectNode state = objectMapper.createObjectNode();
+            state.set("dashboard", dashboard);
+            state.set("metrics", objectMapper.valueToTree(metricCollector.getLatestMetrics()));
+            return state;
+        });
+    }
+
+    private void send(String eventName, String payload) {
+        String id = Long.toString(version);
+        for (SseEmitter emitter : subscribers) {
+            try {
+                emitter.send(SseEmitter.event().id(id).name(eventName).data(payload));
+            } catch (Exception e) {
+                // 끊긴 연결은 제거하고 나머지 구독자에게 계속 전송
+                subscribers.remove(emitter);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+
+    private void sendHeartbeat() {
+        for (SseEmitter emitter : subscribers) {
+            try {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (Exception e) {
+                subscribers.remove(emitter);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+}
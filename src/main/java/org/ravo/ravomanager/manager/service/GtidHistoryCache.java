@@ -0,0 +1,156 @@
+package org.ravo.ravomanager.manager.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.ravo.ravomanager.manager.gtid.GtidHistoryIndex;
+import org.ravo.ravomanager.manager.gtid.GtidSet;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * batchDB gtid_history 최근 기록 캐시
+ * 마지막으로 읽은 created_at 부터 기록을 조회해(WHERE created_at >= :last) 시간순 색인에 덧붙이며,
+ * dashboard.gtid-history-retention 보다 오래된 기록은 버립니다. 새 기록만 파싱하므로 조회 비용은 새 기록 수에 비례합니다.
+ * 같은 created_at 에 여러 기록이 있을 수 있어 마지막 시각도 다시 읽고, 그 시각에 이미 읽은 gtid_set 은 건너뜁니다.
+ * (created_at > :last 로 읽으면 마지막 조회 직후 같은 시각으로 들어온 기록을 놓침)
+ * created_at 은 시간대 없는 DATETIME 이므로 dashboard.gtid-history-time-zone(기본 UTC) 기준 시각으로 해석하고,
+ * 소수 초(DATETIME(6))가 있으면 마이크로초까지 사용합니다.
+ */
+@Slf4j
+@Service
+public class GtidHistoryCache {
+
+    private static final String INCREMENTAL_QUERY = """
+            SELECT gtid_set, created_at
+            FROM gtid_history
+            WHERE created_at >= ?
+            ORDER BY created_at DESC
+            LIMIT ?
+            """;
+
+    private static final String LATEST_QUERY = """
+            SELECT gtid_set, created_at
+            FROM gtid_history
+            ORDER BY created_at DESC
+            LIMIT 1
+            """;
+
+    private final JdbcTemplate batchJdbcTemplate;
+    private final Duration retention;
+    private final int maxEntries;
+    private final ZoneId zone;
+
+    // refresh 는 동시에 1개만 (대시보드 빌드가 겹치면 뒤 호출은 앞 호출 결과를 이어받음)
+    // 가상 스레드에서 JDBC 대기 중 캐리어 스레드를 붙잡지 않도록 synchronized 대신 ReentrantLock 사용
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile GtidHistoryIndex index = GtidHistoryIndex.EMPTY;
+    private LocalDateTime lastCreatedAt;
+    // lastCreatedAt 시각에 이미 읽은 gtid_set (다음 조회에서 같은 시각 기록 중복 제거)
+    private Set<String> readAtLast = Set.of();
+
+    public GtidHistoryCache(@Qualifier("batchJdbcTemplate") JdbcTemplate batchJdbcTemplate,
+                            @Value("${dashboard.gtid-history-retention:PT10M}") Duration retention,
+                            @Value("${dashboard.gtid-history-max-entries:4096}") int maxEntries,
+                            @Value("${dashboard.gtid-timeout:PT2S}") Duration queryTimeout,
+                            @Value("${dashboard.gtid-history-time-zone:UTC}") ZoneId zone) {
+        // 대시보드 소스 제한 시간이 지나면 서버에서도 조회를 취소해 batch 풀 커넥션을 돌려받음
+        this.batchJdbcTemplate = QueryTimeouts.withQueryTimeout(batchJdbcTemplate, queryTimeout);
+        this.retention = retention;
+        this.maxEntries = maxEntries;
+        this.zone = zone;
+    }
+
+    /**
+     * 마지막 조회 이후 새 기록을 읽어 색인 갱신
+     * 조회에 실패하면 기존 색인을 그대로 반환합니다.
+     */
+    public GtidHistoryIndex refresh() {
+        refreshLock.lock();
+        try {
+            LocalDateTime now = LocalDateTime.now(zone);
+            // 첫 조회는 보관 기간만큼만
+            LocalDateTime since = lastCreatedAt != null ? lastCreatedAt : now.minus(retention);
+            List<GtidHistoryIndex.Entry> rows = new ArrayList<>(
+                    batchJdbcTemplate.query(INCREMENTAL_QUERY, this::mapRow, since, maxEntries));
+            if (rows.isEmpty() && index.isEmpty()) {
+                // 보관 기간 안에 기록이 없으면 (배치 중지 등) 마지막 기록 1건이라도 유지
+                rows.addAll(batchJdbcTemplate.query(LATEST_QUERY, this::mapRow));
+            }
+            if (rows.isEmpty()) {
+                return index;
+            }
+            // 최신순으로 읽었으므로 시간순으로 뒤집음 (새 기록이 maxEntries 보다 많으면 최근 것만)
+            Collections.reverse(rows);
+            long previousMicros = lastCreatedAt != null ? toMicros(lastCreatedAt) : Long.MIN_VALUE;
+            long lastMicros = rows.get(rows.size() - 1).recordedAtMicros();
+            Set<String> readAt = new HashSet<>(lastMicros == previousMicros ? readAtLast : Set.of());
+            for (GtidHistoryIndex.Entry row : rows) {
+                if (row.recordedAtMicros() == lastMicros) {
+                    readAt.add(row.text());
+                }
+            }
+            Set<String> previouslyRead = readAtLast;
+            rows.removeIf(row -> row.set() == null
+                    || row.recordedAtMicros() == previousMicros && previouslyRead.contains(row.text()));
+            lastCreatedAt = toLocal(lastMicros);
+            readAtLast = readAt;
+            index = index.append(rows, toMicros(now.minus(retention)), maxEntries);
+        } catch (DataAccessException e) {
+            log.debug("Failed to refresh gtid_history cache: {}", e.getMessage());
+        } finally {
+            refreshLock.unlock();
+        }
+        return index;
+    }
+
+    /**
+     * 현재 색인 (조회 없음)
+     */
+    public GtidHistoryIndex current() {
+        return index;
+    }
+
+    /**
+     * 파싱할 수 없는 gtid_set 은 set 을 null 로 두고, 읽은 위치(created_at)만 갱신한 뒤 버립니다.
+     */
+    private GtidHistoryIndex.Entry mapRow(ResultSet rs, int rowNum) throws SQLException {
+        LocalDateTime createdAt = rs.getObject("created_at", LocalDateTime.class);
+        String text = rs.getString("gtid_set");
+        GtidSet set;
+        try {
+            set = GtidSet.parse(text);
+        } catch (IllegalArgumentException e) {
+            log.debug("Skipping unparseable gtid_history row at {}: {}", createdAt, e.getMessage());
+            set = null;
+        }
+        return new GtidHistoryIndex.Entry(toMicros(createdAt), text, set);
+    }
+
+    /**
+     * created_at (dashboard.gtid-history-time-zone 기준) → epoch 마이크로초
+     */
+    private long toMicros(LocalDateTime local) {
+        Instant instant = local.atZone(zone).toInstant();
+        return instant.getEpochSecond() * 1_000_000L + instant.getNano() / 1_000;
+    }
+
+    private LocalDateTime toLocal(long micros) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                Math.floorMod(micros, 1_000_000L) * 1_000L), zone);
+    }
+}
@@ -0,0 +1,51 @@
+package org.ravo.ravomanager.manager.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * JSON Merge Patch (RFC 7386) 생성기
+ * 객체는 필드 단위로 재귀 비교하고 배열/값은 바뀌었으면 통째로 교체하며, 사라진 필드는 null 로 표시합니다.
+ * 클라이언트는 같은 규칙으로 patch 를 이전 상태에 합쳐 최신 상태를 복원합니다.
+ */
+final class JsonMergePatch {
+
+    private JsonMergePatch() {
+    }
+
+    /**
+     * before → after 로 가기 위한 patch (바뀐 것이 없으면 빈 객체)
+     */
+    static ObjectNode diff(ObjectNode before, ObjectNode after) {
+        ObjectNode patch = JsonNodeFactory.instance.objectNode();
+        Iterator<String> names = before.fieldNames();
+        while (names.hasNext()) {
+            String name = names.next();
+            if (!after.has(name)) {
+                patch.putNull(name);
+            }
+        }
+        Iterator<Map.Entry<String, JsonNode>> fields = after.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode previous = before.get(field.getKey());
+            JsonNode current = field.getValue();
+            if (previous == null ? current.isNull() : previous.equals(current)) {
+                continue;
+            }
+            if (previous != null && previous.isObject() && current.isObject()) {
+                ObjectNode nested = diff((ObjectNode) previous, (ObjectNode) current);
+                if (!nested.isEmpty()) {
+                    patch.set(field.getKey(), nested);
+                }
+            } else {
+                patch.set(field.getKey(), current);
+            }
+        }
+        return patch;
+    }
+}
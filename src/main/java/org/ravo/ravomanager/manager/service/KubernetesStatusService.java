@@ -2,91 +2,263 @@ package org.ravo.ravomanager.manager.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.ravo.config.SelectorWatchProperties;
 import org.ravo.ravomanager.manager.dto.SelectorStatus;
+import org.ravo.ravomanager.manager.dto.SelectorTransitionDto;
+import org.ravo.ravomanager.manager.dto.SelectorWatchStatusDto;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
-import java.time.Duration;
+import java.net.URI;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Kubernetes 상태 조회 서비스
- * 외부 K8s Watcher API에서 현재 서비스 타겟 정보를 가져옵니다.
+ * 백그라운드 watcher 스레드가 외부 K8s Watcher API 를 계속 조회해 현재 서비스 타겟과 전환 이력을 메모리에 유지하며,
+ * 대시보드/페일오버 화면은 이 메모리 상태만 읽습니다. (요청마다 네트워크 호출 없음)
+ * application.failover.watch.long-poll-wait 를 설정하면 상태가 바뀔 때까지 응답을 기다리는 long-poll 로 조회하고,
+ * 서버가 long-poll 을 지원하지 않아 바로 응답해도 poll-interval 보다 자주 호출하지 않습니다.
+ * 조회가 실패하면 마지막 상태를 유지한 채 지수 백오프(+지터)로 재시도합니다.
  */
-
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class KubernetesStatusService {
-    
-    @Value("${application.failover.status-url}")
-    private String serviceStatusUrl;
 
-    private final RestTemplate restTemplate;
+    private static final ZoneId KST_ZONE = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter DISPLAY_FORMATTER = DateTimeFormatter.ofPattern("MM/dd HH:mm:ss");
+    private static final String UNKNOWN = "unknown";
+    /** 마지막 성공 응답이 이 조회 주기 수보다 오래되면 watcher_state 를 믿지 않음 */
+    private static final int STALE_POLL_CYCLES = 3;
+    /** watcher 가 전환 시각을 보고할 때 사용할 수 있는 필드 (ISO-8601 또는 epoch 초/밀리초) */
+    private static final String[] SWITCHED_AT_FIELDS = {"switched_at", "last_transition_time", "last_switched_at"};
+
+    private final String serviceStatusUrl;
+    private final SelectorWatchProperties properties;
     private final ObjectMapper objectMapper;
+    private final RestTemplate watchClient;
+    private final SystemEventService systemEventService;
+
+    // watcher 스레드만 쓰고, 읽는 쪽은 volatile 필드만 읽음
+    private final ArrayDeque<SelectorTransitionDto> transitionBuffer = new ArrayDeque<>();
+    private volatile List<SelectorTransitionDto> transitions = List.of();
+    private volatile SelectorStatus currentStatus = SelectorStatus.empty();
+    private volatile String watcherState = UNKNOWN;
+    private volatile Instant lastContactAt;
+    private volatile int consecutiveFailures;
+    private volatile boolean running;
+    private boolean initialized;
+    private Thread watcherThread;
+
+    public KubernetesStatusService(@Value("${application.failover.status-url}") String serviceStatusUrl,
+                                   SelectorWatchProperties properties,
+                                   ObjectMapper objectMapper,
+                                   SystemEventService systemEventService) {
+        this.serviceStatusUrl = serviceStatusUrl;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.systemEventService = systemEventService;
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout(properties.getConnectTimeout());
+        factory.setReadTimeout(properties.getReadTimeout().plus(properties.getLongPollWait()));
+        this.watchClient = new RestTemplate(factory);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (serviceStatusUrl == null || serviceStatusUrl.isBlank()) {
+            log.warn("application.failover.status-url is not set, K8s selector watcher disabled");
+            return;
+        }
+        running = true;
+        watcherThread = Thread.ofPlatform().name("selector-watcher").daemon().start(this::watchLoop);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (watcherThread != null) {
+            watcherThread.interrupt();
+        }
+    }
 
-    // 메모리에 상태 저장
-    private volatile SelectorStatus cachedStatus = SelectorStatus.empty();
-    
     /**
-     * K8s Selector 상태 조회 (동기 방식)
-     * Response format: {"service_target": "mysql-active", "watcher_state": "active", ...}
+     * K8s Selector 현재 상태 (메모리 조회)
      *
-     * @return 현재 Selector 상태, 실패 시 기본값(empty) 반환
+     * @return 현재 Selector 상태, 아직 조회 전이면 empty
      */
-    public SelectorStatus fetchStatus() {
-        try {
-            log.debug("Fetching K8s selector status from: {}", serviceStatusUrl);
+    public SelectorStatus getStatus() {
+        return currentStatus;
+    }
 
-            ResponseEntity<String> response = restTemplate.getForEntity(serviceStatusUrl, String.class);
+    /**
+     * watcher 가 보고한 watcher_state 원래 값 (active|standby|unknown, 메모리 조회)
+     * 직전 조회가 실패했거나 마지막 성공 응답이 조회 주기(poll-interval + long-poll-wait) 몇 번보다 오래됐으면
+     * 마지막 값이 지금도 맞는지 알 수 없으므로 unknown 을 반환합니다.
+     */
+    public String getWatcherState() {
+        Instant contact = lastContactAt;
+        if (contact == null || consecutiveFailures > 0) {
+            return UNKNOWN;
+        }
+        long cycleMillis = properties.getPollInterval().plus(properties.getLongPollWait()).toMillis();
+        if (System.currentTimeMillis() - contact.toEpochMilli() > STALE_POLL_CYCLES * Math.max(1, cycleMillis)) {
+            return UNKNOWN;
+        }
+        return watcherState;
+    }
+
+    /**
+     * 전환 이력 (오래된 것부터, 최대 application.failover.watch.history-size 건)
+     */
+    public List<SelectorTransitionDto> getTransitions() {
+        return transitions;
+    }
 
-            if (response.getStatusCode().is2xxSuccessful() && response.hasBody()) {
-                return parseAndUpdateStatus(response.getBody());
-            } else {
-                log.warn("K8s selector status returned non-2xx status: {}", response.getStatusCode());
-                return SelectorStatus.empty();
+    public SelectorWatchStatusDto getWatchStatus() {
+        Instant contact = lastContactAt;
+        int failures = consecutiveFailures;
+        return SelectorWatchStatusDto.builder()
+                .selectorStatus(currentStatus)
+                .watcherState(getWatcherState())
+                .connected(contact != null && failures == 0)
+                .consecutiveFailures(failures)
+                .lastContactAgeMillis(contact == null ? -1 : System.currentTimeMillis() - contact.toEpochMilli())
+                .transitions(transitions)
+                .build();
+    }
+
+    private void watchLoop() {
+        long backoffMillis = properties.getInitialBackoff().toMillis();
+        while (running) {
+            long startedAt = System.currentTimeMillis();
+            try {
+                JsonNode root = poll();
+                apply(root, Instant.now());
+                if (consecutiveFailures > 0) {
+                    log.info("K8s selector watcher reconnected after {} failures", consecutiveFailures);
+                }
+                consecutiveFailures = 0;
+                backoffMillis = properties.getInitialBackoff().toMillis();
+                sleep(properties.getPollInterval().toMillis() - (System.currentTimeMillis() - startedAt));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                // 연결 실패, 타임아웃, HTTP 오류, 파싱 오류 등 - 마지막 상태 유지
+                int failures = ++consecutiveFailures;
+                if (failures == 1) {
+                    log.warn("Failed to watch K8s selector status: {}", e.getMessage());
+                } else {
+                    log.debug("K8s selector watch failed ({} in a row): {}", failures, e.getMessage());
+                }
+                try {
+                    sleep(backoffMillis + ThreadLocalRandom.current().nextLong(backoffMillis / 2 + 1));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoffMillis = Math.min(backoffMillis * 2, properties.getMaxBackoff().toMillis());
             }
+        }
+    }
 
-        } catch (RestClientException e) {
-            // 연결 실패, 타임아웃, HTTP 오류 등
-            log.warn("Failed to fetch K8s selector status: {}", e.getMessage());
-            return SelectorStatus.empty();
-        } catch (Exception e) {
-            // 예상치 못한 오류
-            log.warn("Unexpected error while fetching K8s status: {}", e.getMessage());
-            return SelectorStatus.empty();
+    /**
+     * 상태 1회 조회
+     * Response format: {"service_target": "mysql-active", "watcher_state": "active", ...}
+     */
+    private JsonNode poll() throws Exception {
+        URI uri = URI.create(serviceStatusUrl);
+        long waitSeconds = properties.getLongPollWait().toSeconds();
+        if (waitSeconds > 0) {
+            uri = UriComponentsBuilder.fromUri(uri)
+                    .queryParam("wait", waitSeconds)
+                    .queryParam("state", watcherState)
+                    .build()
+                    .toUri();
+        }
+        ResponseEntity<String> response = watchClient.getForEntity(uri, String.class);
+        if (!response.getStatusCode().is2xxSuccessful() || !response.hasBody()) {
+            throw new IllegalStateException("K8s selector status returned " + response.getStatusCode());
         }
+        return objectMapper.readTree(response.getBody());
     }
 
     /**
-     * JSON 파싱 및 상태 업데이트
+     * 응답 반영 (watcher 스레드 전용)
      */
-    private SelectorStatus parseAndUpdateStatus(String json) {
-        try {
-            JsonNode root = objectMapper.readTree(json);
-            String watcherState = root.path("watcher_state").asText("unknown");
+    private void apply(JsonNode root, Instant receivedAt) {
+        String rawState = root.path("watcher_state").asText(UNKNOWN);
+        String target = normalizeState(rawState);
+        Instant reportedAt = reportedSwitchTime(root);
+        Instant previousSeenAt = lastContactAt;
+        SelectorStatus previous = currentStatus;
 
-            log.debug("Received watcher_state: {}", watcherState);
+        watcherState = rawState;
+        lastContactAt = receivedAt;
 
-            // 정규화: "active" 또는 "standby"만 허용
-            String normalizedState = normalizeState(watcherState);
+        if (!initialized) {
+            // 기동 후 첫 상태는 전환이 아니므로 이력에 넣지 않음 (전환 시각은 watcher 가 알려준 경우만)
+            initialized = true;
+            currentStatus = new SelectorStatus(target, reportedAt);
+            log.info("K8s Selector initial state: {}", target);
+            return;
+        }
+        if (previous.getCurrentTarget().equals(target)) {
+            return;
+        }
 
-            // 상태가 변경되었는지 확인
-            if (cachedStatus == null || !cachedStatus.getCurrentTarget().equals(normalizedState)) {
-                String previousState = cachedStatus != null ? cachedStatus.getCurrentTarget() : "unknown";
-                log.info("K8s Selector state changed: {} -> {}", previousState, normalizedState);
-                cachedStatus = new SelectorStatus(normalizedState);
-            }
+        Instant switchedAt = reportedAt != null ? reportedAt : receivedAt;
+        log.info("K8s Selector state changed: {} -> {} at {}", previous.getCurrentTarget(), target, switchedAt);
+        currentStatus = new SelectorStatus(target, switchedAt);
+        transitionBuffer.addLast(SelectorTransitionDto.builder()
+                .from(previous.getCurrentTarget())
+                .to(target)
+                .switchedAt(switchedAt.toEpochMilli())
+                .switchedAtFormatted(switchedAt.atZone(KST_ZONE).format(DISPLAY_FORMATTER))
+                .previousSeenAt(previousSeenAt == null ? -1 : previousSeenAt.toEpochMilli())
+                .reportedByWatcher(reportedAt != null)
+                .build());
+        while (transitionBuffer.size() > Math.max(1, properties.getHistorySize())) {
+            transitionBuffer.removeFirst();
+        }
+        transitions = List.copyOf(transitionBuffer);
+        systemEventService.selectorChanged(previous.getCurrentTarget(), target, switchedAt, reportedAt != null);
+    }
 
-            return cachedStatus;
-        } catch (Exception e) {
-            log.warn("Failed to parse K8s status JSON: {}", json, e);
-            return SelectorStatus.empty();
+    /**
+     * watcher 가 보고한 전환 시각, 없거나 해석할 수 없으면 null
+     */
+    private Instant reportedSwitchTime(JsonNode root) {
+        for (String field : SWITCHED_AT_FIELDS) {
+            JsonNode value = root.get(field);
+            if (value == null || value.isNull()) {
+                continue;
+            }
+            if (value.isNumber()) {
+                long epoch = value.asLong();
+                // 10^11 초는 5138년이므로 그보다 크면 밀리초로 판단
+                return epoch > 100_000_000_000L ? Instant.ofEpochMilli(epoch) : Instant.ofEpochSecond(epoch);
+            }
+            try {
+                return Instant.parse(value.asText());
+            } catch (DateTimeParseException e) {
+                log.debug("Ignoring unparseable {}: {}", field, value.asText());
+            }
         }
+        return null;
     }
 
     /**
@@ -94,7 +266,7 @@ public class KubernetesStatusService {
      */
     private String normalizeState(String state) {
         if (state == null) {
-            return "unknown";
+            return UNKNOWN;
         }
 
         String normalized = state.toLowerCase().trim();
@@ -108,4 +280,10 @@ public class KubernetesStatusService {
 
         return normalized;
     }
-}
\ No newline at end of file
+
+    private static void sleep(long millis) throws InterruptedException {
+        if (millis > 0) {
+            Thread.sleep(millis);
+        }
+    }
+}
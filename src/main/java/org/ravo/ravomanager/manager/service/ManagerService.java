@@ -23,8 +23,8 @@ public class ManagerService {
     private final JdbcTemplate directActiveJdbcTemplate;
     private final JdbcTemplate standbyJdbcTemplate;
 
-    public ManagerService(@Qualifier("directActiveJdbcTemplate") JdbcTemplate directActiveJdbcTemplate,
-                          @Qualifier("standbyJdbcTemplate") JdbcTemplate standbyJdbcTemplate) {
+    public ManagerService(@Qualifier("directActiveProbeJdbcTemplate") JdbcTemplate directActiveJdbcTemplate,
+                          @Qualifier("standbyProbeJdbcTemplate") JdbcTemplate standbyJdbcTemplate) {
         this.directActiveJdbcTemplate = directActiveJdbcTemplate;
         this.standbyJdbcTemplate = standbyJdbcTemplate;
         this.defaultData = new DefaultData();
@@ -0,0 +1,230 @@
+package org.ravo.ravomanager.manager.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.ravo.ravomanager.manager.domain.MetricSnapshot;
+import org.ravo.ravomanager.manager.monitoring.ActivityRing;
+import org.ravo.ravomanager.manager.monitoring.Metric;
+import org.ravo.ravomanager.manager.monitoring.MetricData;
+import org.ravo.ravomanager.manager.monitoring.RateTracker;
+import org.ravo.ravomanager.manager.tsdb.MetricStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Prometheus 메트릭 백그라운드 수집기
+ * exporter 마다 고정 주기(monitoring.collect-interval)로 한 번씩 스크레이프해 역할별 최신 스냅샷으로 발행하며,
+ * API/대시보드 요청은 발행된 스냅샷만 읽습니다. 대시보드 탭 수와 관계없이 exporter 부하는 수집 주기에만 비례합니다.
+ * 각 회차는 0 ~ monitoring.collect-jitter 만큼 늦게 시작해 두 exporter 와 여러 매니저 인스턴스가 같은 순간에 몰리지 않게 합니다.
+ * 발행한 스크레이프 결과는 {@link MetricStore} 에도 추가해 장기 조회에 사용하고,
+ * 대시보드 읽기/쓰기 활동 히스토리({@link ActivityRing})와 카운터 증가율({@link RateTracker})은 역할별 수집 체인이 유일한 작성자로 갱신합니다.
+ * DB 상태(UP/DOWN)가 바뀌면 {@link SystemEventService} 에 알립니다.
+ */
+@Slf4j
+@Service
+public class MetricCollector {
+
+    private final TaskScheduler taskScheduler;
+    private final MetricStore metricStore;
+    private final SystemEventService systemEventService;
+    private final long intervalMillis;
+    private final long jitterMillis;
+    private final int historyCapacity;
+    private final RoleCollector active;
+    private final RoleCollector standby;
+    private final List<Runnable> publishListeners = new CopyOnWriteArrayList<>();
+    private final AtomicLong publishSequence = new AtomicLong();
+
+    private volatile boolean running;
+
+    public MetricCollector(MonitoringService monitoringService,
+                           TaskScheduler taskScheduler,
+                           MetricStore metricStore,
+                           SystemEventService systemEventService,
+                           @Value("${monitoring.collect-interval:PT5S}") Duration interval,
+                           @Value("${monitoring.collect-jitter:PT0.5S}") Duration jitter,
+                           @Value("${dashboard.history-capacity:30}") int historyCapacity) {
+        this.taskScheduler = taskScheduler;
+        this.metricStore = metricStore;
+        this.systemEventService = systemEventService;
+        this.intervalMillis = Math.max(1, interval.toMillis());
+        this.jitterMillis = Math.max(0, Math.min(jitter.toMillis(), intervalMillis / 2));
+        this.historyCapacity = historyCapacity;
+        this.active = new RoleCollector("Active", monitoringService::fetchActiveMetrics);
+        this.standby = new RoleCollector("Standby", monitoringService::fetchStandbyMetrics);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        long now = System.currentTimeMillis();
+        active.start(now);
+        standby.start(now);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        active.cancel();
+        standby.cancel();
+    }
+
+    /**
+     * 역할별 스냅샷이 발행될 때마다 수집 스레드에서 호출됩니다. (오래 걸리는 작업은 다른 스레드로 넘겨야 함)
+     */
+    public void addPublishListener(Runnable listener) {
+        publishListeners.add(listener);
+    }
+
+    /**
+     * 지금까지 발행한 스냅샷 수 (값이 바뀌지 않았으면 최신 메트릭도 그대로)
+     */
+    public long getPublishSequence() {
+        return publishSequence.get();
+    }
+
+    private void notifyPublished() {
+        publishSequence.incrementAndGet();
+        for (Runnable listener : publishListeners) {
+            try {
+                listener.run();
+            } catch (Exception e) {
+                log.warn("Metric publish listener failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    public MetricSnapshot getActive() {
+        return active.latest.get();
+    }
+
+    public MetricSnapshot getStandby() {
+        return standby.latest.get();
+    }
+
+    /**
+     * Active 읽기/쓰기 누적 카운터 히스토리 (UP 상태로 수집된 회차만)
+     */
+    public ActivityRing getActiveHistory() {
+        return active.history;
+    }
+
+    public ActivityRing getStandbyHistory() {
+        return standby.history;
+    }
+
+    /**
+     * 역할별 최신 메트릭 ("active" / "standby")
+     */
+    public Map<String, MetricData> getLatestMetrics() {
+        return Map.of(
+                "active", getActive().getMetricData(),
+                "standby", getStandby().getMetricData());
+    }
+
+    private long nextJitter() {
+        return jitterMillis == 0 ? 0 : ThreadLocalRandom.current().nextLong(jitterMillis + 1);
+    }
+
+    /**
+     * exporter 1개의 수집 루프
+     * 스크레이프가 끝나야 다음 회차를 예약하므로 같은 exporter 에 요청이 겹치지 않고,
+     * 회차 기준 시각은 시작 시각 + N × 주기로 고정해 스크레이프 시간만큼 주기가 밀리지 않습니다.
+     */
+    private final class RoleCollector {
+
+        private final String roleName;
+        private final String roleKey;
+        private final Supplier<Mono<MetricData>> scrape;
+        private final AtomicReference<MetricSnapshot> latest;
+        private final ActivityRing history;
+        private final RateTracker rates = new RateTracker();
+
+        private long slotMillis;
+        private volatile ScheduledFuture<?> pending;
+
+        RoleCollector(String roleName, Supplier<Mono<MetricData>> scrape) {
+            this.roleName = roleName;
+            this.roleKey = roleName.toLowerCase(Locale.ROOT);
+            this.scrape = scrape;
+            this.latest = new AtomicReference<>(MetricSnapshot.initial(roleName));
+            this.history = new ActivityRing(historyCapacity);
+        }
+
+        void start(long now) {
+            slotMillis = now;
+            pending = taskScheduler.schedule(this::collect, Instant.ofEpochMilli(now + nextJitter()));
+        }
+
+        void cancel() {
+            ScheduledFuture<?> future = pending;
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+
+        private void collect() {
+            long startedAt = System.nanoTime();
+            try {
+                scrape.get().subscribe(
+                        metricData -> publish(metricData, (System.nanoTime() - startedAt) / 1_000_000),
+                        error -> {
+                            log.warn("{} metric collection failed: {}", roleName, error.getMessage());
+                            scheduleNext();
+                        },
+                        this::scheduleNext);
+            } catch (Exception e) {
+                log.warn("{} metric collection failed: {}", roleName, e.getMessage());
+                scheduleNext();
+            }
+        }
+
+        private void publish(MetricData metricData, long scrapeMillis) {
+            Instant collectedAt = Instant.now();
+            if (metricData.getStatus() == MetricData.DatabaseStatus.UP) {
+                // 발행 전에 채워야 스냅샷을 읽는 쪽이 항상 같은 회차의 값과 증가율을 봄
+                metricData.setRates(rates.update(collectedAt.toEpochMilli(), metricData));
+            }
+            MetricSnapshot previous = latest.getAndSet(new MetricSnapshot(metricData, collectedAt, scrapeMillis));
+            systemEventService.databaseStatusChanged(roleName, previous.getMetricData().getStatus(), metricData.getStatus());
+            metricStore.append(roleKey, collectedAt.toEpochMilli(), metricData);
+            if (metricData.getStatus() == MetricData.DatabaseStatus.UP) {
+                // DB 가 내려간 회차의 0 값이 들어가면 복구 후 증가량이 부풀려지므로 제외
+                history.append(collectedAt.toEpochMilli(),
+                        (long) metricData.getOrDefault(Metric.COMMANDS_SELECT, 0.0),
+                        (long) (metricData.getOrDefault(Metric.COMMANDS_INSERT, 0.0)
+                                + metricData.getOrDefault(Metric.COMMANDS_UPDATE, 0.0)
+                                + metricData.getOrDefault(Metric.COMMANDS_DELETE, 0.0)));
+            }
+            notifyPublished();
+        }
+
+        private void scheduleNext() {
+            if (!running) {
+                return;
+            }
+            long now = System.currentTimeMillis();
+            slotMillis += intervalMillis;
+            if (slotMillis <= now) {
+                // 스크레이프가 주기보다 오래 걸려 지난 회차는 건너뜀
+                slotMillis += ((now - slotMillis) / intervalMillis + 1) * intervalMillis;
+            }
+            pending = taskScheduler.schedule(this::collect, Instant.ofEpochMilli(slotMillis + nextJitter()));
+        }
+    }
+}
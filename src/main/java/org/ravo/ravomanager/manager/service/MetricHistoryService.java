@@ -0,0 +1,70 @@
+package org.ravo.ravomanager.manager.service;
+
+import lombok.RequiredArgsConstructor;
+import org.ravo.ravomanager.manager.dto.MetricHistoryDto;
+import org.ravo.ravomanager.manager.monitoring.Metric;
+import org.ravo.ravomanager.manager.tsdb.Aggregate;
+import org.ravo.ravomanager.manager.tsdb.MetricStore;
+import org.ravo.ravomanager.manager.tsdb.Resolution;
+import org.ravo.ravomanager.manager.tsdb.TimeSeries;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 내장 시계열 저장소 조회 서비스
+ * 해상도를 지정하지 않으면 조회 구간에 맞춰 자동으로 고르며 (예: 7일 → 1시간 롤업), 값이 없는 점(NaN)은 응답에서 뺍니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MetricHistoryService {
+
+    private final MetricStore metricStore;
+
+    /**
+     * @param role       active / standby
+     * @param metric     조회할 메트릭
+     * @param range      조회 구간 길이 (to 기준 과거)
+     * @param to         구간 끝 (epoch millis, null 이면 현재)
+     * @param aggregate  롤업 집계 방식 (rate 이면 무시)
+     * @param resolution 해상도 (null 이면 자동)
+     * @param rate       카운터 초당 증가율로 반환할지 여부
+     */
+    public MetricHistoryDto getHistory(String role, Metric metric, Duration range, Long to,
+                                       Aggregate aggregate, Resolution resolution, boolean rate) {
+        if (range.isNegative() || range.isZero()) {
+            throw new IllegalArgumentException("range 는 0 보다 커야 합니다.");
+        }
+        long now = System.currentTimeMillis();
+        long end = to != null ? to : now;
+        long start = end - range.toMillis();
+        Resolution selected = resolution != null ? resolution : metricStore.chooseResolution(start, end, now);
+
+        TimeSeries series = rate
+                ? metricStore.rate(role, metric, selected, start, end)
+                : metricStore.query(role, metric, aggregate, selected, start, end);
+
+        int valid = 0;
+        long[] timestamps = new long[series.size()];
+        double[] values = new double[series.size()];
+        for (int i = 0; i < series.size(); i++) {
+            double value = series.value(i);
+            if (!Double.isNaN(value) && !Double.isInfinite(value)) {
+                timestamps[valid] = series.timestamp(i);
+                values[valid++] = value;
+            }
+        }
+
+        return MetricHistoryDto.builder()
+                .role(role)
+                .metric(metric.name())
+                .resolution(selected.directoryName())
+                .aggregate(rate ? "RATE" : selected.isRollup() ? aggregate.name() : "RAW")
+                .from(start)
+                .to(end)
+                .timestamps(Arrays.copyOf(timestamps, valid))
+                .values(Arrays.copyOf(values, valid))
+                .build();
+    }
+}
@@ -2,15 +2,15 @@ package org.ravo.ravomanager.manager.service;
 
 import org.ravo.ravomanager.manager.monitoring.MetricData;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
-import java.util.HashMap;
-import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,28 +39,18 @@ public class MonitoringService {
     }
 
     /**
-     * Active DB와 Standby DB의 메트릭을 동시에 조회
+     * Active DB 메트릭 스크레이프 ({@link MetricCollector} 전용, 요청 처리 경로에서는 호출하지 않음)
      * 연결 실패 시 빈 MetricData를 반환하여 서비스가 중단되지 않도록 처리
      */
-    public Mono<Map<String, MetricData>> fetchMetrics() {
-        Mono<MetricData> activeMetrics = fetchMetricsForDatabase(activeDatabaseEndpoint, "Active");
-        Mono<MetricData> standbyMetrics = fetchMetricsForDatabase(standbyDatabaseEndpoint, "Standby");
+    public Mono<MetricData> fetchActiveMetrics() {
+        return fetchMetricsForDatabase(activeDatabaseEndpoint, "Active");
+    }
 
-        return Mono.zip(activeMetrics, standbyMetrics)
-                .map(tuple -> {
-                    Map<String, MetricData> result = new HashMap<>();
-                    result.put("active", tuple.getT1());
-                    result.put("standby", tuple.getT2());
-                    return result;
-                })
-                .onErrorResume(error -> {
-                    // 예상치 못한 에러 발생 시에도 기본값 반환
-                    log.debug("Unexpected error during metrics fetch, returning default values", error);
-                    Map<String, MetricData> fallback = new HashMap<>();
-                    fallback.put("active", MetricData.empty("Active"));
-                    fallback.put("standby", MetricData.empty("Standby"));
-                    return Mono.just(fallback);
-                });
+    /**
+     * Standby DB 메트릭 스크레이프 ({@link MetricCollector} 전용, 요청 처리 경로에서는 호출하지 않음)
+     */
+    public Mono<MetricData> fetchStandbyMetrics() {
+        return fetchMetricsForDatabase(standbyDatabaseEndpoint, "Standby");
     }
 
     /**
@@ -68,8 +58,8 @@ public class MonitoringService {
      * 실패 시 빈 MetricData 반환 (에러 로그 출력 없음)
      */
     private Mono<MetricData> fetchMetricsForDatabase(String endpoint, String dbName) {
-        return fetchRawMetrics(endpoint)
-                .map(rawMetrics -> prometheusMetricParser.parse(rawMetrics, dbName))
+        return prometheusMetricParser.parse(fetchRawMetrics(endpoint), dbName)
+                .timeout(REQUEST_TIMEOUT)
                 .onErrorResume(WebClientRequestException.class, error -> {
                     // 연결 실패 (네트워크 오류, 타임아웃 등)
                     log.debug("{} DB connection failed: {}", dbName, error.getMessage());
@@ -90,14 +80,13 @@ public class MonitoringService {
 
     /**
      * 지정된 URL에서 Prometheus 메트릭 원본 데이터 조회
-     * 타임아웃 설정 포함
+     * 본문을 String 으로 모으지 않고 수신한 DataBuffer 를 그대로 전달 (타임아웃은 파싱까지 포함해 적용)
      */
-    private Mono<String> fetchRawMetrics(String endpoint) {
+    private Flux<DataBuffer> fetchRawMetrics(String endpoint) {
         log.debug("Fetching metrics from: {}", endpoint);
         return webClient.get()
                 .uri(endpoint)
                 .retrieve()
-                .bodyToMono(String.class)
-                .timeout(REQUEST_TIMEOUT);
+                .bodyToFlux(DataBuffer.class);
     }
 }
@@ -1,107 +1,84 @@
 package org.ravo.ravomanager.manager.service;
 
+import org.ravo.ravomanager.manager.monitoring.LabelDictionary;
+import org.ravo.ravomanager.manager.monitoring.Metric;
 import org.ravo.ravomanager.manager.monitoring.MetricData;
 import org.ravo.ravomanager.manager.monitoring.MetricData.DatabaseStatus;
+import org.ravo.ravomanager.manager.monitoring.MetricFamily;
+import org.ravo.ravomanager.manager.monitoring.PrometheusExpositionScanner;
+import org.ravo.ravomanager.manager.monitoring.SeriesValues;
+import org.ravo.ravomanager.manager.monitoring.TrackedMetrics;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.stereotype.Service;
-import java.util.Arrays;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * Prometheus 메트릭 원본 데이터를 파싱하는 서비스
+ * 응답 본문을 String 으로 모으지 않고 DataBuffer 단위로 바로 스캔하며, {@link Metric} 에 등록된 메트릭만 저장합니다.
+ * {@link MetricFamily} 메트릭은 레이블 조합별 시계열을 모두 저장하고, 레이블 문자열은 Active/Standby 가 공유하는 사전에 한 번만 둡니다.
  */
 @Service
 public class PrometheusMetricParser {
 
+    // 레이블 문자열/조합 최대 개수 (테이블 수가 많거나 레이블 값이 폭주해도 메모리 상한 유지)
+    private static final int MAX_LABEL_ENTRIES = 100_000;
+
+    private final TrackedMetrics trackedMetrics =
+            new TrackedMetrics(Metric.keys(), Metric.LABEL_EXPANSIONS, MetricFamily.keys());
+    private final LabelDictionary labelDictionary = new LabelDictionary(MAX_LABEL_ENTRIES);
+
     /**
-     * Prometheus 형식의 원본 메트릭 데이터를 MetricData 객체로 변환
-     * 
-     * @param rawMetrics Prometheus 형식의 원본 메트릭 문자열
+     * Prometheus 형식의 응답 본문을 MetricData 객체로 변환
+     * 버퍼는 도착하는 즉시 스캔한 뒤 해제합니다.
+     *
+     * @param body         Prometheus exporter 응답 본문
      * @param databaseName 데이터베이스 이름 (Active/Standby)
      * @return 파싱된 MetricData 객체
      */
-    public MetricData parse(String rawMetrics, String databaseName) {
-        MetricData metricData = new MetricData(databaseName);
-
-        if (rawMetrics == null || rawMetrics.isEmpty()) {
-            metricData.setStatus(DatabaseStatus.DOWN);
-            return metricData;
-        }
+    public Mono<MetricData> parse(Flux<DataBuffer> body, String databaseName) {
+        return Mono.defer(() -> {
+            MetricData metricData = new MetricData(databaseName);
+            metricData.setSeriesValues(new SeriesValues(labelDictionary));
+            PrometheusExpositionScanner scanner = new PrometheusExpositionScanner(trackedMetrics, labelDictionary,
+                    new PrometheusExpositionScanner.SampleSink() {
+                        @Override
+                        public void accept(int metricIndex, double value) {
+                            metricData.set(metricIndex, value);
+                        }
 
-        Arrays.stream(rawMetrics.split("\n"))
-                .filter(line -> !line.startsWith("#") && !line.trim().isEmpty())
-                .forEach(line -> parseSingleMetricLine(line, metricData));
+                        @Override
+                        public void acceptSeries(int familyId, int labelSetId, double value) {
+                            metricData.putSeries(familyId, labelSetId, value);
+                        }
+                    });
 
-        updateDatabaseStatus(metricData);
-        return metricData;
+            return body.doOnNext(buffer -> scan(scanner, buffer))
+                    .then(Mono.fromSupplier(() -> {
+                        scanner.finish();
+                        updateDatabaseStatus(metricData);
+                        return metricData;
+                    }));
+        });
     }
 
-    /**
-     * 단일 메트릭 라인을 파싱하여 MetricData에 추가
-     */
-    private void parseSingleMetricLine(String line, MetricData metricData) {
-        try {
-            int lastSpaceIndex = line.lastIndexOf(' ');
-            if (lastSpaceIndex == -1) {
-                return;
-            }
-
-            String keyPart = line.substring(0, lastSpaceIndex);
-            String valueString = line.substring(lastSpaceIndex + 1);
-            double value = Double.parseDouble(valueString);
-
-            if (keyPart.contains("{") && keyPart.endsWith("}")) {
-                parseMetricWithLabels(keyPart, value, metricData);
-            } else {
-                metricData.addMetric(keyPart, value);
+    private void scan(PrometheusExpositionScanner scanner, DataBuffer buffer) {
+        try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+            while (iterator.hasNext()) {
+                scanner.feed(iterator.next());
             }
-        } catch (Exception e) {
-            // 파싱 실패한 라인은 무시
+        } finally {
+            DataBufferUtils.release(buffer);
         }
     }
 
-    /**
-     * 레이블이 포함된 메트릭 파싱
-     */
-    private void parseMetricWithLabels(String keyPart, double value, MetricData metricData) {
-        int braceStart = keyPart.indexOf('{');
-        String metricName = keyPart.substring(0, braceStart);
-        String labelsString = keyPart.substring(braceStart + 1, keyPart.length() - 1);
-
-        if ("mysql_global_status_commands_total".equals(metricName)) {
-            parseCommandMetric(labelsString, value, metricData);
-        } else {
-            parseGenericMetricWithLabels(metricName, labelsString, value, metricData);
-        }
-    }
-
-    /**
-     * MySQL 명령어 메트릭 파싱 (SELECT, INSERT, UPDATE, DELETE 등)
-     */
-    private void parseCommandMetric(String labelsString, double value, MetricData metricData) {
-        String command = labelsString.split("=")[1].replace("\"", "").toLowerCase();
-        metricData.addMetric("mysql_global_status_commands_total_" + command, value);
-    }
-
-    /**
-     * 일반 레이블 메트릭 파싱
-     */
-    private void parseGenericMetricWithLabels(String metricName, String labelsString, double value, MetricData metricData) {
-        metricData.addMetric(metricName, value);
-        
-        Arrays.stream(labelsString.split(","))
-                .map(label -> label.split("=", 2))
-                .filter(parts -> parts.length == 2)
-                .forEach(parts -> {
-                    String infoKey = metricName + "_" + parts[0].trim();
-                    String infoValue = parts[1].replace("\"", "").trim();
-                    metricData.addInfo(infoKey, infoValue);
-                });
-    }
-
     /**
      * mysql_up 메트릭을 기반으로 데이터베이스 상태 업데이트
+     * (응답이 비어 있으면 mysql_up 이 없으므로 DOWN)
      */
     private void updateDatabaseStatus(MetricData metricData) {
-        double mysqlUpValue = metricData.getMetrics().getOrDefault("mysql_up", 0.0);
+        double mysqlUpValue = metricData.getOrDefault(Metric.MYSQL_UP, 0.0);
         metricData.setStatus(mysqlUpValue == 1.0 ? DatabaseStatus.UP : DatabaseStatus.DOWN);
     }
-}
\ No newline at end of file
+}
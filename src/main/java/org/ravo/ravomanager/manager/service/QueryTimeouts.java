@@ -0,0 +1,25 @@
+package org.ravo.ravomanager.manager.service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+/**
+ * 쿼리 제한 시간을 건 JdbcTemplate 생성
+ * 호출을 기다리는 쪽의 timeout/취소는 JDBC 조회를 멈추지 않으므로, 제한 시간이 지난 쿼리는 드라이버가 서버에서 취소하게 합니다.
+ */
+final class QueryTimeouts {
+
+    private QueryTimeouts() {
+    }
+
+    /**
+     * 같은 DataSource 에 쿼리 제한 시간(초 단위 올림)을 건 JdbcTemplate
+     * (ConnectionCallback 안에서 만든 Statement 에도 적용됨)
+     */
+    static JdbcTemplate withQueryTimeout(JdbcTemplate jdbcTemplate, Duration timeout) {
+        JdbcTemplate timed = new JdbcTemplate(jdbcTemplate.getDataSource());
+        timed.setQueryTimeout((int) Math.max(1, (timeout.toMillis() + 999) / 1000));
+        return timed;
+    }
+}
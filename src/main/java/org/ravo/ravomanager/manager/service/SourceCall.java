@@ -0,0 +1,72 @@
+package org.ravo.ravomanager.manager.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 대시보드 데이터 소스 1개의 비동기 호출
+ * 소스는 전달받은 executor 에서 실행하고, timeout 안에 끝나지 않거나 실패하면 fallback 값으로 완료합니다.
+ * 소스들을 동시에 시작한 뒤 합치면 전체 지연은 소스별 지연의 합이 아니라 가장 느린 소스(최대 timeout)로 제한됩니다.
+ * timeout 은 기다림만 끝낼 뿐 실행 중인 블로킹 호출을 멈추지 않으므로, 소스마다 동시에 실행 중인 호출 수를 제한하고
+ * 자리가 없으면 소스를 호출하지 않고 바로 fallback 으로 완료합니다. (실제 호출은 JDBC 쿼리 제한 시간 등으로 끝나야 함)
+ */
+@Slf4j
+final class SourceCall<T> {
+
+    private final String name;
+    private final Executor executor;
+    private final Duration timeout;
+    private final Semaphore permits;
+
+    /**
+     * @param maxConcurrent 동시에 실행 중일 수 있는 호출 수 (timeout 후에도 끝나지 않은 호출 포함)
+     */
+    SourceCall(String name, Executor executor, Duration timeout, int maxConcurrent) {
+        this.name = name;
+        this.executor = executor;
+        this.timeout = timeout;
+        this.permits = new Semaphore(Math.max(1, maxConcurrent));
+    }
+
+    /**
+     * @param fallback 실패/시간 초과 시 값 (타이머 스레드에서 호출되므로 캐시 조회 수준으로 가벼워야 함)
+     */
+    CompletableFuture<T> supply(Supplier<T> source, Supplier<T> fallback) {
+        if (!permits.tryAcquire()) {
+            log.debug("Dashboard source '{}' is still busy with an earlier call, using fallback", name);
+            return CompletableFuture.completedFuture(fallback.get());
+        }
+        CompletableFuture<T> call;
+        try {
+            call = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return source.get();
+                } finally {
+                    permits.release();
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            log.warn("Dashboard source '{}' rejected, using fallback: {}", name, e.getMessage());
+            return CompletableFuture.completedFuture(fallback.get());
+        }
+        return call.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(error -> {
+                    Throwable cause = error.getCause() != null ? error.getCause() : error;
+                    if (cause instanceof TimeoutException) {
+                        log.warn("Dashboard source '{}' timed out after {} ms, using fallback", name, timeout.toMillis());
+                    } else {
+                        log.warn("Dashboard source '{}' failed, using fallback: {}", name, cause.getMessage());
+                    }
+                    return fallback.get();
+                });
+    }
+}
@@ -0,0 +1,189 @@
+package org.ravo.ravomanager.manager.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.ravo.config.SyncProperties;
+import org.ravo.ravomanager.manager.domain.DiffType;
+import org.ravo.ravomanager.manager.dto.SyncDiffPageDto;
+import org.ravo.ravomanager.manager.dto.SyncDiffReportDto;
+import org.ravo.ravomanager.manager.sync.RowCompareResult;
+import org.ravo.ravomanager.manager.sync.SyncDiffReport;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Active/Standby 차이 분석 서비스
+ * 불일치 PK(Standby 누락, Active 누락, 내용 불일치)를 정확히 찾아 보고서로 보관하고 페이지 단위로 제공합니다.
+ * 비교는 스트리밍/구간 체크섬 엔진을 그대로 사용하므로 메모리 사용량은 유형별 보관 한도로 제한됩니다.
+ */
+@Slf4j
+@Service
+public class SyncDiffService {
+
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final DateTimeFormatter TIME_FORMATTER =
+            DateTimeFormatter.ofPattern("MM/dd HH:mm:ss").withZone(ZoneId.of("Asia/Seoul"));
+
+    private final TableHashService tableHashService;
+    private final SyncProperties syncProperties;
+
+    private final AtomicLong reportIds = new AtomicLong();
+    private final Map<Long, SyncDiffReport> reports = new LinkedHashMap<>();
+
+    private final ExecutorService diffExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sync-diff");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SyncDiffService(TableHashService tableHashService, SyncProperties syncProperties) {
+        this.tableHashService = tableHashService;
+        this.syncProperties = syncProperties;
+    }
+
+    /**
+     * 테이블 차이 분석을 시작합니다. (백그라운드에서 한 번에 하나씩 실행)
+     */
+    public SyncDiffReportDto startDiff(String tableName) {
+        if (!syncProperties.getTables().contains(tableName)) {
+            throw new IllegalArgumentException("모니터링 대상 테이블이 아닙니다: " + tableName);
+        }
+
+        SyncDiffReport report = new SyncDiffReport(reportIds.incrementAndGet(), tableName,
+                Path.of(syncProperties.getDiffSpillDir()), syncProperties.getDiffMemoryLimit());
+        register(report);
+
+        diffExecutor.execute(() -> run(report));
+        return toDto(report);
+    }
+
+    private void run(SyncDiffReport report) {
+        try {
+            RowCompareResult result = tableHashService.diffTable(report.getTableName(), report::record);
+            report.complete(result);
+            log.info("Sync diff completed - table: {}, missingOnStandby: {}, missingOnActive: {}, mismatch: {}",
+                    report.getTableName(), report.count(DiffType.MISSING_ON_STANDBY),
+                    report.count(DiffType.MISSING_ON_ACTIVE), report.count(DiffType.CONTENT_MISMATCH));
+        } catch (Exception e) {
+            log.warn("Sync diff failed - table: {}: {}", report.getTableName(), e.getMessage());
+            report.fail(e.getMessage());
+        }
+    }
+
+    public List<SyncDiffReportDto> getReports() {
+        synchronized (reports) {
+            return reports.values().stream().map(this::toDto).toList();
+        }
+    }
+
+    public Optional<SyncDiffReportDto> getReport(long reportId) {
+        return findReport(reportId).map(this::toDto);
+    }
+
+    /**
+     * 완료된 보고서의 불일치 PK 페이지 조회
+     */
+    public Optional<SyncDiffPageDto> getPage(long reportId, DiffType type, int page, int size) {
+        int pageSize = Math.min(Math.max(1, size), MAX_PAGE_SIZE);
+        int pageNumber = Math.max(0, page);
+
+        return pinCompletedReport(reportId).map(report -> {
+            try {
+                return SyncDiffPageDto.builder()
+                        .reportId(reportId)
+                        .type(type.name())
+                        .page(pageNumber)
+                        .size(pageSize)
+                        .totalElements(report.count(type))
+                        .keys(Arrays.stream(report.page(type, pageNumber, pageSize)).boxed().toList())
+                        .build();
+            } finally {
+                report.release();
+            }
+        });
+    }
+
+    /**
+     * 완료된 보고서 원본을 고정해서 반환 (재동기화용)
+     * 보관 한도로 밀려나도 PK 파일이 남아 있도록, 다 읽은 뒤 호출하는 쪽에서 {@link SyncDiffReport#release()} 해야 합니다.
+     */
+    public Optional<SyncDiffReport> pinCompletedReport(long reportId) {
+        synchronized (reports) {
+            // 목록에서 빼는 것과 같은 잠금 안에서 고정하므로, 목록에 있던 보고서는 항상 고정에 성공함
+            return Optional.ofNullable(reports.get(reportId))
+                    .filter(report -> report.getStatus() == SyncDiffReport.Status.COMPLETED)
+                    .filter(SyncDiffReport::retain);
+        }
+    }
+
+    private Optional<SyncDiffReport> findReport(long reportId) {
+        synchronized (reports) {
+            return Optional.ofNullable(reports.get(reportId));
+        }
+    }
+
+    /**
+     * 보고서 등록, 보관 한도를 넘으면 완료된 오래된 보고서부터 삭제
+     * (재동기화가 읽고 있는 보고서는 목록에서만 빠지고 PK 파일은 재동기화가 끝난 뒤 삭제)
+     */
+    private void register(SyncDiffReport report) {
+        List<SyncDiffReport> evicted = new ArrayList<>();
+        synchronized (reports) {
+            reports.put(report.getId(), report);
+            Iterator<SyncDiffReport> iterator = reports.values().iterator();
+            while (reports.size() > syncProperties.getDiffRetainedReports() && iterator.hasNext()) {
+                SyncDiffReport oldest = iterator.next();
+                if (oldest.getStatus() != SyncDiffReport.Status.RUNNING) {
+                    iterator.remove();
+                    evicted.add(oldest);
+                }
+            }
+        }
+        evicted.forEach(SyncDiffReport::close);
+    }
+
+    private SyncDiffReportDto toDto(SyncDiffReport report) {
+        return SyncDiffReportDto.builder()
+                .reportId(report.getId())
+                .tableName(report.getTableName())
+                .status(report.getStatus().name())
+                .errorMessage(report.getErrorMessage())
+                .startedAt(format(report.getStartedAt()))
+                .finishedAt(format(report.getFinishedAt()))
+                .activeCount(report.getActiveCount())
+                .standbyCount(report.getStandbyCount())
+                .matchedRows(report.getMatchedRows())
+                .missingOnStandby(report.count(DiffType.MISSING_ON_STANDBY))
+                .missingOnActive(report.count(DiffType.MISSING_ON_ACTIVE))
+                .contentMismatch(report.count(DiffType.CONTENT_MISMATCH))
+                .spilled(report.isSpilled())
+                .build();
+    }
+
+    private String format(Instant instant) {
+        return instant != null ? TIME_FORMATTER.format(instant) : null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        diffExecutor.shutdownNow();
+        synchronized (reports) {
+            reports.values().forEach(SyncDiffReport::close);
+            reports.clear();
+        }
+    }
+}
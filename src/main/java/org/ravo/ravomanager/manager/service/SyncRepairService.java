@@ -0,0 +1,145 @@
+package org.ravo.ravomanager.manager.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.ravo.ravomanager.manager.domain.DiffType;
+import org.ravo.ravomanager.manager.domain.RepairDirection;
+import org.ravo.ravomanager.manager.dto.SyncRepairJobDto;
+import org.ravo.ravomanager.manager.sync.RowRepairPipeline;
+import org.ravo.ravomanager.manager.sync.SyncDiffReport;
+import org.ravo.ravomanager.manager.sync.SyncRepairJob;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 불일치 행 재동기화 서비스
+ * 완료된 차이 분석 보고서를 기준으로 한쪽 DB의 행을 다른 쪽에 반영합니다. (한 번에 하나의 작업만 실행)
+ */
+@Slf4j
+@Service
+public class SyncRepairService {
+
+    private static final int RETAINED_JOBS = 10;
+    private static final DateTimeFormatter TIME_FORMATTER =
+            DateTimeFormatter.ofPattern("MM/dd HH:mm:ss").withZone(ZoneId.of("Asia/Seoul"));
+
+    private final SyncDiffService syncDiffService;
+    private final RowRepairPipeline rowRepairPipeline;
+    private final JdbcTemplate directActiveJdbcTemplate;
+    private final JdbcTemplate standbyJdbcTemplate;
+
+    private final AtomicLong jobIds = new AtomicLong();
+    private final Map<Long, SyncRepairJob> jobs = new LinkedHashMap<>();
+
+    private final ExecutorService repairExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sync-repair");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SyncRepairService(SyncDiffService syncDiffService, RowRepairPipeline rowRepairPipeline,
+                             @Qualifier("directActiveJdbcTemplate") JdbcTemplate directActiveJdbcTemplate,
+                             @Qualifier("standbyJdbcTemplate") JdbcTemplate standbyJdbcTemplate) {
+        this.syncDiffService = syncDiffService;
+        this.rowRepairPipeline = rowRepairPipeline;
+        this.directActiveJdbcTemplate = directActiveJdbcTemplate;
+        this.standbyJdbcTemplate = standbyJdbcTemplate;
+    }
+
+    /**
+     * 재동기화 작업을 시작합니다.
+     *
+     * @param reportId  완료된 차이 분석 보고서 ID
+     * @param direction 기준 DB → 대상 DB 방향
+     */
+    public SyncRepairJobDto startRepair(long reportId, RepairDirection direction) {
+        SyncDiffReport report = syncDiffService.pinCompletedReport(reportId)
+                .orElseThrow(() -> new IllegalArgumentException("완료된 차이 분석 보고서가 없습니다: " + reportId));
+
+        boolean toStandby = direction == RepairDirection.ACTIVE_TO_STANDBY;
+        JdbcTemplate source = toStandby ? directActiveJdbcTemplate : standbyJdbcTemplate;
+        JdbcTemplate target = toStandby ? standbyJdbcTemplate : directActiveJdbcTemplate;
+
+        long plannedRows = report.count(DiffType.MISSING_ON_STANDBY)
+                + report.count(DiffType.MISSING_ON_ACTIVE)
+                + report.count(DiffType.CONTENT_MISMATCH);
+        SyncRepairJob job = new SyncRepairJob(jobIds.incrementAndGet(), reportId, report.getTableName(),
+                direction, plannedRows);
+        register(job);
+
+        log.info("재동기화 시작 - table: {}, direction: {}, rows: {}", report.getTableName(), direction, plannedRows);
+        try {
+            repairExecutor.execute(() -> {
+                try {
+                    rowRepairPipeline.run(job, report, source, target);
+                } finally {
+                    report.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            report.release();
+            throw e;
+        }
+        return toDto(job);
+    }
+
+    public List<SyncRepairJobDto> getJobs() {
+        synchronized (jobs) {
+            return jobs.values().stream().map(this::toDto).toList();
+        }
+    }
+
+    public Optional<SyncRepairJobDto> getJob(long jobId) {
+        synchronized (jobs) {
+            return Optional.ofNullable(jobs.get(jobId)).map(this::toDto);
+        }
+    }
+
+    private void register(SyncRepairJob job) {
+        synchronized (jobs) {
+            jobs.put(job.getId(), job);
+            jobs.values().removeIf(old -> jobs.size() > RETAINED_JOBS && old.getStatus() != SyncRepairJob.Status.RUNNING);
+        }
+    }
+
+    private SyncRepairJobDto toDto(SyncRepairJob job) {
+        return SyncRepairJobDto.builder()
+                .jobId(job.getId())
+                .reportId(job.getReportId())
+                .tableName(job.getTableName())
+                .direction(job.getDirection().name())
+                .status(job.getStatus().name())
+                .errorMessage(job.getErrorMessage())
+                .startedAt(format(job.getStartedAt()))
+                .finishedAt(format(job.getFinishedAt()))
+                .plannedRows(job.getPlannedRows())
+                .rowsUpserted(job.getRowsUpserted().get())
+                .rowsDeleted(job.getRowsDeleted().get())
+                .batchesCompleted(job.getBatchesCompleted().get())
+                .batchesInFlight(job.getBatchesInFlight().get())
+                .rowsPerSecond(Math.round(job.getRowsPerSecond() * 10.0) / 10.0)
+                .build();
+    }
+
+    private String format(Instant instant) {
+        return instant != null ? TIME_FORMATTER.format(instant) : null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        repairExecutor.shutdownNow();
+    }
+}
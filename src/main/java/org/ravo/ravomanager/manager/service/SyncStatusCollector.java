@@ -0,0 +1,55 @@
+package org.ravo.ravomanager.manager.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.ravo.ravomanager.manager.domain.SyncStatus;
+import org.ravo.ravomanager.manager.domain.SyncStatusSnapshot;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 동기화 상태 백그라운드 수집기
+ * 정해진 주기로 동기화 상태를 계산해 스냅샷으로 발행하며, 요청 처리 스레드는 최신 스냅샷만 읽습니다.
+ * 대시보드를 보는 사용자 수와 관계없이 DB 비교 부하는 수집 주기에만 비례합니다.
+ * 동기화율이 바뀌면 {@link SystemEventService} 에 알려 임계값을 넘나드는지 확인합니다.
+ */
+@Slf4j
+@Service
+public class SyncStatusCollector {
+
+    private final TableHashService tableHashService;
+    private final SystemEventService systemEventService;
+    private final AtomicReference<SyncStatusSnapshot> latest;
+
+    public SyncStatusCollector(TableHashService tableHashService, SystemEventService systemEventService) {
+        this.tableHashService = tableHashService;
+        this.systemEventService = systemEventService;
+        this.latest = new AtomicReference<>(new SyncStatusSnapshot(tableHashService.createDefaultSyncStatus(), null));
+    }
+
+    /**
+     * 동기화 상태 계산 (이전 계산이 끝난 뒤 sync.collect-interval 만큼 대기)
+     */
+    @Scheduled(fixedDelayString = "${sync.collect-interval:PT2S}")
+    public void collect() {
+        try {
+            SyncStatus status = tableHashService.calculateSyncStatus();
+            SyncStatusSnapshot previous = latest.getAndSet(new SyncStatusSnapshot(status, Instant.now()));
+            // 기동 후 첫 계산은 비교할 이전 값이 없음
+            if (previous.getCollectedAt() != null) {
+                systemEventService.syncPercentChanged(previous.getSyncPercent(), status.getSyncPercent());
+            }
+        } catch (Exception e) {
+            log.warn("Sync status collection failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 가장 최근에 발행된 스냅샷
+     */
+    public SyncStatusSnapshot getLatest() {
+        return latest.get();
+    }
+}
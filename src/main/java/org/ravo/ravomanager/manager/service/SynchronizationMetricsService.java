@@ -1,14 +1,22 @@
 package org.ravo.ravomanager.manager.service;
 
-import java.time.LocalDateTime;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import lombok.extern.slf4j.Slf4j;
-import org.ravo.ravomanager.manager.domain.SyncStatus;
+import org.ravo.ravomanager.manager.domain.SyncStatusSnapshot;
 import org.ravo.ravomanager.manager.dto.SynchronizationMetricsDto;
+import org.ravo.ravomanager.manager.gtid.GtidHistoryIndex;
+import org.ravo.ravomanager.manager.gtid.GtidLagTracker;
+import org.ravo.ravomanager.manager.gtid.GtidSet;
+import org.ravo.ravomanager.manager.monitoring.Metric;
 import org.ravo.ravomanager.manager.monitoring.MetricData;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
@@ -19,100 +27,147 @@ import java.time.format.DateTimeFormatter;
 @Service
 public class SynchronizationMetricsService {
 
-    private final TableHashService tableHashService;
+    private final SyncStatusCollector syncStatusCollector;
     private final JdbcTemplate standbyJdbcTemplate;
-    private final JdbcTemplate batchJdbcTemplate;
+    private final GtidHistoryCache gtidHistoryCache;
+    private final SourceCall<GtidHistoryIndex> gtidHistorySource;
+    private final SourceCall<String> standbyGtidSource;
+    private final GtidLagTracker lagTracker;
+    // 같은 GTID 문자열을 다시 파싱하지 않도록 마지막 결과 보관 (Active 쪽은 GtidHistoryCache 가 파싱해 둠)
+    private volatile ParsedGtid lastStandbyGtid = ParsedGtid.NONE;
+
+    private record ParsedGtid(String text, GtidSet set) {
+        static final ParsedGtid NONE = new ParsedGtid(null, null);
+    }
 
-    public SynchronizationMetricsService(TableHashService tableHashService, @Qualifier("standbyJdbcTemplate")JdbcTemplate standbyJdbcTemplate,
-                                         @Qualifier("batchJdbcTemplate") JdbcTemplate batchJdbcTemplate) {
-        this.tableHashService = tableHashService;
-        this.standbyJdbcTemplate = standbyJdbcTemplate;
-        this.batchJdbcTemplate = batchJdbcTemplate;
+    public SynchronizationMetricsService(SyncStatusCollector syncStatusCollector, @Qualifier("standbyProbeJdbcTemplate")JdbcTemplate standbyJdbcTemplate,
+                                         GtidHistoryCache gtidHistoryCache,
+                                         @Qualifier("dashboardSourceExecutor") ExecutorService sourceExecutor,
+                                         @Value("${dashboard.gtid-timeout:PT2S}") Duration gtidTimeout,
+                                         @Value("${dashboard.source-max-concurrent:1}") int sourceMaxConcurrent,
+                                         @Value("${dashboard.gtid-trend-window:PT1M}") Duration gtidTrendWindow) {
+        this.syncStatusCollector = syncStatusCollector;
+        // 기다림을 끝낸 뒤에도 조회가 커넥션을 붙잡지 않도록 서버 쪽 쿼리도 같은 시간에 취소
+        this.standbyJdbcTemplate = QueryTimeouts.withQueryTimeout(standbyJdbcTemplate, gtidTimeout);
+        this.gtidHistoryCache = gtidHistoryCache;
+        this.gtidHistorySource = new SourceCall<>("batch gtid_history", sourceExecutor, gtidTimeout, sourceMaxConcurrent);
+        this.standbyGtidSource = new SourceCall<>("standby gtid_executed", sourceExecutor, gtidTimeout, sourceMaxConcurrent);
+        this.lagTracker = new GtidLagTracker(gtidTrendWindow.toMillis());
     }
 
     private static final DateTimeFormatter FORMATTER =
             DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final DateTimeFormatter SYNC_TIME_FORMATTER = DateTimeFormatter.ofPattern("MM/dd HH:mm:ss");
+    private static final ZoneId KST_ZONE = ZoneId.of("Asia/Seoul");
 
 
     /**
      * Active/Standby DB 동기화 메트릭 취합
-     * 연결 실패 시 캐시된 값 또는 기본값 반환
+     * batchDB gtid_history 증분 조회와 Standby GTID_EXECUTED 조회를 동시에 실행하며, 각각 dashboard.gtid-timeout 안에
+     * 끝나지 않거나 실패하면 gtid_history 는 마지막 캐시, Standby GTID 는 "N/A" 로 채웁니다. (이전 호출이 아직 실행 중이어도 같음) 동기화율은 백그라운드 수집기의 최신 스냅샷을 사용합니다.
+     * 메트릭 데이터가 없거나 DB 가 DOWN 이면 조회 없이 기본값으로 완료됩니다.
      */
-    public SynchronizationMetricsDto buildSyncMetrics(Map<String, MetricData> metrics, double syncRate) {
-        try {
-            MetricData activeData = metrics.get("active");
-            MetricData standbyData = metrics.get("standby");
-
-            // 메트릭 데이터가 없거나 DOWN 상태면 캐시/기본값 반환
-            if (activeData == null || activeData.getStatus() == MetricData.DatabaseStatus.DOWN) {
-                log.debug("Active DB is down or metrics unavailable, returning cached/default metrics");
-                return createDefaultMetrics();
-            }
-
-            if (standbyData == null || standbyData.getStatus() == MetricData.DatabaseStatus.DOWN) {
-                log.debug("Standby DB is down or metrics unavailable, returning cached/default metrics");
-                return createDefaultMetrics();
-            }
-
-            // Sync rate 계산
-            SyncStatus syncStatus = tableHashService.calculateSyncStatus();
-            syncRate = syncStatus.getSyncPercent();
-
-            // Active GTID (배치 DB 기록 중 최신)
-            Map<String, Object> latestGtidRow = fetchLatestGtidRecord();
-
-            String activeGtid = latestGtidRow != null
-                    ? (String) latestGtidRow.getOrDefault("gtid_set", "N/A")
-                    : "N/A";
-
-            String lastSyncTime = "N/A";
-
-            if (latestGtidRow != null && latestGtidRow.get("created_at") != null) {
-                // DB에서 가져온 UTC 기준 시간
-                LocalDateTime createdAtUtc = (LocalDateTime) latestGtidRow.get("created_at");
-
-                // 변환 및 포맷 설정 (초 단위 포함)
-                DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM/dd HH:mm:ss");
-                ZoneId utcZone = ZoneId.of("UTC");
-                ZoneId kstZone = ZoneId.of("Asia/Seoul");
-
-                // UTC → KST 변환
-                ZonedDateTime createdAtKst = createdAtUtc.atZone(utcZone).withZoneSameInstant(kstZone);
-
-                // 포맷팅
-                lastSyncTime = createdAtKst.format(formatter);
-            }
-
-            // Standby GTID (Standby DB 직접 조회)
-            String standbyGtid = fetchStandbyGtid();
-
-            // 데이터 전송량
-            double activeBytesSent = activeData.getMetrics().getOrDefault("mysql_global_status_bytes_sent", 0.0);
-            double standbyBytesSent = standbyData.getMetrics().getOrDefault("mysql_global_status_bytes_sent", 0.0);
-            String activeDataTransferred = formatBytes(activeBytesSent);
-            String standbyDataTransferred = formatBytes(standbyBytesSent);
-
-            // DTO 구성
-            SynchronizationMetricsDto dto = SynchronizationMetricsDto.builder()
-                    .syncRate(syncRate)
-                    .activeGtid(activeGtid)
-                    .standbyGtid(standbyGtid)
-                    .activeDataTransferred(activeDataTransferred)
-                    .standbyDataTransferred(standbyDataTransferred)
-                    .lastSyncTime(lastSyncTime)
-                    .build();
-
-            return dto;
+    public CompletableFuture<SynchronizationMetricsDto> buildSyncMetrics(Map<String, MetricData> metrics) {
+        MetricData activeData = metrics.get("active");
+        MetricData standbyData = metrics.get("standby");
+
+        // 메트릭 데이터가 없거나 DOWN 상태면 기본값 반환
+        if (activeData == null || activeData.getStatus() == MetricData.DatabaseStatus.DOWN) {
+            log.debug("Active DB is down or metrics unavailable, returning default metrics");
+            return CompletableFuture.completedFuture(createDefaultMetrics());
+        }
 
-        } catch (DataAccessException e) {
-            // DB 연결 실패
-            log.debug("Database connection failed during metrics build: {}", e.getMessage());
-            return createDefaultMetrics();
-        } catch (Exception e) {
-            // 기타 예외
-            log.debug("Unexpected error during metrics build: {}", e.getMessage());
-            return createDefaultMetrics();
+        if (standbyData == null || standbyData.getStatus() == MetricData.DatabaseStatus.DOWN) {
+            log.debug("Standby DB is down or metrics unavailable, returning default metrics");
+            return CompletableFuture.completedFuture(createDefaultMetrics());
         }
+
+        // Active GTID (배치 DB 기록 중 최신) / Standby GTID (Standby DB 직접 조회) 동시 조회
+        CompletableFuture<GtidHistoryIndex> gtidHistory =
+                gtidHistorySource.supply(gtidHistoryCache::refresh, gtidHistoryCache::current);
+        CompletableFuture<String> standbyGtid = standbyGtidSource.supply(this::fetchStandbyGtid, () -> "N/A");
+
+        return gtidHistory.thenCombine(standbyGtid, (history, standby) -> toDto(activeData, standbyData, history, standby))
+                .exceptionally(e -> {
+                    log.debug("Unexpected error during metrics build: {}", e.getMessage());
+                    return createDefaultMetrics();
+                });
+    }
+
+    private SynchronizationMetricsDto toDto(MetricData activeData, MetricData standbyData,
+                                            GtidHistoryIndex gtidHistory, String standbyGtid) {
+        // Sync rate (백그라운드 수집기의 최신 스냅샷)
+        SyncStatusSnapshot syncStatus = syncStatusCollector.getLatest();
+
+        GtidHistoryIndex.Entry latestGtid = gtidHistory.latest();
+        String activeGtid = latestGtid != null ? latestGtid.text() : "N/A";
+
+        // DB에서 가져온 UTC 기준 시간 → KST (초 단위 포함)
+        String lastSyncTime = latestGtid != null ? formatKst(latestGtid.recordedAtMicros()) : "N/A";
+
+        // 데이터 전송량
+        double activeBytesSent = activeData.getOrDefault(Metric.BYTES_SENT, 0.0);
+        double standbyBytesSent = standbyData.getOrDefault(Metric.BYTES_SENT, 0.0);
+        String activeDataTransferred = formatBytes(activeBytesSent);
+        String standbyDataTransferred = formatBytes(standbyBytesSent);
+
+        // Standby 미반영 트랜잭션 수와 추세 (GTID 집합 차집합), 시간 기준 지연 (gtid_history 색인)
+        GtidSet standbySet = parseStandbyGtid(standbyGtid);
+        GtidLagTracker.Lag lag = latestGtid != null && standbySet != null
+                ? lagTracker.record(System.currentTimeMillis(), latestGtid.set(), standbySet)
+                : null;
+        GtidHistoryIndex.Lag timeLag = standbySet != null
+                ? gtidHistory.lag(standbySet, ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now()))
+                : null;
+
+        // DTO 구성
+        SynchronizationMetricsDto.SynchronizationMetricsDtoBuilder builder = SynchronizationMetricsDto.builder()
+                .syncRate(syncStatus.getSyncPercent())
+                .activeGtid(activeGtid)
+                .standbyGtid(standbyGtid)
+                .activeDataTransferred(activeDataTransferred)
+                .standbyDataTransferred(standbyDataTransferred)
+                .lastSyncTime(lastSyncTime)
+                .syncStatusAgeMillis(syncStatus.getAgeMillis());
+        if (lag != null) {
+            builder.missingTransactions(lag.missing())
+                    .missingChangePerSecond(lag.missingChangePerSecond())
+                    .catchUpPerSecond(lag.catchUpPerSecond())
+                    .standbyAppliedPerSecond(lag.replicaAppliedPerSecond())
+                    .catchUpEtaSeconds(Double.isNaN(lag.catchUpEtaSeconds()) ? null : lag.catchUpEtaSeconds())
+                    .lagTrend(lag.trend());
+        }
+        if (timeLag != null) {
+            builder.replicationLagSeconds(timeLag.seconds())
+                    .replicationLagLowerBound(timeLag.lowerBound())
+                    .standbyAppliedUpTo(timeLag.appliedUpToMicros() < 0 ? null : formatKst(timeLag.appliedUpToMicros()));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Standby GTID_EXECUTED 파싱 (직전과 같은 문자열이면 재사용), 모르거나 해석할 수 없으면 null
+     */
+    private GtidSet parseStandbyGtid(String standbyGtid) {
+        if (standbyGtid == null || "N/A".equals(standbyGtid)) {
+            return null;
+        }
+        ParsedGtid last = lastStandbyGtid;
+        if (standbyGtid.equals(last.text())) {
+            return last.set();
+        }
+        try {
+            GtidSet set = GtidSet.parse(standbyGtid);
+            lastStandbyGtid = new ParsedGtid(standbyGtid, set);
+            return set;
+        } catch (IllegalArgumentException e) {
+            log.debug("Failed to parse Standby GTID set: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static String formatKst(long epochMicros) {
+        return Instant.EPOCH.plus(epochMicros, ChronoUnit.MICROS).atZone(KST_ZONE).format(SYNC_TIME_FORMATTER);
     }
 
     /**
@@ -139,27 +194,10 @@ public class SynchronizationMetricsService {
                 .activeDataTransferred("0 B")
                 .standbyDataTransferred("0 B")
                 .lastSyncTime("N/A")
+                .syncStatusAgeMillis(-1L)
                 .build();
     }
 
-    /**
-     * batchDB에서 최신 GTID 레코드 조회
-     */
-    private Map<String, Object> fetchLatestGtidRecord() {
-        try {
-            String query = """
-                    SELECT gtid_set, created_at
-                    FROM gtid_history
-                    ORDER BY created_at DESC
-                    LIMIT 1
-                    """;
-            return batchJdbcTemplate.queryForMap(query);
-        } catch (Exception e) {
-            log.debug("No GTID record found in batchDB: {}", e.getMessage());
-            return null;
-        }
-    }
-
     /**
      * 바이트 크기 포맷팅
      */
@@ -0,0 +1,154 @@
+package org.ravo.ravomanager.manager.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.ravo.ravomanager.manager.dto.SystemEventDto;
+import org.ravo.ravomanager.manager.journal.EventJournal;
+import org.ravo.ravomanager.manager.journal.JournalEvent;
+import org.ravo.ravomanager.manager.monitoring.MetricData;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 시스템 이벤트 기록/조회 서비스
+ * 수집기와 제어 서비스가 상태 변화(Selector 전환, DB UP/DOWN, 동기화율 임계값 통과, 페일오버 제어 호출)를 알리면
+ * 이벤트 문구를 만들어 {@link EventJournal} 에 넘깁니다. 기록은 대기열에 넣기만 하므로 호출한 스레드를 막지 않습니다.
+ */
+@Slf4j
+@Service
+public class SystemEventService {
+
+    private static final ZoneId KST_ZONE = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter DISPLAY_FORMATTER = DateTimeFormatter.ofPattern("MM/dd HH:mm:ss");
+
+    private final EventJournal eventJournal;
+    private final double[] syncThresholds;
+
+    public SystemEventService(EventJournal eventJournal,
+                              @Value("${dashboard.sync-event-thresholds:100,99,95}") double[] syncThresholds) {
+        this.eventJournal = eventJournal;
+        // 내림차순
+        this.syncThresholds = Arrays.stream(syncThresholds).boxed()
+                .sorted((a, b) -> Double.compare(b, a))
+                .mapToDouble(Double::doubleValue)
+                .toArray();
+    }
+
+    /**
+     * K8s Selector 전환 (watcher 스레드)
+     */
+    public void selectorChanged(String from, String to, Instant switchedAt, boolean reportedByWatcher) {
+        record("failover", "warning",
+                String.format("서비스 트래픽이 %s → %s 로 전환되었습니다", from, to),
+                "전환 시각: " + format(switchedAt.toEpochMilli()) + (reportedByWatcher ? " (watcher 보고)" : " (감지 시각)"),
+                null);
+    }
+
+    /**
+     * DB 상태 변화 (메트릭 수집 스레드), UNKNOWN 에서 UP 이 된 경우(기동 직후)는 기록하지 않음
+     */
+    public void databaseStatusChanged(String roleName, MetricData.DatabaseStatus previous, MetricData.DatabaseStatus current) {
+        if (previous == current || current == MetricData.DatabaseStatus.UNKNOWN) {
+            return;
+        }
+        if (current == MetricData.DatabaseStatus.DOWN) {
+            record("connection", "error", roleName + " DB 에 연결할 수 없습니다",
+                    "메트릭 수집 실패 (이전 상태: " + previous + ")", null);
+        } else if (previous == MetricData.DatabaseStatus.DOWN) {
+            record("recovery", "success", roleName + " DB 가 다시 응답합니다", null, null);
+        }
+    }
+
+    /**
+     * 동기화율 변화 (동기화 상태 수집 스레드), dashboard.sync-event-thresholds 중 하나를 넘나들 때만 기록
+     */
+    public void syncPercentChanged(double previous, double current) {
+        int previousLevel = level(previous);
+        int currentLevel = level(current);
+        if (previousLevel == currentLevel) {
+            return;
+        }
+        String description = String.format("현재 %.2f%% (이전 %.2f%%)", current, previous);
+        if (currentLevel > previousLevel) {
+            // 새로 넘은 임계값 중 가장 높은 값
+            double threshold = syncThresholds[syncThresholds.length - currentLevel];
+            boolean complete = currentLevel == syncThresholds.length;
+            record("sync", complete ? "success" : "info",
+                    "동기화율이 " + formatPercent(threshold) + (complete ? "% 이상으로 회복되었습니다" : "% 이상으로 올라갔습니다"),
+                    description, null);
+        } else {
+            // 지금 값 바로 위의 임계값
+            double threshold = syncThresholds[syncThresholds.length - currentLevel - 1];
+            record("sync", currentLevel == 0 ? "error" : "warning",
+                    "동기화율이 " + formatPercent(threshold) + "% 아래로 떨어졌습니다", description, null);
+        }
+    }
+
+    /**
+     * 페일오버 제어 호출 결과 (요청 스레드)
+     *
+     * @param error 성공이면 null
+     */
+    public void failoverControlCalled(String actionName, String error) {
+        if (error == null) {
+            record("failover", "info", actionName + " 요청을 보냈습니다", null, null);
+        } else {
+            record("failover", "error", actionName + " 요청에 실패했습니다", error, null);
+        }
+    }
+
+    /**
+     * 최근 이벤트 (최신순)
+     */
+    public List<SystemEventDto> getRecentEvents(int limit) {
+        return eventJournal.latest(limit).stream().map(this::toDto).toList();
+    }
+
+    /**
+     * [from, to] 구간 이벤트 (오래된 것부터, epoch millis)
+     */
+    public List<SystemEventDto> getEvents(long from, long to, int limit) {
+        return eventJournal.range(from, to, limit).stream().map(this::toDto).toList();
+    }
+
+    /**
+     * 통과한 임계값 수 (모두 못 넘으면 0, 가장 높은 값까지 넘으면 임계값 개수)
+     */
+    private int level(double percent) {
+        int level = 0;
+        for (int i = syncThresholds.length - 1; i >= 0 && percent >= syncThresholds[i]; i--) {
+            level++;
+        }
+        return level;
+    }
+
+    private void record(String type, String severity, String title, String description, String details) {
+        log.info("System event [{}/{}] {}", type, severity, title);
+        eventJournal.record(new JournalEvent(System.currentTimeMillis(), type, severity, title, description, details));
+    }
+
+    private SystemEventDto toDto(JournalEvent event) {
+        return SystemEventDto.builder()
+                .eventType(event.type())
+                .severity(event.severity())
+                .title(event.title())
+                .description(event.description())
+                .timestamp(format(event.timestamp()))
+                .timestampMillis(event.timestamp())
+                .details(event.details())
+                .build();
+    }
+
+    private static String format(long epochMillis) {
+        return Instant.ofEpochMilli(epochMillis).atZone(KST_ZONE).format(DISPLAY_FORMATTER);
+    }
+
+    private static String formatPercent(double percent) {
+        return percent == Math.rint(percent) ? String.valueOf((long) percent) : String.valueOf(percent);
+    }
+}
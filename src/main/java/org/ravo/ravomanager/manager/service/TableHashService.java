@@ -1,15 +1,26 @@
 package org.ravo.ravomanager.manager.service;
 
 import lombok.extern.slf4j.Slf4j;
+import org.ravo.config.SyncProperties;
 import org.ravo.ravomanager.manager.domain.SyncStatus;
 import org.ravo.ravomanager.manager.domain.TableSyncInfo;
+import org.ravo.ravomanager.manager.sync.ChecksumRangeComparator;
+import org.ravo.ravomanager.manager.sync.IncrementalSyncVerifier;
+import org.ravo.ravomanager.manager.sync.RowCompareResult;
+import org.ravo.ravomanager.manager.sync.RowDiffListener;
+import org.ravo.ravomanager.manager.sync.StreamingRowComparator;
+import org.ravo.ravomanager.manager.sync.SyncExecutors;
+import org.ravo.ravomanager.manager.sync.TableSchema;
+import org.ravo.ravomanager.manager.sync.TableSchemaCache;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Service
@@ -17,16 +28,34 @@ public class TableHashService {
 
     private final JdbcTemplate directActiveJdbcTemplate;
     private final JdbcTemplate standbyJdbcTemplate;
-
-    // 동기화 확인할 주요 테이블 목록 (추후 추가 가능)
-    private static final List<String> MONITORED_TABLES = List.of(
-            "users"
-    );
-
-
-    public TableHashService(JdbcTemplate directActiveJdbcTemplate, JdbcTemplate standbyJdbcTemplate) {
+    // 동기화 상태 비교용 (같은 풀, 쿼리 제한 시간 = 테이블 비교 제한 시간)
+    private final JdbcTemplate activeCompareJdbcTemplate;
+    private final JdbcTemplate standbyCompareJdbcTemplate;
+    private final StreamingRowComparator streamingRowComparator;
+    private final ChecksumRangeComparator checksumRangeComparator;
+    private final IncrementalSyncVerifier incrementalSyncVerifier;
+    private final TableSchemaCache tableSchemaCache;
+    private final SyncProperties syncProperties;
+    private final SyncExecutors syncExecutors;
+
+
+    public TableHashService(JdbcTemplate directActiveJdbcTemplate, JdbcTemplate standbyJdbcTemplate,
+                            StreamingRowComparator streamingRowComparator,
+                            ChecksumRangeComparator checksumRangeComparator,
+                            IncrementalSyncVerifier incrementalSyncVerifier,
+                            TableSchemaCache tableSchemaCache,
+                            SyncProperties syncProperties,
+                            SyncExecutors syncExecutors) {
         this.directActiveJdbcTemplate = directActiveJdbcTemplate;
         this.standbyJdbcTemplate = standbyJdbcTemplate;
+        this.streamingRowComparator = streamingRowComparator;
+        this.checksumRangeComparator = checksumRangeComparator;
+        this.incrementalSyncVerifier = incrementalSyncVerifier;
+        this.tableSchemaCache = tableSchemaCache;
+        this.syncProperties = syncProperties;
+        this.syncExecutors = syncExecutors;
+        this.activeCompareJdbcTemplate = QueryTimeouts.withQueryTimeout(directActiveJdbcTemplate, syncProperties.getTableTimeout());
+        this.standbyCompareJdbcTemplate = QueryTimeouts.withQueryTimeout(standbyJdbcTemplate, syncProperties.getTableTimeout());
     }
 
     /**
@@ -35,11 +64,10 @@ public class TableHashService {
      */
     public SyncStatus calculateSyncStatus() {
         try {
-            // Active DB 연결 테스트
-            testConnection(directActiveJdbcTemplate, "Active");
-            
-            // Standby DB 연결 테스트
-            testConnection(standbyJdbcTemplate, "Standby");
+            // Active/Standby DB 연결 테스트 (동시 실행)
+            syncExecutors.readBoth(
+                    () -> testConnection(directActiveJdbcTemplate, "Active"),
+                    () -> testConnection(standbyJdbcTemplate, "Standby"));
 
             // 연결 성공 시 실제 동기화 상태 계산
             SyncStatus syncStatus = performSyncCalculation();
@@ -60,9 +88,9 @@ public class TableHashService {
     /**
      * DB 연결 테스트
      */
-    private void testConnection(JdbcTemplate jdbcTemplate, String dbName) {
+    private Integer testConnection(JdbcTemplate jdbcTemplate, String dbName) {
         try {
-            jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+            return jdbcTemplate.queryForObject("SELECT 1", Integer.class);
         } catch (Exception e) {
             log.debug("{} DB connection test failed: {}", dbName, e.getMessage());
             throw e;
@@ -81,10 +109,11 @@ public class TableHashService {
     /**
      * 기본 Sync Status 생성
      */
-    private SyncStatus createDefaultSyncStatus() {
+    public SyncStatus createDefaultSyncStatus() {
+        List<String> tables = syncProperties.getTables();
         List<TableSyncInfo> defaultTableInfos = new ArrayList<>();
         
-        for (String tableName : MONITORED_TABLES) {
+        for (String tableName : tables) {
             TableSyncInfo info = new TableSyncInfo();
             info.setTableName(tableName);
             info.setActiveHash("N/A");
@@ -96,46 +125,65 @@ public class TableHashService {
             defaultTableInfos.add(info);
         }
 
-        return new SyncStatus(0.0, defaultTableInfos, MONITORED_TABLES.size(), 0);
+        return new SyncStatus(0.0, defaultTableInfos, tables.size(), 0);
     }
 
     /**
      * 실제 동기화 상태 계산 수행
+     * 모든 테이블을 동시에 비교하며, 전체 소요 시간은 가장 느린 테이블 하나의 시간에 가깝습니다.
+     * 제한 시간 안에 끝나지 않은 테이블은 취소하고 동기화 실패로 간주합니다.
+     * 제한 시간은 테이블 비교가 실제로 시작된 시점부터 재므로, maxConcurrentTables 때문에 대기한 테이블도 같은 시간을 받습니다.
      */
     private SyncStatus performSyncCalculation() {
+        List<String> tables = syncProperties.getTables();
         List<TableSyncInfo> tableInfos = new ArrayList<>();
         int syncedCount = 0;
         double totalSyncPercent = 0.0;
 
-        for (String tableName : MONITORED_TABLES) {
-            try {
-                TableSyncInfo info = compareTableByRows(tableName);
-                tableInfos.add(info);
-
-                // 100% 동기화된 테이블만 카운트
-                if (info.isSynced()) {
-                    syncedCount++;
-                }
-
-                // 전체 평균 동기화율 계산에 사용
-                totalSyncPercent += info.getSyncPercent();
+        Map<String, TableTask> tasks = new LinkedHashMap<>();
+        for (String tableName : tables) {
+            TableTask task = new TableTask();
+            task.future = syncExecutors.getTableExecutor().submit(() -> {
+                task.startedAt = System.nanoTime();
+                task.started = true;
+                return compareTableByRows(tableName);
+            });
+            tasks.put(tableName, task);
+        }
 
-            } catch (Exception e) {
-                log.error("Error comparing table: {}", tableName, e);
+        for (Map.Entry<String, TableTask> entry : tasks.entrySet()) {
+            String tableName = entry.getKey();
+            Future<TableSyncInfo> future = entry.getValue().future;
+            TableSyncInfo info;
+            try {
+                info = await(entry.getValue());
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                log.warn("Table comparison timed out: {} ({})", tableName, syncProperties.getTableTimeout());
+                info = createErrorTableInfo(tableName, "TIMEOUT");
+            } catch (ExecutionException e) {
+                log.error("Error comparing table: {}", tableName, e.getCause());
+                // DDL 변경일 수 있으므로 다음 주기에 테이블 구조를 다시 읽음
+                tableSchemaCache.invalidate(tableName);
                 // 에러 발생 시 동기화 실패로 간주
-                TableSyncInfo errorInfo = new TableSyncInfo();
-                errorInfo.setTableName(tableName);
-                errorInfo.setActiveHash("ERROR");
-                errorInfo.setStandbyHash("ERROR");
-                errorInfo.setSynced(false);
-                errorInfo.setActiveCount(-1);
-                errorInfo.setStandbyCount(-1);
-                errorInfo.setSyncPercent(0.0);
-                tableInfos.add(errorInfo);
+                info = createErrorTableInfo(tableName, "ERROR");
+            } catch (InterruptedException e) {
+                future.cancel(true);
+                Thread.currentThread().interrupt();
+                info = createErrorTableInfo(tableName, "ERROR");
+            }
+            tableInfos.add(info);
+
+            // 100% 동기화된 테이블만 카운트
+            if (info.isSynced()) {
+                syncedCount++;
             }
+
+            // 전체 평균 동기화율 계산에 사용
+            totalSyncPercent += info.getSyncPercent();
         }
 
-        int totalTables = MONITORED_TABLES.size();
+        int totalTables = tables.size();
         // 전체 동기화율은 각 테이블의 동기화율 평균
         double avgSyncPercent = totalTables > 0 ? (totalSyncPercent / totalTables) : 100.0;
         avgSyncPercent = Math.round(avgSyncPercent * 100.0) / 100.0; // 소수점 둘째 자리
@@ -143,128 +191,107 @@ public class TableHashService {
         return new SyncStatus(avgSyncPercent, tableInfos, totalTables, syncedCount);
     }
 
+    /**
+     * 테이블 비교 결과 대기 (시작 전이면 시작할 때까지 기다린 뒤 시작 시점 + tableTimeout 까지)
+     */
+    private TableSyncInfo await(TableTask task) throws InterruptedException, ExecutionException, TimeoutException {
+        long timeout = syncProperties.getTableTimeout().toNanos();
+        while (true) {
+            long wait = task.started ? task.startedAt + timeout - System.nanoTime() : timeout;
+            try {
+                return task.future.get(Math.max(0, wait), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (task.started && System.nanoTime() - task.startedAt >= timeout) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * 테이블 비교 작업과 시작 시각 (테이블 실행기 스레드가 기록)
+     */
+    private static class TableTask {
+        Future<TableSyncInfo> future;
+        volatile long startedAt;
+        volatile boolean started;
+    }
+
+    /**
+     * 비교 실패/시간 초과 테이블 정보 생성
+     */
+    private TableSyncInfo createErrorTableInfo(String tableName, String marker) {
+        TableSyncInfo errorInfo = new TableSyncInfo();
+        errorInfo.setTableName(tableName);
+        errorInfo.setActiveHash(marker);
+        errorInfo.setStandbyHash(marker);
+        errorInfo.setSynced(false);
+        errorInfo.setActiveCount(-1);
+        errorInfo.setStandbyCount(-1);
+        errorInfo.setSyncPercent(0.0);
+        return errorInfo;
+    }
+
     /**
      * 특정 테이블의 Active와 Standby를 행 단위로 비교합니다.
-     * 각 행의 해시를 비교하여 일치율을 계산합니다.
+     * INCREMENTAL 모드는 워터마크(updated_at) 이후 변경된 행만 다시 읽고,
+     * CHECKSUM 모드는 PK 구간 체크섬이 다른 구간만 행 단위로 내려가 비교하며,
+     * STREAMING 모드는 양쪽 전체를 PK 순서로 스트리밍하며 병합 비교합니다.
+     * 워터마크 컬럼이 없으면 CHECKSUM, 단일 정수형 PK 가 아니면 STREAMING(PK 해시 비교)으로 대체합니다.
      */
     private TableSyncInfo compareTableByRows(String tableName) {
-        // 행별 해시맵 생성 (key: primary key, value: 행 해시)
-        Map<String, String> activeRowHashes = getRowHashes(directActiveJdbcTemplate, tableName);
-        Map<String, String> standbyRowHashes = getRowHashes(standbyJdbcTemplate, tableName);
-
-        long activeCount = activeRowHashes.size();
-        long standbyCount = standbyRowHashes.size();
-
-        // 전체 행 개수 (합집합)
-        Set<String> allKeys = new HashSet<>(activeRowHashes.keySet());
-        allKeys.addAll(standbyRowHashes.keySet());
-        int totalRows = allKeys.size();
-
-        // 일치하는 행 개수 계산
-        int matchedRows = 0;
-        for (String key : allKeys) {
-            String activeHash = activeRowHashes.get(key);
-            String standbyHash = standbyRowHashes.get(key);
-
-            // 양쪽 모두 존재하고 해시가 같으면 일치
-            if (activeHash != null && activeHash.equals(standbyHash)) {
-                matchedRows++;
-            }
+        TableSchema schema = tableSchemaCache.get(directActiveJdbcTemplate, tableName);
+
+        SyncProperties.CompareMode mode = syncProperties.getCompareMode();
+        if (mode == SyncProperties.CompareMode.INCREMENTAL && schema.getWatermarkColumn() == null) {
+            mode = SyncProperties.CompareMode.CHECKSUM;
+        }
+        if (mode == SyncProperties.CompareMode.CHECKSUM && !schema.isIntegerKey()) {
+            mode = SyncProperties.CompareMode.STREAMING;
         }
 
-        // 동기화율 계산
-        double syncPercent = totalRows > 0 ? (matchedRows * 100.0 / totalRows) : 100.0;
-        syncPercent = Math.round(syncPercent * 100.0) / 100.0; // 소수점 둘째 자리
+        RowCompareResult result = switch (mode) {
+            case INCREMENTAL -> incrementalSyncVerifier.verify(
+                    activeCompareJdbcTemplate, standbyCompareJdbcTemplate, schema);
+            case CHECKSUM -> checksumRangeComparator.compare(
+                    activeCompareJdbcTemplate, standbyCompareJdbcTemplate, schema);
+            case STREAMING -> streamingRowComparator.compare(
+                    activeCompareJdbcTemplate, standbyCompareJdbcTemplate, schema);
+        };
+
+        double syncPercent = result.getSyncPercent();
 
         // 완전 동기화 여부 (100%일 때만 true)
         boolean synced = (syncPercent == 100.0);
 
-        // 전체 테이블 해시 (요약용)
-        String activeTableHash = computeSHA256(activeRowHashes.toString()).substring(0, 16);
-        String standbyTableHash = computeSHA256(standbyRowHashes.toString()).substring(0, 16);
-
         TableSyncInfo info = new TableSyncInfo();
         info.setTableName(tableName);
-        info.setActiveHash(activeTableHash);
-        info.setStandbyHash(standbyTableHash);
+        info.setActiveHash(result.activeTableHash());
+        info.setStandbyHash(result.standbyTableHash());
         info.setSynced(synced);
-        info.setActiveCount(activeCount);
-        info.setStandbyCount(standbyCount);
+        info.setActiveCount(result.getActiveCount());
+        info.setStandbyCount(result.getStandbyCount());
         info.setSyncPercent(syncPercent);
 
         log.debug("Table: {}, Sync: {}%, Matched: {}/{}, Active: {}, Standby: {}",
-                tableName, syncPercent, matchedRows, totalRows, activeCount, standbyCount);
+                tableName, syncPercent, result.getMatchedRows(), result.getTotalRows(),
+                result.getActiveCount(), result.getStandbyCount());
 
         return info;
     }
 
     /**
-     * 테이블의 각 행에 대한 해시맵을 반환합니다.
-     * Map<PrimaryKey, RowHash>
+     * 불일치 PK 를 정확히 찾기 위한 비교
+     * 증분 모드는 PK 목록을 만들 수 없으므로 구간 체크섬 비교를 사용합니다.
+     * 보고서와 재동기화는 PK 값을 그대로 다루므로 단일 정수형 PK 테이블만 지원합니다.
      */
-    private Map<String, String> getRowHashes(JdbcTemplate jdbcTemplate, String tableName) {
-        try {
-            String query = buildRowHashQuery(tableName);
-
-            List<Map<String, Object>> rows = jdbcTemplate.queryForList(query);
-            Map<String, String> rowHashes = new HashMap<>();
-
-            for (Map<String, Object> row : rows) {
-                // 첫 번째 컬럼은 primary key
-                String primaryKey = String.valueOf(row.values().iterator().next());
-
-                // 모든 컬럼 값을 연결하여 행 해시 생성
-                StringBuilder rowData = new StringBuilder();
-                for (Object value : row.values()) {
-                    rowData.append(value != null ? value.toString() : "NULL").append("|");
-                }
-
-                String rowHash = computeSHA256(rowData.toString());
-                rowHashes.put(primaryKey, rowHash);
-            }
-
-            return rowHashes;
-
-        } catch (Exception e) {
-            log.error("Failed to get row hashes for table: {}", tableName, e);
-            return new HashMap<>();
-        }
-    }
-
-    /**
-     * 테이블별로 행 해시를 계산하는 쿼리를 생성합니다.
-     */
-    private String buildRowHashQuery(String tableName) {
-        return switch (tableName.toLowerCase()) {
-            case "users" ->
-                    "SELECT id, user_id, password, name, balance FROM users ORDER BY id";
-            default ->
-                    "SELECT * FROM " + tableName + " ORDER BY id";
-        };
-    }
-
-    /**
-     * SHA-256 해시 계산
-     */
-    private String computeSHA256(String data) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hashBytes = digest.digest(data.getBytes());
-
-            // 바이트 배열을 16진수 문자열로 변환
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hashBytes) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) {
-                    hexString.append('0');
-                }
-                hexString.append(hex);
-            }
-
-            return hexString.toString();
-        } catch (NoSuchAlgorithmException e) {
-            log.error("SHA-256 algorithm not found", e);
-            return "ERROR";
+    public RowCompareResult diffTable(String tableName, RowDiffListener listener) {
+        TableSchema schema = tableSchemaCache.get(directActiveJdbcTemplate, tableName);
+        if (!schema.isIntegerKey()) {
+            throw new IllegalArgumentException("차이 분석은 단일 정수형 PK 테이블만 지원합니다: "
+                    + tableName + " " + schema.getPrimaryKey());
         }
+        return checksumRangeComparator.compare(
+                directActiveJdbcTemplate, standbyJdbcTemplate, schema, listener);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,176 @@
+package org.ravo.ravomanager.manager.sync;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ravo.config.SyncProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * PK 구간 체크섬(Merkle 방식) 기반 테이블 비교
+ * 각 PK 구간의 집계 체크섬을 DB에서 계산해 비교하고, 불일치 구간만 하위 구간으로 나누어 내려갑니다.
+ * 네트워크로 전송되는 데이터 양은 테이블 크기가 아니라 불일치 정도에 비례합니다.
+ * 구간 체크섬은 DB 쪽 문자열 표현으로 계산하므로 버전 차이로 어긋나더라도 행 비교(정규 바이트 해시)에서 다시 판정됩니다.
+ * 구간 번호는 PK 를 구간 크기로 나눈 몫을 내림한 값이라 음수 PK 도 [번호 × 크기, (번호 + 1) × 크기) 구간에 들어갑니다.
+ * 구간은 양끝을 포함해 다루므로(pk BETWEEN lo AND hi) Long.MIN_VALUE ~ Long.MAX_VALUE 전체 PK 가 비교 대상입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChecksumRangeComparator {
+
+    private final StreamingRowComparator streamingRowComparator;
+    private final SyncProperties syncProperties;
+    private final SyncExecutors syncExecutors;
+
+    /**
+     * 테이블 전체를 구간 체크섬으로 비교합니다.
+     *
+     * @param schema 단일 정수형 PK 테이블 구조
+     */
+    public RowCompareResult compare(JdbcTemplate activeJdbcTemplate, JdbcTemplate standbyJdbcTemplate,
+                                    TableSchema schema) {
+        return compare(activeJdbcTemplate, standbyJdbcTemplate, schema, RowDiffListener.NONE);
+    }
+
+    /**
+     * 구간 체크섬으로 비교하며, 불일치 구간의 행 비교에서 발견된 PK 를 listener 로 전달합니다.
+     */
+    public RowCompareResult compare(JdbcTemplate activeJdbcTemplate, JdbcTemplate standbyJdbcTemplate,
+                                    TableSchema schema, RowDiffListener listener) {
+        TableQueries queries = new TableQueries(schema, listener);
+        RowCompareResult result = new RowCompareResult();
+
+        compareRange(activeJdbcTemplate, standbyJdbcTemplate, queries,
+                Long.MIN_VALUE, Long.MAX_VALUE, syncProperties.getChecksumBucketSize(), result, true);
+
+        log.debug("Checksum compare finished - table: {}, matched: {}/{}, active: {}, standby: {}",
+                schema.getTableName(), result.getMatchedRows(), result.getTotalRows(),
+                result.getActiveCount(), result.getStandbyCount());
+        return result;
+    }
+
+    /**
+     * [lo, hi] 구간(양끝 포함)을 bucketSize 단위로 나누어 체크섬을 비교합니다.
+     */
+    private void compareRange(JdbcTemplate active, JdbcTemplate standby, TableQueries queries,
+                              long lo, long hi, long bucketSize, RowCompareResult result, boolean topLevel) {
+        SyncExecutors.SidePair<List<BucketChecksum>> buckets = syncExecutors.readBoth(
+                () -> fetchBuckets(active, queries, lo, hi, bucketSize),
+                () -> fetchBuckets(standby, queries, lo, hi, bucketSize));
+        List<BucketChecksum> activeBuckets = buckets.active();
+        List<BucketChecksum> standbyBuckets = buckets.standby();
+
+        int i = 0;
+        int j = 0;
+        while (i < activeBuckets.size() || j < standbyBuckets.size()) {
+            BucketChecksum a = i < activeBuckets.size() ? activeBuckets.get(i) : null;
+            BucketChecksum s = j < standbyBuckets.size() ? standbyBuckets.get(j) : null;
+
+            long bucket;
+            if (s == null || (a != null && a.bucket() < s.bucket())) {
+                bucket = a.bucket();
+                i++;
+            } else if (a == null || s.bucket() < a.bucket()) {
+                bucket = s.bucket();
+                j++;
+            } else {
+                bucket = a.bucket();
+                i++;
+                j++;
+            }
+
+            if (topLevel) {
+                // 테이블 요약 해시는 최상위 구간 체크섬의 XOR (= 전체 행 체크섬의 XOR, 스트리밍 비교와 같은 값)
+                result.addSummaries(a != null && a.bucket() == bucket ? a.checksum() : 0,
+                        s != null && s.bucket() == bucket ? s.checksum() : 0);
+            }
+
+            boolean matched = a != null && s != null && a.bucket() == s.bucket()
+                    && a.rowCount() == s.rowCount() && a.checksum() == s.checksum();
+            if (matched) {
+                result.addMatchedRows(a.rowCount());
+                continue;
+            }
+
+            drillDown(active, standby, queries, bucketStart(bucket, bucketSize, lo),
+                    bucketEnd(bucket, bucketSize, hi), bucketSize, result);
+        }
+    }
+
+    /**
+     * 불일치 구간을 하위 구간으로 나누거나, 충분히 작으면 행 단위로 비교합니다.
+     */
+    private void drillDown(JdbcTemplate active, JdbcTemplate standby, TableQueries queries,
+                           long lo, long hi, long bucketSize, RowCompareResult result) {
+        long childSize = bucketSize / Math.max(2, syncProperties.getChecksumFanout());
+        if (bucketSize <= syncProperties.getChecksumLeafSize() || childSize < 1) {
+            RowCompareResult leaf = streamingRowComparator.compare(
+                    active, standby, queries.schema, queries.listener, queries.rowRangeSql, lo, hi);
+            result.addCounts(leaf);
+            return;
+        }
+        compareRange(active, standby, queries, lo, hi, childSize, result, false);
+    }
+
+    /**
+     * 구간 번호의 첫 PK (lo 보다 작으면 lo)
+     * 번호 × 크기가 long 범위 아래로 넘치는 맨 앞 구간은 lo 부터 시작합니다.
+     */
+    static long bucketStart(long bucket, long bucketSize, long lo) {
+        return bucket < Long.MIN_VALUE / bucketSize ? lo : Math.max(lo, bucket * bucketSize);
+    }
+
+    /**
+     * 구간 번호의 마지막 PK (hi 보다 크면 hi)
+     * (번호 + 1) × 크기가 long 범위 위로 넘치는 맨 뒤 구간은 hi (최상위에서는 Long.MAX_VALUE) 까지입니다.
+     */
+    static long bucketEnd(long bucket, long bucketSize, long hi) {
+        return bucket >= Long.MAX_VALUE / bucketSize ? hi : Math.min(hi, (bucket + 1) * bucketSize - 1);
+    }
+
+    private List<BucketChecksum> fetchBuckets(JdbcTemplate jdbcTemplate, TableQueries queries,
+                                              long lo, long hi, long bucketSize) {
+        return jdbcTemplate.query(queries.bucketSql,
+                (rs, rowNum) -> new BucketChecksum(
+                        rs.getLong("bucket"),
+                        rs.getLong("row_count"),
+                        // 행 체크섬이 60비트이므로 BIT_XOR 결과(BIGINT UNSIGNED)도 long 범위 안
+                        rs.getLong("checksum")),
+                bucketSize, bucketSize, lo, hi);
+    }
+
+    private record BucketChecksum(long bucket, long rowCount, long checksum) {
+    }
+
+    /**
+     * 테이블별 구간 체크섬/구간 행 조회 쿼리 (비교 1회 동안 사용)
+     */
+    private static class TableQueries {
+        final TableSchema schema;
+        final String bucketSql;
+        final String rowRangeSql;
+        final RowDiffListener listener;
+
+        TableQueries(TableSchema schema, RowDiffListener listener) {
+            this.schema = schema;
+            this.listener = listener;
+            String pk = schema.quotedKey();
+            String table = schema.quotedTable();
+
+            // DIV 는 0 쪽으로 버리므로 나머지가 음수(음수 PK)면 1 을 빼서 내림 나눗셈으로 맞춤
+            // (FLOOR(pk / ?) 는 나눗셈 결과가 소수점 4자리로 반올림되어 큰 구간에서 경계가 틀어짐)
+            String bucket = "(" + pk + " DIV ?) - (" + pk + " % ? < 0)";
+            this.bucketSql = "SELECT " + bucket + " AS bucket, COUNT(*) AS row_count,"
+                    + " BIT_XOR(" + schema.rowChecksum() + ") AS checksum"
+                    + " FROM " + table
+                    + " WHERE " + pk + " BETWEEN ? AND ?"
+                    + " GROUP BY bucket ORDER BY bucket";
+            this.rowRangeSql = "SELECT " + schema.cursorColumns() + " FROM " + table
+                    + " WHERE " + pk + " BETWEEN ? AND ?"
+                    + " ORDER BY " + pk;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.ravo.ravomanager.manager.sync;
+
+import java.util.Locale;
+
+/**
+ * 컬럼 값을 해시 입력 바이트로 바꾸는 방식
+ * INFORMATION_SCHEMA 의 DATA_TYPE 기준으로 정하며, 드라이버의 문자열 표현이나 연결 문자셋에 의존하지 않고
+ * 값 자체를 정규화된 바이트로 기록하므로 MySQL/드라이버 버전이 달라도 같은 값은 같은 해시가 됩니다.
+ */
+enum ColumnEncoding {
+
+    /** 부호 있는 정수 (getLong, 8바이트) */
+    INTEGER,
+    /** BIGINT UNSIGNED (long 범위를 넘을 수 있으므로 문자열을 부호 없는 64비트로 해석) */
+    UNSIGNED_BIGINT,
+    /** DECIMAL/NUMERIC (후행 0 을 제거한 scale + unscaled 값) */
+    DECIMAL,
+    /** FLOAT (float 정밀도로 읽어 비트 패턴 기록, -0.0 은 0.0 으로 정규화) */
+    FLOAT,
+    /** DOUBLE/REAL (비트 패턴 기록, -0.0 은 0.0 으로 정규화) */
+    DOUBLE,
+    /** DATE (epoch day) */
+    DATE,
+    /** DATETIME (시간대 없는 값, UTC 로 간주한 epoch 마이크로초) */
+    DATETIME,
+    /** TIMESTAMP (UNIX_TIMESTAMP 로 조회한 epoch 마이크로초, 세션/서버 시간대와 무관) */
+    TIMESTAMP,
+    /** 문자열 계열 (UTF-8 바이트) */
+    TEXT,
+    /** 바이너리 계열 (원본 바이트) */
+    BINARY;
+
+    /**
+     * @param dataType   INFORMATION_SCHEMA.COLUMNS.DATA_TYPE (예: bigint)
+     * @param columnType INFORMATION_SCHEMA.COLUMNS.COLUMN_TYPE (예: bigint unsigned)
+     */
+    static ColumnEncoding of(String dataType, String columnType) {
+        boolean unsigned = columnType != null && columnType.toLowerCase(Locale.ROOT).contains("unsigned");
+        return switch (dataType.toLowerCase(Locale.ROOT)) {
+            case "tinyint", "smallint", "mediumint", "int", "integer", "year" -> INTEGER;
+            case "bigint" -> unsigned ? UNSIGNED_BIGINT : INTEGER;
+            case "decimal", "numeric" -> DECIMAL;
+            case "float" -> FLOAT;
+            case "double", "real" -> DOUBLE;
+            case "date" -> DATE;
+            case "datetime" -> DATETIME;
+            case "timestamp" -> TIMESTAMP;
+            case "char", "varchar", "tinytext", "text", "mediumtext", "longtext",
+                 "enum", "set", "json", "time" -> TEXT;
+            default -> BINARY;
+        };
+    }
+
+    /**
+     * 순서 비교가 가능한 정수형 PK 로 사용할 수 있는지 여부
+     */
+    boolean isOrderedKey() {
+        return this == INTEGER;
+    }
+
+    /**
+     * 복합/비정수 PK 정렬 병합에서 정렬 키를 부호 있는 정수로 비교하는지 여부 (그 외에는 바이너리 값의 바이트 순서)
+     */
+    boolean isNumericKey() {
+        return this == INTEGER || this == TIMESTAMP;
+    }
+}
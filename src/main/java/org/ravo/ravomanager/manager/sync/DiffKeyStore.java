@@ -0,0 +1,128 @@
+package org.ravo.ravomanager.manager.sync;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * 불일치 PK 목록 저장소 (단일 writer)
+ * memoryLimit 개까지는 long[] 에 보관하고, 넘으면 전체를 8바이트 고정 길이 레코드 파일로 내려씁니다.
+ * 고정 길이이므로 파일로 내려간 뒤에도 페이지 조회는 위치 계산 한 번으로 처리됩니다.
+ */
+public class DiffKeyStore implements AutoCloseable {
+
+    private final Path spillFile;
+    private final int memoryLimit;
+
+    private long[] buffer = new long[1024];
+    private long size;
+    private DataOutputStream spillOut;
+    private boolean spilled;
+
+    public DiffKeyStore(Path spillFile, int memoryLimit) {
+        this.spillFile = spillFile;
+        this.memoryLimit = Math.max(1, memoryLimit);
+    }
+
+    public void add(long key) {
+        try {
+            if (spillOut != null) {
+                spillOut.writeLong(key);
+            } else if (size < memoryLimit) {
+                if (size == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, (int) Math.min(memoryLimit, size << 1));
+                }
+                buffer[(int) size] = key;
+            } else {
+                spill();
+                spillOut.writeLong(key);
+            }
+            size++;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write diff spill file: " + spillFile, e);
+        }
+    }
+
+    /**
+     * 기록 종료 (파일로 내려간 경우 flush 후 닫음)
+     */
+    public void finish() {
+        if (spillOut == null) {
+            return;
+        }
+        try {
+            spillOut.close();
+            spillOut = null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close diff spill file: " + spillFile, e);
+        }
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean isSpilled() {
+        return spilled;
+    }
+
+    /**
+     * [offset, offset + limit) 범위의 PK 를 반환합니다. {@link #finish()} 이후에만 호출합니다.
+     */
+    public long[] page(long offset, int limit) {
+        if (offset < 0 || offset >= size || limit <= 0) {
+            return new long[0];
+        }
+        int count = (int) Math.min(limit, size - offset);
+        if (!spilled) {
+            return Arrays.copyOfRange(buffer, (int) offset, (int) offset + count);
+        }
+
+        try (FileChannel channel = FileChannel.open(spillFile, StandardOpenOption.READ)) {
+            ByteBuffer bytes = ByteBuffer.allocate(count * Long.BYTES);
+            long position = offset * Long.BYTES;
+            while (bytes.hasRemaining()) {
+                int read = channel.read(bytes, position + bytes.position());
+                if (read < 0) {
+                    break;
+                }
+            }
+            bytes.flip();
+            long[] keys = new long[bytes.remaining() / Long.BYTES];
+            bytes.asLongBuffer().get(keys);
+            return keys;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read diff spill file: " + spillFile, e);
+        }
+    }
+
+    private void spill() throws IOException {
+        Files.createDirectories(spillFile.getParent());
+        spillOut = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(spillFile), 64 * 1024));
+        for (int i = 0; i < size; i++) {
+            spillOut.writeLong(buffer[i]);
+        }
+        buffer = null;
+        spilled = true;
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (spillOut != null) {
+                spillOut.close();
+                spillOut = null;
+            }
+            Files.deleteIfExists(spillFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to delete diff spill file: " + spillFile, e);
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package org.ravo.ravomanager.manager.sync;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ravo.config.SyncProperties;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * updated_at 워터마크 기반 증분 동기화 검증
+ * 테이블별 워터마크와 행 해시 상태를 메모리에 유지하고, 매 주기마다 워터마크 이후 변경된 행만 다시 읽습니다.
+ * 증분 조회로는 삭제를 감지할 수 없으므로 주기적으로 백그라운드 전체 스캔을 수행해 상태를 교체합니다.
+ * (updated_at 컬럼에 인덱스가 있어야 증분 조회가 테이블 스캔 없이 동작합니다.)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IncrementalSyncVerifier {
+
+    private final SyncProperties syncProperties;
+    private final SyncExecutors syncExecutors;
+
+    private final Map<String, TableState> states = new ConcurrentHashMap<>();
+
+    private final ExecutorService sweepExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sync-full-sweep");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 테이블의 현재 동기화 상태를 반환합니다.
+     * 최초 호출 시에는 전체 스캔으로 상태를 만들고, 이후에는 변경된 행만 반영합니다.
+     *
+     * @param schema 워터마크 컬럼이 있는 테이블 구조 (복합 PK 는 PK 해시를 key 로 사용)
+     */
+    public RowCompareResult verify(JdbcTemplate activeJdbcTemplate, JdbcTemplate standbyJdbcTemplate,
+                                   TableSchema schema) {
+        String tableName = schema.getTableName();
+        // 테이블 구조가 다시 로드되면 (DDL 변경) 상태를 새로 만듦
+        TableState state = states.compute(tableName, (name, existing) ->
+                existing != null && existing.queries.schema == schema
+                        ? existing : new TableState(new TableQueries(schema)));
+
+        state.lock.lock();
+        try {
+            if (state.rows == null) {
+                // 최초 1회는 동기적으로 전체 스캔
+                state.install(fullSweep(activeJdbcTemplate, standbyJdbcTemplate, state.queries, 1024));
+            } else {
+                scheduleSweepIfDue(activeJdbcTemplate, standbyJdbcTemplate, tableName, state);
+                applyIncrement(activeJdbcTemplate, standbyJdbcTemplate, state);
+            }
+            return RowCompareResult.of(state.rows);
+        } finally {
+            state.lock.unlock();
+        }
+    }
+
+    /**
+     * 워터마크 이후 변경된 행만 읽어 상태에 반영합니다.
+     * 커밋 지연으로 늦게 보이는 행을 놓치지 않도록 lookback 만큼 겹쳐서 조회합니다.
+     * 양쪽 조회는 동시에 실행하고, 결과는 호출 스레드에서 상태에 반영합니다.
+     */
+    private void applyIncrement(JdbcTemplate active, JdbcTemplate standby, TableState state) {
+        long lookbackMillis = syncProperties.getIncrementalLookback().toMillis();
+        Timestamp activeFrom = new Timestamp(state.activeWatermark.getTime() - lookbackMillis);
+        Timestamp standbyFrom = new Timestamp(state.standbyWatermark.getTime() - lookbackMillis);
+        TableQueries queries = state.queries;
+
+        SyncExecutors.SidePair<RowBatch> batches = syncExecutors.readBoth(
+                () -> collect(active, queries, activeFrom),
+                () -> collect(standby, queries, standbyFrom));
+
+        RowHashTable rows = state.rows;
+        batches.active().forEach(rows::putActive);
+        batches.standby().forEach(rows::putStandby);
+
+        state.activeWatermark = later(state.activeWatermark, batches.active().maxWatermark);
+        state.standbyWatermark = later(state.standbyWatermark, batches.standby().maxWatermark);
+    }
+
+    private RowBatch collect(JdbcTemplate jdbcTemplate, TableQueries queries, Timestamp from) {
+        RowBatch batch = new RowBatch();
+        batch.maxWatermark = scan(jdbcTemplate, queries.incrementalSql, queries, batch, from);
+        return batch;
+    }
+
+    /**
+     * 전체 스캔 주기가 지났으면 백그라운드 스캔을 예약합니다.
+     */
+    private void scheduleSweepIfDue(JdbcTemplate active, JdbcTemplate standby, String tableName, TableState state) {
+        Instant due = state.lastSweepAt.plus(syncProperties.getIncrementalSweepInterval());
+        if (state.sweepRunning || Instant.now().isBefore(due)) {
+            return;
+        }
+
+        state.sweepRunning = true;
+        int expectedRows = state.rows.getSize();
+        sweepExecutor.execute(() -> {
+            try {
+                SweepResult result = fullSweep(active, standby, state.queries, expectedRows);
+                state.lock.lock();
+                try {
+                    state.install(result);
+                } finally {
+                    state.lock.unlock();
+                }
+                log.debug("Full sweep finished - table: {}, rows: {}", tableName, result.rows().getSize());
+            } catch (Exception e) {
+                log.warn("Full sweep failed - table: {}: {}", tableName, e.getMessage());
+            } finally {
+                state.lock.lock();
+                try {
+                    state.sweepRunning = false;
+                    state.lastSweepAt = Instant.now();
+                } finally {
+                    state.lock.unlock();
+                }
+            }
+        });
+    }
+
+    /**
+     * 양쪽 테이블 전체를 스트리밍으로 읽어 새 상태를 만듭니다.
+     * 스캔 시작 전의 MAX(updated_at) 를 워터마크로 잡아, 스캔 도중 변경된 행은 다음 증분 주기에서 다시 읽힙니다.
+     */
+    private SweepResult fullSweep(JdbcTemplate active, JdbcTemplate standby, TableQueries queries, int expectedRows) {
+        Timestamp activeWatermark = maxWatermark(active, queries);
+        Timestamp standbyWatermark = maxWatermark(standby, queries);
+
+        RowHashTable rows = new RowHashTable(expectedRows);
+        scan(active, queries.fullSql, queries, rows::putActive);
+        scan(standby, queries.fullSql, queries, rows::putStandby);
+
+        return new SweepResult(rows, activeWatermark, standbyWatermark);
+    }
+
+    private Timestamp maxWatermark(JdbcTemplate jdbcTemplate, TableQueries queries) {
+        Timestamp max = jdbcTemplate.queryForObject(queries.maxWatermarkSql, Timestamp.class);
+        return max != null ? max : new Timestamp(0);
+    }
+
+    /**
+     * 쿼리 결과를 스트리밍하며 (PK, 행 해시, 행 체크섬) 을 전달하고, 마지막 컬럼(워터마크)의 최댓값을 반환합니다.
+     */
+    private Timestamp scan(JdbcTemplate jdbcTemplate, String sql, TableQueries queries, RowSink sink, Object... args) {
+        int watermarkColumnIndex = queries.watermarkColumnIndex;
+        return jdbcTemplate.execute((ConnectionCallback<Timestamp>) con -> {
+            Timestamp max = null;
+            try (RowCursor cursor = RowCursor.open(con, sql, RowCursor.STREAMING_FETCH_SIZE, queries.schema, args)) {
+                while (cursor.hasRow()) {
+                    sink.accept(cursor.key(), cursor.hashHi(), cursor.hashLo(), cursor.checksum());
+                    max = later(max, cursor.timestamp(watermarkColumnIndex));
+                    cursor.next();
+                }
+            }
+            return max;
+        });
+    }
+
+    private static Timestamp later(Timestamp a, Timestamp b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.after(b) ? a : b;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweepExecutor.shutdownNow();
+    }
+
+    private interface RowSink {
+        void accept(long key, long hashHi, long hashLo, long checksum);
+    }
+
+    /**
+     * 증분 조회 결과를 박싱 없이 모아두는 버퍼
+     */
+    private static class RowBatch implements RowSink {
+        private long[] keys = new long[64];
+        private long[] hashHi = new long[64];
+        private long[] hashLo = new long[64];
+        private long[] checksums = new long[64];
+        private int size;
+        Timestamp maxWatermark;
+
+        @Override
+        public void accept(long key, long hi, long lo, long checksum) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size << 1);
+                hashHi = Arrays.copyOf(hashHi, size << 1);
+                hashLo = Arrays.copyOf(hashLo, size << 1);
+                checksums = Arrays.copyOf(checksums, size << 1);
+            }
+            keys[size] = key;
+            hashHi[size] = hi;
+            hashLo[size] = lo;
+            checksums[size] = checksum;
+            size++;
+        }
+
+        void forEach(RowSink sink) {
+            for (int i = 0; i < size; i++) {
+                sink.accept(keys[i], hashHi[i], hashLo[i], checksums[i]);
+            }
+        }
+    }
+
+    private record SweepResult(RowHashTable rows, Timestamp activeWatermark, Timestamp standbyWatermark) {
+    }
+
+    /**
+     * 테이블별 증분 검증 상태 (lock 으로 보호)
+     * 잠금을 쥔 채 양쪽 DB 를 조회하므로, 가상 스레드(sync-table)가 JDBC 대기 중 캐리어 스레드를 붙잡지 않도록
+     * synchronized 대신 ReentrantLock 사용
+     */
+    private static class TableState {
+        final ReentrantLock lock = new ReentrantLock();
+        final TableQueries queries;
+        RowHashTable rows;
+        Timestamp activeWatermark;
+        Timestamp standbyWatermark;
+        Instant lastSweepAt = Instant.EPOCH;
+        boolean sweepRunning;
+
+        TableState(TableQueries queries) {
+            this.queries = queries;
+        }
+
+        void install(SweepResult result) {
+            this.rows = result.rows();
+            this.activeWatermark = result.activeWatermark();
+            this.standbyWatermark = result.standbyWatermark();
+            this.lastSweepAt = Instant.now();
+        }
+    }
+
+    /**
+     * 테이블별 전체/증분 조회 쿼리 (커서 컬럼 뒤에 워터마크 컬럼을 붙여 조회)
+     */
+    private static class TableQueries {
+        final TableSchema schema;
+        final int watermarkColumnIndex;
+        final String fullSql;
+        final String incrementalSql;
+        final String maxWatermarkSql;
+
+        TableQueries(TableSchema schema) {
+            this.schema = schema;
+            String table = schema.quotedTable();
+            String watermarkColumn = TableSchema.quote(schema.getWatermarkColumn());
+            String selectList = schema.cursorColumns() + ", " + watermarkColumn;
+            // 해시 대상 컬럼, 행 체크섬 다음 (워터마크는 해시 대상이기도 하지만 위치를 고정하려고 따로 붙임)
+            this.watermarkColumnIndex = schema.getHashColumns().size() + 2;
+            this.fullSql = "SELECT " + selectList + " FROM " + table;
+            this.incrementalSql = "SELECT " + selectList + " FROM " + table
+                    + " WHERE " + watermarkColumn + " >= ?";
+            this.maxWatermarkSql = "SELECT MAX(" + watermarkColumn + ") FROM " + table;
+        }
+    }
+}
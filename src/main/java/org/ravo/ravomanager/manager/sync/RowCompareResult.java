@@ -0,0 +1,98 @@
+package org.ravo.ravomanager.manager.sync;
+
+import lombok.Getter;
+
+/**
+ * Active/Standby 행 단위 비교 결과
+ * 행 해시를 누적하지 않고 카운트와 순서 무관한 요약 체크섬(행 체크섬 {@link TableSchema#rowChecksum()} 의 XOR)만 유지합니다.
+ * 구간 체크섬 비교는 구간 체크섬(구간 안 행 체크섬의 XOR)을 XOR 하므로 같은 데이터면 비교 방식과 관계없이 같은 값입니다.
+ */
+@Getter
+public class RowCompareResult {
+
+    private long activeCount;
+    private long standbyCount;
+    private long matchedRows;
+    private long totalRows;     // 양쪽 PK의 합집합 크기
+
+    private long activeSummary;
+    private long standbySummary;
+
+    /**
+     * 증분 검증 상태의 현재 값으로 결과 생성
+     */
+    static RowCompareResult of(RowHashTable rows) {
+        RowCompareResult result = new RowCompareResult();
+        result.activeCount = rows.getActiveCount();
+        result.standbyCount = rows.getStandbyCount();
+        result.matchedRows = rows.getMatchedRows();
+        result.totalRows = rows.getSize();
+        result.activeSummary = rows.getActiveSummary();
+        result.standbySummary = rows.getStandbySummary();
+        return result;
+    }
+
+    void onActiveRow(long rowChecksum) {
+        activeCount++;
+        activeSummary ^= rowChecksum;
+    }
+
+    void onStandbyRow(long rowChecksum) {
+        standbyCount++;
+        standbySummary ^= rowChecksum;
+    }
+
+    void onKey(boolean matched) {
+        totalRows++;
+        if (matched) {
+            matchedRows++;
+        }
+    }
+
+    /**
+     * 체크섬이 일치한 구간의 행을 모두 일치로 반영
+     */
+    void addMatchedRows(long rows) {
+        activeCount += rows;
+        standbyCount += rows;
+        matchedRows += rows;
+        totalRows += rows;
+    }
+
+    /**
+     * 하위 구간 비교 결과의 카운트를 합산 (요약 체크섬은 제외)
+     */
+    void addCounts(RowCompareResult other) {
+        activeCount += other.activeCount;
+        standbyCount += other.standbyCount;
+        matchedRows += other.matchedRows;
+        totalRows += other.totalRows;
+    }
+
+    void addSummaries(long activeChecksum, long standbyChecksum) {
+        activeSummary ^= activeChecksum;
+        standbySummary ^= standbyChecksum;
+    }
+
+    /**
+     * 동기화율 (0.00 ~ 100.00), 비교 대상 행이 없으면 100
+     */
+    public double getSyncPercent() {
+        double syncPercent = totalRows > 0 ? (matchedRows * 100.0 / totalRows) : 100.0;
+        return Math.round(syncPercent * 100.0) / 100.0; // 소수점 둘째 자리
+    }
+
+    /**
+     * Active 테이블 요약 해시 (16자리)
+     */
+    public String activeTableHash() {
+        return String.format("%016x", activeSummary);
+    }
+
+    /**
+     * Standby 테이블 요약 해시 (16자리)
+     */
+    public String standbyTableHash() {
+        return String.format("%016x", standbySummary);
+    }
+}
@@ -0,0 +1,184 @@
+package org.ravo.ravomanager.manager.sync;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Arrays;
+
+/**
+ * 조회 결과를 한 행씩 읽어 (PK, 행 해시)를 제공하는 전방향 커서
+ * 한 번에 한 행만 메모리에 유지하므로 테이블 크기와 무관하게 일정한 메모리를 사용합니다.
+ */
+class RowCursor implements AutoCloseable {
+
+    // MySQL Connector/J 는 fetchSize 가 Integer.MIN_VALUE 일 때 행 단위 스트리밍으로 동작
+    static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    private final PreparedStatement statement;
+    private final ResultSet resultSet;
+    private final ColumnEncoding[] encodings;
+    private final int hashColumnCount;
+    private final int keyColumnCount;
+    private final boolean integerKey;
+    private final RowHasher rowHasher = new RowHasher();
+    private final RowHasher keyHasher;
+    // 정렬 키 (openKeyOrdered 로 연 복합/비정수 PK 커서만 사용)
+    private final boolean keyOrdered;
+    private final long[] numericKeys;
+    private final byte[][] binaryKeys;
+
+    private long key;
+    private long checksum;
+    private boolean hasRow;
+
+    private RowCursor(PreparedStatement statement, ResultSet resultSet, TableSchema schema, boolean keyOrdered) {
+        this.statement = statement;
+        this.resultSet = resultSet;
+        this.encodings = schema.encodings();
+        this.hashColumnCount = encodings.length;
+        this.keyColumnCount = schema.keyColumnCount();
+        this.integerKey = schema.isIntegerKey();
+        this.keyHasher = integerKey ? null : new RowHasher();
+        this.keyOrdered = keyOrdered && !integerKey;
+        this.numericKeys = this.keyOrdered ? new long[keyColumnCount] : null;
+        this.binaryKeys = this.keyOrdered ? new byte[keyColumnCount][] : null;
+    }
+
+    /**
+     * 전방향/읽기 전용 커서로 쿼리를 실행합니다.
+     * 쿼리는 {@link TableSchema#cursorColumns()} (해시 대상 컬럼, PK 컬럼 먼저 + 행 요약 체크섬)를 같은 순서로 조회해야 하며,
+     * 그 뒤의 컬럼(예: updated_at)은 해시에 영향을 주지 않고 {@link #timestamp(int)} 로 읽을 수 있습니다.
+     * 단일 정수형 PK 는 PK 값을, 그 외(복합 PK 등)는 PK 컬럼의 64비트 해시를 key 로 사용합니다.
+     */
+    static RowCursor open(Connection connection, String sql, int fetchSize, TableSchema schema,
+                          Object... args) throws SQLException {
+        return execute(connection, sql, fetchSize, schema, false, args);
+    }
+
+    /**
+     * 복합/비정수 PK 를 정렬 키 순서로 병합하기 위한 커서
+     * 쿼리는 {@link TableSchema#keyOrderedCursorColumns()} 를 {@link TableSchema#keyOrder()} 순서로 조회해야 하며,
+     * 두 커서의 행 순서는 {@link #compareKey(RowCursor)} 로 비교합니다.
+     */
+    static RowCursor openKeyOrdered(Connection connection, String sql, int fetchSize, TableSchema schema)
+            throws SQLException {
+        return execute(connection, sql, fetchSize, schema, true);
+    }
+
+    private static RowCursor execute(Connection connection, String sql, int fetchSize, TableSchema schema,
+                                     boolean keyOrdered, Object... args) throws SQLException {
+        PreparedStatement ps = connection.prepareStatement(
+                sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        try {
+            ps.setFetchSize(fetchSize);
+            for (int i = 0; i < args.length; i++) {
+                ps.setObject(i + 1, args[i]);
+            }
+            RowCursor cursor = new RowCursor(ps, ps.executeQuery(), schema, keyOrdered);
+            cursor.next();
+            return cursor;
+        } catch (SQLException e) {
+            ps.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 다음 행으로 이동하고 해당 행의 해시를 계산합니다.
+     */
+    boolean next() throws SQLException {
+        if (Thread.currentThread().isInterrupted()) {
+            // 비교가 취소(시간 초과)됨: 쿼리 제한 시간은 실행 단계에만 걸리므로 스트리밍 중인 조회는 직접 취소
+            statement.cancel();
+            throw new SQLException("Row stream cancelled", "70100");
+        }
+        hasRow = resultSet.next();
+        if (!hasRow) {
+            return false;
+        }
+
+        if (integerKey) {
+            key = resultSet.getLong(1);
+        } else {
+            keyHasher.hashRow(resultSet, encodings, 1, keyColumnCount);
+            key = keyHasher.hashHi();
+        }
+        rowHasher.hashRow(resultSet, encodings, 1, hashColumnCount);
+        checksum = resultSet.getLong(hashColumnCount + 1);
+        if (keyOrdered) {
+            // 정렬 키는 행 체크섬 다음 컬럼부터 PK 컬럼 순서
+            for (int i = 0; i < keyColumnCount; i++) {
+                if (encodings[i].isNumericKey()) {
+                    numericKeys[i] = resultSet.getLong(hashColumnCount + 2 + i);
+                } else {
+                    binaryKeys[i] = resultSet.getBytes(hashColumnCount + 2 + i);
+                }
+            }
+        }
+        return true;
+    }
+
+    boolean hasRow() {
+        return hasRow;
+    }
+
+    long key() {
+        return key;
+    }
+
+    long hashHi() {
+        return rowHasher.hashHi();
+    }
+
+    long hashLo() {
+        return rowHasher.hashLo();
+    }
+
+    /**
+     * 테이블 요약 해시용 행 체크섬 ({@link TableSchema#rowChecksum()})
+     */
+    long checksum() {
+        return checksum;
+    }
+
+    /**
+     * 현재 행의 PK 순서 비교 (단일 정수형 PK 는 PK 값, 그 외에는 정렬 키: 정수는 값, 나머지는 부호 없는 바이트 순서)
+     * DB 의 ORDER BY {@link TableSchema#keyOrder()} 와 같은 순서입니다.
+     */
+    int compareKey(RowCursor other) {
+        if (integerKey) {
+            return Long.compare(key, other.key);
+        }
+        if (!keyOrdered) {
+            throw new IllegalStateException("정렬 키를 조회하지 않은 커서입니다");
+        }
+        for (int i = 0; i < keyColumnCount; i++) {
+            int order = encodings[i].isNumericKey()
+                    ? Long.compare(numericKeys[i], other.numericKeys[i])
+                    : Arrays.compareUnsigned(binaryKeys[i], other.binaryKeys[i]);
+            if (order != 0) {
+                return order;
+            }
+        }
+        return 0;
+    }
+
+    boolean sameHash(RowCursor other) {
+        return hashHi() == other.hashHi() && hashLo() == other.hashLo();
+    }
+
+    Timestamp timestamp(int column) throws SQLException {
+        return resultSet.getTimestamp(column);
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            resultSet.close();
+        } finally {
+            statement.close();
+        }
+    }
+}
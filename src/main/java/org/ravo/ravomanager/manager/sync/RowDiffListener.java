@@ -0,0 +1,15 @@
+package org.ravo.ravomanager.manager.sync;
+
+import org.ravo.ravomanager.manager.domain.DiffType;
+
+/**
+ * 행 비교 중 발견된 불일치 PK 를 전달받는 콜백
+ * 비교를 수행하는 스레드에서 PK 오름차순으로 호출됩니다.
+ */
+@FunctionalInterface
+public interface RowDiffListener {
+
+    RowDiffListener NONE = (type, key) -> { };
+
+    void onDiff(DiffType type, long key);
+}
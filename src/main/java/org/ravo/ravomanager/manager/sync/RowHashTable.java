@@ -0,0 +1,149 @@
+package org.ravo.ravomanager.manager.sync;
+
+import lombok.Getter;
+
+/**
+ * PK(long) → (Active 128비트 행 해시 + 행 체크섬, Standby 128비트 행 해시 + 행 체크섬) 를 저장하는 open-addressing 해시 테이블
+ * 박싱 없이 행당 약 57바이트만 사용하며, 갱신 시 일치 행 수와 요약 체크섬(행 체크섬 XOR)을 즉시 반영합니다.
+ * 동기화는 호출하는 쪽에서 처리합니다.
+ */
+class RowHashTable {
+
+    private static final byte ACTIVE = 1;
+    private static final byte STANDBY = 2;
+    private static final byte BOTH = ACTIVE | STANDBY;
+
+    private long[] keys;
+    private long[] activeHi;
+    private long[] activeLo;
+    private long[] activeChecksum;
+    private long[] standbyHi;
+    private long[] standbyLo;
+    private long[] standbyChecksum;
+    private byte[] flags;       // 0 이면 빈 슬롯
+    @Getter
+    private int size;           // 양쪽 PK 합집합 크기
+
+    @Getter
+    private long activeCount;
+    @Getter
+    private long standbyCount;
+    @Getter
+    private long matchedRows;
+    @Getter
+    private long activeSummary;
+    @Getter
+    private long standbySummary;
+
+    RowHashTable(int expectedRows) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedRows * 4 / 3) - 1) << 1;
+        allocate(capacity);
+    }
+
+    void putActive(long key, long hashHi, long hashLo, long checksum) {
+        put(key, hashHi, hashLo, checksum, true);
+    }
+
+    void putStandby(long key, long hashHi, long hashLo, long checksum) {
+        put(key, hashHi, hashLo, checksum, false);
+    }
+
+    private void put(long key, long hashHi, long hashLo, long checksum, boolean activeSide) {
+        if ((size + 1) * 4L > keys.length * 3L) {
+            grow();
+        }
+
+        int slot = findSlot(key);
+        byte flag = flags[slot];
+        if (flag == 0) {
+            keys[slot] = key;
+            size++;
+        }
+
+        boolean wasMatched = isMatched(slot, flag);
+
+        if (activeSide) {
+            if ((flag & ACTIVE) != 0) {
+                activeSummary ^= activeChecksum[slot];
+            } else {
+                activeCount++;
+            }
+            activeHi[slot] = hashHi;
+            activeLo[slot] = hashLo;
+            activeChecksum[slot] = checksum;
+            activeSummary ^= checksum;
+            flag |= ACTIVE;
+        } else {
+            if ((flag & STANDBY) != 0) {
+                standbySummary ^= standbyChecksum[slot];
+            } else {
+                standbyCount++;
+            }
+            standbyHi[slot] = hashHi;
+            standbyLo[slot] = hashLo;
+            standbyChecksum[slot] = checksum;
+            standbySummary ^= checksum;
+            flag |= STANDBY;
+        }
+        flags[slot] = flag;
+
+        boolean isMatched = isMatched(slot, flag);
+        if (isMatched != wasMatched) {
+            matchedRows += isMatched ? 1 : -1;
+        }
+    }
+
+    private boolean isMatched(int slot, byte flag) {
+        return flag == BOTH && activeHi[slot] == standbyHi[slot] && activeLo[slot] == standbyLo[slot];
+    }
+
+    private int findSlot(long key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (flags[slot] != 0 && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        long[] oldActiveHi = activeHi;
+        long[] oldActiveLo = activeLo;
+        long[] oldActiveChecksum = activeChecksum;
+        long[] oldStandbyHi = standbyHi;
+        long[] oldStandbyLo = standbyLo;
+        long[] oldStandbyChecksum = standbyChecksum;
+        byte[] oldFlags = flags;
+
+        allocate(oldKeys.length << 1);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldFlags[i] != 0) {
+                int slot = findSlot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                activeHi[slot] = oldActiveHi[i];
+                activeLo[slot] = oldActiveLo[i];
+                activeChecksum[slot] = oldActiveChecksum[i];
+                standbyHi[slot] = oldStandbyHi[i];
+                standbyLo[slot] = oldStandbyLo[i];
+                standbyChecksum[slot] = oldStandbyChecksum[i];
+                flags[slot] = oldFlags[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        activeHi = new long[capacity];
+        activeLo = new long[capacity];
+        activeChecksum = new long[capacity];
+        standbyHi = new long[capacity];
+        standbyLo = new long[capacity];
+        standbyChecksum = new long[capacity];
+        flags = new byte[capacity];
+    }
+
+    private static int mix(long key) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32);
+    }
+}
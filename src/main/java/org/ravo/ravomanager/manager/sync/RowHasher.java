@@ -0,0 +1,300 @@
+package org.ravo.ravomanager.manager.sync;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteOrder;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * 행 해시 계산기 (MurmurHash3 x64 128비트)
+ * 컬럼 값을 재사용 버퍼에 바이트로 직접 기록한 뒤 해시하므로 행마다 다이제스트/연결 문자열을 만들지 않습니다.
+ * 컬럼 값은 {@link ColumnEncoding} 에 따라 타입별 정규 바이트로 기록하므로 드라이버의 문자열 표현에 의존하지 않습니다.
+ * 인스턴스는 스레드 안전하지 않으므로 커서마다 하나씩 사용합니다.
+ */
+class RowHasher {
+
+    private static final VarHandle LONG_LE =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_LE =
+            MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    private static final byte NULL_MARKER = 0;
+    private static final byte VALUE_MARKER = 1;
+
+    private byte[] buffer = new byte[256];
+    private int length;
+
+    private long hashHi;
+    private long hashLo;
+
+    /**
+     * 현재 행의 fromColumn ~ toColumn 컬럼(1부터 시작, 양끝 포함)을 해시합니다.
+     * encodings[i - 1] 이 i 번째 컬럼의 인코딩입니다.
+     */
+    void hashRow(ResultSet resultSet, ColumnEncoding[] encodings, int fromColumn, int toColumn) throws SQLException {
+        length = 0;
+        for (int i = fromColumn; i <= toColumn; i++) {
+            putColumn(resultSet, i, encodings[i - 1]);
+        }
+        finish();
+    }
+
+    private void putColumn(ResultSet resultSet, int column, ColumnEncoding encoding) throws SQLException {
+        switch (encoding) {
+            case INTEGER, TIMESTAMP -> {
+                long value = resultSet.getLong(column);
+                if (value == 0 && resultSet.wasNull()) {
+                    putNull();
+                } else {
+                    putLong(value);
+                }
+            }
+            case UNSIGNED_BIGINT -> {
+                String value = resultSet.getString(column);
+                if (value == null) {
+                    putNull();
+                } else {
+                    putLong(Long.parseUnsignedLong(value));
+                }
+            }
+            case DECIMAL -> putDecimal(resultSet.getBigDecimal(column));
+            case FLOAT -> {
+                float value = resultSet.getFloat(column);
+                if (value == 0 && resultSet.wasNull()) {
+                    putNull();
+                } else {
+                    // floatToIntBits 는 NaN 을 하나로 정규화, 0 비교로 -0.0 을 0.0 으로 정규화
+                    putLong(Float.floatToIntBits(value == 0 ? 0f : value));
+                }
+            }
+            case DOUBLE -> {
+                double value = resultSet.getDouble(column);
+                if (value == 0 && resultSet.wasNull()) {
+                    putNull();
+                } else {
+                    putLong(Double.doubleToLongBits(value == 0 ? 0d : value));
+                }
+            }
+            case DATE -> {
+                LocalDate value = resultSet.getObject(column, LocalDate.class);
+                if (value == null) {
+                    putNull();
+                } else {
+                    putLong(value.toEpochDay());
+                }
+            }
+            case DATETIME -> {
+                LocalDateTime value = resultSet.getObject(column, LocalDateTime.class);
+                if (value == null) {
+                    putNull();
+                } else {
+                    // MySQL 최대 정밀도는 마이크로초
+                    putLong(value.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + value.getNano() / 1_000);
+                }
+            }
+            case TEXT -> putString(resultSet.getString(column));
+            case BINARY -> putBytes(resultSet.getBytes(column));
+        }
+    }
+
+    void reset() {
+        length = 0;
+    }
+
+    /**
+     * 값 인코딩(마커, 길이 접두사) 없이 bytes 를 그대로 해시합니다.
+     */
+    void hashRaw(byte[] bytes) {
+        length = 0;
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, 0, bytes.length);
+        length = bytes.length;
+        finish();
+    }
+
+    void putNull() {
+        ensureCapacity(1);
+        buffer[length++] = NULL_MARKER;
+    }
+
+    void putLong(long value) {
+        ensureCapacity(9);
+        buffer[length++] = VALUE_MARKER;
+        LONG_LE.set(buffer, length, value);
+        length += 8;
+    }
+
+    /**
+     * 길이 접두사와 함께 바이트를 기록합니다. (null 이면 NULL 마커)
+     */
+    void putBytes(byte[] value) {
+        if (value == null) {
+            putNull();
+            return;
+        }
+        ensureCapacity(5 + value.length);
+        buffer[length++] = VALUE_MARKER;
+        INT_LE.set(buffer, length, value.length);
+        length += 4;
+        System.arraycopy(value, 0, buffer, length, value.length);
+        length += value.length;
+    }
+
+    /**
+     * 후행 0 을 제거한 scale 과 unscaled 값을 기록합니다. (1.50 과 1.5 는 같은 바이트)
+     */
+    void putDecimal(BigDecimal value) {
+        if (value == null) {
+            putNull();
+            return;
+        }
+        BigDecimal canonical = value.signum() == 0 ? BigDecimal.ZERO : value.stripTrailingZeros();
+        BigInteger unscaled = canonical.unscaledValue();
+        ensureCapacity(5);
+        buffer[length++] = VALUE_MARKER;
+        INT_LE.set(buffer, length, canonical.scale());
+        length += 4;
+        if (unscaled.bitLength() < 64) {
+            putLong(unscaled.longValue());
+        } else {
+            putBytes(unscaled.toByteArray());
+        }
+    }
+
+    /**
+     * 문자열을 UTF-8 로 버퍼에 직접 인코딩합니다. (String.getBytes(UTF_8) 과 같은 바이트, 중간 배열 없음)
+     */
+    void putString(String value) {
+        if (value == null) {
+            putNull();
+            return;
+        }
+        int chars = value.length();
+        // 문자당 최대 3바이트 (서로게이트 쌍은 2문자 → 4바이트)
+        ensureCapacity(5 + chars * 3);
+        buffer[length++] = VALUE_MARKER;
+        int lengthAt = length;
+        int pos = length + 4;
+        for (int i = 0; i < chars; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer[pos++] = (byte) c;
+            } else if (c < 0x800) {
+                buffer[pos++] = (byte) (0xC0 | (c >> 6));
+                buffer[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < chars && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer[pos++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[pos++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // 짝이 없는 서로게이트는 String.getBytes 와 동일하게 '?' 로 대체
+                buffer[pos++] = '?';
+            } else {
+                buffer[pos++] = (byte) (0xE0 | (c >> 12));
+                buffer[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        INT_LE.set(buffer, lengthAt, pos - lengthAt - 4);
+        length = pos;
+    }
+
+    long hashHi() {
+        return hashHi;
+    }
+
+    long hashLo() {
+        return hashLo;
+    }
+
+    /**
+     * 버퍼에 기록된 바이트의 MurmurHash3 x64 128 계산
+     */
+    void finish() {
+        long h1 = 0;
+        long h2 = 0;
+        int blockEnd = length & ~15;
+
+        for (int i = 0; i < blockEnd; i += 16) {
+            long k1 = (long) LONG_LE.get(buffer, i);
+            long k2 = (long) LONG_LE.get(buffer, i + 8);
+
+            h1 ^= mixK1(k1);
+            h1 = Long.rotateLeft(h1, 27);
+            h1 += h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            h2 ^= mixK2(k2);
+            h2 = Long.rotateLeft(h2, 31);
+            h2 += h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        long k1 = 0;
+        long k2 = 0;
+        int tail = length - blockEnd;
+        for (int i = tail - 1; i >= 8; i--) {
+            k2 = (k2 << 8) | (buffer[blockEnd + i] & 0xffL);
+        }
+        for (int i = Math.min(tail, 8) - 1; i >= 0; i--) {
+            k1 = (k1 << 8) | (buffer[blockEnd + i] & 0xffL);
+        }
+        if (tail > 8) {
+            h2 ^= mixK2(k2);
+        }
+        if (tail > 0) {
+            h1 ^= mixK1(k1);
+        }
+
+        h1 ^= length;
+        h2 ^= length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix(h1);
+        h2 = fmix(h2);
+        h1 += h2;
+        h2 += h1;
+
+        hashHi = h1;
+        hashLo = h2;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, length + extra));
+        }
+    }
+
+    private static long mixK1(long k1) {
+        k1 *= C1;
+        k1 = Long.rotateLeft(k1, 31);
+        return k1 * C2;
+    }
+
+    private static long mixK2(long k2) {
+        k2 *= C2;
+        k2 = Long.rotateLeft(k2, 33);
+        return k2 * C1;
+    }
+
+    private static long fmix(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
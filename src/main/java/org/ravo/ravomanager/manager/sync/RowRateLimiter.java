@@ -0,0 +1,50 @@
+package org.ravo.ravomanager.manager.sync;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 초당 행 수 제한기 (토큰 버킷, 최대 1초 분량까지 누적)
+ * rowsPerSecond 가 0 이하이면 제한하지 않습니다.
+ */
+public class RowRateLimiter {
+
+    private final double rowsPerNano;
+    private final double maxTokens;
+    private double tokens;
+    private long lastRefill = System.nanoTime();
+
+    public RowRateLimiter(int rowsPerSecond) {
+        this.rowsPerNano = rowsPerSecond / (double) TimeUnit.SECONDS.toNanos(1);
+        this.maxTokens = Math.max(1, rowsPerSecond);
+        this.tokens = maxTokens;
+    }
+
+    /**
+     * rows 만큼의 처리 허용량이 생길 때까지 대기합니다.
+     */
+    public synchronized void acquire(int rows) throws InterruptedException {
+        if (rowsPerNano <= 0) {
+            return;
+        }
+        refill();
+        tokens -= rows;
+        if (tokens < 0) {
+            long waitNanos = (long) (-tokens / rowsPerNano);
+            long deadline = System.nanoTime() + waitNanos;
+            while (System.nanoTime() < deadline) {
+                LockSupport.parkNanos(this, deadline - System.nanoTime());
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+            refill();
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(maxTokens, tokens + (now - lastRefill) * rowsPerNano);
+        lastRefill = now;
+    }
+}
@@ -0,0 +1,225 @@
+package org.ravo.ravomanager.manager.sync;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.ravo.config.SyncProperties;
+import org.ravo.ravomanager.manager.domain.DiffType;
+import org.ravo.ravomanager.manager.domain.RepairDirection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * 불일치 행 재동기화 파이프라인
+ * 차이 분석 보고서의 PK 를 배치 단위로 기준 DB에서 읽고, 대상 DB에 JDBC 배치 upsert/delete 로 반영합니다.
+ * 삭제 대상(기준 DB에 없던 PK)도 기준 DB를 다시 확인해, 분석 이후 기준 DB에 생긴 행은 삭제 대신 upsert 합니다.
+ * 읽기는 작업 스레드 하나가 순서대로 수행하고, 쓰기는 최대 repair-max-in-flight 개 배치까지 동시에 진행됩니다.
+ * (대상 JDBC URL 에 rewriteBatchedStatements=true 를 설정하면 배치가 multi-row INSERT 로 전송됩니다.)
+ */
+@Slf4j
+@Component
+public class RowRepairPipeline {
+
+    private final SyncProperties syncProperties;
+    private final TableSchemaCache tableSchemaCache;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger batchesInFlight = new AtomicInteger();
+
+    private final ExecutorService writeExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sync-repair-write-", 0).factory());
+
+    public RowRepairPipeline(SyncProperties syncProperties, TableSchemaCache tableSchemaCache,
+                             MeterRegistry meterRegistry) {
+        this.syncProperties = syncProperties;
+        this.tableSchemaCache = tableSchemaCache;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("ravo.sync.repair.batches.in.flight", batchesInFlight, AtomicInteger::get)
+                .description("재동기화 중인 쓰기 배치 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 재동기화를 실행합니다. (호출 스레드에서 끝날 때까지 진행)
+     */
+    public void run(SyncRepairJob job, SyncDiffReport report, JdbcTemplate source, JdbcTemplate target) {
+        int maxInFlight = Math.max(1, syncProperties.getRepairMaxInFlight());
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        RowRateLimiter rateLimiter = new RowRateLimiter(syncProperties.getRepairMaxRowsPerSecond());
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        String tableName = job.getTableName();
+
+        boolean toStandby = job.getDirection() == RepairDirection.ACTIVE_TO_STANDBY;
+        DiffType missingOnTarget = toStandby ? DiffType.MISSING_ON_STANDBY : DiffType.MISSING_ON_ACTIVE;
+        DiffType missingOnSource = toStandby ? DiffType.MISSING_ON_ACTIVE : DiffType.MISSING_ON_STANDBY;
+
+        try {
+            // 차이 분석 보고서는 단일 정수형 PK 테이블에만 만들어지므로 PK 값을 그대로 사용
+            TableSchema schema = tableSchemaCache.get(source, tableName);
+            for (DiffType type : List.of(missingOnTarget, DiffType.CONTENT_MISMATCH, missingOnSource)) {
+                forEachBatch(report, type, keys -> {
+                    SourceBatch batch = readSource(source, schema, keys);
+                    submit(job, inFlight, rateLimiter, failure, keys.length,
+                            () -> writeBatch(job, target, batch));
+                }, failure);
+            }
+
+            // 진행 중인 배치가 모두 끝날 때까지 대기
+            inFlight.acquire(maxInFlight);
+
+            if (failure.get() != null) {
+                job.fail(failure.get().getMessage());
+            } else {
+                job.complete();
+            }
+            log.info("Sync repair finished - table: {}, direction: {}, upserted: {}, deleted: {}, {} rows/s",
+                    tableName, job.getDirection(), job.getRowsUpserted().get(), job.getRowsDeleted().get(),
+                    String.format("%.1f", job.getRowsPerSecond()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail("Interrupted");
+        } catch (Exception e) {
+            log.warn("Sync repair failed - table: {}: {}", tableName, e.getMessage());
+            job.fail(e.getMessage());
+        }
+    }
+
+    private void forEachBatch(SyncDiffReport report, DiffType type, BatchConsumer consumer,
+                              AtomicReference<Throwable> failure) throws InterruptedException {
+        int batchSize = Math.max(1, syncProperties.getRepairBatchSize());
+        for (int page = 0; failure.get() == null; page++) {
+            long[] keys = report.page(type, page, batchSize);
+            if (keys.length == 0) {
+                return;
+            }
+            consumer.accept(keys);
+        }
+    }
+
+    /**
+     * 처리량 제한과 동시 배치 수 제한을 통과한 뒤 쓰기 작업을 비동기로 실행합니다.
+     */
+    private void submit(SyncRepairJob job, Semaphore inFlight, RowRateLimiter rateLimiter,
+                        AtomicReference<Throwable> failure, int rows, Runnable write) throws InterruptedException {
+        rateLimiter.acquire(rows);
+        inFlight.acquire();
+        job.getBatchesInFlight().incrementAndGet();
+        batchesInFlight.incrementAndGet();
+        writeExecutor.execute(() -> {
+            try {
+                write.run();
+                job.getBatchesCompleted().incrementAndGet();
+            } catch (Throwable t) {
+                failure.compareAndSet(null, t);
+            } finally {
+                batchesInFlight.decrementAndGet();
+                job.getBatchesInFlight().decrementAndGet();
+                inFlight.release();
+            }
+        });
+    }
+
+    /**
+     * 기준 DB에서 PK 목록에 해당하는 행을 {@link TableSchema#getInsertableColumns()} 순서로 읽습니다.
+     * (SELECT * 는 생성 컬럼까지 읽어 upsert 에 넣게 되고, MySQL 은 생성 컬럼에 값을 쓰는 INSERT 를 거부합니다.)
+     * 기준 DB에 없는 PK (기준 DB에 없던 행, 분석 이후 기준 DB에서 삭제된 행) 는 대상 DB에서 삭제할 목록으로 분리합니다.
+     */
+    private SourceBatch readSource(JdbcTemplate source, TableSchema schema, long[] keys) {
+        List<String> columns = schema.getInsertableColumns();
+        int columnCount = columns.size();
+        String sql = "SELECT " + quotedList(columns) + " FROM " + schema.quotedTable()
+                + " WHERE " + schema.quotedKey() + " IN (" + placeholders(keys.length) + ")";
+        Object[] args = Arrays.stream(keys).boxed().toArray();
+
+        return source.query(sql, (ResultSetExtractor<SourceBatch>) rs -> {
+            List<Object[]> rows = new ArrayList<>(keys.length);
+            Set<Long> found = new HashSet<>();
+            while (rs.next()) {
+                Object[] row = new Object[columnCount];
+                for (int i = 1; i <= columnCount; i++) {
+                    row[i - 1] = rs.getObject(i);
+                }
+                rows.add(row);
+                found.add(rs.getLong(schema.keyColumn()));
+            }
+
+            long[] vanished = Arrays.stream(keys).filter(key -> !found.contains(key)).toArray();
+            return new SourceBatch(schema, rows, vanished);
+        }, args);
+    }
+
+    private void writeBatch(SyncRepairJob job, JdbcTemplate target, SourceBatch batch) {
+        String tableName = batch.schema().getTableName();
+        if (!batch.rows().isEmpty()) {
+            target.batchUpdate(upsertSql(batch.schema()), batch.rows());
+            job.getRowsUpserted().addAndGet(batch.rows().size());
+            meterRegistry.counter("ravo.sync.repair.rows", "table", tableName, "operation", "upsert")
+                    .increment(batch.rows().size());
+        }
+        if (batch.vanishedKeys().length > 0) {
+            deleteKeys(job, target, batch.schema(), batch.vanishedKeys());
+        }
+    }
+
+    private void deleteKeys(SyncRepairJob job, JdbcTemplate target, TableSchema schema, long[] keys) {
+        List<Object[]> args = Arrays.stream(keys).mapToObj(key -> new Object[]{key}).toList();
+        target.batchUpdate("DELETE FROM " + schema.quotedTable() + " WHERE " + schema.quotedKey() + " = ?", args);
+        job.getRowsDeleted().addAndGet(keys.length);
+        meterRegistry.counter("ravo.sync.repair.rows", "table", schema.getTableName(), "operation", "delete")
+                .increment(keys.length);
+    }
+
+    /**
+     * {@link TableSchema#getInsertableColumns()} 순서의 값을 받는 upsert (생성 컬럼은 대상 DB가 다시 계산)
+     */
+    private static String upsertSql(TableSchema schema) {
+        List<String> columns = schema.getInsertableColumns();
+        String columnList = quotedList(columns);
+        String updates = columns.stream()
+                .filter(column -> !schema.getPrimaryKey().contains(column))
+                .map(column -> TableSchema.quote(column) + " = new." + TableSchema.quote(column))
+                .collect(Collectors.joining(", "));
+        if (updates.isEmpty()) {
+            // PK 만 있는 테이블은 이미 있으면 그대로 둠
+            String pk = TableSchema.quote(schema.getPrimaryKey().get(0));
+            updates = pk + " = " + pk;
+        }
+        // VALUES(col) 는 8.0.20 부터 deprecated 이므로 행 별칭(8.0.19+)으로 새 값을 참조
+        return "INSERT INTO " + schema.quotedTable() + " (" + columnList + ") VALUES (" + placeholders(columns.size()) + ")"
+                + " AS new ON DUPLICATE KEY UPDATE " + updates;
+    }
+
+    private static String quotedList(List<String> columns) {
+        return columns.stream().map(TableSchema::quote).collect(Collectors.joining(", "));
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writeExecutor.shutdownNow();
+    }
+
+    private interface BatchConsumer {
+        void accept(long[] keys) throws InterruptedException;
+    }
+
+    private record SourceBatch(TableSchema schema, List<Object[]> rows, long[] vanishedKeys) {
+    }
+}
@@ -0,0 +1,113 @@
+package org.ravo.ravomanager.manager.sync;
+
+import lombok.extern.slf4j.Slf4j;
+import org.ravo.ravomanager.manager.domain.DiffType;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+
+/**
+ * Active/Standby 테이블을 PK 순서로 동시에 스트리밍하며 정렬-병합(sort-merge) 방식으로 비교합니다.
+ * 양쪽 모두 전방향 커서로 한 행씩 읽기 때문에 메모리 사용량은 테이블 크기와 무관합니다.
+ * (복합/비정수 PK 테이블은 PK 컬럼의 바이너리 값 순서로 정렬해 같은 방식으로 병합합니다.)
+ */
+@Slf4j
+@Component
+public class StreamingRowComparator {
+
+    /**
+     * 테이블 전체를 행 단위로 비교합니다.
+     */
+    public RowCompareResult compare(JdbcTemplate activeJdbcTemplate, JdbcTemplate standbyJdbcTemplate,
+                                    TableSchema schema) {
+        if (!schema.isIntegerKey()) {
+            return compareByOrderedKey(activeJdbcTemplate, standbyJdbcTemplate, schema);
+        }
+        return compare(activeJdbcTemplate, standbyJdbcTemplate, schema, RowDiffListener.NONE,
+                "SELECT " + schema.cursorColumns() + " FROM " + schema.quotedTable()
+                        + " ORDER BY " + schema.quotedKey());
+    }
+
+    /**
+     * 동일한 쿼리를 양쪽 DB에 실행하고 행 단위로 비교하며 불일치 PK 를 listener 로 전달합니다.
+     * 단일 정수형 PK 테이블 전용이며, 쿼리는 {@link TableSchema#cursorColumns()} 를 PK 오름차순으로 조회해야 합니다.
+     */
+    RowCompareResult compare(JdbcTemplate activeJdbcTemplate, JdbcTemplate standbyJdbcTemplate, TableSchema schema,
+                             RowDiffListener listener, String sql, Object... args) {
+        RowCompareResult result = activeJdbcTemplate.execute((ConnectionCallback<RowCompareResult>) activeCon ->
+                standbyJdbcTemplate.execute((ConnectionCallback<RowCompareResult>) standbyCon -> {
+                    try (RowCursor active = RowCursor.open(activeCon, sql, RowCursor.STREAMING_FETCH_SIZE, schema, args);
+                         RowCursor standby = RowCursor.open(standbyCon, sql, RowCursor.STREAMING_FETCH_SIZE, schema, args)) {
+                        return merge(active, standby, listener);
+                    }
+                }));
+
+        log.debug("Streaming compare finished - matched: {}/{}, active: {}, standby: {}",
+                result.getMatchedRows(), result.getTotalRows(), result.getActiveCount(), result.getStandbyCount());
+        return result;
+    }
+
+    /**
+     * 복합/비정수 PK 테이블 비교
+     * 문자열 PK 의 기본 정렬 순서는 콜레이션에 따라 달라 Java 에서 재현할 수 없으므로, PK 컬럼을 바이너리 값
+     * (정수 계열은 값 그대로) 순서로 정렬해 조회하고 같은 순서로 병합합니다. 정렬은 DB 가 하므로(PK 인덱스 순서를 쓰지 못함)
+     * 이쪽 메모리 사용량은 단일 정수형 PK 와 같이 테이블 크기와 무관합니다.
+     * (DB 는 정렬 키 앞 max_sort_length 바이트로 정렬하므로 PK 값이 그보다 길면 순서가 틀어질 수 있습니다.)
+     */
+    private RowCompareResult compareByOrderedKey(JdbcTemplate activeJdbcTemplate, JdbcTemplate standbyJdbcTemplate,
+                                                 TableSchema schema) {
+        String sql = "SELECT " + schema.keyOrderedCursorColumns() + " FROM " + schema.quotedTable()
+                + " ORDER BY " + schema.keyOrder();
+        RowCompareResult result = activeJdbcTemplate.execute((ConnectionCallback<RowCompareResult>) activeCon ->
+                standbyJdbcTemplate.execute((ConnectionCallback<RowCompareResult>) standbyCon -> {
+                    try (RowCursor active = RowCursor.openKeyOrdered(activeCon, sql, RowCursor.STREAMING_FETCH_SIZE, schema);
+                         RowCursor standby = RowCursor.openKeyOrdered(standbyCon, sql, RowCursor.STREAMING_FETCH_SIZE, schema)) {
+                        return merge(active, standby, RowDiffListener.NONE);
+                    }
+                }));
+
+        log.debug("Ordered-key compare finished - table: {}, matched: {}/{}, active: {}, standby: {}",
+                schema.getTableName(), result.getMatchedRows(), result.getTotalRows(),
+                result.getActiveCount(), result.getStandbyCount());
+        return result;
+    }
+
+    /**
+     * 두 커서를 PK 기준으로 병합하며 비교합니다.
+     */
+    private RowCompareResult merge(RowCursor active, RowCursor standby, RowDiffListener listener) throws SQLException {
+        RowCompareResult result = new RowCompareResult();
+
+        while (active.hasRow() || standby.hasRow()) {
+            int order = active.hasRow() && standby.hasRow() ? active.compareKey(standby) : 0;
+            if (!standby.hasRow() || (active.hasRow() && order < 0)) {
+                // Standby 에 없는 행
+                result.onActiveRow(active.checksum());
+                result.onKey(false);
+                listener.onDiff(DiffType.MISSING_ON_STANDBY, active.key());
+                active.next();
+            } else if (!active.hasRow() || order > 0) {
+                // Active 에 없는 행
+                result.onStandbyRow(standby.checksum());
+                result.onKey(false);
+                listener.onDiff(DiffType.MISSING_ON_ACTIVE, standby.key());
+                standby.next();
+            } else {
+                // 양쪽 모두 존재 - 해시가 같으면 일치
+                result.onActiveRow(active.checksum());
+                result.onStandbyRow(standby.checksum());
+                boolean matched = active.sameHash(standby);
+                result.onKey(matched);
+                if (!matched) {
+                    listener.onDiff(DiffType.CONTENT_MISMATCH, active.key());
+                }
+                active.next();
+                standby.next();
+            }
+        }
+
+        return result;
+    }
+}
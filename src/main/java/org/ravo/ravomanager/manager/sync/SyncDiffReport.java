@@ -0,0 +1,130 @@
+package org.ravo.ravomanager.manager.sync;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.ravo.ravomanager.manager.domain.DiffType;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 테이블 1회 차이 분석 결과
+ * 분석 스레드 하나만 기록하며, 상태가 COMPLETED 가 된 뒤에 PK 페이지를 조회할 수 있습니다.
+ * PK 를 읽는 쪽(재동기화, 페이지 조회)은 {@link #retain()} 으로 보고서를 고정하고 끝나면 {@link #release()} 합니다.
+ * 보관 한도로 밀려나 {@link #close()} 되더라도 고정이 모두 풀린 뒤에 PK 파일을 지웁니다.
+ */
+@Getter
+public class SyncDiffReport implements AutoCloseable {
+
+    public enum Status { RUNNING, COMPLETED, FAILED }
+
+    private final long id;
+    private final String tableName;
+    private final Instant startedAt = Instant.now();
+    private volatile Instant finishedAt;
+    private volatile Status status = Status.RUNNING;
+    private volatile String errorMessage;
+    private volatile long activeCount;
+    private volatile long standbyCount;
+    private volatile long matchedRows;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<DiffType, DiffKeyStore> stores = new EnumMap<>(DiffType.class);
+    // 아래 두 필드는 this 로 보호
+    @Getter(AccessLevel.NONE)
+    private int pins;
+    @Getter(AccessLevel.NONE)
+    private boolean closed;
+
+    public SyncDiffReport(long id, String tableName, Path spillDir, int memoryLimit) {
+        this.id = id;
+        this.tableName = tableName;
+        for (DiffType type : DiffType.values()) {
+            Path spillFile = spillDir.resolve("diff-" + id + "-" + type.name().toLowerCase() + ".bin");
+            stores.put(type, new DiffKeyStore(spillFile, memoryLimit));
+        }
+    }
+
+    /**
+     * 비교 중 발견된 불일치 PK 기록 ({@link RowDiffListener} 로 사용)
+     */
+    public void record(DiffType type, long key) {
+        stores.get(type).add(key);
+    }
+
+    public void complete(RowCompareResult result) {
+        stores.values().forEach(DiffKeyStore::finish);
+        this.activeCount = result.getActiveCount();
+        this.standbyCount = result.getStandbyCount();
+        this.matchedRows = result.getMatchedRows();
+        this.finishedAt = Instant.now();
+        this.status = Status.COMPLETED;
+    }
+
+    public void fail(String errorMessage) {
+        stores.values().forEach(DiffKeyStore::finish);
+        this.errorMessage = errorMessage;
+        this.finishedAt = Instant.now();
+        this.status = Status.FAILED;
+    }
+
+    public long count(DiffType type) {
+        return stores.get(type).size();
+    }
+
+    public boolean isSpilled() {
+        return stores.values().stream().anyMatch(DiffKeyStore::isSpilled);
+    }
+
+    public long[] page(DiffType type, int page, int size) {
+        return stores.get(type).page((long) page * size, size);
+    }
+
+    /**
+     * PK 를 읽는 동안 보고서를 고정합니다.
+     *
+     * @return 이미 삭제(close)된 보고서면 false
+     */
+    public synchronized boolean retain() {
+        if (closed) {
+            return false;
+        }
+        pins++;
+        return true;
+    }
+
+    /**
+     * {@link #retain()} 해제, 삭제 대기 중인 보고서는 마지막 해제 시 PK 파일을 지웁니다.
+     */
+    public void release() {
+        synchronized (this) {
+            if (--pins > 0 || !closed) {
+                return;
+            }
+        }
+        deleteStores();
+    }
+
+    /**
+     * 보고서 삭제 (고정 중이면 마지막 {@link #release()} 때 삭제)
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (pins > 0) {
+                return;
+            }
+        }
+        deleteStores();
+    }
+
+    private void deleteStores() {
+        stores.values().forEach(DiffKeyStore::close);
+    }
+}
@@ -0,0 +1,68 @@
+package org.ravo.ravomanager.manager.sync;
+
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import org.ravo.config.SyncProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * 동기화 비교용 실행기
+ * 테이블 단위 작업과 DB 조회 작업을 서로 다른 풀에서 실행해, 테이블 작업이 조회 결과를 기다리며 풀을 점유해도
+ * 교착 상태가 생기지 않도록 합니다. 두 풀 모두 가상 스레드 기반이며 크기로 동시 실행 수를 제한합니다.
+ */
+@Component
+public class SyncExecutors {
+
+    @Getter
+    private final ExecutorService tableExecutor;
+    private final ExecutorService readExecutor;
+
+    public SyncExecutors(SyncProperties syncProperties) {
+        this.tableExecutor = Executors.newFixedThreadPool(Math.max(1, syncProperties.getMaxConcurrentTables()),
+                Thread.ofVirtual().name("sync-table-", 0).factory());
+        this.readExecutor = Executors.newFixedThreadPool(Math.max(2, syncProperties.getMaxConcurrentReads()),
+                Thread.ofVirtual().name("sync-read-", 0).factory());
+    }
+
+    /**
+     * Active/Standby 조회를 동시에 실행하고 두 결과를 함께 반환합니다.
+     * 한쪽이 실패하면 다른 쪽을 취소하고 원래 예외를 다시 던집니다.
+     */
+    public <T> SidePair<T> readBoth(Supplier<T> activeRead, Supplier<T> standbyRead) {
+        Future<T> active = readExecutor.submit(activeRead::get);
+        Future<T> standby = readExecutor.submit(standbyRead::get);
+        try {
+            return new SidePair<>(active.get(), standby.get());
+        } catch (InterruptedException e) {
+            active.cancel(true);
+            standby.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reading Active/Standby", e);
+        } catch (ExecutionException e) {
+            active.cancel(true);
+            standby.cancel(true);
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        tableExecutor.shutdownNow();
+        readExecutor.shutdownNow();
+    }
+
+    public record SidePair<T>(T active, T standby) {
+    }
+}
@@ -0,0 +1,62 @@
+package org.ravo.ravomanager.manager.sync;
+
+import lombok.Getter;
+import org.ravo.ravomanager.manager.domain.RepairDirection;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 재동기화 작업 상태와 처리량 지표
+ * 읽기 스레드와 여러 쓰기 작업이 동시에 갱신하므로 카운터는 원자 변수로 유지합니다.
+ */
+@Getter
+public class SyncRepairJob {
+
+    public enum Status { RUNNING, COMPLETED, FAILED }
+
+    private final long id;
+    private final long reportId;
+    private final String tableName;
+    private final RepairDirection direction;
+    private final long plannedRows;
+    private final Instant startedAt = Instant.now();
+    private volatile Instant finishedAt;
+    private volatile Status status = Status.RUNNING;
+    private volatile String errorMessage;
+
+    private final AtomicLong rowsUpserted = new AtomicLong();
+    private final AtomicLong rowsDeleted = new AtomicLong();
+    private final AtomicLong batchesCompleted = new AtomicLong();
+    private final AtomicInteger batchesInFlight = new AtomicInteger();
+
+    public SyncRepairJob(long id, long reportId, String tableName, RepairDirection direction, long plannedRows) {
+        this.id = id;
+        this.reportId = reportId;
+        this.tableName = tableName;
+        this.direction = direction;
+        this.plannedRows = plannedRows;
+    }
+
+    /**
+     * 시작 이후 (또는 종료까지) 초당 처리 행 수
+     */
+    public double getRowsPerSecond() {
+        Instant end = finishedAt != null ? finishedAt : Instant.now();
+        double seconds = Math.max(0.001, Duration.between(startedAt, end).toMillis() / 1000.0);
+        return (rowsUpserted.get() + rowsDeleted.get()) / seconds;
+    }
+
+    void complete() {
+        this.finishedAt = Instant.now();
+        this.status = Status.COMPLETED;
+    }
+
+    void fail(String errorMessage) {
+        this.errorMessage = errorMessage;
+        this.finishedAt = Instant.now();
+        this.status = Status.FAILED;
+    }
+}
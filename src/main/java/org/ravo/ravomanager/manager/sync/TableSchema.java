@@ -0,0 +1,131 @@
+package org.ravo.ravomanager.manager.sync;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * INFORMATION_SCHEMA 에서 읽은 테이블 구조와 행 해시 계획
+ * 해시 대상 컬럼은 PK 컬럼이 앞에 오도록 정렬되어 있으며, 워터마크 컬럼도 해시에 포함됩니다.
+ */
+@Getter
+public class TableSchema {
+
+    private final String tableName;
+    /** PK 컬럼 (복합 PK 는 정의 순서) */
+    private final List<String> primaryKey;
+    /** 해시 대상 컬럼 (PK 컬럼 먼저, 이후 정의 순서) */
+    private final List<String> hashColumns;
+    /** 재동기화 시 읽고 쓰는 컬럼 (정의 순서, 생성 컬럼 제외) */
+    private final List<String> insertableColumns;
+    /** 변경 시각 컬럼 (증분 검증용), 없으면 null */
+    private final String watermarkColumn;
+    /** 단일 정수형 PK 여부 (PK 순서 병합/구간 체크섬/차이 분석/재동기화 가능) */
+    private final boolean integerKey;
+
+    @Getter(AccessLevel.NONE)
+    private final ColumnEncoding[] encodings;
+
+    TableSchema(String tableName, List<String> primaryKey, List<String> hashColumns,
+                List<ColumnEncoding> encodings, List<String> insertableColumns, String watermarkColumn) {
+        this.tableName = tableName;
+        this.primaryKey = List.copyOf(primaryKey);
+        this.hashColumns = List.copyOf(hashColumns);
+        this.insertableColumns = List.copyOf(insertableColumns);
+        this.encodings = encodings.toArray(ColumnEncoding[]::new);
+        this.watermarkColumn = watermarkColumn;
+        this.integerKey = primaryKey.size() == 1 && this.encodings[0].isOrderedKey();
+    }
+
+    /**
+     * 해시 대상 컬럼 순서의 인코딩 (인덱스 0 이 첫 번째 컬럼)
+     */
+    ColumnEncoding[] encodings() {
+        return encodings;
+    }
+
+    int keyColumnCount() {
+        return primaryKey.size();
+    }
+
+    /**
+     * 단일 정수형 PK 컬럼 (integerKey 인 경우에만 사용)
+     */
+    public String keyColumn() {
+        if (!integerKey) {
+            throw new IllegalStateException("단일 정수형 PK 테이블이 아닙니다: " + tableName);
+        }
+        return primaryKey.get(0);
+    }
+
+    String quotedTable() {
+        return quote(tableName);
+    }
+
+    String quotedKey() {
+        return quote(keyColumn());
+    }
+
+    /**
+     * 해시 대상 컬럼의 조회 식 (TIMESTAMP 는 세션 시간대와 무관한 epoch 마이크로초)
+     */
+    String hashColumnExpressions() {
+        return IntStream.range(0, hashColumns.size())
+                .mapToObj(this::columnExpression)
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * {@link RowCursor} 조회 컬럼: 해시 대상 컬럼 + 행 요약 체크섬
+     */
+    String cursorColumns() {
+        return hashColumnExpressions() + ", " + rowChecksum();
+    }
+
+    /**
+     * PK 정렬 병합용 조회 컬럼: {@link #cursorColumns()} + PK 컬럼별 정렬 키
+     * 정렬 키는 정수 계열이면 값 그대로, 그 외에는 바이너리로 바꾼 값이라 콜레이션과 관계없이 바이트 순서로 정렬되고
+     * Java 에서도 같은 순서로 비교할 수 있습니다.
+     */
+    String keyOrderedCursorColumns() {
+        return cursorColumns() + ", " + keyOrder();
+    }
+
+    /**
+     * {@link #keyOrderedCursorColumns()} 의 정렬 키 순서 (ORDER BY 절)
+     */
+    String keyOrder() {
+        return IntStream.range(0, primaryKey.size())
+                .mapToObj(i -> encodings[i].isNumericKey()
+                        ? columnExpression(i) : "CAST(" + columnExpression(i) + " AS BINARY)")
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * 테이블 요약 해시용 행 체크섬 (DB 에서 계산하는 60비트 부호 없는 정수)
+     * 구간 체크섬 비교와 행 스트리밍 비교가 같은 식을 쓰므로 두 방식의 테이블 요약 해시(체크섬 XOR)가 같습니다.
+     * CONCAT_WS 는 NULL 을 건너뛰므로 컬럼별 NULL 여부를 함께 넣어 구분하고, BIGINT 로 바로 읽을 수 있게 MD5 앞 15자리만 씁니다.
+     */
+    String rowChecksum() {
+        String nullFlags = IntStream.range(0, hashColumns.size())
+                .mapToObj(i -> "ISNULL(" + columnExpression(i) + ")")
+                .collect(Collectors.joining(", "));
+        return "CAST(CONV(SUBSTRING(MD5(CONCAT_WS('|', " + hashColumnExpressions()
+                + ", CONCAT(" + nullFlags + "))), 1, 15), 16, 10) AS UNSIGNED)";
+    }
+
+    private String columnExpression(int index) {
+        String column = quote(hashColumns.get(index));
+        // TIMESTAMP 는 세션 시간대로 바뀌어 전송되므로, 저장된 UTC 값을 그대로 돌려주는 UNIX_TIMESTAMP 로 읽음
+        return encodings[index] == ColumnEncoding.TIMESTAMP
+                ? "CAST(UNIX_TIMESTAMP(" + column + ") * 1000000 AS SIGNED)"
+                : column;
+    }
+
+    static String quote(String identifier) {
+        return "`" + identifier.replace("`", "``") + "`";
+    }
+}
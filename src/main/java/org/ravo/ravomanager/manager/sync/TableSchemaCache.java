@@ -0,0 +1,113 @@
+package org.ravo.ravomanager.manager.sync;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ravo.config.SyncProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테이블 구조 캐시
+ * 테이블당 한 번 INFORMATION_SCHEMA 에서 컬럼 타입과 PK(복합 PK 포함)를 읽어 {@link TableSchema} 로 보관합니다.
+ * 생성 컬럼(EXTRA 가 VIRTUAL/STORED GENERATED)은 값을 쓸 수 없으므로 재동기화 대상 컬럼에서 뺍니다.
+ * (DEFAULT_GENERATED 는 기본값이 식인 일반 컬럼이라 그대로 둡니다.)
+ * 비교가 실패하면 {@link #invalidate(String)} 로 지워 다음 주기에 DDL 변경을 다시 읽습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TableSchemaCache {
+
+    private static final String COLUMNS_SQL =
+            "SELECT COLUMN_NAME, DATA_TYPE, COLUMN_TYPE, EXTRA FROM INFORMATION_SCHEMA.COLUMNS"
+                    + " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? ORDER BY ORDINAL_POSITION";
+
+    private static final String PRIMARY_KEY_SQL =
+            "SELECT COLUMN_NAME FROM INFORMATION_SCHEMA.KEY_COLUMN_USAGE"
+                    + " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND CONSTRAINT_NAME = 'PRIMARY'"
+                    + " ORDER BY ORDINAL_POSITION";
+
+    private final SyncProperties syncProperties;
+
+    private final Map<String, TableSchema> schemas = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시된 테이블 구조를 반환하고, 없으면 jdbcTemplate 의 DB에서 읽습니다.
+     */
+    public TableSchema get(JdbcTemplate jdbcTemplate, String tableName) {
+        return schemas.computeIfAbsent(tableName, name -> load(jdbcTemplate, name));
+    }
+
+    public void invalidate(String tableName) {
+        schemas.remove(tableName);
+    }
+
+    private TableSchema load(JdbcTemplate jdbcTemplate, String tableName) {
+        List<ColumnInfo> columns = jdbcTemplate.query(COLUMNS_SQL,
+                (rs, rowNum) -> new ColumnInfo(rs.getString("COLUMN_NAME"),
+                        ColumnEncoding.of(rs.getString("DATA_TYPE"), rs.getString("COLUMN_TYPE")),
+                        isGenerated(rs.getString("EXTRA"))),
+                tableName);
+        if (columns.isEmpty()) {
+            throw new IllegalArgumentException("테이블을 찾을 수 없습니다: " + tableName);
+        }
+
+        List<String> primaryKey = jdbcTemplate.queryForList(PRIMARY_KEY_SQL, String.class, tableName);
+        if (primaryKey.isEmpty()) {
+            throw new IllegalStateException("PK 가 없는 테이블은 비교할 수 없습니다: " + tableName);
+        }
+
+        String watermarkColumn = columns.stream()
+                .filter(column -> column.name().equalsIgnoreCase(syncProperties.getWatermarkColumn()))
+                .filter(column -> column.encoding() == ColumnEncoding.DATETIME
+                        || column.encoding() == ColumnEncoding.TIMESTAMP)
+                .map(ColumnInfo::name)
+                .findFirst()
+                .orElse(null);
+
+        // PK 컬럼을 앞에 두고 나머지는 정의 순서대로 (워터마크 컬럼도 값이 다르면 불일치)
+        List<String> hashColumns = new ArrayList<>(primaryKey);
+        List<ColumnEncoding> encodings = new ArrayList<>();
+        for (String key : primaryKey) {
+            encodings.add(columns.stream().filter(column -> column.name().equals(key))
+                    .findFirst().orElseThrow().encoding());
+        }
+        for (ColumnInfo column : columns) {
+            if (!primaryKey.contains(column.name())) {
+                hashColumns.add(column.name());
+                encodings.add(column.encoding());
+            }
+        }
+
+        List<String> insertableColumns = columns.stream()
+                .filter(column -> !column.generated())
+                .map(ColumnInfo::name)
+                .toList();
+
+        TableSchema schema = new TableSchema(tableName, primaryKey, hashColumns, encodings, insertableColumns,
+                watermarkColumn);
+        log.info("Table schema loaded - table: {}, pk: {}, columns: {}, watermark: {}",
+                tableName, primaryKey, hashColumns.size(), watermarkColumn);
+        return schema;
+    }
+
+    /**
+     * EXTRA 가 VIRTUAL GENERATED / STORED GENERATED 인 생성 컬럼 여부
+     */
+    static boolean isGenerated(String extra) {
+        if (extra == null) {
+            return false;
+        }
+        String upper = extra.toUpperCase(Locale.ROOT);
+        return upper.contains("VIRTUAL GENERATED") || upper.contains("STORED GENERATED");
+    }
+
+    private record ColumnInfo(String name, ColumnEncoding encoding, boolean generated) {
+    }
+}
@@ -0,0 +1,11 @@
+package org.ravo.ravomanager.manager.tsdb;
+
+/**
+ * 롤업 구간 집계 방식
+ * 게이지는 AVG/MIN/MAX, 카운터는 LAST 로 구간 간 증가량(rate)을 계산합니다.
+ */
+public enum Aggregate {
+    AVG, MIN, MAX, LAST;
+
+    static final int COUNT = values().length;
+}
@@ -0,0 +1,41 @@
+package org.ravo.ravomanager.manager.tsdb;
+
+import java.nio.ByteBuffer;
+
+/**
+ * ByteBuffer 구간을 비트 단위로 읽습니다. (버퍼 위치는 바꾸지 않음, mmap 버퍼를 그대로 읽음)
+ */
+final class BitInput {
+
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final long limitBits;
+    private long position;
+
+    BitInput(ByteBuffer buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.limitBits = (long) length << 3;
+    }
+
+    boolean readBit() {
+        return readBits(1) != 0;
+    }
+
+    long readBits(int count) {
+        if (position + count > limitBits) {
+            throw new IllegalStateException("블록 데이터가 손상되었습니다.");
+        }
+        long result = 0;
+        while (count > 0) {
+            int bitInByte = (int) (position & 7);
+            int available = 8 - bitInByte;
+            int take = Math.min(available, count);
+            int b = buffer.get(offset + (int) (position >>> 3)) & 0xff;
+            result = (result << take) | ((b >>> (available - take)) & ((1 << take) - 1));
+            position += take;
+            count -= take;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,61 @@
+package org.ravo.ravomanager.manager.tsdb;
+
+import java.util.Arrays;
+
+/**
+ * long 배열 기반 비트 스트림 쓰기 (상위 비트부터 기록)
+ */
+final class BitOutput {
+
+    private long[] words = new long[8];
+    private int bitLength;
+
+    void writeBit(boolean bit) {
+        writeBits(bit ? 1 : 0, 1);
+    }
+
+    /**
+     * value 의 하위 count 비트를 기록합니다. (1 ~ 64)
+     */
+    void writeBits(long value, int count) {
+        ensureCapacity(bitLength + count);
+        if (count < 64) {
+            value &= (1L << count) - 1;
+        }
+        int index = bitLength >>> 6;
+        int free = 64 - (bitLength & 63);
+        if (count <= free) {
+            words[index] |= value << (free - count);
+        } else {
+            int overflow = count - free;
+            words[index] |= value >>> overflow;
+            words[index + 1] |= value << (64 - overflow);
+        }
+        bitLength += count;
+    }
+
+    int bitLength() {
+        return bitLength;
+    }
+
+    int byteLength() {
+        return (bitLength + 7) >>> 3;
+    }
+
+    /**
+     * 지금까지 기록한 비트를 dest[offset ~] 에 바이트로 복사합니다. (마지막 바이트 남는 비트는 0)
+     */
+    void copyTo(byte[] dest, int offset) {
+        int length = byteLength();
+        for (int i = 0; i < length; i++) {
+            dest[offset + i] = (byte) (words[i >>> 3] >>> (56 - ((i & 7) << 3)));
+        }
+    }
+
+    private void ensureCapacity(int bits) {
+        int required = (bits + 63) >>> 6;
+        if (required > words.length) {
+            words = Arrays.copyOf(words, Math.max(required, words.length * 2));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.ravo.ravomanager.manager.tsdb;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+
+/**
+ * {@link BlockWriter} 형식 블록 읽기
+ * 헤더로 시간 범위를 먼저 확인하고, 타임스탬프 열과 요청한 열 하나만 풉니다.
+ */
+final class BlockReader {
+
+    /**
+     * 세그먼트 안 블록 위치와 시간 범위 (세그먼트 색인 항목)
+     */
+    record BlockInfo(int offset, int length, long minTimestamp, long maxTimestamp, int count, boolean readable) {
+
+        boolean overlaps(long from, long to) {
+            return maxTimestamp >= from && minTimestamp <= to;
+        }
+    }
+
+    private BlockReader() {
+    }
+
+    /**
+     * offset 위치의 블록 헤더를 읽고 CRC 를 확인합니다.
+     * 블록이 잘렸거나 손상되었으면 null (기록 도중 중단된 꼬리 블록)
+     * 형식/열 배치 버전이 지금과 다른 블록은 온전하더라도 readable = false 로 돌려주어, 건너뛰기만 하고 잘라내지는 않습니다.
+     */
+    static BlockInfo readInfo(ByteBuffer buffer, int offset, int limit) {
+        if (limit - offset < BlockWriter.HEADER_LENGTH || buffer.getInt(offset) != BlockWriter.MAGIC) {
+            return null;
+        }
+        boolean readable = buffer.get(offset + 4) == BlockWriter.FORMAT_VERSION
+                && buffer.get(offset + 5) == BlockWriter.LAYOUT_VERSION;
+        int bodyLength = buffer.getInt(offset + 8);
+        int length = BlockWriter.HEADER_LENGTH + bodyLength + BlockWriter.TRAILER_LENGTH;
+        if (bodyLength < 24 || length > limit - offset) {
+            return null;
+        }
+        int body = offset + BlockWriter.HEADER_LENGTH;
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(body, bodyLength));
+        if ((int) crc.getValue() != buffer.getInt(body + bodyLength)) {
+            return null;
+        }
+        return new BlockInfo(offset, length, buffer.getLong(body), buffer.getLong(body + 8), buffer.getInt(body + 16),
+                readable);
+    }
+
+    /**
+     * 블록에서 [from, to] 구간의 column 열 값을 out 에 추가합니다.
+     */
+    static void read(ByteBuffer buffer, BlockInfo info, int column, long from, long to, TimeSeries out) {
+        if (!info.readable()) {
+            return;
+        }
+        int body = info.offset() + BlockWriter.HEADER_LENGTH;
+        int count = buffer.getInt(body + 16);
+        int columnCount = buffer.getInt(body + 20);
+        if (column >= columnCount) {
+            return;
+        }
+        int lengths = body + 24;
+        int timestampLength = buffer.getInt(lengths);
+        int data = lengths + 4 * (columnCount + 1);
+        int columnOffset = data + timestampLength;
+        for (int i = 0; i < column; i++) {
+            columnOffset += buffer.getInt(lengths + 4 * (i + 1));
+        }
+        int columnLength = buffer.getInt(lengths + 4 * (column + 1));
+
+        TimestampCodec.Decoder timestamps = new TimestampCodec.Decoder(new BitInput(buffer, data, timestampLength));
+        ValueCodec.Decoder values = new ValueCodec.Decoder(new BitInput(buffer, columnOffset, columnLength));
+        for (int i = 0; i < count; i++) {
+            long timestamp = timestamps.next();
+            double value = values.next();
+            if (timestamp > to) {
+                return;
+            }
+            if (timestamp >= from) {
+                out.add(timestamp, value);
+            }
+        }
+    }
+}
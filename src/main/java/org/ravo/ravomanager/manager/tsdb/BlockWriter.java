@@ -0,0 +1,106 @@
+package org.ravo.ravomanager.manager.tsdb;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+
+/**
+ * 열 단위(columnar) 블록 작성기
+ * 같은 시각의 행을 받아 타임스탬프 열 1개 + 값 열 N개로 각각 압축하며, 조회 시에는 필요한 열만 풀 수 있습니다.
+ *
+ * 블록 형식 (big-endian):
+ * <pre>
+ * int  MAGIC
+ * byte FORMAT_VERSION (블록/코덱 형식)
+ * byte LAYOUT_VERSION (열 배치: RAW 열 = 메트릭 ID, 롤업 열 = 메트릭 ID × Aggregate.COUNT + 집계 순서)
+ * short 0 (예약)
+ * int  bodyLength
+ * body: long minTs, long maxTs, int count, int columnCount, int[columnCount + 1] 열 바이트 길이, 열 데이터 (타임스탬프 열 먼저)
+ * int  CRC32(body)
+ * </pre>
+ */
+final class BlockWriter {
+
+    static final int MAGIC = 0x52545342; // "RTSB"
+    static final byte FORMAT_VERSION = 1;
+    /** 열 배치 버전 ({@link Aggregate} 상수를 추가/변경해 롤업 열 번호가 바뀌면 올림) */
+    static final byte LAYOUT_VERSION = 1;
+    static final int HEADER_LENGTH = 12;
+    static final int TRAILER_LENGTH = 4;
+
+    private final TimestampCodec.Encoder timestamps = new TimestampCodec.Encoder();
+    private final ValueCodec.Encoder[] columns;
+    private long minTimestamp;
+    private long maxTimestamp;
+    private int count;
+
+    BlockWriter(int columnCount) {
+        this.columns = new ValueCodec.Encoder[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            columns[i] = new ValueCodec.Encoder();
+        }
+    }
+
+    /**
+     * 행 추가 (row 길이 = 열 수, 타임스탬프는 증가 순서)
+     */
+    void append(long timestamp, double[] row) {
+        if (count == 0) {
+            minTimestamp = timestamp;
+        }
+        maxTimestamp = timestamp;
+        timestamps.append(timestamp);
+        for (int i = 0; i < columns.length; i++) {
+            columns[i].append(row[i]);
+        }
+        count++;
+    }
+
+    int size() {
+        return count;
+    }
+
+    long minTimestamp() {
+        return minTimestamp;
+    }
+
+    long maxTimestamp() {
+        return maxTimestamp;
+    }
+
+    /**
+     * 현재까지의 행을 블록 바이트로 만듭니다. (작성기 상태는 유지되므로 조회용 스냅샷으로도 사용)
+     */
+    byte[] encode() {
+        int bodyLength = 8 + 8 + 4 + 4 + 4 * (columns.length + 1) + timestamps.output().byteLength();
+        for (ValueCodec.Encoder column : columns) {
+            bodyLength += column.output().byteLength();
+        }
+        byte[] block = new byte[HEADER_LENGTH + bodyLength + TRAILER_LENGTH];
+        ByteBuffer buffer = ByteBuffer.wrap(block);
+        buffer.putInt(MAGIC)
+                .put(FORMAT_VERSION)
+                .put(LAYOUT_VERSION)
+                .putShort((short) 0)
+                .putInt(bodyLength)
+                .putLong(minTimestamp)
+                .putLong(maxTimestamp)
+                .putInt(count)
+                .putInt(columns.length)
+                .putInt(timestamps.output().byteLength());
+        for (ValueCodec.Encoder column : columns) {
+            buffer.putInt(column.output().byteLength());
+        }
+        int position = buffer.position();
+        timestamps.output().copyTo(block, position);
+        position += timestamps.output().byteLength();
+        for (ValueCodec.Encoder column : columns) {
+            column.output().copyTo(block, position);
+            position += column.output().byteLength();
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(block, HEADER_LENGTH, bodyLength);
+        buffer.putInt(position, (int) crc.getValue());
+        return block;
+    }
+}
@@ -0,0 +1,353 @@
+package org.ravo.ravomanager.manager.tsdb;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.ravo.config.MetricStoreProperties;
+import org.ravo.ravomanager.manager.monitoring.CounterRate;
+import org.ravo.ravomanager.manager.monitoring.Metric;
+import org.ravo.ravomanager.manager.monitoring.MetricData;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * 수집한 DB 메트릭의 내장 시계열 저장소
+ * 역할(active/standby)마다 원본과 10초/1분/1시간 롤업을 각각 세그먼트 파일에 저장하며,
+ * 타임스탬프는 delta-of-delta, 값은 XOR 로 압축해 열 단위로 보관합니다.
+ * 쓰기(추가/롤업/보존 기간 정리)는 전용 스레드 1개에서만 실행해 수집 경로를 막지 않고,
+ * 조회는 요청 스레드에서 mmap 된 세그먼트를 바로 읽습니다.
+ * metric-store.flush-interval 마다 덜 찬 블록을 봉인하고 진행 중인 롤업 구간을 역할 디렉터리의 상태 파일에 저장하며,
+ * 종료할 때도 같은 상태를 저장해 재시작 후 진행 중이던 구간을 이어서 모읍니다.
+ */
+@Slf4j
+@Component
+public class MetricStore {
+
+    public static final List<String> ROLES = List.of("active", "standby");
+
+    private final MetricStoreProperties properties;
+    private final long rawIntervalMillis;
+    private final Map<String, RoleStore> roles = new HashMap<>();
+    private final ExecutorService writer =
+            Executors.newSingleThreadExecutor(Thread.ofPlatform().name("metric-store-writer").daemon().factory());
+
+    private volatile boolean open;
+
+    public MetricStore(MetricStoreProperties properties,
+                       @Value("${monitoring.collect-interval:PT5S}") Duration collectInterval) {
+        this.properties = properties;
+        this.rawIntervalMillis = Math.max(1, collectInterval.toMillis());
+    }
+
+    @PostConstruct
+    public void open() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Path root = Path.of(properties.getDirectory());
+        try {
+            for (String role : ROLES) {
+                roles.put(role, new RoleStore(root.resolve(role)));
+            }
+            open = true;
+            log.info("Metric store opened at {}", root.toAbsolutePath());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Metric store disabled, failed to open {}: {}", root.toAbsolutePath(), e.getMessage());
+            roles.values().forEach(RoleStore::close);
+            roles.clear();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (!open) {
+            writer.shutdownNow();
+            return;
+        }
+        open = false;
+        writer.execute(() -> roles.values().forEach(RoleStore::close));
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("Metric store writer did not finish in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * 스크레이프 결과 1건 추가 (비동기, 수집되지 않은 메트릭은 NaN 으로 저장)
+     */
+    public void append(String role, long timestamp, MetricData metricData) {
+        RoleStore store = roles.get(role);
+        if (!open || store == null) {
+            return;
+        }
+        double[] row = new double[Metric.COUNT];
+        for (int id = 0; id < Metric.COUNT; id++) {
+            row[id] = metricData.getOrDefault(Metric.byId(id), Double.NaN);
+        }
+        writer.execute(() -> {
+            try {
+                store.append(timestamp, row);
+            } catch (RuntimeException e) {
+                log.warn("Metric store append failed for {}: {}", role, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * [from, to] 구간 조회 (RAW 는 aggregate 무시)
+     */
+    public TimeSeries query(String role, Metric metric, Aggregate aggregate, Resolution resolution, long from, long to) {
+        RoleStore store = requireRole(role);
+        int column = resolution.isRollup() ? metric.id() * Aggregate.COUNT + aggregate.ordinal() : metric.id();
+        return store.series.get(resolution).read(column, from, to);
+    }
+
+    /**
+     * 카운터 메트릭의 초당 증가율 (RAW 값 또는 롤업 구간 마지막 값 기준)
+     * 값이 줄어든 구간은 카운터 초기화(DB 재시작)로 보고 새 값을 증가량으로 사용합니다.
+     */
+    public TimeSeries rate(String role, Metric metric, Resolution resolution, long from, long to) {
+        // 첫 점의 증가율을 구하려면 한 구간 앞 값이 필요
+        long step = stepMillis(resolution);
+        TimeSeries counter = query(role, metric, Aggregate.LAST, resolution, from - step, to);
+        TimeSeries rates = new TimeSeries(Math.max(1, counter.size()));
+        for (int i = 1; i < counter.size(); i++) {
+            long timestamp = counter.timestamp(i);
+            double rate = CounterRate.perSecond(counter.timestamp(i - 1), counter.value(i - 1), timestamp, counter.value(i));
+            if (timestamp >= from && !Double.isNaN(rate)) {
+                rates.add(timestamp, rate);
+            }
+        }
+        return rates;
+    }
+
+    /**
+     * 보존 기간 안에서 [from, to] 를 maxQueryPoints 이하로 반환할 수 있는 가장 세밀한 해상도
+     */
+    public Resolution chooseResolution(long from, long to, long now) {
+        for (Resolution resolution : Resolution.values()) {
+            boolean retained = now - retention(resolution).toMillis() <= from;
+            long points = (to - from) / stepMillis(resolution);
+            if (retained && points <= properties.getMaxQueryPoints()) {
+                return resolution;
+            }
+        }
+        return Resolution.ONE_HOUR;
+    }
+
+    /**
+     * 덜 찬 head 블록 봉인과 롤업 상태 저장
+     */
+    @Scheduled(fixedDelayString = "${metric-store.flush-interval:PT5M}")
+    public void checkpoint() {
+        if (!open) {
+            return;
+        }
+        writer.execute(() -> roles.forEach((role, store) -> {
+            try {
+                store.checkpoint();
+            } catch (IOException | RuntimeException e) {
+                log.warn("Metric store checkpoint failed for {}: {}", role, e.getMessage());
+            }
+        }));
+    }
+
+    /**
+     * 보존 기간이 지난 세그먼트 파일 삭제
+     */
+    @Scheduled(fixedDelayString = "${metric-store.retention-check-interval:PT10M}")
+    public void enforceRetention() {
+        if (!open) {
+            return;
+        }
+        writer.execute(() -> {
+            long now = System.currentTimeMillis();
+            roles.forEach((role, store) -> {
+                for (Resolution resolution : Resolution.values()) {
+                    try {
+                        int dropped = store.series.get(resolution).dropBefore(now - retention(resolution).toMillis());
+                        if (dropped > 0) {
+                            log.info("Dropped {} expired {} segments for {}", dropped, resolution.directoryName(), role);
+                        }
+                    } catch (RuntimeException e) {
+                        log.warn("Retention cleanup failed for {} {}: {}", role, resolution.directoryName(), e.getMessage());
+                    }
+                }
+            });
+        });
+    }
+
+    private long stepMillis(Resolution resolution) {
+        return resolution.isRollup() ? resolution.stepMillis() : rawIntervalMillis;
+    }
+
+    private Duration retention(Resolution resolution) {
+        return switch (resolution) {
+            case RAW -> properties.getRawRetention();
+            case TEN_SECONDS -> properties.getTenSecondRetention();
+            case ONE_MINUTE -> properties.getOneMinuteRetention();
+            case ONE_HOUR -> properties.getOneHourRetention();
+        };
+    }
+
+    private RoleStore requireRole(String role) {
+        if (!open) {
+            throw new IllegalStateException("메트릭 저장소가 열려 있지 않습니다.");
+        }
+        RoleStore store = roles.get(role);
+        if (store == null) {
+            throw new IllegalArgumentException("알 수 없는 역할입니다: " + role);
+        }
+        return store;
+    }
+
+    /**
+     * 역할 1개의 해상도별 저장소와 롤업 누적기 (쓰기는 writer 스레드에서만)
+     * 롤업 상태 파일 형식: int STATE_MAGIC, int STATE_VERSION, int 롤업 수, (byte 해상도 순서, 누적 상태) × 롤업 수, int CRC32
+     */
+    private static final class RoleStore {
+
+        private static final String STATE_FILE = "rollup.state";
+        private static final int STATE_MAGIC = 0x52525354; // "RRST"
+        private static final int STATE_VERSION = 1;
+
+        private final Path stateFile;
+        private final Map<Resolution, SeriesStore> series = new EnumMap<>(Resolution.class);
+        private final Map<Resolution, RollupAccumulator> rollups = new EnumMap<>(Resolution.class);
+
+        RoleStore(Path directory) throws IOException {
+            this.stateFile = directory.resolve(STATE_FILE);
+            for (Resolution resolution : Resolution.values()) {
+                int columns = resolution.isRollup() ? Metric.COUNT * Aggregate.COUNT : Metric.COUNT;
+                series.put(resolution, new SeriesStore(directory.resolve(resolution.directoryName()), resolution, columns));
+                if (resolution.isRollup()) {
+                    rollups.put(resolution, new RollupAccumulator(resolution.stepMillis(), Metric.COUNT));
+                }
+            }
+            restoreRollups();
+        }
+
+        void append(long timestamp, double[] row) {
+            series.get(Resolution.RAW).append(timestamp, row);
+            rollups.forEach((resolution, rollup) -> rollup.add(timestamp, row, series.get(resolution)::append));
+        }
+
+        void checkpoint() throws IOException {
+            series.values().forEach(SeriesStore::flush);
+            saveRollups();
+        }
+
+        void close() {
+            try {
+                saveRollups();
+            } catch (IOException | RuntimeException e) {
+                log.warn("Failed to save rollup state, flushing partial buckets: {}", e.getMessage());
+                rollups.forEach((resolution, rollup) -> {
+                    try {
+                        // 상태를 못 남기면 진행 중인 구간이라도 기록 (재시작 후 같은 구간은 중복으로 무시됨)
+                        rollup.flush(series.get(resolution)::append);
+                    } catch (RuntimeException flushFailure) {
+                        log.warn("Failed to flush {} rollup: {}", resolution.directoryName(), flushFailure.getMessage());
+                    }
+                });
+            }
+            series.values().forEach(store -> {
+                try {
+                    store.close();
+                } catch (RuntimeException e) {
+                    log.warn("Failed to close metric series: {}", e.getMessage());
+                }
+            });
+        }
+
+        /**
+         * 진행 중인 롤업 구간을 임시 파일에 쓴 뒤 바꿔 끼워 저장
+         */
+        private void saveRollups() throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(STATE_MAGIC);
+            out.writeInt(STATE_VERSION);
+            out.writeInt(rollups.size());
+            for (Map.Entry<Resolution, RollupAccumulator> entry : rollups.entrySet()) {
+                out.writeByte(entry.getKey().ordinal());
+                entry.getValue().writeState(out);
+            }
+            CRC32 crc = new CRC32();
+            crc.update(bytes.toByteArray());
+            out.writeInt((int) crc.getValue());
+
+            Path temp = stateFile.resolveSibling(STATE_FILE + ".tmp");
+            Files.write(temp, bytes.toByteArray());
+            Files.move(temp, stateFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        /**
+         * 저장된 롤업 상태 복원 (없거나 손상/형식이 다르면 새 구간부터 모음)
+         */
+        private void restoreRollups() {
+            byte[] data;
+            try {
+                data = Files.readAllBytes(stateFile);
+            } catch (NoSuchFileException e) {
+                return;
+            } catch (IOException e) {
+                log.warn("Failed to read rollup state {}: {}", stateFile, e.getMessage());
+                return;
+            }
+            CRC32 crc = new CRC32();
+            crc.update(data, 0, Math.max(0, data.length - 4));
+            if (data.length < 16 || (int) crc.getValue() != ByteBuffer.wrap(data, data.length - 4, 4).getInt()) {
+                log.warn("Ignoring corrupted rollup state {}", stateFile);
+                return;
+            }
+            try {
+                DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, 0, data.length - 4));
+                if (in.readInt() != STATE_MAGIC || in.readInt() != STATE_VERSION) {
+                    log.warn("Ignoring rollup state {} with an unsupported format", stateFile);
+                    return;
+                }
+                int entries = in.readInt();
+                for (int i = 0; i < entries; i++) {
+                    Resolution resolution = Resolution.values()[in.readUnsignedByte()];
+                    RollupAccumulator rollup = rollups.get(resolution);
+                    if (rollup == null || !rollup.readState(in)) {
+                        log.warn("Ignoring {} rollup state with a different layout", resolution.directoryName());
+                        return;
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                log.warn("Ignoring unreadable rollup state {}: {}", stateFile, e.getMessage());
+            }
+        }
+    }
+}
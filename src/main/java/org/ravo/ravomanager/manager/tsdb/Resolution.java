@@ -0,0 +1,56 @@
+package org.ravo.ravomanager.manager.tsdb;
+
+import java.time.Duration;
+
+/**
+ * 저장 해상도
+ * RAW 는 스크레이프 값 그대로, 나머지는 구간별 {@link Aggregate} 값을 저장합니다.
+ * 세그먼트 파일은 segmentSpan 단위로 나뉘어 보존 기간이 지나면 파일째 삭제되고,
+ * 블록은 blockPoints 개가 모이면 압축해 세그먼트 끝에 추가됩니다.
+ */
+public enum Resolution {
+
+    RAW("raw", Duration.ZERO, Duration.ofDays(1), 120),
+    TEN_SECONDS("10s", Duration.ofSeconds(10), Duration.ofDays(1), 180),
+    ONE_MINUTE("1m", Duration.ofMinutes(1), Duration.ofDays(7), 120),
+    ONE_HOUR("1h", Duration.ofHours(1), Duration.ofDays(30), 24);
+
+    private final String directoryName;
+    private final long stepMillis;
+    private final long segmentSpanMillis;
+    private final int blockPoints;
+
+    Resolution(String directoryName, Duration step, Duration segmentSpan, int blockPoints) {
+        this.directoryName = directoryName;
+        this.stepMillis = step.toMillis();
+        this.segmentSpanMillis = segmentSpan.toMillis();
+        this.blockPoints = blockPoints;
+    }
+
+    public String directoryName() {
+        return directoryName;
+    }
+
+    /**
+     * 롤업 구간 길이 (RAW 는 0)
+     */
+    public long stepMillis() {
+        return stepMillis;
+    }
+
+    long segmentSpanMillis() {
+        return segmentSpanMillis;
+    }
+
+    int blockPoints() {
+        return blockPoints;
+    }
+
+    boolean isRollup() {
+        return this != RAW;
+    }
+
+    long segmentStart(long timestamp) {
+        return Math.floorDiv(timestamp, segmentSpanMillis) * segmentSpanMillis;
+    }
+}
@@ -0,0 +1,129 @@
+package org.ravo.ravomanager.manager.tsdb;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * 원본 행을 stepMillis 구간별 {@link Aggregate} 값으로 모읍니다.
+ * 구간이 바뀌는 행이 들어오면 이전 구간 행(열 = 메트릭 ID × Aggregate.COUNT + 집계 순서)을 내보냅니다.
+ * 값이 NaN(미수집)인 메트릭은 집계에서 빠지며, 구간 내 값이 없으면 NaN 으로 기록됩니다.
+ * 진행 중인 구간은 {@link #writeState}/{@link #readState} 로 저장·복원해 재시작 후에도 이어서 모읍니다.
+ */
+final class RollupAccumulator {
+
+    interface RowSink {
+        void accept(long timestamp, double[] row);
+    }
+
+    private final long stepMillis;
+    private final int metricCount;
+    private final double[] sum;
+    private final double[] min;
+    private final double[] max;
+    private final double[] last;
+    private final int[] count;
+    private final double[] row;
+    private long bucketStart = Long.MIN_VALUE;
+
+    RollupAccumulator(long stepMillis, int metricCount) {
+        this.stepMillis = stepMillis;
+        this.metricCount = metricCount;
+        this.sum = new double[metricCount];
+        this.min = new double[metricCount];
+        this.max = new double[metricCount];
+        this.last = new double[metricCount];
+        this.count = new int[metricCount];
+        this.row = new double[metricCount * Aggregate.COUNT];
+        reset();
+    }
+
+    void add(long timestamp, double[] values, RowSink sink) {
+        long bucket = Math.floorDiv(timestamp, stepMillis) * stepMillis;
+        if (bucket != bucketStart) {
+            flush(sink);
+            bucketStart = bucket;
+        }
+        for (int m = 0; m < metricCount; m++) {
+            double value = values[m];
+            if (Double.isNaN(value)) {
+                continue;
+            }
+            sum[m] += value;
+            min[m] = Math.min(min[m], value);
+            max[m] = Math.max(max[m], value);
+            last[m] = value;
+            count[m]++;
+        }
+    }
+
+    /**
+     * 모으던 구간을 내보냅니다. (구간이 바뀔 때, 종료 시)
+     */
+    void flush(RowSink sink) {
+        if (bucketStart == Long.MIN_VALUE) {
+            return;
+        }
+        for (int m = 0; m < metricCount; m++) {
+            int base = m * Aggregate.COUNT;
+            boolean empty = count[m] == 0;
+            row[base + Aggregate.AVG.ordinal()] = empty ? Double.NaN : sum[m] / count[m];
+            row[base + Aggregate.MIN.ordinal()] = empty ? Double.NaN : min[m];
+            row[base + Aggregate.MAX.ordinal()] = empty ? Double.NaN : max[m];
+            row[base + Aggregate.LAST.ordinal()] = empty ? Double.NaN : last[m];
+        }
+        sink.accept(bucketStart, row);
+        reset();
+    }
+
+    /**
+     * 진행 중인 구간의 누적 상태 기록
+     */
+    void writeState(DataOutput out) throws IOException {
+        out.writeLong(stepMillis);
+        out.writeInt(metricCount);
+        out.writeLong(bucketStart);
+        for (int m = 0; m < metricCount; m++) {
+            out.writeDouble(sum[m]);
+            out.writeDouble(min[m]);
+            out.writeDouble(max[m]);
+            out.writeDouble(last[m]);
+            out.writeInt(count[m]);
+        }
+    }
+
+    /**
+     * {@link #writeState} 로 기록한 상태 복원 (구간 길이나 메트릭 수가 다르면 false, 상태는 그대로)
+     */
+    boolean readState(DataInput in) throws IOException {
+        if (in.readLong() != stepMillis || in.readInt() != metricCount) {
+            return false;
+        }
+        long bucket = in.readLong();
+        double[][] aggregates = new double[4][metricCount];
+        int[] counts = new int[metricCount];
+        for (int m = 0; m < metricCount; m++) {
+            for (double[] aggregate : aggregates) {
+                aggregate[m] = in.readDouble();
+            }
+            counts[m] = in.readInt();
+        }
+        bucketStart = bucket;
+        System.arraycopy(aggregates[0], 0, sum, 0, metricCount);
+        System.arraycopy(aggregates[1], 0, min, 0, metricCount);
+        System.arraycopy(aggregates[2], 0, max, 0, metricCount);
+        System.arraycopy(aggregates[3], 0, last, 0, metricCount);
+        System.arraycopy(counts, 0, count, 0, metricCount);
+        return true;
+    }
+
+    private void reset() {
+        bucketStart = Long.MIN_VALUE;
+        Arrays.fill(sum, 0.0);
+        Arrays.fill(min, Double.POSITIVE_INFINITY);
+        Arrays.fill(max, Double.NEGATIVE_INFINITY);
+        Arrays.fill(last, Double.NaN);
+        Arrays.fill(count, 0);
+    }
+}
@@ -0,0 +1,164 @@
+package org.ravo.ravomanager.manager.tsdb;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 세그먼트 파일 (봉인된 블록을 순서대로 이어 붙인 append-only 파일)
+ * 파일을 여유 공간(GROWTH_BYTES 단위)까지 한 번 mmap 해 두고 블록은 매핑에 바로 쓰며, 공간이 모자랄 때만 더 크게 다시 매핑합니다.
+ * 여유 공간은 닫을 때 잘라내고, 비정상 종료로 남은 0 영역은 다음에 열 때 잘라냅니다.
+ * 열 때 블록 헤더/CRC 를 차례로 확인해 색인을 만들고, 기록 도중 중단된 꼬리 블록은 잘라냅니다.
+ * (동기화는 {@link SeriesStore} 가 담당)
+ */
+@Slf4j
+final class Segment {
+
+    /** 매핑을 늘릴 때 더 확보하는 공간 */
+    static final int GROWTH_BYTES = 1 << 20;
+
+    /**
+     * 조회 시점의 버퍼와 블록 색인
+     */
+    record View(ByteBuffer buffer, List<BlockReader.BlockInfo> blocks) {
+    }
+
+    private final Path path;
+    private final long startMillis;
+    private final FileChannel channel;
+    private MappedByteBuffer mapped;
+    private List<BlockReader.BlockInfo> blocks = List.of();
+    private long size;
+
+    private Segment(Path path, long startMillis, FileChannel channel) {
+        this.path = path;
+        this.startMillis = startMillis;
+        this.channel = channel;
+    }
+
+    static Segment open(Path path, long startMillis) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        Segment segment = new Segment(path, startMillis, channel);
+        try {
+            segment.load();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return segment;
+    }
+
+    private void load() throws IOException {
+        long fileSize = channel.size();
+        if (fileSize > Integer.MAX_VALUE) {
+            throw new IOException("세그먼트 파일이 너무 큽니다: " + path);
+        }
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+        List<BlockReader.BlockInfo> infos = new ArrayList<>();
+        int offset = 0;
+        int unreadable = 0;
+        while (offset < fileSize) {
+            BlockReader.BlockInfo info = BlockReader.readInfo(buffer, offset, (int) fileSize);
+            if (info == null) {
+                break;
+            }
+            infos.add(info);
+            if (!info.readable()) {
+                unreadable++;
+            }
+            offset += info.length();
+        }
+        if (offset < fileSize) {
+            if (isZero(buffer, offset, (int) fileSize)) {
+                log.debug("Trimming {} bytes of preallocated space in {}", fileSize - offset, path);
+            } else {
+                log.warn("Truncating {} bytes of incomplete block data in {}", fileSize - offset, path);
+            }
+            channel.truncate(offset);
+        }
+        if (unreadable > 0) {
+            log.warn("Skipping {} blocks with an unsupported format or column layout in {}", unreadable, path);
+        }
+        this.blocks = List.copyOf(infos);
+        this.size = offset;
+        this.mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, offset + GROWTH_BYTES);
+    }
+
+    /**
+     * 봉인된 블록을 파일 끝에 추가하고 디스크에 반영합니다.
+     */
+    void append(byte[] block) throws IOException {
+        int offset = (int) size;
+        if ((long) offset + block.length > Integer.MAX_VALUE) {
+            throw new IOException("세그먼트 파일이 너무 큽니다: " + path);
+        }
+        if (offset + block.length > mapped.capacity()) {
+            // 조회 중인 뷰는 이전 매핑을 계속 읽음 (매핑은 GC 될 때 해제)
+            long capacity = Math.min(Integer.MAX_VALUE, Math.max((long) mapped.capacity() * 2,
+                    (long) offset + block.length + GROWTH_BYTES));
+            mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        }
+        mapped.put(offset, block);
+        mapped.force(offset, block.length);
+
+        BlockReader.BlockInfo written = BlockReader.readInfo(ByteBuffer.wrap(block), 0, block.length);
+        List<BlockReader.BlockInfo> next = new ArrayList<>(blocks);
+        next.add(new BlockReader.BlockInfo(offset, block.length,
+                written.minTimestamp(), written.maxTimestamp(), written.count(), true));
+        size += block.length;
+        blocks = List.copyOf(next);
+    }
+
+    View view() {
+        return new View(mapped, blocks);
+    }
+
+    long startMillis() {
+        return startMillis;
+    }
+
+    long maxTimestamp() {
+        return blocks.isEmpty() ? Long.MIN_VALUE : blocks.get(blocks.size() - 1).maxTimestamp();
+    }
+
+    /**
+     * 여유 공간을 잘라내고 닫습니다. (조회는 색인 범위 안만 읽으므로 매핑이 남아 있어도 안전)
+     */
+    void close() {
+        try {
+            if (channel.isOpen() && channel.size() > size) {
+                channel.truncate(size);
+            }
+        } catch (IOException e) {
+            log.debug("Failed to trim segment {}: {}", path, e.getMessage());
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.debug("Failed to close segment {}: {}", path, e.getMessage());
+        }
+    }
+
+    private static boolean isZero(ByteBuffer buffer, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void delete() throws IOException {
+        close();
+        Files.deleteIfExists(path);
+    }
+}
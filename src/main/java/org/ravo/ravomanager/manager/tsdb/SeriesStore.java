@@ -0,0 +1,165 @@
+package org.ravo.ravomanager.manager.tsdb;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 역할 1개 × 해상도 1개의 시계열 저장소
+ * 새 행은 메모리의 head 블록에 모으고, blockPoints 개가 되거나 세그먼트 경계를 넘으면 압축해 세그먼트 파일에 추가합니다.
+ * 덜 찬 head 블록도 {@link #flush()} 로 주기적으로 봉인해, 비정상 종료 시 잃는 구간을 봉인 주기 이하로 제한합니다.
+ * 조회는 잠금 안에서 세그먼트 뷰와 head 블록 스냅샷만 잡고, 압축 해제는 잠금 밖에서 합니다.
+ */
+final class SeriesStore {
+
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private final Path directory;
+    private final Resolution resolution;
+    private final int columnCount;
+
+    // 아래 필드는 this 로 보호
+    private final TreeMap<Long, Segment> segments = new TreeMap<>();
+    private BlockWriter head;
+    private long lastTimestamp = Long.MIN_VALUE;
+
+    SeriesStore(Path directory, Resolution resolution, int columnCount) throws IOException {
+        this.directory = directory;
+        this.resolution = resolution;
+        this.columnCount = columnCount;
+
+        Files.createDirectories(directory);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SEGMENT_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                long start;
+                try {
+                    start = Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+                Segment segment = Segment.open(file, start);
+                segments.put(start, segment);
+                lastTimestamp = Math.max(lastTimestamp, segment.maxTimestamp());
+            }
+        }
+    }
+
+    /**
+     * 행 추가 (마지막 시각 이하인 행은 무시)
+     */
+    synchronized void append(long timestamp, double[] row) {
+        if (timestamp <= lastTimestamp) {
+            return;
+        }
+        if (head != null && resolution.segmentStart(timestamp) != resolution.segmentStart(head.minTimestamp())) {
+            seal();
+        }
+        if (head == null) {
+            head = new BlockWriter(columnCount);
+        }
+        head.append(timestamp, row);
+        lastTimestamp = timestamp;
+        if (head.size() >= resolution.blockPoints()) {
+            seal();
+        }
+    }
+
+    /**
+     * head 블록을 바로 세그먼트에 기록합니다. (주기적 봉인, 종료 시)
+     */
+    synchronized void flush() {
+        seal();
+    }
+
+    private void seal() {
+        if (head == null || head.size() == 0) {
+            return;
+        }
+        long start = resolution.segmentStart(head.minTimestamp());
+        try {
+            Segment segment = segments.get(start);
+            if (segment == null) {
+                segment = Segment.open(directory.resolve(start + SEGMENT_SUFFIX), start);
+                segments.put(start, segment);
+            }
+            segment.append(head.encode());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            head = null;
+        }
+    }
+
+    /**
+     * [from, to] 구간의 column 열 값
+     */
+    TimeSeries read(int column, long from, long to) {
+        List<Segment.View> views = new ArrayList<>();
+        byte[] headBlock = null;
+        synchronized (this) {
+            Long first = segments.floorKey(from);
+            for (Segment segment : segments.subMap(first != null ? first : from, true, to, true).values()) {
+                views.add(segment.view());
+            }
+            if (head != null && head.size() > 0 && head.maxTimestamp() >= from && head.minTimestamp() <= to) {
+                headBlock = head.encode();
+            }
+        }
+
+        TimeSeries series = new TimeSeries();
+        for (Segment.View view : views) {
+            for (BlockReader.BlockInfo block : view.blocks()) {
+                if (block.overlaps(from, to)) {
+                    BlockReader.read(view.buffer(), block, column, from, to, series);
+                }
+            }
+        }
+        if (headBlock != null) {
+            ByteBuffer buffer = ByteBuffer.wrap(headBlock);
+            BlockReader.read(buffer, BlockReader.readInfo(buffer, 0, headBlock.length), column, from, to, series);
+        }
+        return series;
+    }
+
+    /**
+     * 끝 시각이 cutoff 이전인 세그먼트 파일을 삭제합니다.
+     *
+     * @return 삭제한 세그먼트 수
+     */
+    synchronized int dropBefore(long cutoff) {
+        int dropped = 0;
+        Iterator<Map.Entry<Long, Segment>> iterator = segments.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, Segment> entry = iterator.next();
+            if (entry.getKey() + resolution.segmentSpanMillis() > cutoff) {
+                break;
+            }
+            try {
+                entry.getValue().delete();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            iterator.remove();
+            dropped++;
+        }
+        return dropped;
+    }
+
+    synchronized void close() {
+        try {
+            seal();
+        } finally {
+            segments.values().forEach(Segment::close);
+            segments.clear();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.ravo.ravomanager.manager.tsdb;
+
+import java.util.Arrays;
+
+/**
+ * 조회 결과 (시각 오름차순 타임스탬프/값 배열)
+ */
+public final class TimeSeries {
+
+    private long[] timestamps;
+    private double[] values;
+    private int size;
+
+    public TimeSeries() {
+        this(64);
+    }
+
+    TimeSeries(int capacity) {
+        this.timestamps = new long[capacity];
+        this.values = new double[capacity];
+    }
+
+    void add(long timestamp, double value) {
+        if (size == timestamps.length) {
+            timestamps = Arrays.copyOf(timestamps, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        timestamps[size] = timestamp;
+        values[size++] = value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long timestamp(int index) {
+        return timestamps[index];
+    }
+
+    public double value(int index) {
+        return values[index];
+    }
+
+    public long[] timestamps() {
+        return Arrays.copyOf(timestamps, size);
+    }
+
+    public double[] values() {
+        return Arrays.copyOf(values, size);
+    }
+}
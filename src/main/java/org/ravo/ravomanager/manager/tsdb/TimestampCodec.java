@@ -0,0 +1,86 @@
+package org.ravo.ravomanager.manager.tsdb;
+
+/**
+ * 타임스탬프 delta-of-delta 인코딩 (Gorilla)
+ * 수집 주기가 일정하면 두 번째 점부터 대부분 1비트('0')로 저장됩니다.
+ * 첫 값은 64비트, 이후 (이번 간격 - 이전 간격)을 zigzag 로 바꿔 크기별 접두어와 함께 기록합니다.
+ * '0' = 0, '10' + 7비트, '110' + 9비트, '1110' + 12비트, '1111' + 64비트
+ */
+final class TimestampCodec {
+
+    private TimestampCodec() {
+    }
+
+    static final class Encoder {
+        private final BitOutput out = new BitOutput();
+        private long previous;
+        private long previousDelta;
+        private int count;
+
+        void append(long timestamp) {
+            if (count++ == 0) {
+                out.writeBits(timestamp, 64);
+            } else {
+                long delta = timestamp - previous;
+                long dod = delta - previousDelta;
+                long zigzag = (dod << 1) ^ (dod >> 63);
+                // zigzag 는 부호 없는 값 (|dod| 가 2^62 이상이면 최상위 비트가 켜짐)
+                if (zigzag == 0) {
+                    out.writeBit(false);
+                } else if (zigzag >>> 7 == 0) {
+                    out.writeBits(0b10, 2);
+                    out.writeBits(zigzag, 7);
+                } else if (zigzag >>> 9 == 0) {
+                    out.writeBits(0b110, 3);
+                    out.writeBits(zigzag, 9);
+                } else if (zigzag >>> 12 == 0) {
+                    out.writeBits(0b1110, 4);
+                    out.writeBits(zigzag, 12);
+                } else {
+                    out.writeBits(0b1111, 4);
+                    out.writeBits(zigzag, 64);
+                }
+                previousDelta = delta;
+            }
+            previous = timestamp;
+        }
+
+        BitOutput output() {
+            return out;
+        }
+    }
+
+    static final class Decoder {
+        private final BitInput in;
+        private long previous;
+        private long previousDelta;
+        private int count;
+
+        Decoder(BitInput in) {
+            this.in = in;
+        }
+
+        long next() {
+            if (count++ == 0) {
+                previous = in.readBits(64);
+                return previous;
+            }
+            long zigzag;
+            if (!in.readBit()) {
+                zigzag = 0;
+            } else if (!in.readBit()) {
+                zigzag = in.readBits(7);
+            } else if (!in.readBit()) {
+                zigzag = in.readBits(9);
+            } else if (!in.readBit()) {
+                zigzag = in.readBits(12);
+            } else {
+                zigzag = in.readBits(64);
+            }
+            long dod = (zigzag >>> 1) ^ -(zigzag & 1);
+            previousDelta += dod;
+            previous += previousDelta;
+            return previous;
+        }
+    }
+}
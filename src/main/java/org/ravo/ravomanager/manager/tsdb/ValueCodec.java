@@ -0,0 +1,82 @@
+package org.ravo.ravomanager.manager.tsdb;
+
+/**
+ * double 값 XOR 인코딩 (Gorilla)
+ * 이전 값과 XOR 한 결과가 0 이면 1비트, 아니면 의미 있는 비트 구간만 기록합니다.
+ * 구간이 직전 구간 안에 들어가면 '10' + 비트, 아니면 '11' + 앞쪽 0 개수(5비트) + 길이-1(6비트) + 비트
+ * 값이 잘 바뀌지 않는 게이지와 천천히 증가하는 카운터는 점당 수 비트 수준으로 저장됩니다. (없는 값은 NaN)
+ */
+final class ValueCodec {
+
+    private ValueCodec() {
+    }
+
+    static final class Encoder {
+        private final BitOutput out = new BitOutput();
+        private long previousBits;
+        private int previousLeading = -1;
+        private int previousTrailing;
+        private int count;
+
+        void append(double value) {
+            long bits = Double.doubleToRawLongBits(value);
+            if (count++ == 0) {
+                out.writeBits(bits, 64);
+                previousBits = bits;
+                return;
+            }
+            long xor = bits ^ previousBits;
+            previousBits = bits;
+            if (xor == 0) {
+                out.writeBit(false);
+                return;
+            }
+            out.writeBit(true);
+            int leading = Math.min(Long.numberOfLeadingZeros(xor), 31);
+            int trailing = Long.numberOfTrailingZeros(xor);
+            if (previousLeading >= 0 && leading >= previousLeading && trailing >= previousTrailing) {
+                out.writeBit(false);
+                out.writeBits(xor >>> previousTrailing, 64 - previousLeading - previousTrailing);
+            } else {
+                int significant = 64 - leading - trailing;
+                out.writeBit(true);
+                out.writeBits(leading, 5);
+                out.writeBits(significant - 1, 6);
+                out.writeBits(xor >>> trailing, significant);
+                previousLeading = leading;
+                previousTrailing = trailing;
+            }
+        }
+
+        BitOutput output() {
+            return out;
+        }
+    }
+
+    static final class Decoder {
+        private final BitInput in;
+        private long previousBits;
+        private int previousLeading;
+        private int previousTrailing;
+        private int count;
+
+        Decoder(BitInput in) {
+            this.in = in;
+        }
+
+        double next() {
+            if (count++ == 0) {
+                previousBits = in.readBits(64);
+            } else if (in.readBit()) {
+                if (in.readBit()) {
+                    previousLeading = (int) in.readBits(5);
+                    int significant = (int) in.readBits(6) + 1;
+                    previousTrailing = 64 - previousLeading - significant;
+                }
+                int significant = 64 - previousLeading - previousTrailing;
+                previousBits ^= in.readBits(significant) << previousTrailing;
+            }
+            return Double.longBitsToDouble(previousBits);
+        }
+    }
+}
@@ -2,10 +2,6 @@ const initialData = /*[[${initialData}]]*/ {};
 let replicationChart = null;
 let readChart = null;
 let miniCharts = {};
-let lastMetricsData = {
-    active: {timestamp: 0, metrics: {}},
-    standby: {timestamp: 0, metrics: {}}
-};
 
 document.addEventListener('DOMContentLoaded', () => {
     console.log('=== Dashboard Initialized ===');
@@ -18,28 +14,99 @@ document.addEventListener('DOMContentLoaded', () => {
     initReadChart();
     initReplicationChart();
 
-    // 즉시 한 번 실행
-    fetchAndUpdate();
+    // 서버 푸시(SSE) 우선, 지원하지 않으면 폴링
+    if (window.EventSource) {
+        startStream();
+    } else {
+        startPolling();
+    }
+});
 
-    // 3초마다 반복 - Dashboard 데이터
-    setInterval(() => {
-        console.log('=== Fetching dashboard data at', new Date().toLocaleTimeString(), '===');
-        fetchAndUpdate();
-    }, 3000);
+let pollingTimer = null;
+let streamState = null;
+
+/**
+ * /api/dashboard/stream 구독
+ * snapshot 이벤트로 전체 상태를 받고 이후 patch 이벤트(JSON Merge Patch)를 합쳐 화면을 갱신합니다.
+ * 연결이 끊기면 EventSource 가 자동으로 재연결하며, 재연결 시 서버가 전체 상태를 다시 보냅니다.
+ */
+function startStream() {
+    const source = new EventSource('/api/dashboard/stream');
+
+    source.addEventListener('snapshot', event => {
+        streamState = JSON.parse(event.data);
+        renderStreamState();
+    });
 
-    // 3초마다 반복 - 메트릭 데이터 (상세 정보용)
-    setInterval(() => {
-        console.log('=== Fetching metrics data at', new Date().toLocaleTimeString(), '===');
+    source.addEventListener('patch', event => {
+        if (!streamState) {
+            return;
+        }
+        streamState = applyMergePatch(streamState, JSON.parse(event.data));
+        renderStreamState();
+    });
+
+    source.onerror = () => {
+        if (source.readyState === EventSource.CLOSED) {
+            console.warn('Dashboard stream closed, falling back to polling');
+            startPolling();
+        }
+    };
+}
+
+function startPolling() {
+    if (pollingTimer) {
+        return;
+    }
+    fetchAndUpdate();
+    fetchMetricsData();
+    pollingTimer = setInterval(() => {
+        fetchAndUpdate();
         fetchMetricsData();
     }, 3000);
-});
+}
+
+function renderStreamState() {
+    if (streamState.dashboard) {
+        updateDashboard(streamState.dashboard);
+    }
+    if (streamState.metrics) {
+        renderMetrics(streamState.metrics);
+    }
+}
+
+// RFC 7386: 객체는 필드별로 합치고, null 은 삭제, 나머지는 교체
+function applyMergePatch(target, patch) {
+    if (patch === null || typeof patch !== 'object' || Array.isArray(patch)) {
+        return patch;
+    }
+    const result = (target && typeof target === 'object' && !Array.isArray(target)) ? {...target} : {};
+    Object.keys(patch).forEach(key => {
+        if (patch[key] === null) {
+            delete result[key];
+        } else {
+            result[key] = applyMergePatch(result[key], patch[key]);
+        }
+    });
+    return result;
+}
 
+let dashboardVersion = null;
+let dashboardState = null;
+
+/**
+ * 폴링 갱신: 처음에는 전체 데이터, 이후에는 ?since=<version> 으로 바뀐 부분만 받습니다. (변경 없으면 304)
+ */
 async function fetchAndUpdate() {
     try {
-        console.log('Fetching from /api/dashboard');
-        const response = await fetch('/api/dashboard');
+        const url = dashboardVersion ? `/api/dashboard?since=${dashboardVersion}` : '/api/dashboard';
+        console.log('Fetching from', url);
+        const response = await fetch(url);
         console.log('Response status:', response.status, response.ok);
 
+        if (response.status === 304) {
+            return;
+        }
         if (!response.ok) {
             console.error('Response not OK:', response.status);
             return;
@@ -47,13 +114,33 @@ async function fetchAndUpdate() {
 
         const data = await response.json();
         console.log('Received data:', data);
-        updateDashboard(data);
+        if (dashboardVersion) {
+            applyDashboardDelta(data);
+        } else {
+            dashboardState = data;
+            dashboardVersion = (response.headers.get('ETag') || '').replace(/"/g, '') || null;
+        }
+        updateDashboard(dashboardState);
         console.log('Dashboard updated successfully');
     } catch (error) {
         console.error('Failed to fetch dashboard data:', error);
     }
 }
 
+function applyDashboardDelta(delta) {
+    dashboardVersion = delta.version;
+    if (delta.full) {
+        dashboardState = delta.changes;
+        return;
+    }
+    dashboardState = applyMergePatch(dashboardState, delta.changes || {});
+    Object.entries(delta.appendedPoints || {}).forEach(([path, points]) => {
+        const [parent, field] = path.split('.');
+        const series = (dashboardState[parent] && dashboardState[parent][field]) || [];
+        dashboardState[parent] = {...dashboardState[parent], [field]: series.concat(points).slice(-delta.historyCapacity)};
+    });
+}
+
 async function fetchMetricsData() {
     try {
         console.log('Fetching from /api/metrics');
@@ -66,7 +153,14 @@ async function fetchMetricsData() {
 
         const metricsData = await response.json();
         console.log('Received metrics data:', metricsData);
+        renderMetrics(metricsData);
+    } catch (error) {
+        console.error('Failed to fetch metrics data:', error);
+    }
+}
 
+function renderMetrics(metricsData) {
+    try {
         // Active DB 상세 정보 업데이트
         if (metricsData.active) {
             updateDatabaseDetails('active', metricsData.active);
@@ -81,7 +175,7 @@ async function fetchMetricsData() {
 
         console.log('Metrics updated successfully');
     } catch (error) {
-        console.error('Failed to fetch metrics data:', error);
+        console.error('Failed to render metrics data:', error);
     }
 }
 
@@ -212,31 +306,11 @@ function initMiniCharts() {
     console.log('Mini charts initialized');
 }
 
-function calculateRate(type, key, currentValue) {
-    const lastData = lastMetricsData[type];
-    if (!lastData || !lastData.metrics || !lastData.timestamp) {
-        console.log(`[${type}] No previous data for ${key}, initializing...`);
-        return 0;
-    }
-
-    const lastValue = lastData.metrics[key] || 0;
-    const timeDelta = (Date.now() - lastData.timestamp) / 1000;
-
-    console.log(`[${type}] ${key} - Current: ${currentValue}, Last: ${lastValue}, TimeDelta: ${timeDelta}s`);
-
-    if (timeDelta <= 0) {
-        console.warn(`[${type}] Invalid time delta: ${timeDelta}`);
-        return 0;
-    }
-
-    if (currentValue >= lastValue) {
-        const rate = (currentValue - lastValue) / timeDelta;
-        console.log(`[${type}] ${key} rate: ${rate}`);
-        return rate;
-    }
-
-    console.warn(`[${type}] Current value (${currentValue}) < Last value (${lastValue}), returning 0`);
-    return 0;
+// 서버(MetricCollector)가 스크레이프 간 실제 경과 시간으로 계산한 초당 증가율
+// field: perSecond(직전 수집 대비) / oneMinute / fiveMinutes / fifteenMinutes (EWMA)
+function serverRate(metricData, key, field = 'perSecond') {
+    const rate = (metricData.rates || {})[key];
+    return rate ? (rate[field] || 0) : 0;
 }
 
 function updateTimeSeriesChart(chart, newValues) {
@@ -259,13 +333,13 @@ function updateMiniCharts(type, metricData) {
     console.log(`[${type}] Heap sys:`, metrics.go_memstats_heap_sys_bytes);
 
     // CPU 업데이트
-    const cpuRate = calculateRate(type, 'process_cpu_seconds_total', metrics.process_cpu_seconds_total || 0);
+    const cpuRate = serverRate(metricData, 'cpuSeconds');
     console.log(`[${type}] Calculated CPU rate:`, cpuRate);
     updateTimeSeriesChart(miniCharts[`${type}-cpu`], [cpuRate]);
 
     // Network 업데이트
-    const bytesSent = calculateRate(type, 'mysql_global_status_bytes_sent', metrics.mysql_global_status_bytes_sent || 0);
-    const bytesReceived = calculateRate(type, 'mysql_global_status_bytes_received', metrics.mysql_global_status_bytes_received || 0);
+    const bytesSent = serverRate(metricData, 'bytesSent');
+    const bytesReceived = serverRate(metricData, 'bytesReceived');
     console.log(`[${type}] Network rates - Sent:`, bytesSent, 'Received:', bytesReceived);
     updateTimeSeriesChart(miniCharts[`${type}-network`], [bytesSent, bytesReceived]);
 
@@ -276,9 +350,6 @@ function updateMiniCharts(type, metricData) {
     console.log(`[${type}] Memory - InUse:`, heapInUse, 'Free:', heapFree);
     miniCharts[`${type}-memory`].data.datasets[0].data = [heapInUse, heapFree];
     miniCharts[`${type}-memory`].update('none');
-
-    // 마지막 메트릭 데이터 저장
-    lastMetricsData[type] = {timestamp: Date.now(), metrics: metrics};
 }
 
 function updateDatabaseDetails(type, metricData) {
@@ -287,10 +358,8 @@ function updateDatabaseDetails(type, metricData) {
 
     console.log(`Updating ${type} details:`, metricData);
 
-    // QPS 계산 (실시간) - 소수점 유지
-    const uptime = metrics.mysql_global_status_uptime || 1;
-    const queries = metrics.mysql_global_status_queries || 0;
-    const qps = queries / uptime;
+    // QPS (서버 계산 1분 EWMA) - 소수점 유지
+    const qps = serverRate(metricData, 'queries', 'oneMinute');
 
     const qpsEl = document.getElementById(type + '-qps');
     if (qpsEl) {
@@ -317,6 +386,137 @@ function updateDatabaseDetails(type, metricData) {
     }
 }
 
+const LAG_TREND_LABELS = {
+    'in-sync': '동기화됨',
+    'catching-up': '따라잡는 중',
+    'falling-behind': '뒤처지는 중',
+    'steady': '변화 없음'
+};
+
+// GTID 차집합 기반 미반영 트랜잭션 수와 따라잡는 속도/예상 시간
+function renderGtidLag(syncMetrics) {
+    const missingEl = document.getElementById('missing-transactions');
+    const catchUpEl = document.getElementById('catch-up-rate');
+    if (syncMetrics.missingTransactions == null) {
+        missingEl.textContent = '-';
+        catchUpEl.textContent = '-';
+        return;
+    }
+    const trend = LAG_TREND_LABELS[syncMetrics.lagTrend] || '-';
+    missingEl.textContent = syncMetrics.missingTransactions.toLocaleString() + '건 (' + trend + ')';
+    let catchUp = (syncMetrics.catchUpPerSecond || 0).toFixed(1) + '/초';
+    if (syncMetrics.missingTransactions > 0 && syncMetrics.catchUpEtaSeconds != null) {
+        catchUp += ', 약 ' + Math.ceil(syncMetrics.catchUpEtaSeconds) + '초 후';
+    }
+    catchUpEl.textContent = catchUp;
+}
+
+// gtid_history 기준 시간 지연 (lowerBound 면 캐시된 기록보다 더 뒤처져 있을 수 있음)
+function renderReplicationLag(syncMetrics) {
+    const lagEl = document.getElementById('replication-lag');
+    const appliedEl = document.getElementById('standby-applied-up-to');
+    if (syncMetrics.replicationLagSeconds == null) {
+        lagEl.textContent = '-';
+        appliedEl.textContent = '-';
+        return;
+    }
+    lagEl.textContent = (syncMetrics.replicationLagLowerBound ? '≥ ' : '')
+        + syncMetrics.replicationLagSeconds.toFixed(3) + '초';
+    appliedEl.textContent = syncMetrics.standbyAppliedUpTo || '-';
+}
+
+// 최근 binlog 행 이벤트 (서버가 최신순으로 보냄)
+function renderBinlogEvents(events) {
+    const container = document.getElementById('binlog-events');
+    container.replaceChildren();
+    if (!events || events.length === 0) {
+        const empty = document.createElement('div');
+        empty.className = 'event-time';
+        empty.textContent = '최근 binlog 이벤트 없음';
+        container.appendChild(empty);
+        return;
+    }
+    events.forEach(event => {
+        const type = (event.eventType || '').toLowerCase();
+        const item = document.createElement('div');
+        item.className = 'event-item ' + type;
+
+        const header = document.createElement('div');
+        header.className = 'event-header';
+        const badge = document.createElement('span');
+        badge.className = 'event-badge ' + type;
+        badge.textContent = event.eventType || '-';
+        const db = document.createElement('span');
+        db.className = 'event-db-label ' + (event.database || '');
+        db.textContent = event.database || '-';
+        header.append(badge, db);
+
+        const position = document.createElement('div');
+        position.className = 'event-binlog';
+        position.textContent = event.binlogPosition || '-';
+        const query = document.createElement('div');
+        query.className = 'event-query';
+        query.textContent = event.query || '';
+        const time = document.createElement('div');
+        time.className = 'event-time';
+        time.textContent = event.timestamp || '';
+
+        item.append(header, position, query, time);
+        container.appendChild(item);
+    });
+}
+
+const SYSTEM_EVENT_TYPE_LABELS = {
+    sync: '동기화',
+    connection: '연결',
+    performance: '성능',
+    recovery: '복구',
+    failover: '전환',
+    error: '오류'
+};
+
+function renderSystemEvents(events) {
+    const container = document.getElementById('system-events');
+    container.replaceChildren();
+    if (!events || events.length === 0) {
+        const empty = document.createElement('div');
+        empty.className = 'event-timestamp';
+        empty.textContent = '기록된 시스템 이벤트 없음';
+        container.appendChild(empty);
+        return;
+    }
+    events.forEach(event => {
+        const item = document.createElement('div');
+        item.className = 'system-event ' + (event.severity || 'info');
+
+        const icon = document.createElement('div');
+        icon.className = 'event-icon';
+        const content = document.createElement('div');
+        content.className = 'event-content';
+        const title = document.createElement('div');
+        title.className = 'event-title';
+        title.textContent = event.title || '';
+        content.appendChild(title);
+        [event.description, event.details].filter(text => text).forEach(text => {
+            const description = document.createElement('div');
+            description.className = 'event-description';
+            description.textContent = text;
+            content.appendChild(description);
+        });
+        const time = document.createElement('div');
+        time.className = 'event-timestamp';
+        time.textContent = event.timestamp || '';
+        content.appendChild(time);
+
+        const badge = document.createElement('span');
+        badge.className = 'event-type-badge ' + (event.eventType || '');
+        badge.textContent = SYSTEM_EVENT_TYPE_LABELS[event.eventType] || event.eventType || '-';
+
+        item.append(icon, content, badge);
+        container.appendChild(item);
+    });
+}
+
 function updateDashboard(data) {
     console.log('=== updateDashboard called ===');
     console.log('Full dashboard data:', JSON.stringify(data, null, 2));
@@ -360,6 +560,16 @@ function updateDashboard(data) {
         document.getElementById('active-gtid').textContent = data.syncMetrics.activeGtid || '-';
         document.getElementById('standby-gtid').textContent = data.syncMetrics.standbyGtid || '-';
         document.getElementById('last-sync-time').textContent = data.syncMetrics.lastSyncTime || '-';
+        renderGtidLag(data.syncMetrics);
+        renderReplicationLag(data.syncMetrics);
+    }
+
+    if (data.recentBinlogEvents) {
+        renderBinlogEvents(data.recentBinlogEvents);
+    }
+
+    if (data.systemEvents) {
+        renderSystemEvents(data.systemEvents);
     }
 
     console.log('Checking writeActivity:', data.writeActivity ? 'EXISTS' : 'MISSING');
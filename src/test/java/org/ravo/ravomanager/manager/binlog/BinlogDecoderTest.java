@@ -0,0 +1,244 @@
+package org.ravo.ravomanager.manager.binlog;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.ravo.ravomanager.manager.dto.BinlogEventDto;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinlogDecoderTest {
+
+    private static final String FILE = "mysql-bin.000001";
+    private static final long TABLE_ID = 77;
+
+    private final List<BinlogEventDto> published = new ArrayList<>();
+    private BinlogDecoder decoder;
+    /** 다음 이벤트 시작 위치 (픽스처의 log_pos 계산용) */
+    private long position;
+    private boolean checksum;
+
+    @BeforeEach
+    void setUp() {
+        decoder = new BinlogDecoder("active", List.of("bank.account"), published::add);
+        position = 4;
+        checksum = false;
+        decoder.reset(FILE, position, false);
+    }
+
+    @Test
+    void writeRowsForWatchedTableArePublished() {
+        decode(tableMap("bank", "account"));
+        long start = position;
+        decode(writeRows(row(1, "kim"), row(2, "lee")));
+
+        assertEquals(1, published.size());
+        BinlogEventDto event = published.get(0);
+        assertEquals("active", event.getDatabase());
+        assertEquals("INSERT", event.getEventType());
+        assertEquals(FILE + ":" + start, event.getBinlogPosition());
+        assertEquals("INSERT bank.account (2 rows)", event.getQuery());
+        assertEquals(position, decoder.nextPosition());
+        assertEquals(1, decoder.matchedEvents());
+    }
+
+    @Test
+    void rowsForOtherTablesAreIgnored() {
+        decode(tableMap("bank", "audit_log"));
+        decode(writeRows(row(1, "kim")));
+
+        assertTrue(published.isEmpty());
+        assertEquals(2, decoder.decodedEvents());
+        assertEquals(position, decoder.nextPosition());
+    }
+
+    @Test
+    void updateRowsCountBeforeAndAfterImagesAsOneRow() {
+        decode(tableMap("BANK", "Account"));
+        decode(rowsEvent(BinlogDecoder.UPDATE_ROWS_EVENT, true, row(1, "kim"), row(1, "park"), row(2, "lee"), row(2, "choi")));
+
+        assertEquals(1, published.size());
+        // 테이블 이름은 대소문자 무시로 비교하고, 표시는 TABLE_MAP 의 이름 그대로
+        assertEquals("UPDATE BANK.Account (2 rows)", published.get(0).getQuery());
+    }
+
+    @Test
+    void checksumFromFormatDescriptionIsNotCountedAsRowData() {
+        decode(formatDescription(true));
+        assertTrue(decoder.checksumEnabled());
+        checksum = true;
+        decode(tableMap("bank", "account"));
+        decode(rowsEvent(BinlogDecoder.DELETE_ROWS_EVENT, false, row(3, "han")));
+
+        assertEquals("DELETE bank.account (1 rows)", published.get(0).getQuery());
+        assertEquals(position, decoder.nextPosition());
+    }
+
+    @Test
+    void truncatedRowsEventIsSkippedToItsLogPosition() {
+        decode(tableMap("bank", "account"));
+        // table id 6바이트 중 3바이트만 있는 본문
+        decode(event(BinlogDecoder.WRITE_ROWS_EVENT, new byte[]{(byte) TABLE_ID, 0, 0}));
+
+        assertEquals(1, decoder.malformedEvents());
+        assertEquals(position, decoder.nextPosition());
+        assertTrue(published.isEmpty());
+
+        // 다음 이벤트는 그대로 디코딩
+        decode(writeRows(row(1, "kim")));
+        assertEquals(1, published.size());
+        assertEquals(position, decoder.nextPosition());
+    }
+
+    @Test
+    void eventWithMismatchedLengthIsSkippedUsingHeader() {
+        byte[] event = event(BinlogDecoder.TABLE_MAP_EVENT, new byte[10]);
+        // 헤더의 event_size 는 그대로 두고 전달된 바이트만 잘림
+        decoder.decode(Arrays.copyOf(event, event.length - 4), 0, event.length - 4);
+
+        assertEquals(1, decoder.malformedEvents());
+        assertEquals(0, decoder.decodedEvents());
+        assertEquals(position, decoder.nextPosition());
+    }
+
+    @Test
+    void eventShorterThanHeaderKeepsPosition() {
+        decoder.decode(new byte[10], 0, 10);
+
+        assertEquals(1, decoder.malformedEvents());
+        assertEquals(4, decoder.nextPosition());
+    }
+
+    @Test
+    void transactionPayloadIsCountedAndSkipped() {
+        decode(tableMap("bank", "account"));
+        decode(event(BinlogDecoder.TRANSACTION_PAYLOAD_EVENT, new byte[32]));
+        decode(event(BinlogDecoder.TRANSACTION_PAYLOAD_EVENT, new byte[16]));
+
+        assertEquals(2, decoder.transactionPayloadEvents());
+        assertEquals(0, decoder.malformedEvents());
+        assertEquals(position, decoder.nextPosition());
+        assertTrue(published.isEmpty());
+    }
+
+    @Test
+    void rotateSwitchesFileAndPosition() {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        writeInt(body, 4, 8);
+        body.writeBytes("mysql-bin.000002".getBytes(StandardCharsets.US_ASCII));
+        decode(event(BinlogDecoder.ROTATE_EVENT, body.toByteArray()));
+
+        assertEquals("mysql-bin.000002", decoder.fileName());
+        assertEquals(4, decoder.nextPosition());
+    }
+
+    // ---- 픽스처 ----
+
+    private void decode(byte[] event) {
+        decoder.decode(event, 0, event.length);
+    }
+
+    /**
+     * 헤더(19) + 본문 (+ 체크섬 4), log_pos 는 이 이벤트의 끝 위치
+     */
+    private byte[] event(int type, byte[] body) {
+        int length = BinlogDecoder.HEADER_LENGTH + body.length + (checksum ? BinlogDecoder.CHECKSUM_LENGTH : 0);
+        position += length;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeInt(out, 1_700_000_000L, 4);
+        out.write(type);
+        writeInt(out, 1, 4);
+        writeInt(out, length, 4);
+        writeInt(out, position, 4);
+        writeInt(out, 0, 2);
+        out.writeBytes(body);
+        if (checksum) {
+            writeInt(out, 0, 4);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * binlog 버전(2) + 서버 버전(50) + 생성 시각(4) + 헤더 길이(1) + 이벤트별 post-header 길이 + 체크섬 알고리즘(1) + 체크섬(4)
+     */
+    private byte[] formatDescription(boolean crc32) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        writeInt(body, 4, 2);
+        body.writeBytes(Arrays.copyOf("8.0.36".getBytes(StandardCharsets.US_ASCII), 50));
+        writeInt(body, 0, 4);
+        body.write(BinlogDecoder.HEADER_LENGTH);
+        body.writeBytes(new byte[41]);
+        body.write(crc32 ? 1 : 0);
+        writeInt(body, 0, 4);
+        return event(BinlogDecoder.FORMAT_DESCRIPTION_EVENT, body.toByteArray());
+    }
+
+    /**
+     * 컬럼 (id INT, name VARCHAR(100))
+     */
+    private byte[] tableMap(String schema, String table) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        writeInt(body, TABLE_ID, 6);
+        writeInt(body, 1, 2);
+        body.write(schema.length());
+        body.writeBytes(schema.getBytes(StandardCharsets.US_ASCII));
+        body.write(0);
+        body.write(table.length());
+        body.writeBytes(table.getBytes(StandardCharsets.US_ASCII));
+        body.write(0);
+        body.write(2);
+        body.write(RowImages.TYPE_LONG);
+        body.write(RowImages.TYPE_VARCHAR);
+        body.write(2);
+        writeInt(body, 100, 2);
+        // null 허용 비트맵
+        body.write(0x02);
+        return event(BinlogDecoder.TABLE_MAP_EVENT, body.toByteArray());
+    }
+
+    private byte[] writeRows(byte[]... rows) {
+        return rowsEvent(BinlogDecoder.WRITE_ROWS_EVENT, false, rows);
+    }
+
+    private byte[] rowsEvent(int type, boolean update, byte[]... images) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        writeInt(body, TABLE_ID, 6);
+        writeInt(body, 1, 2);
+        // extra data 길이 (길이 필드 포함)
+        writeInt(body, 2, 2);
+        body.write(2);
+        body.write(0x03);
+        if (update) {
+            body.write(0x03);
+        }
+        for (byte[] image : images) {
+            body.writeBytes(image);
+        }
+        return event(type, body.toByteArray());
+    }
+
+    /**
+     * 행 이미지: null 비트맵(1) + INT(4) + VARCHAR(길이 1 + 값)
+     */
+    private static byte[] row(int id, String name) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(0);
+        writeInt(out, id, 4);
+        byte[] text = name.getBytes(StandardCharsets.UTF_8);
+        out.write(text.length);
+        out.writeBytes(text);
+        return out.toByteArray();
+    }
+
+    private static void writeInt(ByteArrayOutputStream out, long value, int bytes) {
+        for (int i = 0; i < bytes; i++) {
+            out.write((int) (value >> (8 * i)) & 0xFF);
+        }
+    }
+}
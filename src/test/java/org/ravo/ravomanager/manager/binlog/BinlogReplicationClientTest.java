@@ -0,0 +1,275 @@
+package org.ravo.ravomanager.manager.binlog;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.Cipher;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 인증 핸드셰이크 (가짜 서버가 Handshake v10 과 인증 단계를 보내고 클라이언트 응답을 검증)
+ * 인증이 끝나면 서버가 연결을 닫으므로 run() 은 이후 설정 조회에서 IOException 으로 끝납니다.
+ */
+class BinlogReplicationClientTest {
+
+    private static final String USER = "repl";
+    private static final String PASSWORD = "s3cret!";
+    private static final byte[] SCRAMBLE = {
+            1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20};
+
+    private final ServerSocket server;
+
+    BinlogReplicationClientTest() throws IOException {
+        server = new ServerSocket(0);
+        server.setSoTimeout(5_000);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.close();
+    }
+
+    @Test
+    void nativePasswordSendsScrambledPassword() throws Exception {
+        CompletableFuture<List<byte[]>> received = serve("mysql_native_password");
+
+        assertThrows(IOException.class, () -> client(null, false).run());
+
+        List<byte[]> packets = received.get(5, TimeUnit.SECONDS);
+        assertArrayEquals(nativeScramble(), authResponse(packets.get(0)));
+    }
+
+    @Test
+    void cachingSha2FastAuth() throws Exception {
+        CompletableFuture<List<byte[]>> received = serve("caching_sha2_password", reply(new byte[]{1, 3}, ok()));
+
+        assertThrows(IOException.class, () -> client(null, false).run());
+
+        List<byte[]> packets = received.get(5, TimeUnit.SECONDS);
+        assertArrayEquals(sha2Scramble(), authResponse(packets.get(0)));
+        // OK 이후에는 설정 조회(COM_QUERY)
+        assertEquals(0x03, packets.get(1)[0]);
+    }
+
+    @Test
+    void fullAuthWithoutKeyDoesNotRequestServerKey() throws Exception {
+        CompletableFuture<List<byte[]>> received = serve("caching_sha2_password", reply(new byte[]{1, 4}));
+
+        IOException error = assertThrows(IOException.class, () -> client(null, false).run());
+
+        assertTrue(error.getMessage().contains("allow-public-key-retrieval"), error.getMessage());
+        // 공개키 요청(0x02)도 비밀번호도 보내지 않고 연결을 닫음
+        assertEquals(1, received.get(5, TimeUnit.SECONDS).size());
+    }
+
+    @Test
+    void fullAuthWithConfiguredKeyEncryptsPassword() throws Exception {
+        KeyPair keys = KeyPairGenerator.getInstance("RSA").generateKeyPair();
+        CompletableFuture<List<byte[]>> received = serve("caching_sha2_password",
+                reply(new byte[]{1, 4}), reply(ok()));
+
+        assertThrows(IOException.class, () -> client(pem(keys), false).run());
+
+        List<byte[]> packets = received.get(5, TimeUnit.SECONDS);
+        assertArrayEquals(xoredPassword(), decrypt(keys, packets.get(1)));
+    }
+
+    @Test
+    void fullAuthRetrievesServerKeyOnlyWhenAllowed() throws Exception {
+        KeyPair keys = KeyPairGenerator.getInstance("RSA").generateKeyPair();
+        byte[] keyPacket = concat(new byte[]{1}, pem(keys).getBytes(StandardCharsets.US_ASCII));
+        CompletableFuture<List<byte[]>> received = serve("caching_sha2_password",
+                reply(new byte[]{1, 4}), reply(keyPacket), reply(ok()));
+
+        assertThrows(IOException.class, () -> client(null, true).run());
+
+        List<byte[]> packets = received.get(5, TimeUnit.SECONDS);
+        assertArrayEquals(new byte[]{2}, packets.get(1));
+        assertArrayEquals(xoredPassword(), decrypt(keys, packets.get(2)));
+    }
+
+    @Test
+    void unrequestedServerKeyIsRejected() throws Exception {
+        KeyPair keys = KeyPairGenerator.getInstance("RSA").generateKeyPair();
+        byte[] keyPacket = concat(new byte[]{1}, pem(keys).getBytes(StandardCharsets.US_ASCII));
+        CompletableFuture<List<byte[]>> received = serve("caching_sha2_password", reply(keyPacket));
+
+        IOException error = assertThrows(IOException.class, () -> client(null, false).run());
+
+        assertTrue(error.getMessage().contains("not requested"), error.getMessage());
+        assertEquals(1, received.get(5, TimeUnit.SECONDS).size());
+    }
+
+    // ---- 가짜 서버 ----
+
+    private BinlogReplicationClient client(String serverPublicKey, boolean allowPublicKeyRetrieval) {
+        BinlogDecoder decoder = new BinlogDecoder("active", List.of("account"), event -> {
+        });
+        return new BinlogReplicationClient("127.0.0.1", server.getLocalPort(), USER, PASSWORD, 1001,
+                5_000, 1_000, serverPublicKey, allowPublicKeyRetrieval, decoder);
+    }
+
+    /**
+     * Handshake 를 보내고, 클라이언트 패킷을 하나 받을 때마다 replies 의 응답(패킷 묶음)을 순서대로 보낸 뒤 연결을 닫음
+     * (클라이언트가 먼저 닫으면 그때까지 받은 패킷을 반환)
+     */
+    private CompletableFuture<List<byte[]>> serve(String plugin, byte[][]... replies) {
+        return CompletableFuture.supplyAsync(() -> {
+            List<byte[]> received = new ArrayList<>();
+            try (Socket socket = server.accept()) {
+                socket.setSoTimeout(5_000);
+                InputStream in = socket.getInputStream();
+                OutputStream out = socket.getOutputStream();
+                int sequence = 0;
+                writePacket(out, sequence++, handshake(plugin));
+                for (int i = 0; i <= replies.length; i++) {
+                    byte[] packet = readPacket(in);
+                    if (packet == null) {
+                        break;
+                    }
+                    received.add(packet);
+                    sequence++;
+                    if (i < replies.length) {
+                        for (byte[] reply : replies[i]) {
+                            writePacket(out, sequence++, reply);
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                // 클라이언트가 닫음
+            }
+            return received;
+        });
+    }
+
+    /**
+     * Handshake v10 (scramble 20바이트 = 앞 8 + 뒤 12 + NUL)
+     */
+    private static byte[] handshake(String plugin) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(10);
+        out.writeBytes("8.0.36\0".getBytes(StandardCharsets.US_ASCII));
+        out.writeBytes(new byte[]{1, 0, 0, 0});
+        out.write(SCRAMBLE, 0, 8);
+        out.write(0);
+        out.writeBytes(new byte[]{(byte) 0xFF, (byte) 0xF7});
+        out.write(45);
+        out.writeBytes(new byte[]{2, 0});
+        out.writeBytes(new byte[]{(byte) 0xFF, (byte) 0x81});
+        out.write(21);
+        out.writeBytes(new byte[10]);
+        out.write(SCRAMBLE, 8, 12);
+        out.write(0);
+        out.writeBytes((plugin + "\0").getBytes(StandardCharsets.US_ASCII));
+        return out.toByteArray();
+    }
+
+    private static byte[][] reply(byte[]... packets) {
+        return packets;
+    }
+
+    private static byte[] ok() {
+        return new byte[]{0, 0, 0, 2, 0, 0, 0};
+    }
+
+    /**
+     * HandshakeResponse41 의 인증 응답 (capability 4 + 최대 패킷 4 + charset 1 + 예약 23 + 사용자(NUL) + 길이 1 + 응답)
+     */
+    private static byte[] authResponse(byte[] response) {
+        int pos = 32;
+        while (response[pos] != 0) {
+            pos++;
+        }
+        pos++;
+        int length = response[pos] & 0xFF;
+        return Arrays.copyOfRange(response, pos + 1, pos + 1 + length);
+    }
+
+    private static byte[] nativeScramble() throws GeneralSecurityException {
+        MessageDigest sha1 = MessageDigest.getInstance("SHA-1");
+        byte[] stage1 = sha1.digest(PASSWORD.getBytes(StandardCharsets.UTF_8));
+        byte[] stage2 = sha1.digest(stage1);
+        sha1.update(SCRAMBLE);
+        return xor(stage1, sha1.digest(stage2));
+    }
+
+    private static byte[] sha2Scramble() throws GeneralSecurityException {
+        MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+        byte[] stage1 = sha256.digest(PASSWORD.getBytes(StandardCharsets.UTF_8));
+        sha256.update(sha256.digest(stage1));
+        sha256.update(SCRAMBLE);
+        return xor(stage1, sha256.digest());
+    }
+
+    private static byte[] xoredPassword() {
+        byte[] plain = (PASSWORD + "\0").getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < plain.length; i++) {
+            plain[i] ^= SCRAMBLE[i % SCRAMBLE.length];
+        }
+        return plain;
+    }
+
+    private static byte[] decrypt(KeyPair keys, byte[] encrypted) throws GeneralSecurityException {
+        Cipher cipher = Cipher.getInstance("RSA/ECB/OAEPWithSHA-1AndMGF1Padding");
+        cipher.init(Cipher.DECRYPT_MODE, keys.getPrivate());
+        return cipher.doFinal(encrypted);
+    }
+
+    private static String pem(KeyPair keys) {
+        return "-----BEGIN PUBLIC KEY-----\n"
+                + Base64.getMimeEncoder().encodeToString(keys.getPublic().getEncoded())
+                + "\n-----END PUBLIC KEY-----\n";
+    }
+
+    private static void writePacket(OutputStream out, int sequence, byte[] payload) throws IOException {
+        out.write(new byte[]{(byte) payload.length, (byte) (payload.length >> 8), (byte) (payload.length >> 16),
+                (byte) sequence});
+        out.write(payload);
+        out.flush();
+    }
+
+    private static byte[] readPacket(InputStream in) throws IOException {
+        byte[] header = in.readNBytes(4);
+        if (header.length < 4) {
+            return null;
+        }
+        int length = (header[0] & 0xFF) | (header[1] & 0xFF) << 8 | (header[2] & 0xFF) << 16;
+        byte[] payload = in.readNBytes(length);
+        return payload.length < length ? null : payload;
+    }
+
+    private static byte[] xor(byte[] a, byte[] b) {
+        byte[] result = new byte[a.length];
+        for (int i = 0; i < a.length; i++) {
+            result[i] = (byte) (a[i] ^ b[i]);
+        }
+        return result;
+    }
+
+    private static byte[] concat(byte[] a, byte[] b) {
+        byte[] result = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, result, a.length, b.length);
+        return result;
+    }
+}
@@ -0,0 +1,69 @@
+package org.ravo.ravomanager.manager.controller;
+
+import org.junit.jupiter.api.Test;
+import org.ravo.ravomanager.manager.service.DashboardSnapshotService;
+import org.ravo.ravomanager.manager.service.DashboardStreamService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DashboardControllerTest {
+
+    private static final DashboardSnapshotService.VersionedBody CURRENT =
+            new DashboardSnapshotService.VersionedBody(7, "\"7\"", bytes("{\"isConnected\":true}"));
+
+    private final DashboardSnapshotService snapshots = mock(DashboardSnapshotService.class);
+    private final DashboardController controller =
+            new DashboardController(snapshots, mock(DashboardStreamService.class));
+
+    @Test
+    void sinceCurrentVersionIsNotModified() {
+        when(snapshots.current()).thenReturn(CompletableFuture.completedFuture(CURRENT));
+
+        ResponseEntity<byte[]> response = controller.getDashboardData(7L).join();
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals("\"7\"", response.getHeaders().getETag());
+        assertNull(response.getBody());
+        verify(snapshots, never()).delta(7L);
+    }
+
+    @Test
+    void sinceOlderVersionReturnsDelta() {
+        DashboardSnapshotService.VersionedBody delta =
+                new DashboardSnapshotService.VersionedBody(7, "\"5-7\"", bytes("{\"since\":5}"));
+        when(snapshots.current()).thenReturn(CompletableFuture.completedFuture(CURRENT));
+        when(snapshots.delta(5L)).thenReturn(CompletableFuture.completedFuture(delta));
+
+        ResponseEntity<byte[]> response = controller.getDashboardData(5L).join();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"5-7\"", response.getHeaders().getETag());
+        assertArrayEquals(delta.body(), response.getBody());
+    }
+
+    @Test
+    void withoutSinceReturnsFullBody() {
+        when(snapshots.current()).thenReturn(CompletableFuture.completedFuture(CURRENT));
+
+        ResponseEntity<byte[]> response = controller.getDashboardData(null).join();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"7\"", response.getHeaders().getETag());
+        assertArrayEquals(CURRENT.body(), response.getBody());
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
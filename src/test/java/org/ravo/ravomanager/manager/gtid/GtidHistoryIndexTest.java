@@ -0,0 +1,126 @@
+package org.ravo.ravomanager.manager.gtid;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GtidHistoryIndexTest {
+
+    private static final String A = "3e11fa47-71ca-11e1-9e33-c80aa9429562";
+    private static final String B = "a1b2c3d4-0000-11ee-8000-0242ac120002";
+    private static final long SECOND = 1_000_000L;
+
+    // 1초마다 Active GTID_EXECUTED 기록 (A 는 10개씩, B 는 3초부터 합류)
+    private static final GtidHistoryIndex INDEX = GtidHistoryIndex.EMPTY.append(List.of(
+            entry(1, A + ":1-10"),
+            entry(2, A + ":1-20"),
+            entry(3, A + ":1-30," + B + ":1-5"),
+            entry(4, A + ":1-40," + B + ":1-5"),
+            entry(5, A + ":1-50," + B + ":1-9")), 0, 100);
+
+    @Test
+    void lagStartsAtOldestRecordMissingOnReplica() {
+        // 2초 기록까지 포함, 3초 기록은 A:21-30 이 없음
+        GtidHistoryIndex.Lag lag = INDEX.lag(GtidSet.parse(A + ":1-25"), 10 * SECOND);
+
+        assertEquals(7.0, lag.seconds());
+        assertFalse(lag.lowerBound());
+        assertEquals(2 * SECOND, lag.appliedUpToMicros());
+    }
+
+    @Test
+    void lagCountsEverySourceOfTheRecord() {
+        // A 는 5초 기록까지 따라잡았지만 B:6-9 가 없으므로 5초 기록은 미포함
+        GtidHistoryIndex.Lag lag = INDEX.lag(GtidSet.parse(A + ":1-50," + B + ":1-5"), 10 * SECOND);
+
+        assertEquals(5.0, lag.seconds());
+        assertEquals(4 * SECOND, lag.appliedUpToMicros());
+    }
+
+    @Test
+    void caughtUpReplicaHasNoLag() {
+        GtidHistoryIndex.Lag lag = INDEX.lag(GtidSet.parse(A + ":1-60," + B + ":1-9"), 10 * SECOND);
+
+        assertEquals(new GtidHistoryIndex.Lag(0.0, false, 5 * SECOND), lag);
+    }
+
+    @Test
+    void replicaBehindOldestRecordIsLowerBound() {
+        GtidHistoryIndex.Lag lag = INDEX.lag(GtidSet.parse(A + ":1-5"), 10 * SECOND + 250);
+
+        assertEquals(9.00025, lag.seconds());
+        assertTrue(lag.lowerBound());
+        assertEquals(-1, lag.appliedUpToMicros());
+    }
+
+    @Test
+    void lagIsNeverNegative() {
+        // 기록 시각보다 이른 now (시계 차이)
+        assertEquals(0.0, INDEX.lag(GtidSet.EMPTY, 0).seconds());
+    }
+
+    @Test
+    void boundaryMatchesLinearScanForEveryReplicaPosition() {
+        List<GtidHistoryIndex.Entry> entries = new ArrayList<>();
+        for (int i = 1; i <= 37; i++) {
+            entries.add(entry(i, A + ":1-" + (i * 3)));
+        }
+        GtidHistoryIndex index = GtidHistoryIndex.EMPTY.append(entries, 0, 100);
+
+        for (int executed = 1; executed <= 120; executed++) {
+            GtidSet replica = GtidSet.parse(A + ":1-" + executed);
+            int firstMissing = 0;
+            while (firstMissing < entries.size() && replica.contains(entries.get(firstMissing).set())) {
+                firstMissing++;
+            }
+            GtidHistoryIndex.Lag lag = index.lag(replica, 100 * SECOND);
+
+            long appliedUpTo = firstMissing == 0 ? -1 : entries.get(firstMissing - 1).recordedAtMicros();
+            assertEquals(appliedUpTo, lag.appliedUpToMicros(), "executed " + executed);
+            double seconds = firstMissing == entries.size() ? 0.0 : 100 - (firstMissing + 1);
+            assertEquals(seconds, lag.seconds(), "executed " + executed);
+        }
+    }
+
+    @Test
+    void emptyIndexHasNoLag() {
+        assertNull(GtidHistoryIndex.EMPTY.lag(GtidSet.parse(A + ":1-5"), SECOND));
+        assertNull(GtidHistoryIndex.EMPTY.latest());
+    }
+
+    @Test
+    void appendEvictsOldRecordsButKeepsLatest() {
+        GtidHistoryIndex evicted = INDEX.append(List.of(), 3 * SECOND, 100);
+        assertEquals(3, evicted.size());
+        assertEquals(3 * SECOND, evicted.lag(GtidSet.parse(A + ":1-30," + B + ":1-5"), 10 * SECOND).appliedUpToMicros());
+        // 지워진 2초 기록까지만 적용한 Replica 는 남은 가장 오래된 기록부터의 하한
+        GtidHistoryIndex.Lag lag = evicted.lag(GtidSet.parse(A + ":1-25"), 10 * SECOND);
+        assertTrue(lag.lowerBound());
+        assertEquals(7.0, lag.seconds());
+
+        // 모두 보관 기간 밖이어도 마지막 기록은 남김
+        GtidHistoryIndex stale = INDEX.append(List.of(), 60 * SECOND, 100);
+        assertEquals(1, stale.size());
+        assertEquals(5 * SECOND, stale.latest().recordedAtMicros());
+
+        GtidHistoryIndex capped = INDEX.append(List.of(entry(6, A + ":1-60," + B + ":1-9")), 0, 2);
+        assertEquals(2, capped.size());
+        assertEquals(6 * SECOND, capped.latest().recordedAtMicros());
+    }
+
+    @Test
+    void appendWithNothingToChangeKeepsInstance() {
+        assertSame(INDEX, INDEX.append(List.of(), 0, 100));
+    }
+
+    private static GtidHistoryIndex.Entry entry(long seconds, String text) {
+        return new GtidHistoryIndex.Entry(seconds * SECOND, text, GtidSet.parse(text));
+    }
+}
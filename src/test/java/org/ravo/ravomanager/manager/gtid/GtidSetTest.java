@@ -0,0 +1,108 @@
+package org.ravo.ravomanager.manager.gtid;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GtidSetTest {
+
+    private static final String A = "3e11fa47-71ca-11e1-9e33-c80aa9429562";
+    private static final String B = "a1b2c3d4-0000-11ee-8000-0242ac120002";
+
+    @Test
+    void mergesAdjacentAndOverlappingIntervals() {
+        GtidSet set = GtidSet.parse(A + ":1-5:6-9:20-30:25-40:41");
+
+        assertEquals(A + ":1-9:20-41", set.toString());
+        assertEquals(9 + 22, set.size());
+        assertEquals(1, set.sourceCount());
+    }
+
+    @Test
+    void sortsUnorderedIntervalsBeforeMerging() {
+        GtidSet set = GtidSet.parse(A + ":50-60:1-3:4:10-20:15-55");
+
+        assertEquals(A + ":1-4:10-60", set.toString());
+        assertEquals(GtidSet.parse(A + ":1-4:10-60"), set);
+    }
+
+    @Test
+    void mergesRepeatedSourceAcrossEntries() {
+        GtidSet set = GtidSet.parse(A + ":1-3,\n" + B + ":1-100,\n" + A.toUpperCase() + ":4-10");
+
+        assertEquals(A + ":1-10," + B + ":1-100", set.toString());
+        assertEquals(2, set.sourceCount());
+        assertEquals(110, set.size());
+    }
+
+    @Test
+    void keepsTaggedSourcesSeparate() {
+        GtidSet set = GtidSet.parse(A + ":1-5:batch:1-3:7");
+
+        assertEquals(2, set.sourceCount());
+        assertEquals(A + ":1-5," + A + ":batch:1-3:7", set.toString());
+        assertEquals(9, set.size());
+    }
+
+    @Test
+    void emptyInputsAreEmptySet() {
+        assertEquals(GtidSet.EMPTY, GtidSet.parse(null));
+        assertEquals(GtidSet.EMPTY, GtidSet.parse(""));
+        assertEquals(GtidSet.EMPTY, GtidSet.parse("  \n"));
+        assertTrue(GtidSet.EMPTY.isEmpty());
+        assertEquals(0, GtidSet.EMPTY.size());
+        assertEquals("", GtidSet.EMPTY.toString());
+        assertTrue(GtidSet.parse(A + ":1-5").contains(GtidSet.EMPTY));
+        assertFalse(GtidSet.EMPTY.contains(GtidSet.parse(A + ":1")));
+    }
+
+    @Test
+    void subtractsAcrossMultipleSources() {
+        GtidSet executed = GtidSet.parse(A + ":1-100," + B + ":1-50");
+        GtidSet applied = GtidSet.parse(A + ":1-40:45-90," + B + ":1-50");
+
+        GtidSet missing = executed.subtract(applied);
+
+        assertEquals(A + ":41-44:91-100", missing.toString());
+        assertEquals(14, missing.size());
+        assertEquals(1, missing.sourceCount());
+        assertTrue(executed.contains(applied));
+        assertFalse(applied.contains(executed));
+    }
+
+    @Test
+    void subtractingEverythingLeavesEmptySet() {
+        GtidSet set = GtidSet.parse(A + ":1-10," + B + ":5");
+        GtidSet superset = GtidSet.parse(A + ":1-20," + B + ":1-9");
+
+        GtidSet rest = set.subtract(superset);
+
+        assertTrue(rest.isEmpty());
+        assertEquals(0, rest.sourceCount());
+        assertEquals(GtidSet.EMPTY, rest);
+        assertTrue(set.subtract(set).isEmpty());
+    }
+
+    @Test
+    void subtractingEmptyOrDisjointKeepsSet() {
+        GtidSet set = GtidSet.parse(A + ":1-10");
+
+        assertSame(set, set.subtract(GtidSet.EMPTY));
+        assertTrue(GtidSet.EMPTY.subtract(set).isEmpty());
+        assertEquals(set, set.subtract(GtidSet.parse(B + ":1-10")));
+        assertEquals(set, set.subtract(GtidSet.parse(A + ":11-20")));
+    }
+
+    @Test
+    void rejectsMalformedInput() {
+        assertThrows(IllegalArgumentException.class, () -> GtidSet.parse("not-a-uuid:1-5"));
+        assertThrows(IllegalArgumentException.class, () -> GtidSet.parse(A + ":5-3"));
+        assertThrows(IllegalArgumentException.class, () -> GtidSet.parse(A + ":0"));
+        assertThrows(IllegalArgumentException.class, () -> GtidSet.parse(A + ":1-"));
+        assertThrows(IllegalArgumentException.class, () -> GtidSet.parse(A + ":1;" + B + ":1"));
+    }
+}
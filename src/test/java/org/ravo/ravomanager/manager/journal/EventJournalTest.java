@@ -0,0 +1,154 @@
+package org.ravo.ravomanager.manager.journal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.ravo.config.EventJournalProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private final EventJournalProperties properties = new EventJournalProperties();
+
+    @BeforeEach
+    void setUp() {
+        properties.setDirectory(directory.toString());
+        properties.setSegmentSize(DataSize.ofKilobytes(256));
+        properties.setRecentCapacity(2);
+    }
+
+    @Test
+    void eventsSurviveReopen() {
+        EventJournal journal = open();
+        for (int i = 1; i <= 5; i++) {
+            journal.record(event(i * 1_000L, "event " + i));
+        }
+        journal.close();
+
+        EventJournal reopened = open();
+        // 메모리에 남긴 최근 2건을 넘는 조회는 세그먼트에서 읽음
+        assertEquals(List.of("event 5", "event 4", "event 3", "event 2", "event 1"), titles(reopened.latest(10)));
+        assertEquals(List.of("event 2", "event 3", "event 4"), titles(reopened.range(2_000L, 4_000L, 10)));
+        assertEquals(List.of("event 1", "event 2"), titles(reopened.range(0, Long.MAX_VALUE, 2)));
+        reopened.close();
+    }
+
+    @Test
+    void corruptedTailRecordIsDiscardedOnReopen() throws IOException {
+        List<JournalEvent> events = List.of(event(1_000L, "first"), event(2_000L, "second"), event(3_000L, "third"));
+        EventJournal journal = open();
+        events.forEach(journal::record);
+        journal.close();
+
+        // 마지막 레코드 payload 1바이트를 바꿔 CRC 불일치
+        int lastOffset = recordLength(events.get(0)) + recordLength(events.get(1));
+        flipByte(lastOffset + JournalSegment.HEADER_LENGTH + 2);
+
+        EventJournal reopened = open();
+        assertEquals(List.of("second", "first"), titles(reopened.latest(10)));
+        assertEquals(List.of("first", "second"), titles(reopened.range(0, Long.MAX_VALUE, 10)));
+        // 지운 자리부터 다시 기록
+        reopened.record(event(4_000L, "fourth"));
+        reopened.close();
+
+        EventJournal again = open();
+        assertEquals(List.of("fourth", "second", "first"), titles(again.latest(10)));
+        assertEquals(List.of("second", "fourth"), titles(again.range(1_500L, 5_000L, 10)));
+        again.close();
+    }
+
+    @Test
+    void incompleteRecordAfterTailIsDiscardedOnReopen() throws IOException {
+        List<JournalEvent> events = List.of(event(1_000L, "first"), event(2_000L, "second"));
+        EventJournal journal = open();
+        events.forEach(journal::record);
+        journal.close();
+
+        // 길이만 쓰고 멈춘 레코드
+        int end = recordLength(events.get(0)) + recordLength(events.get(1));
+        try (FileChannel channel = FileChannel.open(segmentFile(), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).putInt(0, 40), end);
+        }
+
+        EventJournal reopened = open();
+        assertEquals(List.of("second", "first"), titles(reopened.latest(10)));
+        reopened.record(event(3_000L, "third"));
+        reopened.close();
+
+        EventJournal again = open();
+        assertEquals(List.of("first", "second", "third"), titles(again.range(0, Long.MAX_VALUE, 10)));
+        again.close();
+    }
+
+    @Test
+    void longFieldIsCutAtCharacterBoundary() {
+        // 3바이트 문자 30000개 = 90000 바이트, 65534 바이트에서 자르면 문자 중간
+        String title = "가".repeat(30_000);
+        EventJournal journal = open();
+        journal.record(event(1_000L, title));
+        journal.close();
+
+        EventJournal reopened = open();
+        String stored = reopened.latest(1).get(0).title();
+        assertEquals(65_532 / 3, stored.length());
+        assertTrue(title.startsWith(stored));
+        reopened.close();
+    }
+
+    @Test
+    void eventsAfterCloseAreNotCountedAsQueueDrops() {
+        EventJournal journal = open();
+        journal.close();
+
+        journal.record(event(1_000L, "late"));
+
+        assertEquals(0, journal.getDroppedCount());
+        assertEquals(1, journal.getRejectedAfterCloseCount());
+    }
+
+    private EventJournal open() {
+        EventJournal journal = new EventJournal(properties);
+        journal.open();
+        assertTrue(journal.isOpen());
+        return journal;
+    }
+
+    private Path segmentFile() {
+        return directory.resolve(String.format("%016d.journal", 1));
+    }
+
+    private void flipByte(int position) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentFile(), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer b = ByteBuffer.allocate(1);
+            channel.read(b, position);
+            b.put(0, (byte) (b.get(0) ^ 0x5A));
+            b.rewind();
+            channel.write(b, position);
+        }
+    }
+
+    private static int recordLength(JournalEvent event) {
+        return JournalSegment.HEADER_LENGTH + JournalSegment.encode(event).length + JournalSegment.TRAILER_LENGTH;
+    }
+
+    private static JournalEvent event(long timestamp, String title) {
+        return new JournalEvent(timestamp, "sync", "info", title, null, null);
+    }
+
+    private static List<String> titles(List<JournalEvent> events) {
+        return events.stream().map(JournalEvent::title).toList();
+    }
+}
@@ -0,0 +1,91 @@
+package org.ravo.ravomanager.manager.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CounterRateTest {
+
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    void increaseTreatsDecreaseAsReset() {
+        assertEquals(5.0, CounterRate.increase(10, 15), EPSILON);
+        assertEquals(0.0, CounterRate.increase(10, 10), EPSILON);
+        assertEquals(3.0, CounterRate.increase(10, 3), EPSILON);
+    }
+
+    @Test
+    void perSecondUsesActualElapsedTime() {
+        assertEquals(10.0, CounterRate.perSecond(0, 100, 2_000, 120), EPSILON);
+        assertEquals(4.0, CounterRate.perSecond(0, 100, 500, 2), EPSILON);
+        assertTrue(Double.isNaN(CounterRate.perSecond(1_000, 1, 1_000, 2)));
+        assertTrue(Double.isNaN(CounterRate.perSecond(0, Double.NaN, 1_000, 2)));
+    }
+
+    @Test
+    void firstRateSeedsAllWindows() {
+        CounterRate rate = new CounterRate();
+        rate.update(0, 100, false);
+        assertFalse(rate.isSeeded());
+        assertEquals(RateValues.ZERO, rate.values());
+
+        rate.update(5_000, 150, false);
+        assertTrue(rate.isSeeded());
+        assertEquals(new RateValues(10.0, 10.0, 10.0, 10.0), rate.values());
+    }
+
+    @Test
+    void ewmaAlphaFollowsIrregularInterval() {
+        CounterRate rate = new CounterRate();
+        rate.update(0, 0, false);
+        rate.update(10_000, 100, false);        // 10/s 로 시작
+        rate.update(40_000, 100 + 30 * 40, false); // 30초 동안 40/s
+
+        RateValues values = rate.values();
+        assertEquals(40.0, values.perSecond(), EPSILON);
+        assertEquals(10 + (1 - Math.exp(-30.0 / 60)) * 30, values.oneMinute(), EPSILON);
+        assertEquals(10 + (1 - Math.exp(-30.0 / 300)) * 30, values.fiveMinutes(), EPSILON);
+        assertEquals(10 + (1 - Math.exp(-30.0 / 900)) * 30, values.fifteenMinutes(), EPSILON);
+    }
+
+    @Test
+    void detectsCounterResetFromDecreaseOrRestartFlag() {
+        CounterRate rate = new CounterRate();
+        rate.update(0, 1_000, false);
+        rate.update(1_000, 20, false);
+        assertEquals(20.0, rate.values().perSecond(), EPSILON);
+
+        // 값은 늘었지만 재시작을 지나친 경우 (uptime 감소로 알림)
+        rate.update(2_000, 50, true);
+        assertEquals(50.0, rate.values().perSecond(), EPSILON);
+    }
+
+    @Test
+    void ignoresMissingValuesAndNonIncreasingTime() {
+        CounterRate rate = new CounterRate();
+        rate.update(0, 0, false);
+        rate.update(1_000, Double.NaN, false);
+        rate.update(1_000, 10, false);
+        assertEquals(10.0, rate.values().perSecond(), EPSILON);
+
+        rate.update(1_000, 99, false);
+        rate.update(500, 99, false);
+        assertEquals(10.0, rate.values().perSecond(), EPSILON);
+    }
+
+    @Test
+    void rebaseSkipsOneIntervalAndKeepsEwma() {
+        CounterRate rate = new CounterRate();
+        rate.update(0, 0, false);
+        rate.update(1_000, 10, false);
+        rate.rebase();
+        rate.update(2_000, 1_000_000, false);
+        assertEquals(new RateValues(10.0, 10.0, 10.0, 10.0), rate.values());
+
+        rate.update(3_000, 1_000_010, false);
+        assertEquals(10.0, rate.values().perSecond(), EPSILON);
+    }
+}
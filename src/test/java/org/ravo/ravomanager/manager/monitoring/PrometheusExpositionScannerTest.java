@@ -0,0 +1,278 @@
+package org.ravo.ravomanager.manager.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrometheusExpositionScannerTest {
+
+    /**
+     * mysqld_exporter 응답 일부 + 레이블 이스케이프, CRLF, 타임스탬프, 주석
+     */
+    private static final String SAMPLE = """
+            # HELP go_memstats_heap_inuse_bytes Number of heap bytes that are in use.
+            # TYPE go_memstats_heap_inuse_bytes gauge
+            go_memstats_heap_inuse_bytes 7.528448e+06
+            go_memstats_heap_sys_bytes{note="a}\\"b"} 5
+            # HELP mysql_global_status_commands_total Total number of executed MySQL commands.
+            # TYPE mysql_global_status_commands_total counter
+            mysql_global_status_commands_total{command="select"} 8.93214417e+08
+            mysql_global_status_commands_total{command="INSERT"} 4.2187331e+07
+            mysql_global_status_commands_total{command="admin_commands"} 0
+            # mysql_up 0
+            mysql_info_schema_table_rows{schema="ravo",table="member"} 1.2e+04
+            mysql_info_schema_table_rows{table="quote\\"d",schema="back\\\\slash"} 3
+            mysql_info_schema_table_size{component="data_length",schema="ravo",table="new\\nline"} 16384
+            mysql_perf_schema_events_statements_total{digest="ab",digest_text="SELECT \\"}\\" FROM `t`",schema="ravo"} 12
+            mysql_global_status_uptime 1.728403e+06 1712345678000
+            mysql_global_status_queries 8.15435098991e+11\r
+            mysql_global_status_threads_connected{}\t37\r
+            mysql_up 1
+            """;
+
+    private final TrackedMetrics trackedMetrics =
+            new TrackedMetrics(Metric.keys(), Metric.LABEL_EXPANSIONS, MetricFamily.keys());
+    private final LabelDictionary labelDictionary = new LabelDictionary(100_000);
+
+    @Test
+    void sampleIsParsed() {
+        Recorder recorder = scan(bytes(SAMPLE));
+
+        assertEquals(7_528_448.0, recorder.metric(Metric.HEAP_INUSE_BYTES));
+        // 추적 메트릭의 레이블은 건너뜀 (따옴표 안의 '}' 와 이스케이프된 따옴표 포함)
+        assertEquals(5.0, recorder.metric(Metric.HEAP_SYS_BYTES));
+        // 레이블 확장은 소문자 레이블 값
+        assertEquals(893_214_417.0, recorder.metric(Metric.COMMANDS_SELECT));
+        assertEquals(42_187_331.0, recorder.metric(Metric.COMMANDS_INSERT));
+        assertEquals(0.0, recorder.series(MetricFamily.COMMANDS_TOTAL, Map.of("command", "admin_commands")));
+        assertEquals(12_000.0, recorder.series(MetricFamily.TABLE_ROWS, Map.of("schema", "ravo", "table", "member")));
+        // 레이블 순서와 무관하게 같은 조합, 이스케이프는 원래 문자로
+        assertEquals(3.0, recorder.series(MetricFamily.TABLE_ROWS, Map.of("schema", "back\\slash", "table", "quote\"d")));
+        assertEquals(16_384.0, recorder.series(MetricFamily.TABLE_SIZE,
+                Map.of("component", "data_length", "schema", "ravo", "table", "new\nline")));
+        // 값 뒤 타임스탬프, CRLF, 탭 구분
+        assertEquals(1_728_403.0, recorder.metric(Metric.UPTIME));
+        assertEquals(815_435_098_991.0, recorder.metric(Metric.QUERIES));
+        assertEquals(37.0, recorder.metric(Metric.THREADS_CONNECTED));
+        // 주석 줄의 샘플은 무시
+        assertEquals(1.0, recorder.metric(Metric.MYSQL_UP));
+        assertEquals(14, recorder.samples.size());
+    }
+
+    @Test
+    void everySplitOffsetGivesSameSamples() {
+        byte[] bytes = bytes(SAMPLE);
+        List<String> expected = scan(bytes).samples;
+
+        for (int split = 0; split <= bytes.length; split++) {
+            Recorder recorder = new Recorder();
+            PrometheusExpositionScanner scanner = scanner(recorder);
+            scanner.feed(bytes, 0, split);
+            scanner.feed(bytes, split, bytes.length);
+            scanner.finish();
+            assertEquals(expected, recorder.samples, "split at " + split);
+        }
+
+        Recorder recorder = new Recorder();
+        PrometheusExpositionScanner scanner = scanner(recorder);
+        for (int i = 0; i < bytes.length; i++) {
+            scanner.feed(bytes, i, i + 1);
+        }
+        scanner.finish();
+        assertEquals(expected, recorder.samples);
+    }
+
+    @Test
+    void exporterResponseIsParsedRegardlessOfChunking() throws IOException {
+        byte[] payload = exporterResponse();
+        List<String> expected = scan(payload).samples;
+
+        for (int chunkSize : new int[]{1, 7, 4_096, 16 * 1024}) {
+            Recorder recorder = new Recorder();
+            PrometheusExpositionScanner scanner = scanner(recorder);
+            for (int offset = 0; offset < payload.length; offset += chunkSize) {
+                int length = Math.min(chunkSize, payload.length - offset);
+                ByteBuffer chunk = ByteBuffer.allocateDirect(length);
+                chunk.put(payload, offset, length).flip();
+                scanner.feed(chunk);
+                assertEquals(0, chunk.position());
+            }
+            scanner.finish();
+            assertEquals(expected, recorder.samples, "chunk " + chunkSize);
+        }
+    }
+
+    @Test
+    void exporterResponseMatchesLineByLineParse() throws IOException {
+        byte[] payload = exporterResponse();
+        Recorder recorder = scan(payload);
+
+        // String 으로 줄 단위 파싱한 값과 비교
+        Map<String, Double> reference = new HashMap<>();
+        int tableRows = 0;
+        for (String line : new String(payload, StandardCharsets.UTF_8).split("\n")) {
+            if (line.startsWith("#")) {
+                continue;
+            }
+            String key = line.substring(0, line.lastIndexOf(' '));
+            double value = Double.parseDouble(line.substring(line.lastIndexOf(' ') + 1));
+            if (key.startsWith(Metric.COMMANDS_TOTAL + "{command=\"")) {
+                key = Metric.COMMANDS_TOTAL + "_" + key.substring(key.indexOf('"') + 1, key.lastIndexOf('"'));
+            } else if (key.startsWith(MetricFamily.TABLE_ROWS.key() + "{")) {
+                tableRows++;
+            }
+            reference.put(key, value);
+        }
+
+        for (Metric metric : Metric.values()) {
+            Double expected = reference.get(metric.key());
+            assertNotNull(expected, metric.key());
+            assertEquals(expected, recorder.metric(metric), metric.key());
+        }
+        assertTrue(tableRows > 0);
+        assertEquals(tableRows, recorder.samples.stream()
+                .filter(sample -> sample.startsWith(MetricFamily.TABLE_ROWS.key() + "{")).count());
+    }
+
+    @Test
+    void commentsAndBlankLinesAreSkipped() {
+        Recorder recorder = scan(bytes("""
+                # HELP mysql_up Whether the MySQL server is up.
+                # TYPE mysql_up gauge
+                #mysql_up 0
+
+                  \t
+                mysql_up 1
+                """));
+
+        assertEquals(List.of("mysql_up=1.0"), recorder.samples);
+    }
+
+    @Test
+    void lastLineWithoutNewlineIsEmittedOnFinish() {
+        Recorder recorder = new Recorder();
+        PrometheusExpositionScanner scanner = scanner(recorder);
+        byte[] bytes = bytes("mysql_up 1");
+        scanner.feed(bytes, 0, bytes.length);
+        assertTrue(recorder.samples.isEmpty());
+
+        scanner.finish();
+        assertEquals(List.of("mysql_up=1.0"), recorder.samples);
+    }
+
+    @Test
+    void specialValues() {
+        assertTrue(Double.isNaN(parse("NaN")));
+        assertEquals(Double.POSITIVE_INFINITY, parse("+Inf"));
+        assertEquals(Double.POSITIVE_INFINITY, parse("Inf"));
+        assertEquals(Double.NEGATIVE_INFINITY, parse("-Inf"));
+        assertEquals(-0.0, parse("-0"));
+        assertEquals(0.0, parse("0.000"));
+        assertThrows(NumberFormatException.class, () -> parse("abc"));
+        assertThrows(NumberFormatException.class, () -> parse("1e"));
+        assertThrows(NumberFormatException.class, () -> parse(""));
+    }
+
+    @Test
+    void exponentsMatchDoubleParse() {
+        for (String text : List.of("1.728403e+06", "8.15435098991e+11", "2.5E-3", "1e22", "1e-22", "1e23",
+                "1e-23", "-4.2e+00", "1.8446744073709552e+19", "4.9e-324", "1.7976931348623157e+308", "1e400",
+                "0.000812337", "123456789012345678", "1234567890123456789", "0.1", "9007199254740993")) {
+            assertEquals(Double.parseDouble(text), parse(text), text);
+        }
+    }
+
+    @Test
+    void fastPathMatchesDoubleParse() {
+        // 빠른 경로(가수 < 2^53, 지수 ±22 이내)와 Double.parseDouble 폴백 모두 Double.parseDouble 과 비트 단위로 같아야 함
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            long mantissa = random.nextLong(1_000_000_000_000_000L);
+            int exponent = random.nextInt(-22, 23);
+            String text = switch (i % 3) {
+                case 0 -> mantissa + "e" + exponent;
+                case 1 -> Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(-5, 15)));
+                default -> plain(mantissa, random.nextInt(0, 16));
+            };
+            assertEquals(Double.doubleToLongBits(Double.parseDouble(text)), Double.doubleToLongBits(parse(text)), text);
+        }
+    }
+
+    private static String plain(long mantissa, int scale) {
+        String digits = String.format("%0" + (scale + 1) + "d", mantissa);
+        return scale == 0 ? digits : digits.substring(0, digits.length() - scale) + "." + digits.substring(digits.length() - scale);
+    }
+
+    private static double parse(String text) {
+        byte[] bytes = bytes(text);
+        return PrometheusExpositionScanner.parseValue(bytes, bytes.length);
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] exporterResponse() throws IOException {
+        try (InputStream in = PrometheusExpositionScannerTest.class.getResourceAsStream("/mysqld_exporter.prom")) {
+            assertNotNull(in);
+            return in.readAllBytes();
+        }
+    }
+
+    private Recorder scan(byte[] bytes) {
+        Recorder recorder = new Recorder();
+        PrometheusExpositionScanner scanner = scanner(recorder);
+        scanner.feed(ByteBuffer.wrap(bytes));
+        scanner.finish();
+        return recorder;
+    }
+
+    private PrometheusExpositionScanner scanner(Recorder recorder) {
+        return new PrometheusExpositionScanner(trackedMetrics, labelDictionary, recorder);
+    }
+
+    /**
+     * 받은 샘플을 "이름=값", "이름{레이블}=값" 문자열로 순서대로 기록
+     */
+    private class Recorder implements PrometheusExpositionScanner.SampleSink {
+        final List<String> samples = new ArrayList<>();
+        final Map<String, Double> values = new HashMap<>();
+
+        @Override
+        public void accept(int metricIndex, double value) {
+            record(Metric.byId(metricIndex).key(), value);
+        }
+
+        @Override
+        public void acceptSeries(int familyId, int labelSetId, double value) {
+            record(MetricFamily.byId(familyId).key() + labelDictionary.labels(labelSetId), value);
+        }
+
+        private void record(String key, double value) {
+            samples.add(key + "=" + value);
+            values.put(key, value);
+        }
+
+        Double metric(Metric metric) {
+            return values.get(metric.key());
+        }
+
+        Double series(MetricFamily family, Map<String, String> labels) {
+            return values.get(family.key() + new TreeMap<>(labels));
+        }
+    }
+}
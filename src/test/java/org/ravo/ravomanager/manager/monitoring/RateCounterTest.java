@@ -0,0 +1,72 @@
+package org.ravo.ravomanager.manager.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateCounterTest {
+
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    void readSumsOnlyPresentSources() {
+        MetricData data = new MetricData("active");
+        assertTrue(Double.isNaN(RateCounter.WRITES.read(data)));
+        assertEquals(0, RateCounter.WRITES.sourceMask(data));
+
+        data.set(Metric.COMMANDS_INSERT, 10);
+        data.set(Metric.COMMANDS_DELETE, 5);
+        assertEquals(15.0, RateCounter.WRITES.read(data), EPSILON);
+        assertEquals(0b101, RateCounter.WRITES.sourceMask(data));
+    }
+
+    @Test
+    void trackerRebasesWhenSourceSetChanges() {
+        RateTracker tracker = new RateTracker();
+        tracker.update(0, writes(100, 50.0, null));
+        Map<String, RateValues> rates = tracker.update(1_000, writes(110, 60.0, null));
+        assertEquals(20.0, rates.get("writes").perSecond(), EPSILON);
+
+        // UPDATE 카운터가 처음 수집됨: 합계가 5만 늘어도 증가율로 보지 않음
+        rates = tracker.update(2_000, writes(120, 70.0, 50_000.0));
+        assertEquals(20.0, rates.get("writes").perSecond(), EPSILON);
+
+        rates = tracker.update(3_000, writes(130, 80.0, 50_010.0));
+        assertEquals(30.0, rates.get("writes").perSecond(), EPSILON);
+
+        // 한 카운터가 빠짐: 합계가 줄어도 초기화(현재 값 전체를 증가량)로 보지 않음
+        rates = tracker.update(4_000, writes(140, null, 50_020.0));
+        assertEquals(30.0, rates.get("writes").perSecond(), EPSILON);
+    }
+
+    @Test
+    void trackerTreatsUptimeDecreaseAsRestart() {
+        RateTracker tracker = new RateTracker();
+        tracker.update(0, queries(1_000, 500));
+        tracker.update(1_000, queries(1_001, 600));
+        Map<String, RateValues> rates = tracker.update(2_000, queries(1, 700));
+        assertEquals(700.0, rates.get("queries").perSecond(), EPSILON);
+    }
+
+    private static MetricData writes(double insert, Double update, Double delete) {
+        MetricData data = new MetricData("active");
+        data.set(Metric.COMMANDS_INSERT, insert);
+        if (update != null) {
+            data.set(Metric.COMMANDS_UPDATE, update);
+        }
+        if (delete != null) {
+            data.set(Metric.COMMANDS_DELETE, delete);
+        }
+        return data;
+    }
+
+    private static MetricData queries(double uptime, double queries) {
+        MetricData data = new MetricData("active");
+        data.set(Metric.UPTIME, uptime);
+        data.set(Metric.QUERIES, queries);
+        return data;
+    }
+}
@@ -0,0 +1,185 @@
+package org.ravo.ravomanager.manager.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.ravo.ravomanager.manager.dto.DashboardResponseDto;
+import org.ravo.ravomanager.manager.dto.DatabaseStatusDto;
+import org.ravo.ravomanager.manager.dto.ReadActivityDto;
+import org.ravo.ravomanager.manager.dto.WriteActivityDto;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 버전별 대시보드 응답과 ?since= 증분 (수집기 발행 회차와 대시보드 데이터는 테스트가 정함)
+ */
+class DashboardSnapshotServiceTest {
+
+    private static final int HISTORY_CAPACITY = 5;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong publishSequence = new AtomicLong();
+    private DashboardResponseDto published;
+    private DashboardSnapshotService snapshots;
+
+    @BeforeEach
+    void setUp() {
+        DashboardService dashboardService = mock(DashboardService.class);
+        MetricCollector metricCollector = mock(MetricCollector.class);
+        when(metricCollector.getPublishSequence()).thenAnswer(invocation -> publishSequence.get());
+        when(dashboardService.getDashboardDataAsync())
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(published));
+        snapshots = new DashboardSnapshotService(dashboardService, metricCollector, objectMapper, HISTORY_CAPACITY);
+    }
+
+    @Test
+    void sameContentKeepsVersionAndEtag() {
+        publish(dashboard(3, 10.0, true));
+        DashboardSnapshotService.VersionedBody first = snapshots.current().join();
+
+        publish(dashboard(3, 10.0, true));
+        DashboardSnapshotService.VersionedBody second = snapshots.current().join();
+
+        assertSame(first, second);
+        assertEquals("\"" + first.version() + "\"", first.etag());
+    }
+
+    @Test
+    void unknownBaseFallsBackToFullResponse() throws IOException {
+        publish(dashboard(3, 10.0, true));
+        DashboardSnapshotService.VersionedBody current = snapshots.current().join();
+
+        DashboardSnapshotService.VersionedBody delta = snapshots.delta(current.version() - 1_000).join();
+        JsonNode body = objectMapper.readTree(delta.body());
+
+        assertTrue(body.get("full").asBoolean());
+        assertEquals(-1, body.get("since").asLong());
+        assertEquals(current.version(), body.get("version").asLong());
+        assertEquals(objectMapper.readTree(current.body()), body.get("changes"));
+        assertEquals("\"full-" + current.version() + "\"", delta.etag());
+        // 알 수 없는 since 는 모두 같은 응답 (요청한 값이 본문/ETag 에 들어가지 않음)
+        assertSame(delta, snapshots.delta(42).join());
+    }
+
+    @Test
+    void deltaAppliedToPreviousSnapshotGivesNewSnapshot() throws IOException {
+        publish(dashboard(3, 10.0, true));
+        DashboardSnapshotService.VersionedBody first = snapshots.current().join();
+        JsonNode client = objectMapper.readTree(first.body());
+        long version = first.version();
+
+        for (int step = 1; step <= 8; step++) {
+            publish(dashboard(3 + step, 10.0 + step % 3, step % 4 != 0));
+            DashboardSnapshotService.VersionedBody current = snapshots.current().join();
+            DashboardSnapshotService.VersionedBody delta = snapshots.delta(version).join();
+            JsonNode body = objectMapper.readTree(delta.body());
+
+            assertFalse(body.get("full").asBoolean());
+            assertEquals(version, body.get("since").asLong());
+            assertEquals("\"" + version + "-" + current.version() + "\"", delta.etag());
+            // 활동 시계열은 새 점만 보냄
+            assertEquals(1, body.get("appendedPoints").get("writeActivity.activeDbWrites").size());
+            assertFalse(body.get("changes").has("writeActivity"));
+
+            client = applyDelta(client, body);
+            assertEquals(JsonMergePatchTest.withoutNulls(objectMapper.readTree(current.body())),
+                    JsonMergePatchTest.withoutNulls(client), "step " + step);
+            version = current.version();
+        }
+    }
+
+    @Test
+    void deltaFromOlderRetainedVersionSkipsIntermediateSnapshots() throws IOException {
+        publish(dashboard(3, 10.0, true));
+        DashboardSnapshotService.VersionedBody first = snapshots.current().join();
+        publish(dashboard(4, 11.0, true));
+        snapshots.current().join();
+        publish(dashboard(6, 12.0, false));
+        DashboardSnapshotService.VersionedBody current = snapshots.current().join();
+
+        JsonNode body = objectMapper.readTree(snapshots.delta(first.version()).join().body());
+
+        assertEquals(3, body.get("appendedPoints").get("writeActivity.activeDbWrites").size());
+        JsonNode client = applyDelta(objectMapper.readTree(first.body()), body);
+        assertEquals(JsonMergePatchTest.withoutNulls(objectMapper.readTree(current.body())),
+                JsonMergePatchTest.withoutNulls(client));
+    }
+
+    @Test
+    void deltaIsCachedPerBaseUntilNextVersion() {
+        publish(dashboard(3, 10.0, true));
+        long base = snapshots.current().join().version();
+        publish(dashboard(4, 10.0, true));
+
+        DashboardSnapshotService.VersionedBody delta = snapshots.delta(base).join();
+        assertSame(delta, snapshots.delta(base).join());
+
+        publish(dashboard(5, 10.0, true));
+        DashboardSnapshotService.VersionedBody next = snapshots.delta(base).join();
+        assertNotEquals(delta.version(), next.version());
+    }
+
+    private void publish(DashboardResponseDto dashboard) {
+        published = dashboard;
+        publishSequence.incrementAndGet();
+    }
+
+    /**
+     * 대시보드 클라이언트와 같은 순서로 증분 적용 (merge patch → 새 점을 이어 붙이고 historyCapacity 개만 유지)
+     */
+    private static JsonNode applyDelta(JsonNode state, JsonNode delta) {
+        ObjectNode patched = (ObjectNode) JsonMergePatchTest.apply(state, delta.get("changes"));
+        int capacity = delta.get("historyCapacity").asInt();
+        delta.get("appendedPoints").fields().forEachRemaining(series -> {
+            String[] path = series.getKey().split("\\.");
+            ArrayNode points = (ArrayNode) patched.get(path[0]).get(path[1]);
+            series.getValue().forEach(points::add);
+            while (points.size() > capacity) {
+                points.remove(0);
+            }
+        });
+        return patched;
+    }
+
+    /**
+     * points 개의 활동 점 (마지막 점까지 1초 간격, 최대 HISTORY_CAPACITY 개)과 Active DB 상태
+     */
+    private static DashboardResponseDto dashboard(int points, double qps, boolean healthy) {
+        List<Integer> seconds = IntStream.range(Math.max(0, points - HISTORY_CAPACITY), points).boxed().toList();
+        List<WriteActivityDto.DataPoint> writes = new ArrayList<>();
+        List<ReadActivityDto.DataPoint> reads = new ArrayList<>();
+        for (int second : seconds) {
+            String timestamp = String.format("01/01 00:00:%02d", second);
+            writes.add(WriteActivityDto.DataPoint.builder().timestamp(timestamp).count(second * 2.0).build());
+            reads.add(ReadActivityDto.DataPoint.builder().timestamp(timestamp).count(second * 3.0).build());
+        }
+        return DashboardResponseDto.builder()
+                .activeDb(DatabaseStatusDto.builder()
+                        .name("Active DB")
+                        .status(healthy ? "Active" : "Down")
+                        .qps(qps)
+                        .isHealthy(healthy)
+                        .latency(healthy ? "1.2ms" : null)
+                        .build())
+                .writeActivity(WriteActivityDto.builder().activeDbWrites(writes).standbyDbWrites(List.of()).build())
+                .readActivity(ReadActivityDto.builder().activeDbReads(reads).standbyDbReads(reads).build())
+                .isConnected(healthy)
+                .build();
+    }
+}
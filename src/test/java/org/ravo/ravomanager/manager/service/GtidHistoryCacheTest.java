@@ -0,0 +1,92 @@
+package org.ravo.ravomanager.manager.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.ravo.ravomanager.manager.gtid.GtidHistoryIndex;
+import org.ravo.ravomanager.manager.gtid.GtidSet;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * gtid_history 증분 조회 (H2 MySQL 모드, created_at 은 UTC DATETIME(6))
+ */
+class GtidHistoryCacheTest {
+
+    private static final String A = "3e11fa47-71ca-11e1-9e33-c80aa9429562";
+
+    private JdbcTemplate jdbcTemplate;
+    private GtidHistoryCache cache;
+    // 보관 기간(10분) 안, 초 단위로 맞춰 같은 시각 기록을 만듦
+    private final LocalDateTime base = LocalDateTime.now(ZoneOffset.UTC).minusMinutes(1).truncatedTo(ChronoUnit.SECONDS);
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE gtid_history (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    gtid_set TEXT NOT NULL,
+                    created_at DATETIME(6) NOT NULL
+                )
+                """);
+        cache = new GtidHistoryCache(jdbcTemplate, Duration.ofMinutes(10), 4096, Duration.ofSeconds(2), ZoneOffset.UTC);
+    }
+
+    @Test
+    void sameTimestampRowsAreReadOnceAcrossRefreshes() {
+        LocalDateTime t1 = base;
+        LocalDateTime t2 = base.plusSeconds(5);
+        insert(A + ":1-10", t1);
+        insert(A + ":1-20", t2);
+        assertEquals(2, cache.refresh().size());
+
+        // 마지막 조회 직후 같은 시각으로 들어온 기록: 새 기록만 덧붙이고 A:1-20 은 다시 넣지 않음
+        insert(A + ":1-30", t2);
+        GtidHistoryIndex index = cache.refresh();
+        assertEquals(3, index.size());
+        assertEquals(A + ":1-30", index.latest().text());
+
+        // 같은 시각을 다시 읽어도 그대로
+        assertSame(index, cache.refresh());
+
+        insert(A + ":1-40", t2.plusSeconds(1));
+        index = cache.refresh();
+        assertEquals(4, index.size());
+
+        // A:1-20 까지 적용한 Replica 는 t2 의 A:1-30 이 가장 오래된 미반영 기록
+        GtidHistoryIndex.Lag lag = index.lag(GtidSet.parse(A + ":1-25"), micros(t2.plusSeconds(10)));
+        assertEquals(micros(t2), lag.appliedUpToMicros());
+        assertEquals(10.0, lag.seconds());
+    }
+
+    @Test
+    void recordsOlderThanRetentionKeepLatest() {
+        insert(A + ":1-10", base.minusHours(2));
+        insert(A + ":1-20", base.minusHours(1));
+
+        GtidHistoryIndex index = cache.refresh();
+
+        assertEquals(1, index.size());
+        assertEquals(A + ":1-20", index.latest().text());
+        assertEquals(micros(base.minusHours(1)), index.latest().recordedAtMicros());
+    }
+
+    private void insert(String gtidSet, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO gtid_history (gtid_set, created_at) VALUES (?, ?)", gtidSet, createdAt);
+    }
+
+    private static long micros(LocalDateTime utc) {
+        return utc.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + utc.getNano() / 1_000;
+    }
+}
@@ -0,0 +1,194 @@
+package org.ravo.ravomanager.manager.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonMergePatchTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    void removedFieldBecomesNull() {
+        assertDiff("{\"a\":1,\"b\":2}", "{\"a\":1}", "{\"b\":null}");
+    }
+
+    @Test
+    void changedArrayIsReplacedWhole() {
+        assertDiff("{\"a\":[1,2,3]}", "{\"a\":[1,2,4]}", "{\"a\":[1,2,4]}");
+        assertDiff("{\"a\":[{\"x\":1}]}", "{\"a\":[{\"x\":1},{\"x\":2}]}", "{\"a\":[{\"x\":1},{\"x\":2}]}");
+    }
+
+    @Test
+    void nestedObjectIsPatchedByField() {
+        assertDiff("{\"db\":{\"status\":\"UP\",\"qps\":1.5,\"name\":\"Active\"}}",
+                "{\"db\":{\"status\":\"UP\",\"qps\":2.5,\"name\":\"Active\"}}",
+                "{\"db\":{\"qps\":2.5}}");
+        assertDiff("{\"db\":{\"health\":{\"ok\":true,\"lag\":0}}}",
+                "{\"db\":{\"health\":{\"ok\":false,\"lag\":0}}}",
+                "{\"db\":{\"health\":{\"ok\":false}}}");
+    }
+
+    @Test
+    void typeChangeReplacesValue() {
+        assertDiff("{\"a\":{\"x\":1}}", "{\"a\":[1]}", "{\"a\":[1]}");
+        assertDiff("{\"a\":\"text\"}", "{\"a\":{\"x\":1}}", "{\"a\":{\"x\":1}}");
+    }
+
+    @Test
+    void unchangedStateGivesEmptyPatch() {
+        assertDiff("{\"a\":{\"b\":[1,{\"c\":null}]},\"d\":null}", "{\"a\":{\"b\":[1,{\"c\":null}]},\"d\":null}", "{}");
+        // 없는 필드와 null 필드는 같은 상태 (RFC 7386 에서 null 은 삭제)
+        assertDiff("{}", "{\"a\":null}", "{}");
+    }
+
+    @Test
+    void explicitNullIsSentAsRemoval() {
+        ObjectNode before = json("{\"a\":1}");
+        ObjectNode after = json("{\"a\":null}");
+
+        JsonNode patched = apply(before, JsonMergePatch.diff(before, after));
+
+        assertEquals(json("{}"), patched);
+        assertEquals(withoutNulls(after), patched);
+    }
+
+    @Test
+    void patchesChainFromEachPreviousSnapshot() {
+        // 클라이언트처럼 직전 상태에 patch 를 차례로 합치면 매번 새 상태와 같아야 함
+        Random random = new Random(7);
+        ObjectNode previous = randomObject(random, 0);
+        JsonNode client = previous.deepCopy();
+        for (int i = 0; i < 2_000; i++) {
+            ObjectNode next = random.nextInt(4) == 0 ? randomObject(random, 0) : mutate(previous, random);
+            ObjectNode patch = JsonMergePatch.diff(previous, next);
+
+            client = apply(client, patch);
+
+            assertEquals(withoutNulls(next), withoutNulls(client), "step " + i);
+            assertTrue(!patch.isEmpty() || withoutNulls(previous).equals(withoutNulls(next)), "step " + i);
+            previous = next;
+        }
+    }
+
+    private static void assertDiff(String before, String after, String expectedPatch) {
+        ObjectNode patch = JsonMergePatch.diff(json(before), json(after));
+        assertEquals(json(expectedPatch), patch);
+        assertEquals(withoutNulls(json(after)), withoutNulls(apply(json(before), patch)));
+    }
+
+    /**
+     * RFC 7386 MergePatch(target, patch) (대시보드 클라이언트와 같은 규칙, target 은 바꾸지 않음)
+     */
+    static JsonNode apply(JsonNode target, JsonNode patch) {
+        if (!patch.isObject()) {
+            return patch;
+        }
+        ObjectNode result = target != null && target.isObject()
+                ? ((ObjectNode) target).deepCopy()
+                : JsonNodeFactory.instance.objectNode();
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (field.getValue().isNull()) {
+                result.remove(field.getKey());
+            } else {
+                result.set(field.getKey(), apply(result.get(field.getKey()), field.getValue()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 값이 null 인 객체 필드를 뺀 사본 (merge patch 에서는 없는 필드와 같음)
+     */
+    static JsonNode withoutNulls(JsonNode node) {
+        if (node.isObject()) {
+            ObjectNode copy = JsonNodeFactory.instance.objectNode();
+            node.fields().forEachRemaining(field -> {
+                if (!field.getValue().isNull()) {
+                    copy.set(field.getKey(), withoutNulls(field.getValue()));
+                }
+            });
+            return copy;
+        }
+        if (node.isArray()) {
+            ArrayNode copy = JsonNodeFactory.instance.arrayNode();
+            node.forEach(element -> copy.add(element.isObject() ? withoutNulls(element) : element));
+            return copy;
+        }
+        return node;
+    }
+
+    static ObjectNode json(String text) {
+        try {
+            return (ObjectNode) MAPPER.readTree(text);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(text, e);
+        }
+    }
+
+    private static ObjectNode randomObject(Random random, int depth) {
+        ObjectNode node = JsonNodeFactory.instance.objectNode();
+        int fields = random.nextInt(5);
+        for (int i = 0; i < fields; i++) {
+            node.set("f" + random.nextInt(6), randomValue(random, depth + 1));
+        }
+        return node;
+    }
+
+    private static JsonNode randomValue(Random random, int depth) {
+        int kind = random.nextInt(depth >= 3 ? 4 : 6);
+        return switch (kind) {
+            case 0 -> JsonNodeFactory.instance.nullNode();
+            case 1 -> JsonNodeFactory.instance.numberNode(random.nextInt(3));
+            case 2 -> JsonNodeFactory.instance.textNode("v" + random.nextInt(3));
+            case 3 -> JsonNodeFactory.instance.booleanNode(random.nextBoolean());
+            case 4 -> {
+                ArrayNode array = JsonNodeFactory.instance.arrayNode();
+                int size = random.nextInt(3);
+                for (int i = 0; i < size; i++) {
+                    array.add(randomValue(random, depth + 1));
+                }
+                yield array;
+            }
+            default -> randomObject(random, depth);
+        };
+    }
+
+    /**
+     * 일부 필드만 바꾼 사본 (실제 스냅샷처럼 대부분은 그대로)
+     */
+    private static ObjectNode mutate(ObjectNode source, Random random) {
+        ObjectNode copy = source.deepCopy();
+        List<String> names = new ArrayList<>();
+        copy.fieldNames().forEachRemaining(names::add);
+        for (String name : names) {
+            int action = random.nextInt(8);
+            if (action == 0) {
+                copy.remove(name);
+            } else if (action == 1) {
+                copy.set(name, randomValue(random, 1));
+            } else if (action == 2 && copy.get(name).isObject()) {
+                copy.set(name, mutate((ObjectNode) copy.get(name), random));
+            }
+        }
+        if (random.nextInt(3) == 0) {
+            copy.set("f" + random.nextInt(6), randomValue(random, 1));
+        }
+        return copy;
+    }
+}
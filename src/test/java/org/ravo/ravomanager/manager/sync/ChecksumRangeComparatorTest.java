@@ -0,0 +1,218 @@
+package org.ravo.ravomanager.manager.sync;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.ravo.config.SyncProperties;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.ravo.ravomanager.manager.sync.FakeJdbc.row;
+
+/**
+ * 구간 체크섬 비교 (가짜 DB 가 구간 쿼리의 (pk DIV ?) - (pk % ? < 0) 를 MySQL 과 같은 정수 연산으로 계산)
+ */
+class ChecksumRangeComparatorTest {
+
+    private static final TableSchema ACCOUNT = new TableSchema("account", List.of("id"), List.of("id", "name"),
+            List.of(ColumnEncoding.INTEGER, ColumnEncoding.TEXT), List.of("id", "name"), null);
+
+    private final SyncProperties properties = new SyncProperties();
+    private final SyncExecutors executors = new SyncExecutors(properties);
+    private final ChecksumRangeComparator comparator =
+            new ChecksumRangeComparator(new StreamingRowComparator(), properties, executors);
+    private final List<String> diffs = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        executors.shutdown();
+    }
+
+    @Test
+    void bucketBoundsFloorNegativeKeys() {
+        // -1 은 구간 -1 = [-10, -1], 0 은 구간 0 = [0, 9]
+        assertEquals(-10, ChecksumRangeComparator.bucketStart(-1, 10, Long.MIN_VALUE));
+        assertEquals(-1, ChecksumRangeComparator.bucketEnd(-1, 10, Long.MAX_VALUE));
+        assertEquals(0, ChecksumRangeComparator.bucketStart(0, 10, Long.MIN_VALUE));
+        assertEquals(9, ChecksumRangeComparator.bucketEnd(0, 10, Long.MAX_VALUE));
+        // 상위 구간 안으로 잘림
+        assertEquals(32, ChecksumRangeComparator.bucketStart(0, 64, 32));
+        assertEquals(47, ChecksumRangeComparator.bucketEnd(0, 64, 47));
+    }
+
+    @Test
+    void bucketBoundsDoNotOverflowAtLongLimits() {
+        long first = Math.floorDiv(Long.MIN_VALUE, 10L);
+        long last = Math.floorDiv(Long.MAX_VALUE, 10L);
+
+        assertEquals(Long.MIN_VALUE, ChecksumRangeComparator.bucketStart(first, 10, Long.MIN_VALUE));
+        assertEquals(first * 10 + 9, ChecksumRangeComparator.bucketEnd(first, 10, Long.MAX_VALUE));
+        assertEquals(last * 10, ChecksumRangeComparator.bucketStart(last, 10, Long.MIN_VALUE));
+        assertEquals(Long.MAX_VALUE, ChecksumRangeComparator.bucketEnd(last, 10, Long.MAX_VALUE));
+    }
+
+    @Test
+    void negativeKeysAreComparedInTheirOwnBucket() {
+        leafBelow(10, 10);
+        TreeMap<Long, String> active = rows(-11, -10, -1, 0, 9, 10);
+        TreeMap<Long, String> standby = rows(-11, -1, 0, 9, 10);
+        standby.put(-1L, "changed");
+        FakeJdbc activeJdbc = table(active);
+
+        RowCompareResult result = compare(activeJdbc, table(standby));
+
+        assertEquals(List.of("MISSING_ON_STANDBY -10", "CONTENT_MISMATCH -1"), diffs);
+        // 구간 -1 만 행 단위로 비교
+        assertEquals(List.of("[-10, -1]"), rowRanges(activeJdbc));
+        assertEquals(4, result.getMatchedRows());
+        assertEquals(6, result.getTotalRows());
+        assertEquals(6, result.getActiveCount());
+        assertEquals(5, result.getStandbyCount());
+    }
+
+    @Test
+    void extremeKeysAreCompared() {
+        leafBelow(10, 10);
+        TreeMap<Long, String> active = rows(Long.MIN_VALUE, 0, Long.MAX_VALUE);
+        TreeMap<Long, String> standby = rows(0);
+        standby.put(Long.MIN_VALUE, "changed");
+        standby.put(Long.MAX_VALUE, "changed");
+        FakeJdbc activeJdbc = table(active);
+
+        RowCompareResult result = compare(activeJdbc, table(standby));
+
+        assertEquals(List.of("CONTENT_MISMATCH " + Long.MIN_VALUE, "CONTENT_MISMATCH " + Long.MAX_VALUE), diffs);
+        assertEquals(List.of("[" + Long.MIN_VALUE + ", -9223372036854775801]",
+                "[9223372036854775800, " + Long.MAX_VALUE + "]"), rowRanges(activeJdbc));
+        // 최상위 구간 쿼리는 양끝 포함 전체 범위
+        assertEquals(List.of("[" + Long.MIN_VALUE + ", " + Long.MAX_VALUE + "] / 10"), bucketRanges(activeJdbc));
+        assertEquals(1, result.getMatchedRows());
+        assertEquals(3, result.getTotalRows());
+    }
+
+    @Test
+    void mismatchDrillsDownByFanoutToLeafRange() {
+        properties.setChecksumBucketSize(64);
+        properties.setChecksumFanout(4);
+        properties.setChecksumLeafSize(4);
+        TreeMap<Long, String> active = range(0, 200);
+        TreeMap<Long, String> standby = range(0, 200);
+        standby.put(37L, "changed");
+        FakeJdbc activeJdbc = table(active);
+        FakeJdbc standbyJdbc = table(standby);
+
+        RowCompareResult result = compare(activeJdbc, standbyJdbc);
+
+        assertEquals(List.of("CONTENT_MISMATCH 37"), diffs);
+        // 64 → 16 → 4 (leaf) 로 내려가며 37 이 든 구간만 다시 조회
+        assertEquals(List.of("[" + Long.MIN_VALUE + ", " + Long.MAX_VALUE + "] / 64", "[0, 63] / 16", "[32, 47] / 4"),
+                bucketRanges(activeJdbc));
+        assertEquals(List.of("[36, 39]"), rowRanges(activeJdbc));
+        assertEquals(bucketRanges(activeJdbc), bucketRanges(standbyJdbc));
+        assertEquals(199, result.getMatchedRows());
+        assertEquals(200, result.getTotalRows());
+    }
+
+    @Test
+    void missingBucketIsComparedRowByRow() {
+        properties.setChecksumBucketSize(64);
+        properties.setChecksumFanout(4);
+        properties.setChecksumLeafSize(4);
+        TreeMap<Long, String> active = range(0, 10);
+        TreeMap<Long, String> standby = range(0, 10);
+        standby.putAll(range(100, 102));
+
+        RowCompareResult result = compare(table(active), table(standby));
+
+        assertEquals(List.of("MISSING_ON_ACTIVE 100", "MISSING_ON_ACTIVE 101"), diffs);
+        assertEquals(10, result.getMatchedRows());
+        assertEquals(12, result.getTotalRows());
+    }
+
+    @Test
+    void identicalTablesNeedOnlyTopLevelBuckets() {
+        FakeJdbc active = table(range(-500, 500));
+        FakeJdbc standby = table(range(-500, 500));
+
+        RowCompareResult result = compare(active, standby);
+
+        assertEquals(100.0, result.getSyncPercent());
+        assertEquals(1000, result.getMatchedRows());
+        assertEquals(1, active.queries().size());
+        assertTrue(active.queries().get(0).sql().contains("(`id` DIV ?) - (`id` % ? < 0)"));
+        assertEquals(result.activeTableHash(), result.standbyTableHash());
+    }
+
+    private void leafBelow(long bucketSize, long leafSize) {
+        properties.setChecksumBucketSize(bucketSize);
+        properties.setChecksumLeafSize(leafSize);
+    }
+
+    private RowCompareResult compare(FakeJdbc active, FakeJdbc standby) {
+        return comparator.compare(active, standby, ACCOUNT, (type, key) -> diffs.add(type + " " + key));
+    }
+
+    /**
+     * 구간 체크섬 쿼리와 구간 행 쿼리에 답하는 가짜 테이블 (id → name, 행 체크섬은 name 의 hashCode)
+     */
+    private static FakeJdbc table(TreeMap<Long, String> rows) {
+        return new FakeJdbc((sql, args) -> {
+            if (sql.contains("GROUP BY")) {
+                return buckets(rows, (Long) args[0], (Long) args[2], (Long) args[3]);
+            }
+            List<Object[]> result = new ArrayList<>();
+            rows.subMap((Long) args[0], true, (Long) args[1], true)
+                    .forEach((id, name) -> result.add(row(id, name, (long) name.hashCode())));
+            return result;
+        });
+    }
+
+    private static List<Object[]> buckets(TreeMap<Long, String> rows, long bucketSize, long lo, long hi) {
+        Map<Long, long[]> buckets = new TreeMap<>();
+        rows.subMap(lo, true, hi, true).forEach((id, name) -> {
+            // MySQL DIV / % 와 같이 0 쪽으로 버리는 나눗셈과 피제수 부호를 따르는 나머지
+            long bucket = id / bucketSize - (id % bucketSize < 0 ? 1 : 0);
+            long[] bucketState = buckets.computeIfAbsent(bucket, b -> new long[2]);
+            bucketState[0]++;
+            bucketState[1] ^= name.hashCode();
+        });
+        List<Object[]> result = new ArrayList<>();
+        buckets.forEach((bucket, bucketState) -> result.add(row(bucket, bucketState[0], bucketState[1])));
+        return result;
+    }
+
+    /**
+     * [from, to) 의 PK 와 같은 이름
+     */
+    private static TreeMap<Long, String> range(long from, long to) {
+        TreeMap<Long, String> rows = new TreeMap<>();
+        for (long id = from; id < to; id++) {
+            rows.put(id, "name " + id);
+        }
+        return rows;
+    }
+
+    private static TreeMap<Long, String> rows(long... ids) {
+        TreeMap<Long, String> rows = new TreeMap<>();
+        Arrays.stream(ids).forEach(id -> rows.put(id, "name " + id));
+        return rows;
+    }
+
+    private static List<String> bucketRanges(FakeJdbc jdbc) {
+        return jdbc.queries("GROUP BY").stream()
+                .map(query -> "[" + query.args()[2] + ", " + query.args()[3] + "] / " + query.args()[0])
+                .toList();
+    }
+
+    private static List<String> rowRanges(FakeJdbc jdbc) {
+        return jdbc.queries().stream()
+                .filter(query -> !query.sql().contains("GROUP BY"))
+                .map(query -> "[" + query.args()[0] + ", " + query.args()[1] + "]")
+                .toList();
+    }
+}
@@ -0,0 +1,43 @@
+package org.ravo.ravomanager.manager.sync;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ColumnEncodingTest {
+
+    @Test
+    void dataTypesMapToEncodings() {
+        assertEquals(ColumnEncoding.INTEGER, ColumnEncoding.of("int", "int unsigned"));
+        assertEquals(ColumnEncoding.INTEGER, ColumnEncoding.of("BIGINT", "BIGINT"));
+        assertEquals(ColumnEncoding.INTEGER, ColumnEncoding.of("year", "year"));
+        // BIGINT UNSIGNED 만 long 범위를 넘음
+        assertEquals(ColumnEncoding.UNSIGNED_BIGINT, ColumnEncoding.of("bigint", "bigint(20) UNSIGNED"));
+        assertEquals(ColumnEncoding.DECIMAL, ColumnEncoding.of("decimal", "decimal(10,2)"));
+        assertEquals(ColumnEncoding.FLOAT, ColumnEncoding.of("float", "float"));
+        assertEquals(ColumnEncoding.DOUBLE, ColumnEncoding.of("real", "double"));
+        assertEquals(ColumnEncoding.DATE, ColumnEncoding.of("date", "date"));
+        assertEquals(ColumnEncoding.DATETIME, ColumnEncoding.of("datetime", "datetime(6)"));
+        assertEquals(ColumnEncoding.TIMESTAMP, ColumnEncoding.of("timestamp", "timestamp"));
+        assertEquals(ColumnEncoding.TEXT, ColumnEncoding.of("varchar", "varchar(100)"));
+        assertEquals(ColumnEncoding.TEXT, ColumnEncoding.of("json", "json"));
+        assertEquals(ColumnEncoding.TEXT, ColumnEncoding.of("time", "time"));
+        assertEquals(ColumnEncoding.BINARY, ColumnEncoding.of("varbinary", "varbinary(16)"));
+        assertEquals(ColumnEncoding.BINARY, ColumnEncoding.of("geometry", "geometry"));
+        assertEquals(ColumnEncoding.INTEGER, ColumnEncoding.of("int", null));
+    }
+
+    @Test
+    void onlySignedIntegersAreOrderedKeys() {
+        for (ColumnEncoding encoding : ColumnEncoding.values()) {
+            assertEquals(encoding == ColumnEncoding.INTEGER, encoding.isOrderedKey(), encoding.name());
+        }
+        assertTrue(ColumnEncoding.TIMESTAMP.isNumericKey());
+        assertTrue(ColumnEncoding.INTEGER.isNumericKey());
+        // UNSIGNED BIGINT 는 부호 있는 비교로 순서가 틀어지므로 바이너리 정렬 키
+        assertFalse(ColumnEncoding.UNSIGNED_BIGINT.isNumericKey());
+        assertFalse(ColumnEncoding.DATETIME.isNumericKey());
+    }
+}
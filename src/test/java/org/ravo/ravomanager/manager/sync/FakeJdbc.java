@@ -0,0 +1,221 @@
+package org.ravo.ravomanager.manager.sync;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 테스트용 JDBC 대역
+ * 쿼리(SQL + 바인딩 인자)마다 {@link Responder} 가 돌려준 행을 ResultSet 으로 보여주며, 실행한 쿼리를 순서대로 기록합니다.
+ * 행은 조회 컬럼 순서의 값 배열이고, null 은 SQL NULL 입니다.
+ */
+class FakeJdbc extends JdbcTemplate {
+
+    /**
+     * 쿼리 결과를 정하는 함수
+     */
+    @FunctionalInterface
+    interface Responder {
+        List<Object[]> rows(String sql, Object[] args);
+    }
+
+    record Query(String sql, Object[] args) {
+    }
+
+    private static final Pattern SELECT_LIST = Pattern.compile("^\\s*SELECT\\s+(.*?)\\s+FROM\\s", Pattern.DOTALL);
+    private static final Pattern ALIAS = Pattern.compile("\\sAS\\s+(\\w+)$");
+
+    private final Responder responder;
+    private final List<Query> queries = new ArrayList<>();
+
+    FakeJdbc(Responder responder) {
+        this.responder = responder;
+    }
+
+    /**
+     * 실행한 쿼리 (실행 순서)
+     */
+    synchronized List<Query> queries() {
+        return List.copyOf(queries);
+    }
+
+    /**
+     * sql 이 fragment 를 포함하는 쿼리만
+     */
+    List<Query> queries(String fragment) {
+        return queries().stream().filter(query -> query.sql().contains(fragment)).toList();
+    }
+
+    @Override
+    public <T> T execute(ConnectionCallback<T> action) {
+        try {
+            return action.doInConnection(connection());
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... args) {
+        List<T> mapped = new ArrayList<>();
+        try (ResultSet resultSet = run(sql, args, labels(sql))) {
+            for (int rowNum = 0; resultSet.next(); rowNum++) {
+                mapped.add(rowMapper.mapRow(resultSet, rowNum));
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        return mapped;
+    }
+
+    @Override
+    public <T> T queryForObject(String sql, Class<T> requiredType) {
+        List<Object[]> rows = record(sql, new Object[0]);
+        return rows.isEmpty() ? null : requiredType.cast(rows.get(0)[0]);
+    }
+
+    @Override
+    public <T> List<T> queryForList(String sql, Class<T> elementType, Object... args) {
+        return record(sql, args).stream().map(row -> elementType.cast(row[0])).toList();
+    }
+
+    /**
+     * 이 대역으로 쿼리를 실행하는 연결 (prepareStatement → setObject → executeQuery 만 지원)
+     */
+    Connection connection() {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, methodArgs) -> switch (method.getName()) {
+                    case "prepareStatement" -> statement((String) methodArgs[0]);
+                    case "close" -> null;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private PreparedStatement statement(String sql) {
+        List<Object> bound = new ArrayList<>();
+        return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                (proxy, method, methodArgs) -> switch (method.getName()) {
+                    case "setObject" -> {
+                        int index = (Integer) methodArgs[0];
+                        while (bound.size() < index) {
+                            bound.add(null);
+                        }
+                        bound.set(index - 1, methodArgs[1]);
+                        yield null;
+                    }
+                    case "executeQuery" -> run(sql, bound.toArray(), List.of());
+                    case "setFetchSize", "cancel", "close" -> null;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private ResultSet run(String sql, Object[] args, List<String> labels) {
+        return resultSet(record(sql, args), labels);
+    }
+
+    private synchronized List<Object[]> record(String sql, Object[] args) {
+        queries.add(new Query(sql, args.clone()));
+        return responder.rows(sql, args);
+    }
+
+    /**
+     * SELECT 목록의 컬럼 이름 (이름으로 읽는 RowMapper 용, 조회 순서대로)
+     * "식 AS 별칭" 은 별칭, 그 외에는 컬럼 이름입니다.
+     */
+    private static List<String> labels(String sql) {
+        Matcher matcher = SELECT_LIST.matcher(sql);
+        if (!matcher.find()) {
+            return List.of();
+        }
+        List<String> labels = new ArrayList<>();
+        String list = matcher.group(1);
+        int depth = 0;
+        int start = 0;
+        for (int i = 0; i <= list.length(); i++) {
+            char c = i < list.length() ? list.charAt(i) : ',';
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                String item = list.substring(start, i).trim();
+                Matcher alias = ALIAS.matcher(item);
+                labels.add(alias.find() ? alias.group(1) : item.replace("`", ""));
+                start = i + 1;
+            }
+        }
+        return labels;
+    }
+
+    /**
+     * 행 목록을 앞에서부터 읽는 전방향 ResultSet
+     */
+    static ResultSet resultSet(List<Object[]> rows, List<String> labels) {
+        int[] position = {-1};
+        boolean[] wasNull = {false};
+        return (ResultSet) Proxy.newProxyInstance(FakeJdbc.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                (proxy, method, methodArgs) -> {
+                    String name = method.getName();
+                    switch (name) {
+                        case "next":
+                            return ++position[0] < rows.size();
+                        case "wasNull":
+                            return wasNull[0];
+                        case "close":
+                            return null;
+                        default:
+                            break;
+                    }
+                    if (!name.startsWith("get") || methodArgs == null) {
+                        throw new UnsupportedOperationException(name);
+                    }
+                    int column = methodArgs[0] instanceof String label
+                            ? labels.indexOf(label) + 1 : (Integer) methodArgs[0];
+                    Object value = rows.get(position[0])[column - 1];
+                    wasNull[0] = value == null;
+                    return convert(name, value, methodArgs.length > 1 ? (Class<?>) methodArgs[1] : null);
+                });
+    }
+
+    private static Object convert(String getter, Object value, Class<?> type) {
+        return switch (getter) {
+            case "getLong" -> value == null ? 0L : ((Number) value).longValue();
+            case "getInt" -> value == null ? 0 : ((Number) value).intValue();
+            case "getFloat" -> value == null ? 0f : ((Number) value).floatValue();
+            case "getDouble" -> value == null ? 0d : ((Number) value).doubleValue();
+            case "getBigDecimal" -> value == null || value instanceof BigDecimal ? value : new BigDecimal(value.toString());
+            case "getString" -> value instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8)
+                    : value == null ? null : value.toString();
+            case "getBytes" -> value instanceof String text ? text.getBytes(StandardCharsets.UTF_8)
+                    : value == null ? null : Arrays.copyOf((byte[]) value, ((byte[]) value).length);
+            case "getObject" -> type == null ? value : type.cast(value);
+            case "getTimestamp" -> value;
+            default -> throw new UnsupportedOperationException(getter);
+        };
+    }
+
+    /**
+     * 행 하나 (조회 컬럼 순서의 값)
+     */
+    static Object[] row(Object... values) {
+        return values;
+    }
+
+    static List<Object[]> rows(Object[]... rows) {
+        return List.of(rows);
+    }
+}
@@ -0,0 +1,155 @@
+package org.ravo.ravomanager.manager.sync;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.ravo.config.SyncProperties;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.ravo.ravomanager.manager.sync.FakeJdbc.row;
+import static org.ravo.ravomanager.manager.sync.FakeJdbc.rows;
+
+/**
+ * 워터마크 증분 검증 (가짜 DB 가 전체/증분/MAX(updated_at) 쿼리에 답함)
+ */
+class IncrementalSyncVerifierTest {
+
+    private static final TableSchema ACCOUNT = new TableSchema("account", List.of("id"), List.of("id", "name"),
+            List.of(ColumnEncoding.INTEGER, ColumnEncoding.TEXT), List.of("id", "name", "updated_at"),
+            "updated_at");
+
+    private final SyncProperties properties = new SyncProperties();
+    private final SyncExecutors executors = new SyncExecutors(properties);
+    private final IncrementalSyncVerifier verifier = new IncrementalSyncVerifier(properties, executors);
+
+    private final Map<Long, Object[]> activeRows = new TreeMap<>();
+    private final Map<Long, Object[]> standbyRows = new TreeMap<>();
+    private final FakeJdbc active = table(activeRows);
+    private final FakeJdbc standby = table(standbyRows);
+
+    @AfterEach
+    void tearDown() {
+        verifier.shutdown();
+        executors.shutdown();
+    }
+
+    @Test
+    void lookbackRereadsRowsCommittedBehindWatermark() {
+        properties.setIncrementalLookback(Duration.ofSeconds(5));
+        bothSides(1, "kim", 100);
+        bothSides(2, "lee", 100);
+        assertEquals(2, verifier.verify(active, standby, ACCOUNT).getMatchedRows());
+
+        // 워터마크(100초)보다 이른 시각으로 늦게 커밋된 변경
+        put(standbyRows, 2, "LEE", 97);
+        RowCompareResult result = verifier.verify(active, standby, ACCOUNT);
+
+        assertEquals(1, result.getMatchedRows());
+        assertEquals(List.of(seconds(95)), incrementalFrom(standby));
+    }
+
+    @Test
+    void changesOlderThanLookbackAreLeftToFullSweep() {
+        properties.setIncrementalLookback(Duration.ofSeconds(5));
+        bothSides(1, "kim", 100);
+        bothSides(2, "lee", 100);
+        verifier.verify(active, standby, ACCOUNT);
+
+        put(standbyRows, 2, "LEE", 90);
+        RowCompareResult result = verifier.verify(active, standby, ACCOUNT);
+
+        assertEquals(2, result.getMatchedRows());
+    }
+
+    @Test
+    void watermarkAdvancesPerSide() {
+        bothSides(1, "kim", 100);
+        verifier.verify(active, standby, ACCOUNT);
+
+        put(activeRows, 2, "lee", 200);
+        RowCompareResult first = verifier.verify(active, standby, ACCOUNT);
+        assertEquals(2, first.getActiveCount());
+        assertEquals(1, first.getStandbyCount());
+        assertEquals(1, first.getMatchedRows());
+
+        put(standbyRows, 2, "lee", 201);
+        RowCompareResult second = verifier.verify(active, standby, ACCOUNT);
+        assertEquals(2, second.getMatchedRows());
+
+        // Active 는 200초, Standby 는 아직 100초까지 읽은 상태에서 두 번째 증분 조회
+        assertEquals(List.of(seconds(95), seconds(195)), incrementalFrom(active));
+        assertEquals(List.of(seconds(95), seconds(95)), incrementalFrom(standby));
+    }
+
+    @Test
+    void deletedRowsAreDroppedByFullSweep() throws InterruptedException {
+        properties.setIncrementalSweepInterval(Duration.ZERO);
+        bothSides(1, "kim", 100);
+        bothSides(2, "lee", 100);
+        verifier.verify(active, standby, ACCOUNT);
+
+        // 증분 조회로는 삭제가 보이지 않으므로 백그라운드 전체 스캔이 상태를 교체할 때까지 기다림
+        synchronized (standbyRows) {
+            standbyRows.remove(2L);
+        }
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        RowCompareResult result = verifier.verify(active, standby, ACCOUNT);
+        while (result.getStandbyCount() != 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            result = verifier.verify(active, standby, ACCOUNT);
+        }
+
+        assertEquals(1, result.getStandbyCount());
+        assertEquals(1, result.getMatchedRows());
+        assertTrue(standby.queries().stream().filter(query -> !query.sql().contains("WHERE")
+                && !query.sql().contains("MAX(")).count() >= 2);
+    }
+
+    private void bothSides(long id, String name, long updatedAtSeconds) {
+        put(activeRows, id, name, updatedAtSeconds);
+        put(standbyRows, id, name, updatedAtSeconds);
+    }
+
+    private static void put(Map<Long, Object[]> rows, long id, String name, long updatedAtSeconds) {
+        synchronized (rows) {
+            rows.put(id, row(id, name, (long) name.hashCode(), seconds(updatedAtSeconds)));
+        }
+    }
+
+    private static Timestamp seconds(long seconds) {
+        return new Timestamp(seconds * 1_000);
+    }
+
+    /**
+     * 전체 스캔(조건 없음), 증분 조회(updated_at >= ?), MAX(updated_at) 에 답하는 가짜 테이블
+     * 행 컬럼: id, name, 행 체크섬, updated_at
+     */
+    private static FakeJdbc table(Map<Long, Object[]> table) {
+        return new FakeJdbc((sql, args) -> {
+            List<Object[]> snapshot;
+            synchronized (table) {
+                snapshot = new ArrayList<>(table.values());
+            }
+            if (sql.contains("MAX(`updated_at`)")) {
+                return rows(row(snapshot.stream().map(row -> (Timestamp) row[3])
+                        .max(Timestamp::compareTo).orElse(null)));
+            }
+            if (sql.contains("WHERE `updated_at` >= ?")) {
+                Timestamp from = (Timestamp) args[0];
+                return snapshot.stream().filter(row -> !((Timestamp) row[3]).before(from)).toList();
+            }
+            return snapshot;
+        });
+    }
+
+    private static List<Timestamp> incrementalFrom(FakeJdbc jdbc) {
+        return jdbc.queries("WHERE `updated_at` >= ?").stream().map(query -> (Timestamp) query.args()[0]).toList();
+    }
+}
@@ -0,0 +1,106 @@
+package org.ravo.ravomanager.manager.sync;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.ravo.ravomanager.manager.sync.FakeJdbc.row;
+import static org.ravo.ravomanager.manager.sync.FakeJdbc.rows;
+
+/**
+ * PK 순서 비교 (DB 의 ORDER BY 와 같은 순서여야 병합이 맞음)
+ */
+class RowCursorTest {
+
+    private static final TableSchema ACCOUNT = new TableSchema("account", List.of("id"), List.of("id", "name"),
+            List.of(ColumnEncoding.INTEGER, ColumnEncoding.TEXT), List.of("id", "name"), null);
+
+    // (tenant BIGINT, code VARBINARY) 복합 PK
+    private static final TableSchema MEMBER = new TableSchema("member", List.of("tenant", "code"),
+            List.of("tenant", "code", "name"),
+            List.of(ColumnEncoding.INTEGER, ColumnEncoding.BINARY, ColumnEncoding.TEXT),
+            List.of("tenant", "code", "name"), null);
+
+    @Test
+    void integerKeysCompareAsSignedValues() throws SQLException {
+        assertTrue(account(Long.MIN_VALUE).compareKey(account(-1)) < 0);
+        assertTrue(account(-1).compareKey(account(0)) < 0);
+        assertTrue(account(Long.MAX_VALUE).compareKey(account(1)) > 0);
+        assertEquals(0, account(42).compareKey(account(42)));
+    }
+
+    @Test
+    void firstKeyColumnDecidesBeforeSecond() throws SQLException {
+        assertTrue(member(1, bytes(0x7A)).compareKey(member(2, bytes(0x01))) < 0);
+        assertTrue(member(-5, bytes(0x7A)).compareKey(member(1, bytes(0x01))) < 0);
+        assertTrue(member(2, bytes(0x01)).compareKey(member(2, bytes(0x02))) < 0);
+        assertEquals(0, member(2, bytes(0x01, 0x02)).compareKey(member(2, bytes(0x01, 0x02))));
+    }
+
+    @Test
+    void binaryKeysCompareAsUnsignedBytes() throws SQLException {
+        // 0x80 이상은 부호 있는 byte 로 비교하면 음수가 되어 순서가 뒤집힘
+        assertTrue(member(1, bytes(0x7F)).compareKey(member(1, bytes(0x80))) < 0);
+        assertTrue(member(1, bytes(0xFF)).compareKey(member(1, bytes(0x00, 0x00))) > 0);
+        // 앞부분이 같으면 짧은 쪽이 먼저
+        assertTrue(member(1, bytes(0x61)).compareKey(member(1, bytes(0x61, 0x00))) < 0);
+        // 콜레이션이 아니라 바이트 순서 ('B' < 'a')
+        assertTrue(member(1, bytes('B')).compareKey(member(1, bytes('a'))) < 0);
+    }
+
+    @Test
+    void sameCompositeKeyHasSameKeyHash() throws SQLException {
+        RowCursor first = member(3, bytes(0x10, 0x20));
+        RowCursor same = member(3, bytes(0x10, 0x20));
+        RowCursor other = member(3, bytes(0x10, 0x21));
+
+        assertEquals(first.key(), same.key());
+        assertFalse(first.key() == other.key());
+    }
+
+    @Test
+    void cursorWithoutSortKeysCannotCompareCompositeKeys() throws SQLException {
+        FakeJdbc jdbc = new FakeJdbc((sql, args) -> rows(row(1L, bytes(0x01), "kim", 0L)));
+        RowCursor cursor = RowCursor.open(jdbc.connection(), "SELECT", 0, MEMBER);
+
+        assertThrows(IllegalStateException.class, () -> cursor.compareKey(cursor));
+    }
+
+    @Test
+    void cursorEndsAfterLastRow() throws SQLException {
+        FakeJdbc jdbc = new FakeJdbc((sql, args) -> rows(row(1L, "kim", 0L), row(2L, "lee", 0L)));
+        RowCursor cursor = RowCursor.open(jdbc.connection(), "SELECT", 0, ACCOUNT);
+
+        assertEquals(1, cursor.key());
+        assertTrue(cursor.next());
+        assertEquals(2, cursor.key());
+        assertFalse(cursor.next());
+        assertFalse(cursor.hasRow());
+    }
+
+    private static RowCursor account(long id) throws SQLException {
+        FakeJdbc jdbc = new FakeJdbc((sql, args) -> rows(row(id, "name", 0L)));
+        return RowCursor.open(jdbc.connection(), "SELECT", 0, ACCOUNT);
+    }
+
+    /**
+     * 커서 컬럼: tenant, code, name, 행 체크섬, 정렬 키(tenant, code)
+     */
+    private static RowCursor member(long tenant, byte[] code) throws SQLException {
+        FakeJdbc jdbc = new FakeJdbc((sql, args) -> rows(row(tenant, code, "name", 0L, tenant, code)));
+        return RowCursor.openKeyOrdered(jdbc.connection(), "SELECT", 0, MEMBER);
+    }
+
+    private static byte[] bytes(int... values) {
+        byte[] bytes = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            bytes[i] = (byte) values[i];
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,101 @@
+package org.ravo.ravomanager.manager.sync;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RowHashTableTest {
+
+    @Test
+    void rowsMatchWhenBothSidesHaveSameHash() {
+        RowHashTable rows = new RowHashTable(4);
+        rows.putActive(1, 10, 11, 100);
+        rows.putStandby(1, 10, 11, 100);
+        rows.putActive(2, 20, 21, 200);
+        rows.putStandby(3, 30, 31, 300);
+
+        assertEquals(3, rows.getSize());
+        assertEquals(2, rows.getActiveCount());
+        assertEquals(2, rows.getStandbyCount());
+        assertEquals(1, rows.getMatchedRows());
+        assertEquals(100 ^ 200, rows.getActiveSummary());
+        assertEquals(100 ^ 300, rows.getStandbySummary());
+    }
+
+    @Test
+    void overwriteReplacesHashAndSummary() {
+        RowHashTable rows = new RowHashTable(4);
+        rows.putActive(1, 10, 11, 100);
+        rows.putStandby(1, 10, 11, 100);
+
+        // 변경된 행이 다시 읽히면 이전 값을 대체 (행 수는 그대로, 요약 체크섬은 이전 체크섬을 빼고 새 체크섬 반영)
+        rows.putStandby(1, 10, 99, 101);
+        assertEquals(0, rows.getMatchedRows());
+        assertEquals(1, rows.getStandbyCount());
+        assertEquals(101, rows.getStandbySummary());
+
+        rows.putActive(1, 10, 99, 101);
+        assertEquals(1, rows.getMatchedRows());
+        assertEquals(1, rows.getActiveCount());
+        assertEquals(rows.getActiveSummary(), rows.getStandbySummary());
+    }
+
+    @Test
+    void growKeepsEveryEntry() {
+        // 초기 용량 16 에서 시작해 여러 번 커짐
+        RowHashTable rows = new RowHashTable(1);
+        for (long key = 0; key < 5_000; key++) {
+            rows.putActive(key * 7919, key, ~key, key);
+            rows.putStandby(key * 7919, key, ~key, key);
+        }
+        assertEquals(5_000, rows.getSize());
+        assertEquals(5_000, rows.getMatchedRows());
+
+        // 커진 뒤에도 같은 슬롯을 찾아 갱신 (새 키로 들어가면 size 가 늘어남)
+        for (long key = 0; key < 5_000; key += 2) {
+            rows.putStandby(key * 7919, key, key, key);
+        }
+        assertEquals(5_000, rows.getSize());
+        assertEquals(2_500, rows.getMatchedRows());
+        assertEquals(5_000, rows.getStandbyCount());
+    }
+
+    @Test
+    void collidingKeysFollowProbeChainAcrossTableEnd() {
+        // 16 슬롯에서 모두 마지막 슬롯(15)으로 가는 키: 탐색이 0, 1, 2 ... 로 이어짐
+        List<Long> keys = keysWithHomeSlot(15, 16, 6);
+        RowHashTable rows = new RowHashTable(1);
+        for (long key : keys) {
+            rows.putActive(key, key, key, key);
+        }
+        assertEquals(keys.size(), rows.getSize());
+
+        // 체인 중간의 키를 각각 찾아 갱신
+        for (int i = 0; i < keys.size(); i++) {
+            long key = keys.get(i);
+            rows.putStandby(key, key, key, key);
+            assertEquals(i + 1, rows.getMatchedRows());
+        }
+        assertEquals(keys.size(), rows.getSize());
+
+        // 체인에 없는 키는 새 행
+        rows.putStandby(-1, 0, 0, 0);
+        assertEquals(keys.size() + 1, rows.getSize());
+    }
+
+    /**
+     * RowHashTable 과 같은 혼합 함수로 capacity 슬롯 중 slot 에 배치되는 키
+     */
+    private static List<Long> keysWithHomeSlot(int slot, int capacity, int count) {
+        List<Long> keys = new ArrayList<>();
+        for (long key = 0; keys.size() < count; key++) {
+            if (((int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & (capacity - 1)) == slot) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+}
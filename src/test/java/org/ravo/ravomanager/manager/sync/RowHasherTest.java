@@ -0,0 +1,139 @@
+package org.ravo.ravomanager.manager.sync;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class RowHasherTest {
+
+    private final RowHasher hasher = new RowHasher();
+
+    @Test
+    void murmur3KnownAnswers() {
+        // MurmurHash3_x64_128, seed 0 (h1, h2)
+        assertArrayEquals(new long[]{0, 0}, raw(""));
+        assertArrayEquals(new long[]{0x629942693e10f867L, 0x92db0b82baeb5347L}, raw("hell"));
+        assertArrayEquals(new long[]{0xcbd8a7b341bd9b02L, 0x5b1e906a48ae1d19L}, raw("hello"));
+        assertArrayEquals(new long[]{0xe34bbc7bbc071b6cL, 0x7a433ca9c49a9347L},
+                raw("The quick brown fox jumps over the lazy dog"));
+        assertArrayEquals(new long[]{0x658ca970ff85269aL, 0x43fee3eaa68e5c3eL},
+                raw("The quick brown fox jumps over the lazy cog"));
+    }
+
+    @Test
+    void columnsAreEncodedAsCanonicalBytes() throws SQLException {
+        // 값: 마커 1 + 8바이트 LE, 가변 길이: 마커 1 + 길이 4바이트 LE + 바이트, NULL: 마커 0
+        assertArrayEquals(raw(1, 5, 0, 0, 0, 0, 0, 0, 0), column(ColumnEncoding.INTEGER, 5L));
+        assertArrayEquals(raw(1, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF),
+                column(ColumnEncoding.UNSIGNED_BIGINT, "18446744073709551615"));
+        // scale 1 + unscaled 15
+        assertArrayEquals(raw(1, 1, 0, 0, 0, 1, 15, 0, 0, 0, 0, 0, 0, 0),
+                column(ColumnEncoding.DECIMAL, new BigDecimal("1.50")));
+        assertArrayEquals(raw(1, 0, 0, 0xC0, 0x3F, 0, 0, 0, 0), column(ColumnEncoding.FLOAT, 1.5f));
+        assertArrayEquals(raw(1, 0, 0, 0, 0, 0, 0, 0xF8, 0x3F), column(ColumnEncoding.DOUBLE, 1.5d));
+        // epoch day 1
+        assertArrayEquals(raw(1, 1, 0, 0, 0, 0, 0, 0, 0), column(ColumnEncoding.DATE, LocalDate.of(1970, 1, 2)));
+        // epoch 마이크로초 1_000_001 = 0x0F4241
+        assertArrayEquals(raw(1, 0x41, 0x42, 0x0F, 0, 0, 0, 0, 0),
+                column(ColumnEncoding.DATETIME, LocalDateTime.of(1970, 1, 1, 0, 0, 1, 1_000)));
+        assertArrayEquals(raw(1, 0x41, 0x42, 0x0F, 0, 0, 0, 0, 0), column(ColumnEncoding.TIMESTAMP, 1_000_001L));
+        assertArrayEquals(raw(1, 3, 0, 0, 0, 0xEA, 0xB0, 0x80), column(ColumnEncoding.TEXT, "가"));
+        assertArrayEquals(raw(1, 2, 0, 0, 0, 1, 2), column(ColumnEncoding.BINARY, new byte[]{1, 2}));
+        for (ColumnEncoding encoding : ColumnEncoding.values()) {
+            assertArrayEquals(raw(0), column(encoding, null), encoding.name());
+        }
+    }
+
+    @Test
+    void sameValueHashesTheSameAcrossColumnTypes() throws SQLException {
+        assertArrayEquals(column(ColumnEncoding.INTEGER, 42L), column(ColumnEncoding.UNSIGNED_BIGINT, "42"));
+        assertArrayEquals(column(ColumnEncoding.INTEGER, 42L), column(ColumnEncoding.TIMESTAMP, 42L));
+        // DATETIME 과 TIMESTAMP 는 같은 시각이면 같은 epoch 마이크로초
+        assertArrayEquals(column(ColumnEncoding.DATETIME, LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_456_000)),
+                column(ColumnEncoding.TIMESTAMP, 1_714_566_615_123_456L));
+        // 드라이버가 돌려주는 scale 과 관계없이 같은 수
+        assertArrayEquals(column(ColumnEncoding.DECIMAL, new BigDecimal("1.5")),
+                column(ColumnEncoding.DECIMAL, new BigDecimal("1.500")));
+        assertArrayEquals(column(ColumnEncoding.DECIMAL, new BigDecimal("0")),
+                column(ColumnEncoding.DECIMAL, new BigDecimal("0.000")));
+        assertArrayEquals(column(ColumnEncoding.DOUBLE, 0.0d), column(ColumnEncoding.DOUBLE, -0.0d));
+        assertArrayEquals(column(ColumnEncoding.FLOAT, 0.1f), column(ColumnEncoding.FLOAT, (double) 0.1f));
+        // 문자열은 UTF-8 바이트와 같음 (짝 없는 서로게이트는 '?')
+        for (String text : List.of("", "abc", "한글", "😀", "a\uD800b")) {
+            assertArrayEquals(column(ColumnEncoding.BINARY, text.getBytes(StandardCharsets.UTF_8)),
+                    column(ColumnEncoding.TEXT, text), text);
+        }
+    }
+
+    @Test
+    void nullDiffersFromEmptyValue() throws SQLException {
+        assertFalse(equal(column(ColumnEncoding.TEXT, null), column(ColumnEncoding.TEXT, "")));
+        assertFalse(equal(column(ColumnEncoding.BINARY, null), column(ColumnEncoding.BINARY, new byte[0])));
+        assertFalse(equal(column(ColumnEncoding.INTEGER, null), column(ColumnEncoding.INTEGER, 0L)));
+        assertFalse(equal(column(ColumnEncoding.DOUBLE, null), column(ColumnEncoding.DOUBLE, 0d)));
+    }
+
+    @Test
+    void columnBoundariesAreKept() throws SQLException {
+        ColumnEncoding[] text = {ColumnEncoding.TEXT, ColumnEncoding.TEXT};
+
+        assertFalse(equal(row(text, "ab", "c"), row(text, "a", "bc")));
+        assertFalse(equal(row(text, null, "a"), row(text, "a", null)));
+        assertFalse(equal(row(text, "", null), row(text, null, "")));
+        assertArrayEquals(row(text, "a", "bc"), row(text, "a", "bc"));
+    }
+
+    @Test
+    void reusedBufferDoesNotLeakIntoNextRow() throws SQLException {
+        ColumnEncoding[] encodings = {ColumnEncoding.TEXT, ColumnEncoding.TEXT};
+        long[] small = row(encodings, "a", "b");
+
+        // 긴 행으로 버퍼가 커진 뒤에도 짧은 행은 같은 해시
+        String text = "가".repeat(1_000);
+        long[] large = row(encodings, text, text);
+        assertArrayEquals(small, row(encodings, "a", "b"));
+        assertArrayEquals(large, row(encodings, text, text));
+    }
+
+    /**
+     * 한 컬럼 행의 해시
+     */
+    private long[] column(ColumnEncoding encoding, Object value) throws SQLException {
+        return row(new ColumnEncoding[]{encoding}, value);
+    }
+
+    private long[] row(ColumnEncoding[] encodings, Object... values) throws SQLException {
+        ResultSet resultSet = FakeJdbc.resultSet(FakeJdbc.rows(values), List.of());
+        resultSet.next();
+        hasher.hashRow(resultSet, encodings, 1, encodings.length);
+        return new long[]{hasher.hashHi(), hasher.hashLo()};
+    }
+
+    private long[] raw(String text) {
+        hasher.hashRaw(text.getBytes(StandardCharsets.UTF_8));
+        return new long[]{hasher.hashHi(), hasher.hashLo()};
+    }
+
+    private long[] raw(int... bytes) {
+        byte[] data = new byte[bytes.length];
+        for (int i = 0; i < bytes.length; i++) {
+            data[i] = (byte) bytes[i];
+        }
+        hasher.hashRaw(data);
+        return new long[]{hasher.hashHi(), hasher.hashLo()};
+    }
+
+    private static boolean equal(long[] a, long[] b) {
+        return Arrays.equals(a, b);
+    }
+}
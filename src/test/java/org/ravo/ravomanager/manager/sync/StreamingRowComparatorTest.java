@@ -0,0 +1,107 @@
+package org.ravo.ravomanager.manager.sync;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.ravo.ravomanager.manager.sync.FakeJdbc.row;
+
+/**
+ * 정렬-병합 분류 (행은 DB 가 PK 순서로 준다고 보고 정렬된 상태로 넘김)
+ */
+class StreamingRowComparatorTest {
+
+    private static final TableSchema ACCOUNT = new TableSchema("account", List.of("id"), List.of("id", "name"),
+            List.of(ColumnEncoding.INTEGER, ColumnEncoding.TEXT), List.of("id", "name"), null);
+
+    private static final TableSchema MEMBER = new TableSchema("member", List.of("tenant", "code"),
+            List.of("tenant", "code", "name"),
+            List.of(ColumnEncoding.INTEGER, ColumnEncoding.TEXT, ColumnEncoding.TEXT),
+            List.of("tenant", "code", "name"), null);
+
+    private final StreamingRowComparator comparator = new StreamingRowComparator();
+    private final List<String> diffs = new ArrayList<>();
+
+    @Test
+    void rowsAreClassifiedInKeyOrder() {
+        FakeJdbc active = table(account(1, "kim"), account(2, "lee"), account(3, "park"), account(5, "han"));
+        FakeJdbc standby = table(account(1, "kim"), account(2, "LEE"), account(4, "choi"), account(5, "han"),
+                account(6, "jung"));
+
+        RowCompareResult result = compare(active, standby);
+
+        assertEquals(List.of("CONTENT_MISMATCH 2", "MISSING_ON_STANDBY 3", "MISSING_ON_ACTIVE 4",
+                "MISSING_ON_ACTIVE 6"), diffs);
+        assertEquals(4, result.getActiveCount());
+        assertEquals(5, result.getStandbyCount());
+        assertEquals(6, result.getTotalRows());
+        assertEquals(2, result.getMatchedRows());
+    }
+
+    @Test
+    void emptySideMakesEveryRowMissing() {
+        FakeJdbc active = table();
+        FakeJdbc standby = table(account(-7, "kim"), account(Long.MAX_VALUE, "lee"));
+
+        RowCompareResult result = compare(active, standby);
+
+        assertEquals(List.of("MISSING_ON_ACTIVE -7", "MISSING_ON_ACTIVE " + Long.MAX_VALUE), diffs);
+        assertEquals(0, result.getMatchedRows());
+        assertEquals(2, result.getTotalRows());
+        assertEquals(0.0, result.getSyncPercent());
+    }
+
+    @Test
+    void sameRowsMatchWithSameSummary() {
+        FakeJdbc active = table(account(1, "kim"), account(2, "lee"));
+        FakeJdbc standby = table(account(1, "kim"), account(2, "lee"));
+
+        RowCompareResult result = compare(active, standby);
+
+        assertEquals(List.of(), diffs);
+        assertEquals(100.0, result.getSyncPercent());
+        assertEquals(result.activeTableHash(), result.standbyTableHash());
+    }
+
+    @Test
+    void compositeKeysMergeBySortKey() {
+        // (1, "B") < (1, "a") < (2, "a"): 문자열 PK 는 바이너리 순서
+        FakeJdbc active = table(member(1, "B", "kim"), member(1, "a", "lee"), member(2, "a", "park"));
+        FakeJdbc standby = table(member(1, "a", "lee"), member(2, "a", "PARK"), member(2, "b", "han"));
+
+        RowCompareResult result = comparator.compare(active, standby, MEMBER);
+
+        // (1, "B") Active 에만, (1, "a") 일치, (2, "a") 내용 불일치, (2, "b") Standby 에만
+        assertEquals(4, result.getTotalRows());
+        assertEquals(1, result.getMatchedRows());
+        assertEquals(3, result.getActiveCount());
+        assertEquals(3, result.getStandbyCount());
+        assertEquals(1, active.queries("ORDER BY `tenant`, CAST(`code` AS BINARY)").size());
+    }
+
+    private RowCompareResult compare(FakeJdbc active, FakeJdbc standby) {
+        return comparator.compare(active, standby, ACCOUNT, (type, key) -> diffs.add(type + " " + key),
+                "SELECT " + ACCOUNT.cursorColumns() + " FROM `account` ORDER BY `id`");
+    }
+
+    private static FakeJdbc table(Object[]... rows) {
+        return new FakeJdbc((sql, args) -> List.of(rows));
+    }
+
+    /**
+     * 커서 컬럼: id, name, 행 체크섬 (DB 가 계산하는 행 체크섬은 이름의 hashCode 로 대신함)
+     */
+    private static Object[] account(long id, String name) {
+        return row(id, name, (long) name.hashCode());
+    }
+
+    /**
+     * 커서 컬럼: tenant, code, name, 행 체크섬, 정렬 키(tenant, code 바이너리)
+     */
+    private static Object[] member(long tenant, String code, String name) {
+        return row(tenant, code, name, (long) name.hashCode(), tenant, code.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,77 @@
+package org.ravo.ravomanager.manager.sync;
+
+import org.junit.jupiter.api.Test;
+import org.ravo.config.SyncProperties;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.ravo.ravomanager.manager.sync.FakeJdbc.row;
+import static org.ravo.ravomanager.manager.sync.FakeJdbc.rows;
+
+class TableSchemaCacheTest {
+
+    private final TableSchemaCache cache = new TableSchemaCache(new SyncProperties());
+
+    @Test
+    void generatedColumnsAreNotInsertable() {
+        FakeJdbc jdbc = information(rows(
+                row("name", "varchar", "varchar(100)", ""),
+                row("id", "bigint", "bigint", "auto_increment"),
+                row("name_upper", "varchar", "varchar(100)", "VIRTUAL GENERATED"),
+                row("name_length", "int", "int", "STORED GENERATED"),
+                row("created_at", "datetime", "datetime", "DEFAULT_GENERATED")), List.of("id"));
+
+        TableSchema schema = cache.get(jdbc, "account");
+
+        // 기본값이 식인 컬럼(DEFAULT_GENERATED)은 일반 컬럼
+        assertEquals(List.of("name", "id", "created_at"), schema.getInsertableColumns());
+        assertEquals(List.of("id", "name", "name_upper", "name_length", "created_at"), schema.getHashColumns());
+    }
+
+    @Test
+    void watermarkColumnIsHashedLikeOtherColumns() {
+        FakeJdbc jdbc = information(rows(
+                row("id", "bigint", "bigint", ""),
+                row("updated_at", "datetime", "datetime(6)", "DEFAULT_GENERATED on update CURRENT_TIMESTAMP"),
+                row("name", "varchar", "varchar(100)", "")), List.of("id"));
+
+        TableSchema schema = cache.get(jdbc, "account");
+
+        assertEquals("updated_at", schema.getWatermarkColumn());
+        assertEquals(List.of("id", "updated_at", "name"), schema.getHashColumns());
+        assertEquals(List.of("id", "updated_at", "name"), schema.getInsertableColumns());
+    }
+
+    @Test
+    void generatedColumnDetection() {
+        assertTrue(TableSchemaCache.isGenerated("VIRTUAL GENERATED"));
+        assertTrue(TableSchemaCache.isGenerated("stored generated"));
+        assertFalse(TableSchemaCache.isGenerated("DEFAULT_GENERATED on update CURRENT_TIMESTAMP"));
+        assertFalse(TableSchemaCache.isGenerated(""));
+        assertFalse(TableSchemaCache.isGenerated(null));
+    }
+
+    @Test
+    void schemaIsLoadedOncePerTable() {
+        FakeJdbc jdbc = information(rows(row("id", "int", "int", "")), List.of("id"));
+
+        TableSchema first = cache.get(jdbc, "account");
+
+        assertTrue(first == cache.get(jdbc, "account"));
+        cache.invalidate("account");
+        assertFalse(first == cache.get(jdbc, "account"));
+        assertEquals(4, jdbc.queries().size());
+    }
+
+    /**
+     * INFORMATION_SCHEMA 조회에 답하는 가짜 DB (컬럼: COLUMN_NAME, DATA_TYPE, COLUMN_TYPE, EXTRA)
+     */
+    private static FakeJdbc information(List<Object[]> columns, List<String> primaryKey) {
+        return new FakeJdbc((sql, args) -> sql.contains("KEY_COLUMN_USAGE")
+                ? primaryKey.stream().map(column -> new Object[]{column}).toList()
+                : columns);
+    }
+}
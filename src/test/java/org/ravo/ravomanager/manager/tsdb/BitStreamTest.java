@@ -0,0 +1,73 @@
+package org.ravo.ravomanager.manager.tsdb;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BitStreamTest {
+
+    @Test
+    void roundTripsMixedWidthsAcrossWordBoundaries() {
+        BitOutput out = new BitOutput();
+        out.writeBit(true);
+        out.writeBits(0b101, 3);
+        out.writeBits(-1L, 64);
+        out.writeBits(0x1234, 13);
+        out.writeBits(Long.MIN_VALUE, 64);
+        out.writeBit(false);
+        out.writeBits(0x7f, 7);
+
+        assertEquals(1 + 3 + 64 + 13 + 64 + 1 + 7, out.bitLength());
+        BitInput in = input(out);
+        assertEquals(true, in.readBit());
+        assertEquals(0b101, in.readBits(3));
+        assertEquals(-1L, in.readBits(64));
+        assertEquals(0x1234 & 0x1fff, in.readBits(13));
+        assertEquals(Long.MIN_VALUE, in.readBits(64));
+        assertEquals(false, in.readBit());
+        assertEquals(0x7f, in.readBits(7));
+    }
+
+    @Test
+    void writesOnlyLowBitsOfValue() {
+        BitOutput out = new BitOutput();
+        out.writeBits(0xffL, 4);
+        out.writeBits(0, 4);
+
+        assertEquals(1, out.byteLength());
+        assertEquals(0xf0, input(out).readBits(8));
+    }
+
+    @Test
+    void growsPastInitialCapacity() {
+        BitOutput out = new BitOutput();
+        for (int i = 0; i < 1000; i++) {
+            out.writeBits(i, 17);
+        }
+        BitInput in = input(out);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, in.readBits(17));
+        }
+    }
+
+    @Test
+    void readsAtBufferOffsetAndRejectsReadsPastLength() {
+        BitOutput out = new BitOutput();
+        out.writeBits(0xabcd, 16);
+        byte[] bytes = new byte[5];
+        out.copyTo(bytes, 3);
+
+        BitInput in = new BitInput(ByteBuffer.wrap(bytes), 3, 2);
+        assertEquals(0xabcd, in.readBits(16));
+        assertThrows(IllegalStateException.class, in::readBit);
+    }
+
+    static BitInput input(BitOutput out) {
+        byte[] bytes = new byte[out.byteLength()];
+        out.copyTo(bytes, 0);
+        return new BitInput(ByteBuffer.wrap(bytes), 0, bytes.length);
+    }
+}
@@ -0,0 +1,128 @@
+package org.ravo.ravomanager.manager.tsdb;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SeriesStoreTest {
+
+    private static final long START = 1_700_000_000_000L;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void flushedPartialBlockSurvivesReopen() throws IOException {
+        SeriesStore store = new SeriesStore(directory, Resolution.RAW, 2);
+        for (int i = 0; i < 10; i++) {
+            store.append(START + i * 5_000L, new double[]{i, -i});
+        }
+        store.flush();
+        // 닫지 않고 새로 열어도 (비정상 종료) 봉인된 블록은 남아 있음
+        SeriesStore reopened = new SeriesStore(directory, Resolution.RAW, 2);
+        TimeSeries series = reopened.read(1, START, START + 60_000L);
+        assertEquals(10, series.size());
+        assertEquals(-9.0, series.value(9));
+        reopened.close();
+        store.close();
+    }
+
+    @Test
+    void segmentGrowsMappingAndTrimsOnClose() throws IOException {
+        int columns = 200;
+        SeriesStore store = new SeriesStore(directory, Resolution.RAW, columns);
+        double[] row = new double[columns];
+        int points = Resolution.RAW.blockPoints() * 12;
+        for (int i = 0; i < points; i++) {
+            for (int c = 0; c < columns; c++) {
+                row[c] = Math.random();
+            }
+            store.append(START + i * 100L, row);
+        }
+        store.close();
+
+        Path segment;
+        try (var files = Files.list(directory)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        assertTrue(Files.size(segment) > Segment.GROWTH_BYTES);
+        List<Long> sizes = new ArrayList<>();
+        sizes.add(Files.size(segment));
+
+        SeriesStore reopened = new SeriesStore(directory, Resolution.RAW, columns);
+        TimeSeries series = reopened.read(columns - 1, START, START + points * 100L);
+        assertEquals(points, series.size());
+        reopened.close();
+        sizes.add(Files.size(segment));
+        assertEquals(sizes.get(0), sizes.get(1));
+    }
+
+    @Test
+    void skipsBlocksWithDifferentLayoutWithoutTruncating() throws IOException {
+        SeriesStore store = new SeriesStore(directory, Resolution.RAW, 1);
+        store.append(START, new double[]{1});
+        store.flush();
+        store.append(START + 5_000L, new double[]{2});
+        store.close();
+
+        Path segment;
+        try (var files = Files.list(directory)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        byte[] bytes = Files.readAllBytes(segment);
+        bytes[5] = (byte) (BlockWriter.LAYOUT_VERSION + 1); // 첫 블록의 열 배치 버전
+        Files.write(segment, bytes);
+
+        SeriesStore reopened = new SeriesStore(directory, Resolution.RAW, 1);
+        TimeSeries series = reopened.read(0, START, START + 10_000L);
+        assertArrayEquals(new long[]{START + 5_000L}, series.timestamps());
+        reopened.close();
+        assertEquals(bytes.length, Files.size(segment));
+    }
+
+    @Test
+    void rollupStateResumesOpenBucket() throws IOException {
+        List<double[]> emitted = new ArrayList<>();
+        RollupAccumulator.RowSink sink = (timestamp, row) -> emitted.add(row.clone());
+        RollupAccumulator before = new RollupAccumulator(60_000L, 1);
+        before.add(START, new double[]{1}, sink);
+        before.add(START + 10_000L, new double[]{3}, sink);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        before.writeState(new DataOutputStream(bytes));
+        RollupAccumulator after = new RollupAccumulator(60_000L, 1);
+        assertTrue(after.readState(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))));
+        after.add(START + 20_000L, new double[]{5}, sink);
+        after.flush(sink);
+
+        assertEquals(1, emitted.size());
+        assertArrayEquals(new double[]{3, 1, 5, 5}, emitted.get(0));
+        assertFalse(new RollupAccumulator(10_000L, 1)
+                .readState(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))));
+    }
+
+    @Test
+    void encodedBlockCarriesFormatAndLayoutVersion() {
+        BlockWriter writer = new BlockWriter(1);
+        writer.append(START, new double[]{1});
+        ByteBuffer block = ByteBuffer.wrap(writer.encode());
+        assertEquals(BlockWriter.FORMAT_VERSION, block.get(4));
+        assertEquals(BlockWriter.LAYOUT_VERSION, block.get(5));
+        assertTrue(BlockReader.readInfo(block, 0, block.capacity()).readable());
+    }
+}
@@ -0,0 +1,59 @@
+package org.ravo.ravomanager.manager.tsdb;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TimestampCodecTest {
+
+    @Test
+    void regularIntervalUsesOneBitPerPoint() {
+        TimestampCodec.Encoder encoder = new TimestampCodec.Encoder();
+        long[] timestamps = new long[100];
+        for (int i = 0; i < timestamps.length; i++) {
+            timestamps[i] = 1_700_000_000_000L + i * 5_000L;
+            encoder.append(timestamps[i]);
+        }
+
+        // 첫 값 64비트 + 두 번째 점(간격 5000 → 64비트 구간) + 나머지는 '0' 1비트
+        assertEquals(64 + 4 + 64 + 98, encoder.output().bitLength());
+        assertRoundTrip(encoder, timestamps);
+    }
+
+    @Test
+    void roundTripsEveryPrefixBoundary() {
+        // zigzag(dod) 가 0, 1, 127/128, 511/512, 4095/4096 이 되는 간격 변화와 음수 변화
+        long[] deltas = {0, 1, 0, 63, -64, 64, 255, -256, 256, 2047, -2048, 2048, -5_000, 86_400_000L, -86_400_000L};
+        long[] timestamps = new long[deltas.length + 1];
+        long timestamp = 1_700_000_000_000L;
+        long delta = 10_000;
+        timestamps[0] = timestamp;
+        for (int i = 0; i < deltas.length; i++) {
+            delta += deltas[i];
+            timestamp += delta;
+            timestamps[i + 1] = timestamp;
+        }
+        TimestampCodec.Encoder encoder = new TimestampCodec.Encoder();
+        for (long t : timestamps) {
+            encoder.append(t);
+        }
+        assertRoundTrip(encoder, timestamps);
+    }
+
+    @Test
+    void roundTripsExtremeValues() {
+        long[] timestamps = {Long.MIN_VALUE + 1, -1, 0, 0, Long.MAX_VALUE / 2, Long.MAX_VALUE / 2 + 1};
+        TimestampCodec.Encoder encoder = new TimestampCodec.Encoder();
+        for (long t : timestamps) {
+            encoder.append(t);
+        }
+        assertRoundTrip(encoder, timestamps);
+    }
+
+    private static void assertRoundTrip(TimestampCodec.Encoder encoder, long[] expected) {
+        TimestampCodec.Decoder decoder = new TimestampCodec.Decoder(BitStreamTest.input(encoder.output()));
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], decoder.next(), "index " + i);
+        }
+    }
+}
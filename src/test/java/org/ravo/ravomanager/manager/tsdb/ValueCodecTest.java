@@ -0,0 +1,70 @@
+package org.ravo.ravomanager.manager.tsdb;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ValueCodecTest {
+
+    @Test
+    void equalValuesUseOneBitPerPoint() {
+        ValueCodec.Encoder encoder = new ValueCodec.Encoder();
+        double[] values = new double[50];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 42.5;
+            encoder.append(values[i]);
+        }
+
+        assertEquals(64 + 49, encoder.output().bitLength());
+        assertRoundTrip(encoder, values);
+    }
+
+    @Test
+    void roundTripsNaNAndSpecialValues() {
+        double[] values = {Double.NaN, 1.0, Double.NaN, Double.NaN, -0.0, 0.0, Double.POSITIVE_INFINITY,
+                Double.NEGATIVE_INFINITY, Double.MIN_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE, Double.NaN};
+        ValueCodec.Encoder encoder = new ValueCodec.Encoder();
+        for (double value : values) {
+            encoder.append(value);
+        }
+        assertRoundTrip(encoder, values);
+    }
+
+    @Test
+    void roundTripsCountersAndGauges() {
+        // 천천히 증가하는 카운터 (직전 구간 재사용) 와 크게 흔들리는 게이지 (새 구간)
+        double[] values = new double[200];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i % 2 == 0 ? 1_000_000 + i * 3 : Math.sin(i) * 1e-3;
+        }
+        ValueCodec.Encoder encoder = new ValueCodec.Encoder();
+        for (double value : values) {
+            encoder.append(value);
+        }
+        assertRoundTrip(encoder, values);
+    }
+
+    @Test
+    void roundTripsXorWithManyLeadingZeros() {
+        // 앞쪽 0 이 31개를 넘는 XOR (5비트 필드 상한에서 잘림)
+        double[] values = {
+                Double.longBitsToDouble(0x4000_0000_0000_0000L),
+                Double.longBitsToDouble(0x4000_0000_0000_0001L),
+                Double.longBitsToDouble(0x4000_0000_0000_0003L),
+                Double.longBitsToDouble(0xC000_0000_0000_0003L),
+        };
+        ValueCodec.Encoder encoder = new ValueCodec.Encoder();
+        for (double value : values) {
+            encoder.append(value);
+        }
+        assertRoundTrip(encoder, values);
+    }
+
+    private static void assertRoundTrip(ValueCodec.Encoder encoder, double[] expected) {
+        ValueCodec.Decoder decoder = new ValueCodec.Decoder(BitStreamTest.input(encoder.output()));
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(Double.doubleToRawLongBits(expected[i]), Double.doubleToRawLongBits(decoder.next()),
+                    "index " + i);
+        }
+    }
+}